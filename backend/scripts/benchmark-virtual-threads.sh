@@ -0,0 +1,46 @@
+#!/bin/sh
+# 플랫폼 스레드 / 가상 스레드 모드 처리량 비교
+#
+# 같은 DB, 같은 Hikari 풀 크기로 애플리케이션을 두 번 띄워 각각 실행한 뒤 결과를 비교합니다.
+#   1) VIRTUAL_THREADS_ENABLED=false ./gradlew bootRun   → ./scripts/benchmark-virtual-threads.sh platform
+#   2) VIRTUAL_THREADS_ENABLED=true  ./gradlew bootRun   → ./scripts/benchmark-virtual-threads.sh virtual
+#
+# 아직 실행하지 않은 스크립트입니다 - 두 모드의 비교 수치는 기록된 것이 없으며, 가상 스레드 모드를 켜기 전에
+# 운영과 같은 DB로 실행해 결과를 남겨야 합니다.
+#
+# 필요: hey (https://github.com/rakyll/hey)
+# 환경 변수: BASE_URL (기본 http://localhost:8081), DURATION (기본 30s), CONCURRENCY (기본 "50 200 800")
+#            PRODUCT_ID (상세/리뷰 조회용, 기본 1)
+
+set -e
+
+LABEL=${1:-run}
+BASE_URL=${BASE_URL:-http://localhost:8081}
+DURATION=${DURATION:-30s}
+CONCURRENCY=${CONCURRENCY:-"50 200 800"}
+PRODUCT_ID=${PRODUCT_ID:-1}
+OUT_DIR=${OUT_DIR:-build/benchmark}
+
+# DB를 읽는 공개 API 위주 (인증 없이 호출 가능)
+ENDPOINTS="/api/products?page=0&size=20 /api/products/${PRODUCT_ID} /api/reviews/product/${PRODUCT_ID} /api/categories"
+
+command -v hey >/dev/null 2>&1 || { echo "hey is required: go install github.com/rakyll/hey@latest"; exit 1; }
+mkdir -p "$OUT_DIR"
+
+# 워밍업 (JIT, 커넥션 풀)
+for endpoint in $ENDPOINTS; do
+  hey -z 5s -c 20 "$BASE_URL$endpoint" >/dev/null
+done
+
+printf "%-8s %-40s %6s %12s %10s %10s\n" "mode" "endpoint" "conc" "req/s" "p50(s)" "p99(s)"
+for concurrency in $CONCURRENCY; do
+  for endpoint in $ENDPOINTS; do
+    file="$OUT_DIR/${LABEL}_c${concurrency}_$(echo "$endpoint" | tr '/?&=' '____').txt"
+    hey -z "$DURATION" -c "$concurrency" "$BASE_URL$endpoint" > "$file"
+    rps=$(awk '/Requests\/sec/ {print $2}' "$file")
+    p50=$(awk '/ 50% in/ {print $3}' "$file")
+    p99=$(awk '/ 99% in/ {print $3}' "$file")
+    printf "%-8s %-40s %6s %12s %10s %10s\n" "$LABEL" "$endpoint" "$concurrency" "$rps" "$p50" "$p99"
+  done
+done
+echo "Raw results: $OUT_DIR"
@@ -4,16 +4,17 @@ import com.agri.market.admin.audit.ActionType;
 import com.agri.market.admin.audit.AdminAuditLogService;
 import com.agri.market.dto.admin.OrderAdminResponse;
 import com.agri.market.dto.admin.OrderItemAdminResponse;
+import com.agri.market.order.BulkOrderStatusService;
 import com.agri.market.order.Order;
 import com.agri.market.order.OrderItem;
 import com.agri.market.order.OrderService;
 import com.agri.market.order.OrderStatus;
+import com.agri.market.order.TrackingUploadService;
 import com.agri.market.payment.PaymentService;
 import com.agri.market.seller.Seller;
 import com.agri.market.seller.SellerRepository;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -25,13 +26,16 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.LongStream;
 
 @Slf4j
 @RestController
@@ -44,31 +48,36 @@ public class AdminOrderController {
     private final SellerRepository sellerRepository;
     private final AdminAuditLogService auditLogService;
     private final PaymentService paymentService;
+    private final TrackingUploadService trackingUploadService;
+    private final BulkOrderStatusService bulkOrderStatusService;
 
     public AdminOrderController(ExcelService excelService, OrderService orderService,
                                 SellerRepository sellerRepository, AdminAuditLogService auditLogService,
-                                PaymentService paymentService) {
+                                PaymentService paymentService, TrackingUploadService trackingUploadService,
+                                BulkOrderStatusService bulkOrderStatusService) {
         this.excelService = excelService;
         this.orderService = orderService;
         this.sellerRepository = sellerRepository;
         this.auditLogService = auditLogService;
         this.paymentService = paymentService;
+        this.trackingUploadService = trackingUploadService;
+        this.bulkOrderStatusService = bulkOrderStatusService;
     }
 
+    /**
+     * 주문 내보내기 - 응답 스트림에 바로 작성 (전체 파일을 메모리에 만들지 않음)
+     * format=csv 이면 gzip 압축 CSV (대용량 정산/회계 전달용)
+     */
     @GetMapping("/export")
-    public ResponseEntity<Resource> exportOrders(
+    public void exportOrders(
             @RequestParam(required = false) String format,
             @RequestParam(required = false) LocalDate from,
             @RequestParam(required = false) LocalDate to,
             @RequestParam(required = false, defaultValue = "PREPARING") OrderStatus status,
-            @RequestParam(required = false) Long sellerId) throws IOException {
-
-        // Default to XLSX if format is not specified or invalid
-        if (format == null || (!format.equalsIgnoreCase("xlsx") && !format.equalsIgnoreCase("csv"))) {
-            format = "xlsx";
-        }
+            @RequestParam(required = false) Long sellerId,
+            HttpServletResponse response) throws IOException {
 
-        ByteArrayOutputStream outputStream = excelService.exportOrdersToExcel(from, to, status, sellerId);
+        boolean csv = "csv".equalsIgnoreCase(format);
 
         // 파일명에 판매자명 포함
         String sellerSuffix = "";
@@ -78,29 +87,18 @@ public class AdminOrderController {
                 sellerSuffix = "_" + seller.getName();
             }
         }
-        String filename = "orders" + sellerSuffix + "_" + LocalDate.now().format(DateTimeFormatter.ISO_DATE) + "." + format;
-        MediaType mediaType = MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"); // For XLSX
-
-        if (format.equalsIgnoreCase("csv")) {
-            // For CSV, you would typically have a separate CSV generation logic in ExcelService
-            // For now, we'll just return XLSX even if CSV is requested, or implement basic CSV
-            // This example focuses on XLSX as per Apache POI usage.
-            // If actual CSV is needed, a different library or manual CSV generation would be required.
-            // For simplicity, let's assume XLSX for now.
-            filename = "orders_" + LocalDate.now().format(DateTimeFormatter.ISO_DATE) + ".csv";
-            mediaType = MediaType.parseMediaType("text/csv");
-            // In a real scenario, you'd call excelService.exportOrdersToCsv(from, to);
-            // For this example, we'll stick to XLSX output for both requests for simplicity.
+        String filename = "orders" + sellerSuffix + "_" + LocalDate.now().format(DateTimeFormatter.ISO_DATE)
+                + (csv ? ".csv.gz" : ".xlsx");
+
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment;filename=" + filename);
+        if (csv) {
+            response.setContentType("application/gzip");
+            excelService.writeOrdersToCsvGzip(from, to, status, sellerId, response.getOutputStream());
+        } else {
+            response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+            excelService.writeOrdersToExcel(from, to, status, sellerId, response.getOutputStream());
         }
-
-
-        ByteArrayResource resource = new ByteArrayResource(outputStream.toByteArray());
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment;filename=" + filename)
-                .contentType(mediaType)
-                .contentLength(resource.contentLength())
-                .body(resource);
+        response.flushBuffer();
     }
 
     /**
@@ -212,27 +210,24 @@ public class AdminOrderController {
      * 여러 주문의 상태를 일괄 변경
      */
     @PutMapping("/bulk-status")
-    @org.springframework.transaction.annotation.Transactional
     public ResponseEntity<?> bulkUpdateOrderStatus(@RequestBody com.agri.market.dto.admin.BulkOrderStatusUpdateRequest request) {
         try {
             OrderStatus newStatus = OrderStatus.valueOf(request.getStatus());
 
             // 일괄 업데이트 수행
-            Map<String, Object> result = orderService.bulkUpdateOrderStatus(request.getOrderIds(), newStatus);
+            Map<String, Object> result = bulkOrderStatusService.bulkUpdateOrderStatus(request.getOrderIds(), newStatus);
 
             // 각 성공한 주문에 대해 감사 로그 기록
             @SuppressWarnings("unchecked")
             List<Long> successIds = (List<Long>) result.get("successIds");
-            for (Long orderId : successIds) {
-                auditLogService.log(
-                    ActionType.ORDER_STATUS_CHANGE,
-                    "ORDER",
-                    orderId,
-                    "BULK_UPDATE",
-                    newStatus.toString(),
-                    request.getReason()
-                );
-            }
+            auditLogService.logAll(
+                ActionType.ORDER_STATUS_CHANGE,
+                "ORDER",
+                successIds,
+                "BULK_UPDATE",
+                newStatus.toString(),
+                request.getReason()
+            );
 
             return ResponseEntity.ok(result);
         } catch (IllegalArgumentException e) {
@@ -244,23 +239,39 @@ public class AdminOrderController {
 
     /**
      * 현재 필터 조건에 맞는 모든 주문 ID 조회 (필터 결과 전체 선택 기능용)
+     * ID만 DB 커서로 끝까지 읽어 long 배열에 모은 뒤 응답에 기록 (ID 내림차순)
+     * - 읽는 중 실패하면 응답을 쓰기 전이므로 잘린 JSON이 200으로 나가지 않고 오류 응답이 됨
+     * - 기본: JSON 배열 [105, 103, 100, ...]
+     * - encoding=delta: {"encoding":"delta","ids":[105, 2, 3, ...]} - 첫 값은 ID, 이후는 직전 ID와의 차이
      */
     @GetMapping("/ids")
-    public ResponseEntity<List<Long>> getOrderIds(
+    public void getOrderIds(
             @RequestParam(required = false) OrderStatus orderStatus,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
-            @RequestParam(required = false) Long sellerId) {
+            @RequestParam(required = false) Long sellerId,
+            @RequestParam(required = false) String encoding,
+            HttpServletResponse response) throws IOException {
+
+        boolean delta = "delta".equalsIgnoreCase(encoding);
 
-        // getAllOrders를 재사용하여 ID만 추출
-        Pageable unpaged = Pageable.unpaged(); // 페이징 없이 모든 결과 조회
-        Page<Order> orders = orderService.getAllOrders(orderStatus, startDate, endDate, sellerId, unpaged);
+        LongStream.Builder idBuilder = LongStream.builder();
+        orderService.forEachOrderId(orderStatus, startDate, endDate, sellerId, idBuilder::add);
+        long[] ids = idBuilder.build().toArray();
 
-        List<Long> orderIds = orders.getContent().stream()
-                .map(Order::getId)
-                .toList();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        Writer writer = new BufferedWriter(response.getWriter(), 16 * 1024);
 
-        return ResponseEntity.ok(orderIds);
+        writer.write(delta ? "{\"encoding\":\"delta\",\"ids\":[" : "[");
+        for (int i = 0; i < ids.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(Long.toString(delta && i > 0 ? ids[i - 1] - ids[i] : ids[i]));
+        }
+        writer.write(delta ? "]}" : "]");
+        writer.flush();
     }
 
     @GetMapping("/sellers")
@@ -377,7 +388,7 @@ public class AdminOrderController {
             }
 
             // 일괄 등록
-            Map<String, Object> result = orderService.bulkUploadTracking(trackingData);
+            Map<String, Object> result = trackingUploadService.bulkUploadTracking(trackingData);
 
             // 감사 로그 기록 (일괄 작업이므로 entityId는 0L 사용)
             auditLogService.log(
@@ -2,19 +2,26 @@ package com.agri.market.admin;
 
 import com.agri.market.seller.Seller;
 import com.agri.market.seller.SellerRepository;
+import com.agri.market.settlement.SellerBalance;
+import com.agri.market.settlement.SellerLedgerEntry;
+import com.agri.market.settlement.SellerLedgerService;
 import com.agri.market.settlement.Settlement;
 import com.agri.market.settlement.SettlementService;
 import com.agri.market.settlement.SettlementStatus;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 
@@ -25,11 +32,17 @@ public class AdminSettlementController {
 
     private final SettlementService settlementService;
     private final SellerRepository sellerRepository;
+    private final SellerLedgerService sellerLedgerService;
+    private final ExcelService excelService;
 
     public AdminSettlementController(SettlementService settlementService,
-                                     SellerRepository sellerRepository) {
+                                     SellerRepository sellerRepository,
+                                     SellerLedgerService sellerLedgerService,
+                                     ExcelService excelService) {
         this.settlementService = settlementService;
         this.sellerRepository = sellerRepository;
+        this.sellerLedgerService = sellerLedgerService;
+        this.excelService = excelService;
     }
 
     /**
@@ -57,6 +70,34 @@ public class AdminSettlementController {
         return ResponseEntity.ok(settlements);
     }
 
+    /**
+     * 정산 내보내기 - 기간이 겹치는 정산을 응답 스트림에 바로 작성
+     * format=csv(기본) 이면 gzip 압축 CSV, xlsx 이면 엑셀
+     */
+    @GetMapping("/export")
+    public void exportSettlements(
+            @RequestParam(required = false, defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) SettlementStatus status,
+            @RequestParam(required = false) Long sellerId,
+            HttpServletResponse response) throws IOException {
+
+        boolean xlsx = "xlsx".equalsIgnoreCase(format);
+        String filename = "settlements_" + LocalDate.now().format(DateTimeFormatter.ISO_DATE)
+                + (xlsx ? ".xlsx" : ".csv.gz");
+
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment;filename=" + filename);
+        if (xlsx) {
+            response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+            excelService.writeSettlementsToExcel(from, to, status, sellerId, response.getOutputStream(), rows -> { });
+        } else {
+            response.setContentType("application/gzip");
+            excelService.writeSettlementsToCsvGzip(from, to, status, sellerId, response.getOutputStream());
+        }
+        response.flushBuffer();
+    }
+
     /**
      * 정산 상세 조회
      */
@@ -102,6 +143,40 @@ public class AdminSettlementController {
         return ResponseEntity.ok(settlement);
     }
 
+    /**
+     * 원장 기반 정산 마감 (기간 내 미정산 원장 항목 합계로 정산 생성)
+     */
+    @PostMapping("/close-from-ledger")
+    public ResponseEntity<List<Settlement>> closeSettlementsFromLedger(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        if (startDate.isAfter(endDate)) {
+            throw new RuntimeException("시작일은 종료일보다 이전이어야 합니다.");
+        }
+
+        List<Settlement> settlements = sellerLedgerService.closeSettlementPeriod(startDate, endDate);
+        return ResponseEntity.ok(settlements);
+    }
+
+    /**
+     * 판매자 현재 미정산 잔액 조회
+     */
+    @GetMapping("/balances/{sellerId}")
+    public ResponseEntity<SellerBalance> getSellerBalance(@PathVariable Long sellerId) {
+        return ResponseEntity.ok(sellerLedgerService.getBalance(sellerId));
+    }
+
+    /**
+     * 판매자 원장 조회
+     */
+    @GetMapping("/ledger/{sellerId}")
+    public ResponseEntity<Page<SellerLedgerEntry>> getSellerLedger(
+            @PathVariable Long sellerId,
+            @PageableDefault(size = 50) Pageable pageable) {
+        return ResponseEntity.ok(sellerLedgerService.getEntries(sellerId, pageable));
+    }
+
     /**
      * 정산 승인
      */
@@ -1,5 +1,6 @@
 package com.agri.market.admin;
 
+import com.agri.market.dto.admin.UserOrderStats;
 import com.agri.market.order.Order;
 import com.agri.market.order.OrderRepository;
 import com.agri.market.user.User;
@@ -10,8 +11,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,15 +34,7 @@ public class AdminUserService {
     public Page<UserDto> getAllUsers(Pageable pageable) {
         Page<User> users = userRepository.findAll(pageable);
 
-        List<UserDto> userDtos = users.getContent().stream()
-                .map(user -> {
-                    long orderCount = orderRepository.countByUserId(user.getId());
-                    BigDecimal totalSpent = orderRepository.sumTotalAmountByUserId(user.getId());
-                    return new UserDto(user, orderCount, totalSpent != null ? totalSpent : BigDecimal.ZERO);
-                })
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(userDtos, pageable, users.getTotalElements());
+        return toUserDtoPage(users, pageable);
     }
 
     /**
@@ -50,15 +44,7 @@ public class AdminUserService {
     public Page<UserDto> searchUsers(String query, Pageable pageable) {
         Page<User> users = userRepository.findByNameContainingOrEmailContaining(query, query, pageable);
 
-        List<UserDto> userDtos = users.getContent().stream()
-                .map(user -> {
-                    long orderCount = orderRepository.countByUserId(user.getId());
-                    BigDecimal totalSpent = orderRepository.sumTotalAmountByUserId(user.getId());
-                    return new UserDto(user, orderCount, totalSpent != null ? totalSpent : BigDecimal.ZERO);
-                })
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(userDtos, pageable, users.getTotalElements());
+        return toUserDtoPage(users, pageable);
     }
 
     /**
@@ -69,14 +55,30 @@ public class AdminUserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
 
-        // 주문 이력 조회
-        List<Order> orders = orderRepository.findByUserIdOrderByCreatedAtDesc(userId);
+        // 최근 주문 10건과 통계만 조회 (전체 주문 이력을 불러오지 않음)
+        List<Order> recentOrders = orderRepository.findTop10ByUserIdOrderByCreatedAtDesc(userId);
+        UserOrderStats stats = orderRepository.findOrderStatsByUserIds(List.of(userId)).stream()
+                .findFirst()
+                .orElse(UserOrderStats.EMPTY);
 
-        // 통계 계산
-        long orderCount = orders.size();
-        BigDecimal totalSpent = orderRepository.sumTotalAmountByUserId(userId);
+        return new UserDetailDto(user, recentOrders, stats);
+    }
+
+    /**
+     * 사용자 페이지를 DTO로 변환 - 페이지 내 사용자 통계를 GROUP BY 한 번으로 조회
+     */
+    private Page<UserDto> toUserDtoPage(Page<User> users, Pageable pageable) {
+        List<Long> userIds = users.getContent().stream().map(User::getId).toList();
+        Map<Long, UserOrderStats> statsByUserId = userIds.isEmpty()
+                ? Map.of()
+                : orderRepository.findOrderStatsByUserIds(userIds).stream()
+                        .collect(Collectors.toMap(UserOrderStats::getUserId, Function.identity()));
 
-        return new UserDetailDto(user, orders, orderCount, totalSpent != null ? totalSpent : BigDecimal.ZERO);
+        List<UserDto> userDtos = users.getContent().stream()
+                .map(user -> new UserDto(user, statsByUserId.getOrDefault(user.getId(), UserOrderStats.EMPTY)))
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(userDtos, pageable, users.getTotalElements());
     }
 
     /**
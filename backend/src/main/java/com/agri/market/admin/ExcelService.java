@@ -1,134 +1,474 @@
 package com.agri.market.admin;
 
-import com.agri.market.order.Order;
-import com.agri.market.order.OrderRepository;
-import com.agri.market.order.OrderItem;
+import com.agri.market.dto.admin.InventoryItemResponse;
+import com.agri.market.dto.admin.OrderExportRow;
+import com.agri.market.dto.admin.SettlementExportRow;
+import com.agri.market.order.OrderItemRepository;
 import com.agri.market.order.OrderStatus;
+import com.agri.market.product.Product;
+import com.agri.market.product.ProductOption;
+import com.agri.market.product.ProductOptionRepository;
+import com.agri.market.product.ProductRepository;
 import com.agri.market.seller.Seller;
 import com.agri.market.seller.SellerRepository;
+import com.agri.market.settlement.SettlementRepository;
+import com.agri.market.settlement.SettlementStatus;
+import jakarta.persistence.EntityManager;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.poifs.filesystem.FileMagic;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
-import java.io.ByteArrayOutputStream;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 @Service
 public class ExcelService {
 
-    private final OrderRepository orderRepository;
+    private static final String DEFAULT_SELLER_NAME = "오늘마트";
+
+    // SXSSF가 메모리에 유지하는 행 수 (나머지는 임시 파일로 flush)
+    private static final int ROW_ACCESS_WINDOW = 500;
+
+    // CSV 내보내기 버퍼 크기
+    private static final int CSV_BUFFER_SIZE = 64 * 1024;
+
+    // 송장 업로드 파일 컬럼 (A: 주문번호, L: 송장번호)
+    private static final int TRACKING_ORDER_NUMBER_COLUMN = 0;
+    private static final int TRACKING_NUMBER_COLUMN = 11;
+
+    // 재고 내보내기 시 한 번에 읽는 상품 수
+    private static final int INVENTORY_PAGE_SIZE = 500;
+
+    private final OrderItemRepository orderItemRepository;
     private final SellerRepository sellerRepository;
+    private final SettlementRepository settlementRepository;
+    private final ProductRepository productRepository;
+    private final ProductOptionRepository productOptionRepository;
+    private final EntityManager entityManager;
 
-    public ExcelService(OrderRepository orderRepository, SellerRepository sellerRepository) {
-        this.orderRepository = orderRepository;
+    public ExcelService(OrderItemRepository orderItemRepository, SellerRepository sellerRepository,
+                        SettlementRepository settlementRepository, ProductRepository productRepository,
+                        ProductOptionRepository productOptionRepository, EntityManager entityManager) {
+        this.orderItemRepository = orderItemRepository;
         this.sellerRepository = sellerRepository;
+        this.settlementRepository = settlementRepository;
+        this.productRepository = productRepository;
+        this.productOptionRepository = productOptionRepository;
+        this.entityManager = entityManager;
     }
 
-    @Transactional(readOnly = true)
-    public ByteArrayOutputStream exportOrdersToExcel(LocalDate fromDate, LocalDate toDate, OrderStatus status, Long sellerId) throws IOException {
+    /**
+     * 내보내기 행 공급자 - 행 값 배열을 순서대로 sink에 전달 (호출 측 트랜잭션 안에서 실행)
+     */
+    @FunctionalInterface
+    public interface RowSource {
+        void forEachRow(Consumer<Object[]> sink);
+    }
+
+    // ==================== 주문 ====================
+
+    /**
+     * 주문 내보내기 헤더 - 판매자 양식에 맞춤 (첫 컬럼은 판매자명)
+     */
+    public String[] orderExportHeaders(String sellerName) {
+        return new String[]{sellerName, "기재X", "송하인", "송하인 연락처", "수취인", "수취인 연락처", "우편번호", "주소", "상품명", "수량", "배송 메세지", "송장번호"};
+    }
+
+    /**
+     * 주문 내보내기 행 값 (orderExportHeaders 순서)
+     * @param itemIndex 주문 내 항목 순번 (1부터, 주문번호_순번 형식으로 송장 업로드 시 매칭)
+     */
+    public Object[] orderExportValues(OrderExportRow row, int itemIndex) {
+        // 주소 합치기
+        String fullAddress = row.getShippingAddressLine1();
+        if (row.getShippingAddressLine2() != null && !row.getShippingAddressLine2().trim().isEmpty()) {
+            fullAddress += " " + row.getShippingAddressLine2();
+        }
+
+        // 상품명 + 옵션 정보
+        String productName = row.getProductName();
+        if (row.getOptionValue() != null) {
+            productName += " (" + row.getOptionValue() + ")";
+        }
+
+        return new Object[]{
+                row.getOrderNumber() + "_" + itemIndex, // 주문번호에 순번 추가 (ORDER_xxx_1, ORDER_xxx_2 형식)
+                "", // 기재X
+                "오늘마트", // 송하인
+                "1644-1473", // 송하인 연락처
+                row.getRecipientName(), // 수취인
+                row.getRecipientPhone(), // 수취인 연락처
+                row.getShippingPostcode(), // 우편번호
+                fullAddress, // 주소
+                productName, // 상품명 + 옵션
+                row.getQuantity(), // 수량
+                row.getDeliveryMessage() != null ? row.getDeliveryMessage() : "", // 배송 메세지
+                row.getTrackingNumber() != null ? row.getTrackingNumber() : "" // 상품별 송장번호
+        };
+    }
+
+    /**
+     * 주문 내보내기 행 공급자 (DB 커서로 한 행씩 읽음, 엔티티 그래프 미생성)
+     */
+    public RowSource orderRows(LocalDate fromDate, LocalDate toDate, OrderStatus status, Long sellerId) {
         LocalDateTime startDateTime = fromDate != null ? fromDate.atStartOfDay() : null;
         LocalDateTime endDateTime = toDate != null ? toDate.atTime(LocalTime.MAX) : null;
 
-        List<Order> orders;
-        String sellerName = "오늘마트"; // 기본값
-
-        if (sellerId != null) {
-            orders = orderRepository.findOrdersForExportBySeller(startDateTime, endDateTime, status, sellerId);
-            // 판매자명 조회
-            Seller seller = sellerRepository.findById(sellerId).orElse(null);
-            if (seller != null) {
-                sellerName = seller.getName();
+        return sink -> {
+            try (Stream<OrderExportRow> rows = orderItemRepository.streamOrderExportRows(
+                    startDateTime, endDateTime, status, sellerId)) {
+                // 주문이 바뀔 때마다 순번 초기화 (행은 주문별로 항목 ID 순 정렬되어 있음)
+                Long currentOrderId = null;
+                int itemIndex = 0;
+                Iterator<OrderExportRow> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    OrderExportRow row = iterator.next();
+                    if (!row.getOrderId().equals(currentOrderId)) {
+                        currentOrderId = row.getOrderId();
+                        itemIndex = 0;
+                    }
+                    sink.accept(orderExportValues(row, ++itemIndex));
+                }
             }
-        } else {
-            orders = orderRepository.findOrdersForExport(startDateTime, endDateTime, status);
-        }
+        };
+    }
 
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("Orders");
+    @Transactional(readOnly = true)
+    public long countOrderRows(LocalDate fromDate, LocalDate toDate, OrderStatus status, Long sellerId) {
+        return orderItemRepository.countOrderExportRows(
+                fromDate != null ? fromDate.atStartOfDay() : null,
+                toDate != null ? toDate.atTime(LocalTime.MAX) : null,
+                status, sellerId);
+    }
 
-        // Create header row - 판매자 양식에 맞춤
-        String[] headers = {sellerName, "기재X", "송하인", "송하인 연락처", "수취인", "수취인 연락처", "우편번호", "주소", "상품명", "수량", "배송 메세지", "송장번호"};
-        Row headerRow = sheet.createRow(0);
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
+    /**
+     * 내보내기 첫 컬럼 헤더에 쓸 판매자명
+     */
+    public String resolveSellerName(Long sellerId) {
+        if (sellerId == null) {
+            return DEFAULT_SELLER_NAME;
         }
+        return sellerRepository.findById(sellerId)
+                .map(Seller::getName)
+                .orElse(DEFAULT_SELLER_NAME);
+    }
+
+    /**
+     * 주문 엑셀을 출력 스트림으로 직접 작성 (메모리 사용량이 행 수와 무관하게 일정)
+     */
+    @Transactional(readOnly = true)
+    public long writeOrdersToExcel(LocalDate fromDate, LocalDate toDate, OrderStatus status, Long sellerId,
+                                   OutputStream outputStream) throws IOException {
+        return writeOrdersToExcel(fromDate, toDate, status, sellerId, outputStream, rows -> { });
+    }
+
+    @Transactional(readOnly = true)
+    public long writeOrdersToExcel(LocalDate fromDate, LocalDate toDate, OrderStatus status, Long sellerId,
+                                   OutputStream outputStream, LongConsumer progress) throws IOException {
+        String[] headers = orderExportHeaders(resolveSellerName(sellerId));
+        return writeWorkbook("Orders", headers, orderRows(fromDate, toDate, status, sellerId), outputStream, progress);
+    }
+
+    /**
+     * 주문 내보내기를 gzip 압축 CSV로 작성 (엑셀과 같은 컬럼, 워크북/임시 파일 없이 행 단위로 바로 기록)
+     */
+    @Transactional(readOnly = true)
+    public long writeOrdersToCsvGzip(LocalDate fromDate, LocalDate toDate, OrderStatus status, Long sellerId,
+                                     OutputStream outputStream) throws IOException {
+        String[] headers = orderExportHeaders(resolveSellerName(sellerId));
+        return writeCsvGzip(headers, orderRows(fromDate, toDate, status, sellerId), outputStream);
+    }
 
-        // Populate data rows
-        int rowNum = 1;
+    // ==================== 정산 ====================
 
-        for (Order order : orders) {
-            // OrderItem을 ID 순으로 정렬하여 순번 부여
-            List<OrderItem> sortedItems = new ArrayList<>(order.getOrderItems());
-            sortedItems.sort((a, b) -> a.getId().compareTo(b.getId()));
+    public String[] settlementExportHeaders() {
+        return new String[]{"정산ID", "판매자ID", "판매자명", "사업자등록번호", "정산시작일", "정산종료일", "주문건수",
+                "총매출", "수수료율(%)", "수수료", "정산금액", "상태", "지급일", "은행명", "계좌번호", "예금주"};
+    }
 
-            int itemIndex = 1;
-            for (OrderItem item : sortedItems) {
-                // 판매자 필터가 있는 경우, 해당 판매자 상품만 포함
-                if (sellerId != null && item.getProduct().getSeller() != null
-                    && !item.getProduct().getSeller().getId().equals(sellerId)) {
-                    continue;
+    public Object[] settlementExportValues(SettlementExportRow row) {
+        return new Object[]{
+                row.getSettlementId(),
+                row.getSellerId(),
+                row.getSellerName(),
+                row.getBusinessNumber() != null ? row.getBusinessNumber() : "",
+                row.getStartDate().toString(),
+                row.getEndDate().toString(),
+                row.getOrderCount(),
+                row.getTotalSales(),
+                row.getCommissionRate(),
+                row.getCommissionAmount(),
+                row.getNetAmount(),
+                row.getStatus().name(),
+                row.getPaymentDate() != null ? row.getPaymentDate().toString() : "",
+                row.getBankName() != null ? row.getBankName() : "",
+                row.getAccountNumber() != null ? row.getAccountNumber() : "",
+                row.getAccountHolder() != null ? row.getAccountHolder() : ""
+        };
+    }
+
+    /**
+     * 정산 내보내기 행 공급자 (기간이 겹치는 정산)
+     */
+    public RowSource settlementRows(LocalDate fromDate, LocalDate toDate, SettlementStatus status, Long sellerId) {
+        return sink -> {
+            try (Stream<SettlementExportRow> rows = settlementRepository.streamSettlementExportRows(
+                    fromDate, toDate, status, sellerId)) {
+                rows.forEach(row -> sink.accept(settlementExportValues(row)));
+            }
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public long countSettlementRows(LocalDate fromDate, LocalDate toDate, SettlementStatus status, Long sellerId) {
+        return settlementRepository.countSettlementExportRows(fromDate, toDate, status, sellerId);
+    }
+
+    @Transactional(readOnly = true)
+    public long writeSettlementsToExcel(LocalDate fromDate, LocalDate toDate, SettlementStatus status, Long sellerId,
+                                        OutputStream outputStream, LongConsumer progress) throws IOException {
+        return writeWorkbook("Settlements", settlementExportHeaders(),
+                settlementRows(fromDate, toDate, status, sellerId), outputStream, progress);
+    }
+
+    /**
+     * 정산 내보내기를 gzip 압축 CSV로 작성
+     */
+    @Transactional(readOnly = true)
+    public long writeSettlementsToCsvGzip(LocalDate fromDate, LocalDate toDate, SettlementStatus status, Long sellerId,
+                                          OutputStream outputStream) throws IOException {
+        return writeCsvGzip(settlementExportHeaders(), settlementRows(fromDate, toDate, status, sellerId), outputStream);
+    }
+
+    // ==================== 재고 ====================
+
+    public String[] inventoryExportHeaders() {
+        return new String[]{"구분", "ID", "상품ID", "상품명", "옵션명", "카테고리", "재고", "재고임계값", "재고상태", "판매가", "재고금액"};
+    }
+
+    public Object[] inventoryExportValues(InventoryItemResponse item) {
+        return new Object[]{
+                item.getType(),
+                item.getId(),
+                item.getParentProductId() != null ? item.getParentProductId() : item.getId(),
+                item.getParentProductName() != null ? item.getParentProductName() : item.getName(),
+                item.getOptionName() != null ? item.getOptionName() : "",
+                item.getCategory() != null ? item.getCategory() : "",
+                item.getStock(),
+                item.getLowStockThreshold(),
+                item.getStockStatus().name(),
+                item.getPrice(),
+                item.getStockValue()
+        };
+    }
+
+    /**
+     * 재고 내보내기 행 공급자 (상품 ID 키셋 페이지 단위로 옵션과 함께 읽고, 페이지마다 영속성 컨텍스트 비움)
+     */
+    public RowSource inventoryRows() {
+        return sink -> {
+            Long lastId = 0L;
+            while (true) {
+                List<Long> ids = productRepository.findIdsAfter(lastId, PageRequest.of(0, INVENTORY_PAGE_SIZE));
+                if (ids.isEmpty()) {
+                    break;
                 }
+                for (Product product : productRepository.findAllWithOptionsByIdIn(ids)) {
+                    sink.accept(inventoryExportValues(InventoryItemResponse.fromProduct(product)));
+                    product.getOptions().stream()
+                            .sorted(Comparator.comparing(ProductOption::getId))
+                            .forEach(option -> sink.accept(
+                                    inventoryExportValues(InventoryItemResponse.fromProductOption(option))));
+                }
+                lastId = ids.get(ids.size() - 1);
+                entityManager.clear();
+            }
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public long countInventoryRows() {
+        return productRepository.count() + productOptionRepository.count();
+    }
 
-                Row row = sheet.createRow(rowNum++);
+    @Transactional(readOnly = true)
+    public long writeInventoryToExcel(OutputStream outputStream, LongConsumer progress) throws IOException {
+        return writeWorkbook("Inventory", inventoryExportHeaders(), inventoryRows(), outputStream, progress);
+    }
 
-                // 주문번호에 순번 추가 (ORDER_xxx_1, ORDER_xxx_2 형식)
-                String orderNumberWithIndex = order.getOrderNumber() + "_" + itemIndex;
-                row.createCell(0).setCellValue(orderNumberWithIndex);
+    // ==================== 공통 ====================
 
-                row.createCell(1).setCellValue(""); // 기재X
-                row.createCell(2).setCellValue("오늘마트"); // 송하인
-                row.createCell(3).setCellValue("1644-1473"); // 송하인 연락처
-                row.createCell(4).setCellValue(order.getRecipientName()); // 수취인
-                row.createCell(5).setCellValue(order.getRecipientPhone()); // 수취인 연락처
-                row.createCell(6).setCellValue(order.getShippingPostcode()); // 우편번호
+    /**
+     * SXSSF 워크북으로 행을 기록해 출력 스트림에 작성
+     * 최근 ROW_ACCESS_WINDOW 행만 메모리에 두고 나머지는 압축된 임시 파일로 내림
+     * @return 기록한 데이터 행 수 (헤더 제외)
+     */
+    private long writeWorkbook(String sheetName, String[] headers, RowSource rows,
+                               OutputStream outputStream, LongConsumer progress) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            Sheet sheet = workbook.createSheet(sheetName);
 
-                // 주소 합치기
-                String fullAddress = order.getShippingAddressLine1();
-                if (order.getShippingAddressLine2() != null && !order.getShippingAddressLine2().trim().isEmpty()) {
-                    fullAddress += " " + order.getShippingAddressLine2();
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < headers.length; i++) {
+                headerRow.createCell(i).setCellValue(headers[i]);
+            }
+
+            int[] rowNum = {1};
+            rows.forEachRow(values -> {
+                Row row = sheet.createRow(rowNum[0]++);
+                for (int i = 0; i < values.length; i++) {
+                    Cell cell = row.createCell(i);
+                    if (values[i] instanceof Number number) {
+                        cell.setCellValue(number.doubleValue());
+                    } else if (values[i] != null) {
+                        cell.setCellValue(values[i].toString());
+                    }
                 }
-                row.createCell(7).setCellValue(fullAddress); // 주소
+                progress.accept(rowNum[0] - 1);
+            });
+
+            workbook.write(outputStream);
+            return rowNum[0] - 1;
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
 
-                // 상품명 + 옵션 정보
-                String productName = item.getProduct().getName();
-                if (item.getProductOption() != null) {
-                    productName += " (" + item.getProductOption().getOptionValue() + ")";
+    /**
+     * 행을 RFC 4180 CSV로 gzip 스트림에 기록
+     * 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM을 붙이고, 버퍼가 찰 때마다 응답으로 흘려보냄
+     * @return 기록한 데이터 행 수 (헤더 제외)
+     */
+    private long writeCsvGzip(String[] headers, RowSource rows, OutputStream outputStream) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(outputStream, CSV_BUFFER_SIZE);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), CSV_BUFFER_SIZE);
+
+        writer.write('\uFEFF');
+        writeCsvLine(writer, headers);
+
+        long[] rowCount = {0};
+        try {
+            rows.forEachRow(values -> {
+                try {
+                    writeCsvLine(writer, values);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
                 }
-                row.createCell(8).setCellValue(productName); // 상품명 + 옵션
-                row.createCell(9).setCellValue(item.getQuantity()); // 수량
-                row.createCell(10).setCellValue(order.getDeliveryMessage() != null ? order.getDeliveryMessage() : ""); // 배송 메세지
+                rowCount[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
 
-                // 상품별 송장번호 출력 (OrderItem의 trackingNumber 사용)
-                String trackingNumber = item.getTrackingNumber() != null ? item.getTrackingNumber() : "";
-                row.createCell(11).setCellValue(trackingNumber); // 송장번호
+        // 응답 스트림은 컨테이너가 닫으므로 gzip trailer만 기록
+        writer.flush();
+        gzip.finish();
+        return rowCount[0];
+    }
 
-                itemIndex++;
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
             }
+            writer.write(csvValue(values[i]));
         }
+        writer.write("\r\n");
+    }
 
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        workbook.close();
-        return outputStream;
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
     }
 
     /**
      * 엑셀 파일에서 송장번호 데이터 파싱
+     * xlsx는 SAX 스트리밍으로 한 행씩 읽어 워크북 전체를 메모리에 올리지 않음 (xls는 기존 방식)
      * @param inputStream 엑셀 파일 입력 스트림
-     * @return 주문번호(ORDER_xxx_n) -> 송장번호 매핑
+     * @return 주문번호(ORDER_xxx_n) -> 송장번호 매핑 (파일 행 순서 유지, 같은 주문번호는 마지막 행 우선)
      */
     public Map<String, String> parseTrackingExcel(InputStream inputStream) throws IOException {
-        Map<String, String> trackingData = new HashMap<>();
+        InputStream in = FileMagic.prepareToCheckMagic(inputStream);
+        if (FileMagic.valueOf(in) != FileMagic.OOXML) {
+            return parseTrackingWorkbook(in);
+        }
+
+        Map<String, String> trackingData = new LinkedHashMap<>();
+        try (OPCPackage pkg = OPCPackage.open(in)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return trackingData;
+            }
+
+            XSSFSheetXMLHandler handler = new XSSFSheetXMLHandler(
+                    reader.getStylesTable(),
+                    new ReadOnlySharedStringsTable(pkg),
+                    new TrackingRowHandler(trackingData),
+                    new PlainNumberDataFormatter(),
+                    false);
+
+            // 첫 번째 시트만 읽음
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(handler);
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("엑셀 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+
+        return trackingData;
+    }
+
+    /**
+     * 구형 xls 파싱 (워크북 전체 로드)
+     */
+    private Map<String, String> parseTrackingWorkbook(InputStream inputStream) throws IOException {
+        Map<String, String> trackingData = new LinkedHashMap<>();
 
         try (Workbook workbook = WorkbookFactory.create(inputStream)) {
             Sheet sheet = workbook.getSheetAt(0);
@@ -138,23 +478,79 @@ public class ExcelService {
                 Row row = sheet.getRow(i);
                 if (row == null) continue;
 
-                // 1열(A): 주문번호 (ORDER_xxx_1 형식)
-                Cell orderNumberCell = row.getCell(0);
-                String orderNumber = getCellValueAsString(orderNumberCell);
+                putTrackingRow(trackingData,
+                        getCellValueAsString(row.getCell(TRACKING_ORDER_NUMBER_COLUMN)),
+                        getCellValueAsString(row.getCell(TRACKING_NUMBER_COLUMN)));
+            }
+        }
 
-                // 12열(L): 송장번호
-                Cell trackingCell = row.getCell(11);
-                String trackingNumber = getCellValueAsString(trackingCell);
+        return trackingData;
+    }
 
-                // 주문번호가 ORDER_로 시작하고, 송장번호가 있는 경우만 추가
-                if (orderNumber != null && orderNumber.startsWith("ORDER_")
-                    && trackingNumber != null && !trackingNumber.trim().isEmpty()) {
-                    trackingData.put(orderNumber.trim(), trackingNumber.trim());
-                }
+    /**
+     * 주문번호가 ORDER_로 시작하고, 송장번호가 있는 경우만 추가
+     */
+    private static void putTrackingRow(Map<String, String> trackingData, String orderNumber, String trackingNumber) {
+        if (orderNumber != null && orderNumber.startsWith("ORDER_")
+            && trackingNumber != null && !trackingNumber.trim().isEmpty()) {
+            trackingData.put(orderNumber.trim(), trackingNumber.trim());
+        }
+    }
+
+    /**
+     * SAX 행 핸들러 - 1열(A) 주문번호, 12열(L) 송장번호
+     */
+    private static class TrackingRowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final Map<String, String> trackingData;
+        private String orderNumber;
+        private String trackingNumber;
+        private int nextColumn;
+
+        TrackingRowHandler(Map<String, String> trackingData) {
+            this.trackingData = trackingData;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            orderNumber = null;
+            trackingNumber = null;
+            nextColumn = 0;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            // 첫 번째 행(헤더) 스킵
+            if (rowNum > 0) {
+                putTrackingRow(trackingData, orderNumber, trackingNumber);
             }
         }
 
-        return trackingData;
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : nextColumn;
+            nextColumn = column + 1;
+
+            if (column == TRACKING_ORDER_NUMBER_COLUMN) {
+                orderNumber = formattedValue;
+            } else if (column == TRACKING_NUMBER_COLUMN) {
+                trackingNumber = formattedValue;
+            }
+        }
+    }
+
+    /**
+     * 일반 서식 정수를 지수 표기 없이 그대로 표시 (숫자 셀로 저장된 송장번호 대응)
+     */
+    private static class PlainNumberDataFormatter extends DataFormatter {
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString) {
+            if (value == Math.floor(value) && !Double.isInfinite(value)
+                    && (formatString == null || "General".equalsIgnoreCase(formatString))) {
+                return String.valueOf((long) value);
+            }
+            return super.formatRawCellContents(value, formatIndex, formatString);
+        }
     }
 
     /**
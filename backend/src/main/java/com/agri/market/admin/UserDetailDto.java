@@ -1,5 +1,6 @@
 package com.agri.market.admin;
 
+import com.agri.market.dto.admin.UserOrderStats;
 import com.agri.market.order.Order;
 import com.agri.market.user.User;
 import lombok.Getter;
@@ -27,11 +28,12 @@ public class UserDetailDto {
     // 통계
     private Long orderCount;
     private BigDecimal totalSpent;
+    private LocalDateTime lastOrderAt;
 
     // 주문 이력
     private List<OrderSummary> recentOrders;
 
-    public UserDetailDto(User user, List<Order> orders, Long orderCount, BigDecimal totalSpent) {
+    public UserDetailDto(User user, List<Order> orders, UserOrderStats stats) {
         this.id = user.getId();
         this.name = user.getName();
         this.email = user.getEmail();
@@ -39,8 +41,9 @@ public class UserDetailDto {
         this.role = user.getRole();
         this.enabled = user.getEnabled();
         this.createdAt = user.getCreatedAt();
-        this.orderCount = orderCount;
-        this.totalSpent = totalSpent;
+        this.orderCount = stats.getOrderCount();
+        this.totalSpent = stats.getTotalSpent();
+        this.lastOrderAt = stats.getLastOrderAt();
 
         // 최근 10개 주문만 포함
         this.recentOrders = orders.stream()
@@ -1,5 +1,6 @@
 package com.agri.market.admin;
 
+import com.agri.market.dto.admin.UserOrderStats;
 import com.agri.market.user.User;
 import lombok.Getter;
 import lombok.Setter;
@@ -24,8 +25,9 @@ public class UserDto {
     // 통계
     private Long orderCount;
     private BigDecimal totalSpent;
+    private LocalDateTime lastOrderAt;
 
-    public UserDto(User user, Long orderCount, BigDecimal totalSpent) {
+    public UserDto(User user, UserOrderStats stats) {
         this.id = user.getId();
         this.name = user.getName();
         this.email = user.getEmail();
@@ -33,7 +35,8 @@ public class UserDto {
         this.role = user.getRole();
         this.enabled = user.getEnabled();
         this.createdAt = user.getCreatedAt();
-        this.orderCount = orderCount;
-        this.totalSpent = totalSpent;
+        this.orderCount = stats.getOrderCount();
+        this.totalSpent = stats.getTotalSpent();
+        this.lastOrderAt = stats.getLastOrderAt();
     }
 }
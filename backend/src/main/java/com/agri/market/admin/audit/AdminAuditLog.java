@@ -9,11 +9,12 @@ import java.time.LocalDateTime;
 /**
  * 관리자 감사 로그 엔티티
  * 관리자의 모든 중요한 작업을 추적하여 보안 및 규정 준수를 보장합니다.
+ * 테이블은 created_at 기준 월별 파티션이며, 보관 기간이 지난 파티션은 AuditLogPartitionManager가 보관 후 삭제합니다.
  */
 @Entity
 @Table(name = "admin_audit_logs", indexes = {
-        @Index(name = "idx_admin_user_id", columnList = "adminUserId"),
-        @Index(name = "idx_action_type", columnList = "actionType"),
+        @Index(name = "idx_admin_user_created", columnList = "adminUserId,createdAt"),
+        @Index(name = "idx_action_type_created", columnList = "actionType,createdAt"),
         @Index(name = "idx_target_entity", columnList = "targetEntityType,targetEntityId"),
         @Index(name = "idx_created_at", columnList = "createdAt")
 })
@@ -94,7 +95,9 @@ public class AdminAuditLog {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
     }
 
     /**
@@ -0,0 +1,71 @@
+package com.agri.market.admin.audit;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 관리자 감사 로그 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/admin/audit-logs")
+public class AdminAuditLogController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 기간을 지정하지 않으면 최근 30일만 조회 (해당 월 파티션만 읽도록)
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    private final AdminAuditLogService auditLogService;
+
+    public AdminAuditLogController(AdminAuditLogService auditLogService) {
+        this.auditLogService = auditLogService;
+    }
+
+    /**
+     * 감사 로그 조회 (관리자 또는 작업 유형별, 기간 내 최신순)
+     * GET /api/admin/audit-logs?adminUserId=1&startDate=2026-10-01T00:00:00&endDate=2026-11-01T00:00:00
+     */
+    @GetMapping
+    public ResponseEntity<Page<AdminAuditLog>> getLogs(
+            @RequestParam(required = false) Long adminUserId,
+            @RequestParam(required = false) ActionType actionType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        LocalDateTime end = endDate != null ? endDate : LocalDateTime.now().plusMinutes(1);
+        LocalDateTime start = startDate != null ? startDate : end.minusDays(DEFAULT_RANGE_DAYS);
+        Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE));
+
+        if (adminUserId != null && actionType != null) {
+            return ResponseEntity.ok(auditLogService.advancedSearch(adminUserId, actionType, null, null,
+                    start, end, pageable));
+        }
+        if (adminUserId != null) {
+            return ResponseEntity.ok(auditLogService.getLogsByAdminUserId(adminUserId, start, end, pageable));
+        }
+        if (actionType != null) {
+            return ResponseEntity.ok(auditLogService.getLogsByActionType(actionType, start, end, pageable));
+        }
+        return ResponseEntity.ok(auditLogService.getLogsByDateRange(start, end, pageable));
+    }
+
+    /**
+     * 감사 로그 기록기 상태 (대기 수, 버린 수 등 모니터링용)
+     * GET /api/admin/audit-logs/writer-stats
+     */
+    @GetMapping("/writer-stats")
+    public ResponseEntity<Map<String, Object>> getWriterStats() {
+        return ResponseEntity.ok(auditLogService.getWriterStats());
+    }
+}
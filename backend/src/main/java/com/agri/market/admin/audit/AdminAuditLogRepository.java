@@ -26,6 +26,34 @@ public interface AdminAuditLogRepository extends JpaRepository<AdminAuditLog, Lo
      */
     Page<AdminAuditLog> findByActionType(ActionType actionType, Pageable pageable);
 
+    /**
+     * 특정 관리자의 기간 내 로그 조회 (해당 월 파티션만 읽음)
+     */
+    @Query(value = "SELECT a FROM AdminAuditLog a WHERE a.adminUserId = :adminUserId " +
+            "AND a.createdAt >= :startDate AND a.createdAt < :endDate ORDER BY a.createdAt DESC",
+            countQuery = "SELECT COUNT(a) FROM AdminAuditLog a WHERE a.adminUserId = :adminUserId " +
+                    "AND a.createdAt >= :startDate AND a.createdAt < :endDate")
+    Page<AdminAuditLog> findByAdminUserIdAndDateRange(
+            @Param("adminUserId") Long adminUserId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            Pageable pageable
+    );
+
+    /**
+     * 특정 작업 유형의 기간 내 로그 조회 (해당 월 파티션만 읽음)
+     */
+    @Query(value = "SELECT a FROM AdminAuditLog a WHERE a.actionType = :actionType " +
+            "AND a.createdAt >= :startDate AND a.createdAt < :endDate ORDER BY a.createdAt DESC",
+            countQuery = "SELECT COUNT(a) FROM AdminAuditLog a WHERE a.actionType = :actionType " +
+                    "AND a.createdAt >= :startDate AND a.createdAt < :endDate")
+    Page<AdminAuditLog> findByActionTypeAndDateRange(
+            @Param("actionType") ActionType actionType,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            Pageable pageable
+    );
+
     /**
      * 특정 엔티티에 대한 모든 로그 조회
      */
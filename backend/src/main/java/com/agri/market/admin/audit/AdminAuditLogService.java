@@ -10,11 +10,16 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 관리자 감사 로그 서비스
@@ -27,19 +32,22 @@ public class AdminAuditLogService {
 
     private final AdminAuditLogRepository auditLogRepository;
     private final UserRepository userRepository;
+    private final AuditLogWriter auditLogWriter;
 
-    public AdminAuditLogService(AdminAuditLogRepository auditLogRepository, UserRepository userRepository) {
+    public AdminAuditLogService(AdminAuditLogRepository auditLogRepository, UserRepository userRepository,
+                                AuditLogWriter auditLogWriter) {
         this.auditLogRepository = auditLogRepository;
         this.userRepository = userRepository;
+        this.auditLogWriter = auditLogWriter;
     }
 
     /**
      * 감사 로그 기록 (전체 파라미터)
+     * 저장은 AuditLogWriter가 비동기로 일괄 처리하며, 트랜잭션 안에서 호출되면 커밋 후에만 기록됨
      */
-    @Transactional
-    public AdminAuditLog log(Long adminUserId, String adminEmail, ActionType actionType,
-                             String targetEntityType, Long targetEntityId,
-                             String oldValue, String newValue, String reason, String ipAddress) {
+    public void log(Long adminUserId, String adminEmail, ActionType actionType,
+                    String targetEntityType, Long targetEntityId,
+                    String oldValue, String newValue, String reason, String ipAddress) {
         AdminAuditLog log = new AdminAuditLog();
         log.setAdminUserId(adminUserId);
         log.setAdminEmail(adminEmail);
@@ -50,18 +58,35 @@ public class AdminAuditLogService {
         log.setNewValue(newValue);
         log.setReason(reason);
         log.setIpAddress(ipAddress);
+        log.setCreatedAt(LocalDateTime.now());
 
-        AdminAuditLog saved = auditLogRepository.save(log);
-        logger.info("Audit log created: {}", saved.getSummary());
-        return saved;
+        enqueueAfterCommit(List.of(log));
     }
 
     /**
      * 감사 로그 기록 (간편 버전 - 현재 인증된 사용자 자동 추출)
      */
-    @Transactional
-    public AdminAuditLog log(ActionType actionType, String targetEntityType, Long targetEntityId,
-                             String oldValue, String newValue, String reason) {
+    public void log(ActionType actionType, String targetEntityType, Long targetEntityId,
+                    String oldValue, String newValue, String reason) {
+        logAll(actionType, targetEntityType, List.of(targetEntityId), oldValue, newValue, reason);
+    }
+
+    /**
+     * 감사 로그 기록 (사유 없는 간편 버전)
+     */
+    public void log(ActionType actionType, String targetEntityType, Long targetEntityId,
+                    String oldValue, String newValue) {
+        log(actionType, targetEntityType, targetEntityId, oldValue, newValue, null);
+    }
+
+    /**
+     * 여러 엔티티에 같은 작업을 한 감사 로그 기록 (일괄 작업용 - 관리자 조회는 한 번만)
+     */
+    public void logAll(ActionType actionType, String targetEntityType, List<Long> targetEntityIds,
+                       String oldValue, String newValue, String reason) {
+        if (targetEntityIds.isEmpty()) {
+            return;
+        }
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
             logger.warn("Attempted to create audit log without authentication");
@@ -73,18 +98,61 @@ public class AdminAuditLogService {
                 .orElseThrow(() -> new RuntimeException("Admin user not found: " + adminEmail));
 
         String ipAddress = getClientIpAddress();
+        LocalDateTime now = LocalDateTime.now();
 
-        return log(adminUser.getId(), adminEmail, actionType, targetEntityType, targetEntityId,
-                oldValue, newValue, reason, ipAddress);
+        List<AdminAuditLog> logs = new ArrayList<>(targetEntityIds.size());
+        for (Long targetEntityId : targetEntityIds) {
+            AdminAuditLog log = new AdminAuditLog();
+            log.setAdminUserId(adminUser.getId());
+            log.setAdminEmail(adminEmail);
+            log.setActionType(actionType);
+            log.setTargetEntityType(targetEntityType);
+            log.setTargetEntityId(targetEntityId);
+            log.setOldValue(oldValue);
+            log.setNewValue(newValue);
+            log.setReason(reason);
+            log.setIpAddress(ipAddress);
+            log.setCreatedAt(now);
+            logs.add(log);
+        }
+        enqueueAfterCommit(logs);
     }
 
     /**
-     * 감사 로그 기록 (사유 없는 간편 버전)
+     * 트랜잭션이 있으면 커밋 후 버퍼에 넣음 (롤백된 작업은 기록하지 않음)
+     */
+    private void enqueueAfterCommit(List<AdminAuditLog> logs) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(logs);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(logs);
+            }
+        });
+    }
+
+    private void enqueue(List<AdminAuditLog> logs) {
+        for (AdminAuditLog log : logs) {
+            auditLogWriter.enqueue(log);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Audit log queued: {}", log.getSummary());
+            }
+        }
+    }
+
+    /**
+     * 감사 로그 기록기 상태 (대기 수, 저장 수, 버린 수, 저장 실패 수)
      */
-    @Transactional
-    public AdminAuditLog log(ActionType actionType, String targetEntityType, Long targetEntityId,
-                             String oldValue, String newValue) {
-        return log(actionType, targetEntityType, targetEntityId, oldValue, newValue, null);
+    public Map<String, Object> getWriterStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("backlog", auditLogWriter.getBacklog());
+        stats.put("written", auditLogWriter.getWrittenCount());
+        stats.put("dropped", auditLogWriter.getDroppedCount());
+        stats.put("failed", auditLogWriter.getFailedCount());
+        return stats;
     }
 
     /**
@@ -141,6 +209,22 @@ public class AdminAuditLogService {
         return auditLogRepository.findByActionType(actionType, pageable);
     }
 
+    /**
+     * 특정 관리자의 기간 내 로그 조회 (startDate 이상, endDate 미만 - 해당 월 파티션만 읽음)
+     */
+    public Page<AdminAuditLog> getLogsByAdminUserId(Long adminUserId, LocalDateTime startDate,
+                                                    LocalDateTime endDate, Pageable pageable) {
+        return auditLogRepository.findByAdminUserIdAndDateRange(adminUserId, startDate, endDate, pageable);
+    }
+
+    /**
+     * 특정 작업 유형의 기간 내 로그 조회 (startDate 이상, endDate 미만 - 해당 월 파티션만 읽음)
+     */
+    public Page<AdminAuditLog> getLogsByActionType(ActionType actionType, LocalDateTime startDate,
+                                                   LocalDateTime endDate, Pageable pageable) {
+        return auditLogRepository.findByActionTypeAndDateRange(actionType, startDate, endDate, pageable);
+    }
+
     /**
      * 특정 엔티티에 대한 로그 조회 (히스토리 추적용)
      */
@@ -170,14 +254,14 @@ public class AdminAuditLogService {
     /**
      * 특정 IP의 최근 활동 조회 (보안 모니터링용)
      */
-    public java.util.List<AdminAuditLog> getRecentActivityByIp(String ipAddress) {
+    public List<AdminAuditLog> getRecentActivityByIp(String ipAddress) {
         return auditLogRepository.findTop20ByIpAddressOrderByCreatedAtDesc(ipAddress);
     }
 
     /**
      * 최근 로그 조회
      */
-    public java.util.List<AdminAuditLog> getRecentLogs() {
+    public List<AdminAuditLog> getRecentLogs() {
         return auditLogRepository.findTop50ByOrderByCreatedAtDesc();
     }
 }
@@ -0,0 +1,251 @@
+package com.agri.market.admin.audit;
+
+import com.agri.market.file.StorageService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 감사 로그 월별 파티션 관리
+ * - admin_audit_logs는 created_at 기준 RANGE 파티션 (pYYYYMM = 다음 달 1일 미만, pmax = 나머지)
+ * - 매일 앞으로 쓸 달의 파티션을 pmax에서 미리 분리 (비어 있는 pmax만 재구성하므로 가벼움)
+ * - 보관 기간이 지난 파티션은 NDJSON(gzip)으로 StorageService에 올린 뒤 DROP PARTITION
+ * - 업로드 후 삭제 전에 실패하면 다음 실행에서 다시 보관 (같은 내용의 파일이 하나 더 생길 수 있음)
+ * - 파티션이 없는 테이블(ddl-auto로 만든 개발 DB 등)에서는 아무것도 하지 않음
+ */
+@Component
+public class AuditLogPartitionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogPartitionManager.class);
+
+    private static final String TABLE = "admin_audit_logs";
+    private static final String MAX_PARTITION = "pmax";
+    private static final String ARCHIVE_DIRECTORY = "audit-archive";
+    private static final String ARCHIVE_CONTENT_TYPE = "application/gzip";
+    private static final Pattern PARTITION_NAME = Pattern.compile("p\\d{6}");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final int EXPORT_PAGE_SIZE = 5000;
+
+    private static final String PARTITIONS_SQL =
+            "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '" + TABLE + "' AND PARTITION_NAME IS NOT NULL " +
+            "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StorageService storageService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int retentionMonths;
+    private final int futureMonths;
+
+    public AuditLogPartitionManager(JdbcTemplate jdbcTemplate, StorageService storageService,
+                                    ObjectMapper objectMapper,
+                                    @Value("${audit.partition.enabled:true}") boolean enabled,
+                                    @Value("${audit.partition.retention-months:12}") int retentionMonths,
+                                    @Value("${audit.partition.future-months:3}") int futureMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.storageService = storageService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.retentionMonths = retentionMonths;
+        this.futureMonths = futureMonths;
+    }
+
+    /**
+     * 파티션 순환 (매일 04:40)
+     */
+    @Scheduled(cron = "${audit.partition.cron:0 40 4 * * *}")
+    public void rotate() {
+        if (!enabled) {
+            return;
+        }
+        List<Partition> partitions = loadPartitions();
+        if (partitions.isEmpty()) {
+            logger.warn("{} is not partitioned, skipping partition rotation", TABLE);
+            return;
+        }
+
+        try {
+            addFuturePartitions(partitions);
+        } catch (Exception e) {
+            logger.error("Failed to add audit log partitions", e);
+        }
+
+        LocalDate cutoff = YearMonth.now().minusMonths(retentionMonths).atDay(1);
+        for (Partition partition : partitions) {
+            if (partition.upperBound != null && !partition.upperBound.isAfter(cutoff)) {
+                try {
+                    archiveAndDrop(partition);
+                } catch (Exception e) {
+                    // 다음 파티션은 계속 진행하고, 실패한 파티션은 다음 실행에서 다시 시도
+                    logger.error("Failed to archive audit log partition {}", partition.name, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 이번 달부터 futureMonths개월 뒤까지의 파티션이 있도록 pmax에서 분리
+     */
+    private void addFuturePartitions(List<Partition> partitions) {
+        LocalDate lastBound = partitions.stream()
+                .map(partition -> partition.upperBound)
+                .filter(bound -> bound != null)
+                .max(LocalDate::compareTo)
+                .orElse(YearMonth.now().atDay(1));
+        LocalDate target = YearMonth.now().plusMonths(futureMonths + 1L).atDay(1);
+        if (!lastBound.isBefore(target)) {
+            return;
+        }
+
+        List<String> definitions = new ArrayList<>();
+        for (LocalDate from = lastBound; from.isBefore(target); from = from.plusMonths(1)) {
+            definitions.add("PARTITION p" + from.format(PARTITION_SUFFIX)
+                    + " VALUES LESS THAN ('" + from.plusMonths(1) + "')");
+        }
+
+        boolean hasMax = partitions.stream().anyMatch(partition -> partition.upperBound == null);
+        String sql;
+        if (hasMax) {
+            definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+            sql = "ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + MAX_PARTITION
+                    + " INTO (" + String.join(", ", definitions) + ")";
+        } else {
+            sql = "ALTER TABLE " + TABLE + " ADD PARTITION (" + String.join(", ", definitions) + ")";
+        }
+        jdbcTemplate.execute(sql);
+        logger.info("Added {} audit log partitions up to {}", hasMax ? definitions.size() - 1 : definitions.size(), target);
+    }
+
+    /**
+     * 파티션 하나를 gzip NDJSON으로 보관 후 삭제
+     */
+    private void archiveAndDrop(Partition partition) throws IOException {
+        if (!PARTITION_NAME.matcher(partition.name).matches()) {
+            logger.warn("Skipping audit log partition with unexpected name: {}", partition.name);
+            return;
+        }
+
+        Path tempFile = Files.createTempFile("audit-" + partition.name + "-", ".ndjson.gz");
+        try {
+            long rows;
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(tempFile)), StandardCharsets.UTF_8))) {
+                rows = exportRows(partition.name, writer);
+            }
+
+            // 보관 중 행이 추가되지 않았는지 확인 (보관 기간이 지난 달이므로 정상이면 같음)
+            Long current = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + TABLE + " PARTITION (" + partition.name + ")", Long.class);
+            if (current == null || current != rows) {
+                throw new IllegalStateException("Row count changed during archive of " + partition.name
+                        + ": exported " + rows + ", now " + current);
+            }
+
+            if (rows > 0) {
+                String key = storageService.storeGeneratedFile(ARCHIVE_DIRECTORY,
+                        TABLE + "_" + partition.name + ".ndjson.gz", tempFile, ARCHIVE_CONTENT_TYPE);
+                logger.info("Archived audit log partition {} - {} rows, {} bytes -> {}",
+                        partition.name, rows, Files.size(tempFile), key);
+            }
+
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + partition.name);
+            logger.info("Dropped audit log partition {}", partition.name);
+        } finally {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException e) {
+                logger.warn("Failed to delete temp file {}", tempFile);
+            }
+        }
+    }
+
+    /**
+     * 파티션의 행을 id 순으로 나눠 읽어 한 줄에 하나씩 JSON으로 기록
+     */
+    private long exportRows(String partitionName, Writer writer) throws IOException {
+        String sql = "SELECT id, admin_user_id, admin_email, action_type, target_entity_type, target_entity_id, " +
+                "old_value, new_value, reason, ip_address, metadata, created_at " +
+                "FROM " + TABLE + " PARTITION (" + partitionName + ") WHERE id > ? ORDER BY id LIMIT " + EXPORT_PAGE_SIZE;
+
+        long rows = 0;
+        long lastId = 0;
+        while (true) {
+            List<Map<String, Object>> page = jdbcTemplate.query(sql, (rs, rowNum) -> {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("id", rs.getLong("id"));
+                row.put("adminUserId", rs.getLong("admin_user_id"));
+                row.put("adminEmail", rs.getString("admin_email"));
+                row.put("actionType", rs.getString("action_type"));
+                row.put("targetEntityType", rs.getString("target_entity_type"));
+                row.put("targetEntityId", rs.getLong("target_entity_id"));
+                row.put("oldValue", rs.getString("old_value"));
+                row.put("newValue", rs.getString("new_value"));
+                row.put("reason", rs.getString("reason"));
+                row.put("ipAddress", rs.getString("ip_address"));
+                row.put("metadata", rs.getString("metadata"));
+                Timestamp createdAt = rs.getTimestamp("created_at");
+                row.put("createdAt", createdAt != null ? createdAt.toLocalDateTime().toString() : null);
+                return row;
+            }, lastId);
+
+            for (Map<String, Object> row : page) {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+            rows += page.size();
+            if (page.size() < EXPORT_PAGE_SIZE) {
+                return rows;
+            }
+            lastId = (Long) page.get(page.size() - 1).get("id");
+        }
+    }
+
+    private List<Partition> loadPartitions() {
+        return jdbcTemplate.query(PARTITIONS_SQL, (rs, rowNum) ->
+                new Partition(rs.getString("PARTITION_NAME"), parseBound(rs.getString("PARTITION_DESCRIPTION"))));
+    }
+
+    /**
+     * RANGE COLUMNS 상한값 파싱 ('2026-02-01' 또는 '2026-02-01 00:00:00', MAXVALUE는 null)
+     */
+    static LocalDate parseBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        String value = description.replace("'", "").trim();
+        return LocalDate.parse(value.length() > 10 ? value.substring(0, 10) : value);
+    }
+
+    private static class Partition {
+        private final String name;
+        private final LocalDate upperBound; // 이 날짜 미만의 행을 담음 (null = MAXVALUE)
+
+        Partition(String name, LocalDate upperBound) {
+            this.name = name;
+            this.upperBound = upperBound;
+        }
+    }
+}
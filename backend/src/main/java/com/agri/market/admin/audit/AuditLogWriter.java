@@ -0,0 +1,218 @@
+package com.agri.market.admin.audit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 감사 로그 비동기 일괄 기록기
+ * - 관리자 요청은 메모리 버퍼(고정 크기)에 넣기만 하고, 전용 스레드가 여러 행을 한 번의 INSERT로 저장
+ * - 배치 크기가 차거나 첫 항목 이후 flush 간격이 지나면 저장
+ * - 커넥션 풀이 auto-commit=false라 배치마다 트랜잭션으로 감싸고, 커밋된 뒤에만 저장 수로 셈
+ * - 버퍼가 가득 차면 버리고 WARN 로그로 내용을 남김 (관리자 요청을 막지 않음)
+ * - 종료 시 버퍼에 남은 항목을 모두 저장한 뒤 스레드 종료
+ */
+@Component
+public class AuditLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private static final String INSERT_PREFIX = "INSERT INTO admin_audit_logs " +
+            "(admin_user_id, admin_email, action_type, target_entity_type, target_entity_id, " +
+            "old_value, new_value, reason, ip_address, metadata, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<AdminAuditLog> buffer;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final Thread worker;
+
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${audit.writer.buffer-capacity:10000}") int bufferCapacity,
+                          @Value("${audit.writer.batch-size:200}") int batchSize,
+                          @Value("${audit.writer.flush-interval-ms:500}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+
+        this.worker = new Thread(this::run, "audit-writer");
+        worker.setDaemon(true);
+    }
+
+    /**
+     * 빈 초기화가 끝난 뒤 기록 스레드 시작
+     */
+    @PostConstruct
+    public void start() {
+        worker.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!buffer.isEmpty()) {
+            logger.warn("Audit writer stopped with {} unwritten logs", buffer.size());
+        }
+    }
+
+    /**
+     * 감사 로그 저장 예약
+     * @return 버퍼가 가득 차서 받지 못하면 false
+     */
+    public boolean enqueue(AdminAuditLog log) {
+        if (running && buffer.offer(log)) {
+            return true;
+        }
+        droppedCount.incrementAndGet();
+        logger.warn("Audit log buffer is full or closed, dropping: {}", log.getSummary());
+        return false;
+    }
+
+    /**
+     * 저장 대기 중인 감사 로그 수
+     */
+    public int getBacklog() {
+        return buffer.size();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    /**
+     * 버퍼가 가득 차서 버린 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * 재시도 후에도 저장하지 못한 수
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    private void run() {
+        List<AdminAuditLog> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AdminAuditLog first = buffer.take();
+                batch.add(first);
+
+                // 첫 항목 이후 flush 간격 동안 배치 크기까지 모음
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    buffer.drainTo(batch, batchSize - batch.size());
+                    if (batch.size() >= batchSize) {
+                        break;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    AdminAuditLog next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                // 종료 요청 - 모으던 배치는 아래에서 함께 저장
+                break;
+            }
+        }
+
+        // 종료 시 남은 항목 모두 저장 (인터럽트 상태가 커넥션 획득을 방해하지 않도록 해제)
+        Thread.interrupted();
+        buffer.drainTo(batch);
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            write(batch.subList(from, Math.min(from + batchSize, batch.size())));
+        }
+    }
+
+    private void write(List<AdminAuditLog> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> params = new ArrayList<>(batch.size() * 11);
+        for (int i = 0; i < batch.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+            AdminAuditLog log = batch.get(i);
+            params.add(log.getAdminUserId());
+            params.add(log.getAdminEmail());
+            params.add(log.getActionType().name());
+            params.add(log.getTargetEntityType());
+            params.add(log.getTargetEntityId());
+            params.add(log.getOldValue());
+            params.add(log.getNewValue());
+            params.add(log.getReason());
+            params.add(log.getIpAddress());
+            params.add(log.getMetadata());
+            params.add(Timestamp.valueOf(log.getCreatedAt()));
+        }
+
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.update(sql.toString(), params.toArray()));
+                // executeWithoutResult가 예외 없이 끝나면 커밋된 것
+                writtenCount.addAndGet(batch.size());
+                return;
+            } catch (Exception e) {
+                if (attempt == MAX_WRITE_ATTEMPTS) {
+                    failedCount.addAndGet(batch.size());
+                    logger.error("Failed to write {} audit logs after {} attempts", batch.size(), attempt, e);
+                    batch.forEach(log -> logger.error("Unwritten audit log: {}", log.getSummary()));
+                    return;
+                }
+                logger.warn("Failed to write {} audit logs (attempt {}/{}): {}",
+                        batch.size(), attempt, MAX_WRITE_ATTEMPTS, e.getMessage());
+                try {
+                    Thread.sleep(1000L * attempt);
+                } catch (InterruptedException interrupted) {
+                    // 종료 중에는 기다리지 않고 바로 재시도
+                }
+            }
+        }
+    }
+}
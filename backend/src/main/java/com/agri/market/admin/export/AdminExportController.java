@@ -0,0 +1,78 @@
+package com.agri.market.admin.export;
+
+import com.agri.market.dto.admin.ExportJobRequest;
+import com.agri.market.dto.admin.ExportJobResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 비동기 내보내기 API
+ * 작업 등록 → 상태 폴링 → 완료 후 다운로드
+ */
+@RestController
+@RequestMapping("/api/admin/exports")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminExportController {
+
+    private final ExportJobService exportJobService;
+
+    public AdminExportController(ExportJobService exportJobService) {
+        this.exportJobService = exportJobService;
+    }
+
+    /**
+     * 내보내기 작업 등록 (같은 작업이 진행 중이면 기존 작업 반환)
+     */
+    @PostMapping
+    public ResponseEntity<ExportJobResponse> submit(@Valid @RequestBody ExportJobRequest request,
+                                                    Authentication authentication) {
+        ExportJob job = exportJobService.submit(request, authentication != null ? authentication.getName() : null);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ExportJobResponse.from(job));
+    }
+
+    /**
+     * 내보내기 작업 목록 (최신순)
+     */
+    @GetMapping
+    public ResponseEntity<Page<ExportJobResponse>> getJobs(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(exportJobService.getJobs(PageRequest.of(page, size)).map(ExportJobResponse::from));
+    }
+
+    /**
+     * 내보내기 작업 상태/진행률 조회
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ExportJobResponse> getJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(ExportJobResponse.from(exportJobService.getJob(jobId)));
+    }
+
+    /**
+     * 완료된 내보내기 파일 다운로드 (저장소에서 응답으로 바로 복사)
+     */
+    @GetMapping("/{jobId}/download")
+    public void download(@PathVariable Long jobId, HttpServletResponse response) throws IOException {
+        ExportJob job = exportJobService.getJob(jobId);
+        try (InputStream in = exportJobService.openArtifact(job)) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment;filename=" + job.getFileName());
+            response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+            if (job.getFileSize() != null) {
+                response.setContentLengthLong(job.getFileSize());
+            }
+            in.transferTo(response.getOutputStream());
+            response.flushBuffer();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.agri.market.admin.export;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 내보내기 작업
+ * 요청 즉시 작업을 등록하고 백그라운드에서 파일을 생성해 저장소에 올린 뒤, 클라이언트는 상태를 폴링해 다운로드
+ */
+@Entity
+@Table(name = "export_jobs", indexes = {
+        @Index(name = "idx_export_jobs_status_expires", columnList = "status,expiresAt"),
+        @Index(name = "idx_export_jobs_created_at", columnList = "createdAt")
+})
+@Getter
+@Setter
+public class ExportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private ExportType exportType;
+
+    /**
+     * 요청 파라미터 (JSON)
+     */
+    @Column(columnDefinition = "TEXT")
+    private String params;
+
+    /**
+     * 중복 요청 방지 키 (유형 + 파라미터 해시)
+     * 대기/생성 중에만 값이 있고 종료 시 비움 - 유니크 제약으로 같은 내보내기가 동시에 두 번 돌지 않음
+     */
+    @Column(unique = true, length = 100)
+    private String dedupKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ExportJobStatus status = ExportJobStatus.QUEUED;
+
+    /**
+     * 요청한 관리자 이메일
+     */
+    @Column(length = 255)
+    private String requestedBy;
+
+    /**
+     * 전체 예상 행 수 (진행률 계산용)
+     */
+    private Long totalRows;
+
+    /**
+     * 지금까지 기록한 행 수
+     */
+    @Column(nullable = false)
+    private Long rowCount = 0L;
+
+    /**
+     * 저장소 키 (완료 시)
+     */
+    @Column(length = 500)
+    private String storageKey;
+
+    @Column(length = 255)
+    private String fileName;
+
+    private Long fileSize;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    /**
+     * 작업을 가진 서버가 마지막으로 살아 있음을 기록한 시각 (대기/생성 중에만 갱신)
+     */
+    private LocalDateTime heartbeatAt;
+
+    private LocalDateTime completedAt;
+
+    /**
+     * 파일 보관 만료 시각 (이후 파일 삭제 및 EXPIRED 처리)
+     */
+    private LocalDateTime expiresAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 진행률 (0~100, 전체 행 수를 모르면 null)
+     */
+    public Integer getProgressPercent() {
+        if (status == ExportJobStatus.COMPLETED) {
+            return 100;
+        }
+        if (totalRows == null || totalRows == 0) {
+            return null;
+        }
+        return (int) Math.min(99, rowCount * 100 / totalRows);
+    }
+}
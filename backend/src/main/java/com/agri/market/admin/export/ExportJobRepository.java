@@ -0,0 +1,62 @@
+package com.agri.market.admin.export;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ExportJobRepository extends JpaRepository<ExportJob, Long> {
+
+    /**
+     * 같은 내보내기의 진행 중인 작업 조회 (중복 요청 시 재사용)
+     */
+    Optional<ExportJob> findByDedupKey(String dedupKey);
+
+    Page<ExportJob> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    /**
+     * 보관 기간이 지난 완료/실패 작업
+     */
+    @Query("SELECT j FROM ExportJob j WHERE j.status IN :statuses AND j.expiresAt < :now")
+    List<ExportJob> findExpired(@Param("statuses") List<ExportJobStatus> statuses,
+                                @Param("now") LocalDateTime now);
+
+    /**
+     * heartbeat가 끊긴 대기/생성 중 작업 (서버 재시작 등으로 중단된 작업 정리용)
+     * heartbeat를 한 번도 기록하지 않은 작업은 생성 시각 기준
+     */
+    @Query("SELECT j FROM ExportJob j WHERE j.status IN :statuses " +
+           "AND COALESCE(j.heartbeatAt, j.createdAt) < :before")
+    List<ExportJob> findStale(@Param("statuses") List<ExportJobStatus> statuses,
+                              @Param("before") LocalDateTime before);
+
+    /**
+     * 진행 행 수 갱신 (heartbeat 포함)
+     * 내보내기 스트림이 커넥션을 점유하고 있으므로 별도 트랜잭션(별도 커넥션)에서 바로 커밋
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("UPDATE ExportJob j SET j.rowCount = :rowCount, j.heartbeatAt = CURRENT_TIMESTAMP WHERE j.id = :id")
+    int updateProgress(@Param("id") Long id, @Param("rowCount") long rowCount);
+
+    /**
+     * 이 서버가 가진 대기/생성 중 작업의 heartbeat 갱신
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ExportJob j SET j.heartbeatAt = :now WHERE j.id IN :ids AND j.status IN :statuses")
+    int updateHeartbeat(@Param("ids") Collection<Long> ids,
+                        @Param("statuses") List<ExportJobStatus> statuses,
+                        @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,366 @@
+package com.agri.market.admin.export;
+
+import com.agri.market.admin.ExcelService;
+import com.agri.market.dto.admin.ExportJobRequest;
+import com.agri.market.file.StorageService;
+import com.agri.market.order.OrderStatus;
+import com.agri.market.settlement.SettlementStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+
+/**
+ * 비동기 내보내기 작업 서비스
+ * - 요청은 작업만 등록하고 즉시 반환 (대용량 내보내기가 로드밸런서 유휴 타임아웃에 걸리지 않음)
+ * - 파일은 제한된 크기의 전용 스레드 풀에서 임시 파일로 생성한 뒤 저장소(로컬/S3)에 올림
+ * - 같은 유형/파라미터의 작업이 진행 중이면 새로 만들지 않고 기존 작업을 반환 (dedupKey 유니크 제약)
+ * - 보관 기간이 지난 파일은 스케줄러가 삭제
+ * - 대기/생성 중 작업은 가진 서버가 주기적으로 heartbeat를 기록, heartbeat가 끊긴 작업만 중단된 것으로 정리
+ */
+@Service
+public class ExportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportJobService.class);
+
+    private static final String STORAGE_DIRECTORY = "exports";
+    private static final String XLSX_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    // 진행률 DB 갱신 최소 간격
+    private static final long PROGRESS_UPDATE_INTERVAL_MS = 2000;
+
+    // 이 서버가 가진 작업의 heartbeat 기록 간격
+    private static final long HEARTBEAT_INTERVAL_MS = 60_000;
+
+    private static final List<ExportJobStatus> ACTIVE_STATUSES = List.of(ExportJobStatus.QUEUED, ExportJobStatus.RUNNING);
+
+    private final ExportJobRepository exportJobRepository;
+    private final ExcelService excelService;
+    private final StorageService storageService;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor executor;
+    private final long retentionHours;
+    private final long heartbeatTimeoutMinutes;
+
+    // 이 서버의 실행기에 들어가 있는(대기/생성 중) 작업 ID
+    private final Set<Long> ownedJobIds = ConcurrentHashMap.newKeySet();
+
+    public ExportJobService(ExportJobRepository exportJobRepository,
+                            ExcelService excelService,
+                            StorageService storageService,
+                            ObjectMapper objectMapper,
+                            @Value("${export.jobs.pool-size:2}") int poolSize,
+                            @Value("${export.jobs.queue-capacity:20}") int queueCapacity,
+                            @Value("${export.jobs.retention-hours:24}") long retentionHours,
+                            @Value("${export.jobs.heartbeat-timeout-minutes:10}") long heartbeatTimeoutMinutes) {
+        this.exportJobRepository = exportJobRepository;
+        this.excelService = excelService;
+        this.storageService = storageService;
+        this.objectMapper = objectMapper;
+        this.retentionHours = retentionHours;
+        this.heartbeatTimeoutMinutes = heartbeatTimeoutMinutes;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("export-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 내보내기 작업 등록
+     * 같은 내보내기가 이미 대기/생성 중이면 그 작업을 반환
+     */
+    public ExportJob submit(ExportJobRequest request, String requestedBy) {
+        String params = toParamsJson(request);
+        String dedupKey = request.getType().name() + ":" + sha256(params);
+
+        ExportJob existing = exportJobRepository.findByDedupKey(dedupKey).orElse(null);
+        if (existing != null) {
+            logger.info("Reusing export job {} for {}", existing.getId(), dedupKey);
+            return existing;
+        }
+
+        ExportJob job = new ExportJob();
+        job.setExportType(request.getType());
+        job.setParams(params);
+        job.setDedupKey(dedupKey);
+        job.setRequestedBy(requestedBy);
+        try {
+            job = exportJobRepository.saveAndFlush(job);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 요청이 들어와 다른 쪽이 먼저 등록함
+            return exportJobRepository.findByDedupKey(dedupKey)
+                    .orElseThrow(() -> new RuntimeException("내보내기 작업 등록에 실패했습니다."));
+        }
+
+        Long jobId = job.getId();
+        ownedJobIds.add(jobId);
+        try {
+            executor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    ownedJobIds.remove(jobId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            ownedJobIds.remove(jobId);
+            logger.warn("Export queue is full, rejecting job {}", jobId);
+            fail(job, "내보내기 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return job;
+    }
+
+    public ExportJob getJob(Long jobId) {
+        return exportJobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("내보내기 작업을 찾을 수 없습니다: " + jobId));
+    }
+
+    public Page<ExportJob> getJobs(Pageable pageable) {
+        return exportJobRepository.findAllByOrderByCreatedAtDesc(pageable);
+    }
+
+    /**
+     * 완료된 작업의 파일 열기
+     */
+    public InputStream openArtifact(ExportJob job) {
+        if (job.getStatus() != ExportJobStatus.COMPLETED) {
+            throw new RuntimeException("다운로드할 수 없는 작업 상태입니다: " + job.getStatus());
+        }
+        return storageService.openGeneratedFile(job.getStorageKey());
+    }
+
+    /**
+     * 보관 기간이 지난 파일 삭제 및 오래 멈춰 있는 작업 정리 (매시 정각)
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    public void cleanupExpiredJobs() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ExportJob> expired = exportJobRepository.findExpired(
+                List.of(ExportJobStatus.COMPLETED, ExportJobStatus.FAILED), now);
+        for (ExportJob job : expired) {
+            if (job.getStorageKey() != null) {
+                try {
+                    storageService.deleteGeneratedFile(job.getStorageKey());
+                } catch (Exception e) {
+                    logger.warn("Failed to delete export artifact {}: {}", job.getStorageKey(), e.getMessage());
+                    continue;
+                }
+            }
+            job.setStorageKey(null);
+            job.setStatus(ExportJobStatus.EXPIRED);
+            exportJobRepository.save(job);
+        }
+
+        // 서버 재시작 등으로 heartbeat가 끊긴 작업은 dedupKey를 풀어 다시 요청할 수 있게 함
+        // (오래 걸려도 heartbeat가 이어지는 작업이나 이 서버가 실행 중인 작업은 건드리지 않음)
+        List<ExportJob> stale = exportJobRepository.findStale(ACTIVE_STATUSES, now.minusMinutes(heartbeatTimeoutMinutes))
+                .stream()
+                .filter(job -> !ownedJobIds.contains(job.getId()))
+                .toList();
+        for (ExportJob job : stale) {
+            fail(job, "작업을 처리하던 서버가 응답하지 않아 중단되었습니다.");
+        }
+
+        if (!expired.isEmpty() || !stale.isEmpty()) {
+            logger.info("Export cleanup - expired: {}, stale: {}", expired.size(), stale.size());
+        }
+    }
+
+    /**
+     * 이 서버가 가진 대기/생성 중 작업의 heartbeat 기록
+     * (행 기록 중에는 진행률 갱신도 heartbeat를 남기지만, 건수 조회나 업로드처럼 행 진행이 없는 구간도 살아 있음을 알림)
+     */
+    @Scheduled(fixedDelay = HEARTBEAT_INTERVAL_MS, initialDelay = HEARTBEAT_INTERVAL_MS)
+    public void recordHeartbeats() {
+        if (ownedJobIds.isEmpty()) {
+            return;
+        }
+        exportJobRepository.updateHeartbeat(List.copyOf(ownedJobIds), ACTIVE_STATUSES, LocalDateTime.now());
+    }
+
+    private void run(Long jobId) {
+        ExportJob job = getJob(jobId);
+        job.setStatus(ExportJobStatus.RUNNING);
+        job.setStartedAt(LocalDateTime.now());
+        job.setHeartbeatAt(job.getStartedAt());
+        job = exportJobRepository.save(job);
+
+        Path tempFile = null;
+        try {
+            Map<String, String> params = objectMapper.readValue(job.getParams(), new TypeReference<>() { });
+            job.setTotalRows(countRows(job.getExportType(), params));
+            job = exportJobRepository.save(job);
+
+            tempFile = Files.createTempFile("export-" + jobId + "-", ".xlsx");
+            long rows;
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                rows = writeRows(job.getExportType(), params, out, throttledProgress(jobId));
+            }
+
+            String fileName = job.getExportType().name().toLowerCase() + "_"
+                    + LocalDate.now().format(DateTimeFormatter.ISO_DATE) + "_" + jobId + ".xlsx";
+            String storageKey = storageService.storeGeneratedFile(STORAGE_DIRECTORY, fileName, tempFile, XLSX_CONTENT_TYPE);
+
+            job.setStatus(ExportJobStatus.COMPLETED);
+            job.setRowCount(rows);
+            job.setStorageKey(storageKey);
+            job.setFileName(fileName);
+            job.setFileSize(Files.size(tempFile));
+            job.setCompletedAt(LocalDateTime.now());
+            job.setExpiresAt(job.getCompletedAt().plusHours(retentionHours));
+            job.setDedupKey(null);
+            exportJobRepository.save(job);
+
+            logger.info("Export job {} completed - {} rows, {} bytes", jobId, rows, job.getFileSize());
+        } catch (Exception e) {
+            logger.error("Export job {} failed", jobId, e);
+            fail(job, e.getMessage());
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    logger.warn("Failed to delete temp file {}", tempFile);
+                }
+            }
+        }
+    }
+
+    private long countRows(ExportType type, Map<String, String> params) {
+        return switch (type) {
+            case ORDERS -> excelService.countOrderRows(date(params, "from"), date(params, "to"),
+                    OrderStatus.valueOf(params.get("orderStatus")), id(params, "sellerId"));
+            case SETTLEMENTS -> excelService.countSettlementRows(date(params, "from"), date(params, "to"),
+                    settlementStatus(params), id(params, "sellerId"));
+            case INVENTORY -> excelService.countInventoryRows();
+        };
+    }
+
+    private long writeRows(ExportType type, Map<String, String> params, OutputStream out,
+                           LongConsumer progress) throws IOException {
+        return switch (type) {
+            case ORDERS -> excelService.writeOrdersToExcel(date(params, "from"), date(params, "to"),
+                    OrderStatus.valueOf(params.get("orderStatus")), id(params, "sellerId"), out, progress);
+            case SETTLEMENTS -> excelService.writeSettlementsToExcel(date(params, "from"), date(params, "to"),
+                    settlementStatus(params), id(params, "sellerId"), out, progress);
+            case INVENTORY -> excelService.writeInventoryToExcel(out, progress);
+        };
+    }
+
+    /**
+     * 행마다 호출되지만 DB에는 PROGRESS_UPDATE_INTERVAL_MS 간격으로만 기록
+     */
+    private LongConsumer throttledProgress(Long jobId) {
+        long[] lastUpdate = {System.currentTimeMillis()};
+        return rows -> {
+            long now = System.currentTimeMillis();
+            if (now - lastUpdate[0] >= PROGRESS_UPDATE_INTERVAL_MS) {
+                lastUpdate[0] = now;
+                exportJobRepository.updateProgress(jobId, rows);
+            }
+        };
+    }
+
+    private void fail(ExportJob job, String message) {
+        job.setStatus(ExportJobStatus.FAILED);
+        job.setErrorMessage(message != null && message.length() > 1000 ? message.substring(0, 1000) : message);
+        job.setCompletedAt(LocalDateTime.now());
+        job.setExpiresAt(job.getCompletedAt().plusHours(retentionHours));
+        job.setDedupKey(null);
+        exportJobRepository.save(job);
+    }
+
+    /**
+     * 요청 파라미터를 키 순서가 고정된 JSON으로 직렬화 (중복 판별 해시의 입력)
+     */
+    private String toParamsJson(ExportJobRequest request) {
+        Map<String, String> params = new TreeMap<>();
+        if (request.getType() != ExportType.INVENTORY) {
+            putIfNotNull(params, "from", request.getFrom());
+            putIfNotNull(params, "to", request.getTo());
+            putIfNotNull(params, "sellerId", request.getSellerId());
+        }
+        if (request.getType() == ExportType.ORDERS) {
+            params.put("orderStatus", (request.getOrderStatus() != null
+                    ? request.getOrderStatus() : OrderStatus.PREPARING).name());
+        }
+        if (request.getType() == ExportType.SETTLEMENTS) {
+            putIfNotNull(params, "settlementStatus", request.getSettlementStatus());
+        }
+        try {
+            return objectMapper.writeValueAsString(params);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("내보내기 파라미터 변환 실패", e);
+        }
+    }
+
+    private static void putIfNotNull(Map<String, String> params, String key, Object value) {
+        if (value != null) {
+            params.put(key, value.toString());
+        }
+    }
+
+    private static LocalDate date(Map<String, String> params, String key) {
+        String value = params.get(key);
+        return value != null ? LocalDate.parse(value) : null;
+    }
+
+    private static Long id(Map<String, String> params, String key) {
+        String value = params.get(key);
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    private static SettlementStatus settlementStatus(Map<String, String> params) {
+        String value = params.get("settlementStatus");
+        return value != null ? SettlementStatus.valueOf(value) : null;
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
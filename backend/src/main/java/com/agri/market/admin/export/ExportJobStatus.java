@@ -0,0 +1,13 @@
+package com.agri.market.admin.export;
+
+public enum ExportJobStatus {
+    QUEUED,     // 대기 중
+    RUNNING,    // 생성 중
+    COMPLETED,  // 완료 (다운로드 가능)
+    FAILED,     // 실패
+    EXPIRED;    // 보관 기간 만료 (파일 삭제됨)
+
+    public boolean isActive() {
+        return this == QUEUED || this == RUNNING;
+    }
+}
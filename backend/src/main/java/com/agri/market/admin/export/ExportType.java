@@ -0,0 +1,20 @@
+package com.agri.market.admin.export;
+
+/**
+ * 비동기 내보내기 유형
+ */
+public enum ExportType {
+    ORDERS("주문"),
+    SETTLEMENTS("정산"),
+    INVENTORY("재고");
+
+    private final String description;
+
+    ExportType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
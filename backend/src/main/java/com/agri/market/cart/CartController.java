@@ -1,6 +1,7 @@
 package com.agri.market.cart;
 
 import com.agri.market.dto.AddToCartRequest;
+import com.agri.market.dto.CartQuoteResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -42,6 +43,18 @@ public class CartController {
         return ResponseEntity.ok(cart);
     }
 
+    /**
+     * 장바구니 가격 견적 (라인 가격, 배송비, 재고 경고, 최대 할인 쿠폰)
+     */
+    @GetMapping("/quote")
+    public ResponseEntity<CartQuoteResponse> getCartQuote() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        String userEmail = userDetails.getUsername();
+
+        return ResponseEntity.ok(cartService.getCartQuote(userEmail));
+    }
+
     @PutMapping("/items/{itemId}")
     public ResponseEntity<CartItem> updateCartItemQuantity(@PathVariable Long itemId, @RequestBody UpdateCartItemRequest request) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
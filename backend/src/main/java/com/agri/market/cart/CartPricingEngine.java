@@ -0,0 +1,149 @@
+package com.agri.market.cart;
+
+import com.agri.market.product.Product;
+import com.agri.market.product.ProductOption;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 장바구니/주문 가격 계산기 (장바구니 화면과 주문 생성이 같은 계산을 공유)
+ * - 호출 측이 상품/옵션을 한 번에 조회해 넘기고, 계산은 DB 접근 없이 한 번의 순회로 끝냄
+ * - 금액은 BigDecimal 그대로 계산하고 반올림하지 않음 (옵션 추가금 등 소수 금액도 기존 주문 금액과 같게 유지,
+ *   상품 할인가는 Product.getDiscountedPrice 에서 이미 원 단위로 반올림됨)
+ * - 라인 가격 = 할인가 + 옵션 추가금, 배송비 = 합포장 가능 시 박스 수 x 배송비, 아니면 수량 x 배송비
+ * - 수량/재고/옵션 문제는 예외 대신 라인 경고로 돌려주고, 주문 생성 측에서 경고를 예외로 바꿈
+ */
+@Component
+public class CartPricingEngine {
+
+    public enum Warning {
+        BELOW_MIN_QUANTITY,
+        ABOVE_MAX_QUANTITY,
+        OUT_OF_STOCK,
+        OPTION_MISMATCH,
+        OPTION_OUT_OF_STOCK
+    }
+
+    /**
+     * 가격 계산 입력 한 줄
+     */
+    public static class Item {
+        private final Long refId;
+        private final Product product;
+        private final ProductOption option;
+        private final int quantity;
+
+        /**
+         * @param refId 호출 측 식별자 (장바구니 항목 ID 등, 없으면 null)
+         */
+        public Item(Long refId, Product product, ProductOption option, int quantity) {
+            this.refId = refId;
+            this.product = product;
+            this.option = option;
+            this.quantity = quantity;
+        }
+    }
+
+    /**
+     * 장바구니 항목을 계산 입력으로 변환 (상품/옵션은 장바구니 조회 시 fetch join으로 로드된 상태)
+     */
+    public static List<Item> itemsOf(Cart cart) {
+        List<Item> items = new ArrayList<>(cart.getCartItems().size());
+        for (CartItem cartItem : cart.getCartItems()) {
+            items.add(new Item(cartItem.getId(), cartItem.getProduct(), cartItem.getProductOption(), cartItem.getQuantity()));
+        }
+        return items;
+    }
+
+    public CartQuote price(List<Item> items) {
+        List<CartQuote.Line> lines = new ArrayList<>(items.size());
+        BigDecimal itemsTotal = BigDecimal.ZERO;
+        BigDecimal shippingTotal = BigDecimal.ZERO;
+        boolean hasWarnings = false;
+
+        for (Item item : items) {
+            Product product = item.product;
+            ProductOption option = item.option;
+            int quantity = item.quantity;
+
+            BigDecimal unitPrice = unitPrice(product, option);
+            BigDecimal lineAmount = unitPrice.multiply(BigDecimal.valueOf(quantity));
+            long boxes = shippingBoxes(product, quantity);
+            BigDecimal shippingFee = boxes > 0
+                    ? product.getShippingFee().multiply(BigDecimal.valueOf(boxes))
+                    : BigDecimal.ZERO;
+
+            Warning warning = check(product, option, quantity);
+            hasWarnings |= warning != null;
+
+            lines.add(new CartQuote.Line(item.refId, product, option, quantity, unitPrice, lineAmount,
+                    boxes, shippingFee, warning, warning != null ? warningMessage(warning, product, option) : null));
+            itemsTotal = itemsTotal.add(lineAmount);
+            shippingTotal = shippingTotal.add(shippingFee);
+        }
+
+        return new CartQuote(lines, itemsTotal, shippingTotal, hasWarnings);
+    }
+
+    /**
+     * 단가 = 할인가 + 옵션 추가금
+     */
+    public static BigDecimal unitPrice(Product product, ProductOption option) {
+        BigDecimal price = product.getDiscountedPrice();
+        if (option != null && option.getAdditionalPrice() != null) {
+            price = price.add(option.getAdditionalPrice());
+        }
+        return price;
+    }
+
+    /**
+     * 배송비가 부과되는 단위 수 (합포장 가능하면 박스 수, 아니면 수량, 무료배송이면 0)
+     */
+    static long shippingBoxes(Product product, int quantity) {
+        if (product.getShippingFee() == null || product.getShippingFee().signum() <= 0) {
+            return 0;
+        }
+        Integer combineUnit = product.getCombineShippingUnit();
+        if (Boolean.TRUE.equals(product.getCanCombineShipping()) && combineUnit != null && combineUnit > 0) {
+            return (quantity + combineUnit - 1) / combineUnit;
+        }
+        return quantity;
+    }
+
+    /**
+     * 주문 생성 시 검증 순서와 동일 (최소 수량 → 최대 수량 → 상품 재고 → 옵션 소속 → 옵션 재고)
+     */
+    private static Warning check(Product product, ProductOption option, int quantity) {
+        if (product.getMinOrderQuantity() != null && quantity < product.getMinOrderQuantity()) {
+            return Warning.BELOW_MIN_QUANTITY;
+        }
+        if (product.getMaxOrderQuantity() != null && quantity > product.getMaxOrderQuantity()) {
+            return Warning.ABOVE_MAX_QUANTITY;
+        }
+        if (product.getStock() == null || product.getStock() < quantity) {
+            return Warning.OUT_OF_STOCK;
+        }
+        if (option != null) {
+            if (!option.getProduct().getId().equals(product.getId())) {
+                return Warning.OPTION_MISMATCH;
+            }
+            if (option.getStock() < quantity) {
+                return Warning.OPTION_OUT_OF_STOCK;
+            }
+        }
+        return null;
+    }
+
+    private static String warningMessage(Warning warning, Product product, ProductOption option) {
+        return switch (warning) {
+            case BELOW_MIN_QUANTITY -> product.getName() + " 상품의 최소 주문 수량은 " + product.getMinOrderQuantity() + "개입니다.";
+            case ABOVE_MAX_QUANTITY -> product.getName() + " 상품의 최대 주문 수량은 " + product.getMaxOrderQuantity() + "개입니다.";
+            case OUT_OF_STOCK -> "Not enough stock for product: " + product.getName();
+            case OPTION_MISMATCH -> "Product option does not belong to this product";
+            case OPTION_OUT_OF_STOCK -> "Not enough stock for option: " + option.getName();
+        };
+    }
+}
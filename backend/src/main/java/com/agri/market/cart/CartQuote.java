@@ -0,0 +1,78 @@
+package com.agri.market.cart;
+
+import com.agri.market.coupon.CouponRuleIndex;
+import com.agri.market.product.Product;
+import com.agri.market.product.ProductOption;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CartPricingEngine 계산 결과 (금액은 반올림 없이 상품/옵션 가격 그대로 계산한 BigDecimal)
+ */
+@Getter
+public class CartQuote {
+
+    private final List<Line> lines;
+    private final BigDecimal itemsTotal;
+    private final BigDecimal shippingTotal;
+    @Getter(AccessLevel.NONE)
+    private final boolean hasWarnings;
+
+    CartQuote(List<Line> lines, BigDecimal itemsTotal, BigDecimal shippingTotal, boolean hasWarnings) {
+        this.lines = lines;
+        this.itemsTotal = itemsTotal;
+        this.shippingTotal = shippingTotal;
+        this.hasWarnings = hasWarnings;
+    }
+
+    /**
+     * 수량/재고/옵션 경고가 있는 라인이 하나라도 있는지
+     */
+    public boolean hasWarnings() {
+        return hasWarnings;
+    }
+
+    /**
+     * 쿠폰 규칙 평가 입력 (라인 금액은 현재 가격 기준)
+     */
+    public List<CouponRuleIndex.CartLine> couponLines() {
+        List<CouponRuleIndex.CartLine> couponLines = new ArrayList<>(lines.size());
+        for (Line line : lines) {
+            couponLines.add(new CouponRuleIndex.CartLine(
+                    line.product.getId(), line.product.getCategory(), line.lineAmount));
+        }
+        return couponLines;
+    }
+
+    @Getter
+    public static class Line {
+        private final Long refId;
+        private final Product product;
+        private final ProductOption option;
+        private final int quantity;
+        private final BigDecimal unitPrice;
+        private final BigDecimal lineAmount;
+        private final long shippingBoxes;
+        private final BigDecimal shippingFee;
+        private final CartPricingEngine.Warning warning;
+        private final String warningMessage;
+
+        Line(Long refId, Product product, ProductOption option, int quantity, BigDecimal unitPrice, BigDecimal lineAmount,
+             long shippingBoxes, BigDecimal shippingFee, CartPricingEngine.Warning warning, String warningMessage) {
+            this.refId = refId;
+            this.product = product;
+            this.option = option;
+            this.quantity = quantity;
+            this.unitPrice = unitPrice;
+            this.lineAmount = lineAmount;
+            this.shippingBoxes = shippingBoxes;
+            this.shippingFee = shippingFee;
+            this.warning = warning;
+            this.warningMessage = warningMessage;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.agri.market.cart;
 
+import com.agri.market.coupon.UserCouponService;
 import com.agri.market.dto.AddToCartRequest;
+import com.agri.market.dto.CartQuoteResponse;
+import com.agri.market.dto.CouponApplicabilityResponse;
 import com.agri.market.product.Product;
 import com.agri.market.product.ProductOption;
 import com.agri.market.product.ProductOptionRepository;
@@ -10,7 +13,7 @@ import com.agri.market.user.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -21,15 +24,20 @@ public class CartService {
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final ProductOptionRepository productOptionRepository;
+    private final CartPricingEngine cartPricingEngine;
+    private final UserCouponService userCouponService;
 
     public CartService(CartRepository cartRepository, CartItemRepository cartItemRepository,
                        UserRepository userRepository, ProductRepository productRepository,
-                       ProductOptionRepository productOptionRepository) {
+                       ProductOptionRepository productOptionRepository, CartPricingEngine cartPricingEngine,
+                       UserCouponService userCouponService) {
         this.cartRepository = cartRepository;
         this.cartItemRepository = cartItemRepository;
         this.userRepository = userRepository;
         this.productRepository = productRepository;
         this.productOptionRepository = productOptionRepository;
+        this.cartPricingEngine = cartPricingEngine;
+        this.userCouponService = userCouponService;
     }
 
     @Transactional
@@ -98,15 +106,8 @@ public class CartService {
             CartItem cartItem = existingCartItem.get();
             cartItem.setQuantity(cartItem.getQuantity() + request.getQuantity());
 
-            // 가격 재계산: 할인된 가격 + 옵션 추가 가격
-            BigDecimal itemPrice = product.getDiscountedPrice();
-            System.out.println("[CartService - Update Existing] Base discounted price: " + itemPrice);
-            if (productOption != null && productOption.getAdditionalPrice() != null) {
-                System.out.println("[CartService - Update Existing] Adding option price: " + productOption.getAdditionalPrice());
-                itemPrice = itemPrice.add(productOption.getAdditionalPrice());
-            }
-            System.out.println("[CartService - Update Existing] Final item price: " + itemPrice);
-            cartItem.setPrice(itemPrice);
+            // 가격 재계산: 할인된 가격 + 옵션 추가 가격 (주문 생성과 같은 계산)
+            cartItem.setPrice(CartPricingEngine.unitPrice(product, productOption));
 
             cartItemRepository.save(cartItem);
         } else {
@@ -117,15 +118,8 @@ public class CartService {
             cartItem.setProductOption(productOption);
             cartItem.setQuantity(request.getQuantity());
 
-            // 가격 계산: 할인된 가격 + 옵션 추가 가격
-            BigDecimal itemPrice = product.getDiscountedPrice();
-            System.out.println("[CartService] Base discounted price: " + itemPrice);
-            if (productOption != null && productOption.getAdditionalPrice() != null) {
-                System.out.println("[CartService] Adding option price: " + productOption.getAdditionalPrice());
-                itemPrice = itemPrice.add(productOption.getAdditionalPrice());
-            }
-            System.out.println("[CartService] Final item price: " + itemPrice);
-            cartItem.setPrice(itemPrice);
+            // 가격 계산: 할인된 가격 + 옵션 추가 가격 (주문 생성과 같은 계산)
+            cartItem.setPrice(CartPricingEngine.unitPrice(product, productOption));
 
             cartItemRepository.save(cartItem);
             cart.getCartItems().add(cartItem);
@@ -152,6 +146,25 @@ public class CartService {
         return cart;
     }
 
+    /**
+     * 장바구니 현재 가격 견적 - 라인 가격, 합포장 배송비, 재고 경고, 보유 쿠폰 중 최대 할인 미리보기
+     * 장바구니(상품/옵션 fetch join) 한 번, 보유 쿠폰 한 번 조회 후 메모리에서 계산
+     */
+    @Transactional(readOnly = true)
+    public CartQuoteResponse getCartQuote(String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new RuntimeException("User not found with email: " + userEmail));
+
+        CartQuote quote = cartRepository.findByUserWithItems(user)
+                .map(cart -> cartPricingEngine.price(CartPricingEngine.itemsOf(cart)))
+                .orElseGet(() -> cartPricingEngine.price(List.of()));
+
+        CouponApplicabilityResponse bestCoupon = quote.getLines().isEmpty() ? null
+                : userCouponService.rankCoupons(user, quote.couponLines()).stream().findFirst().orElse(null);
+
+        return new CartQuoteResponse(quote, bestCoupon);
+    }
+
     @Transactional
     public CartItem updateCartItemQuantity(String userEmail, Long cartItemId, Integer newQuantity) {
         User user = userRepository.findByEmail(userEmail)
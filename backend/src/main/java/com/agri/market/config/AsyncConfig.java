@@ -1,6 +1,8 @@
 package com.agri.market.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -12,14 +14,36 @@ import java.util.concurrent.Executor;
  * 비동기 및 스케줄링 작업 설정
  * 알림 발송 등의 작업을 비동기로 처리하여 트랜잭션 성능 향상
  * 배송 상태 동기화 등 스케줄링 작업 활성화
+ *
+ * spring.threads.virtual.enabled=true 이면 @Async 작업을 가상 스레드로 실행
+ * (Tomcat 요청 스레드와 @Scheduled 스케줄러는 Spring Boot가 같은 설정으로 가상 스레드로 전환)
+ * 가상 스레드에서는 스레드 수가 동시 DB 작업을 제한하지 않으므로 DB 동시성은 Hikari 풀 크기로 제한됨
  */
 @Configuration
 @EnableAsync
 @EnableScheduling
 public class AsyncConfig implements AsyncConfigurer {
 
+    private final boolean virtualThreads;
+    private final int virtualConcurrencyLimit;
+
+    public AsyncConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                       @Value("${async.virtual.concurrency-limit:200}") int virtualConcurrencyLimit) {
+        this.virtualThreads = virtualThreads;
+        this.virtualConcurrencyLimit = virtualConcurrencyLimit;
+    }
+
     @Override
     public Executor getAsyncExecutor() {
+        if (virtualThreads) {
+            // 작업마다 가상 스레드 생성, 동시 실행 수만 제한 (넘으면 호출 측이 대기)
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(virtualConcurrencyLimit);
+            executor.setTaskTerminationTimeout(10_000);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(10);
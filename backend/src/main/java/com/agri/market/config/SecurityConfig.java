@@ -100,7 +100,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/files/**").permitAll() // Public file download (images)
                         .requestMatchers("/api/banners").permitAll() // Public banner endpoints
                         .requestMatchers("/api/coupons/**").permitAll() // Public coupon endpoints (active, validate, code)
-                        .requestMatchers("/api/notifications/stream").permitAll() // SSE endpoint with token auth
+                        .requestMatchers(HttpMethod.GET, "/api/notifications/stream").permitAll() // SSE endpoint with single-use ticket auth
                         .requestMatchers("/actuator/health/**").permitAll() // Health check for ECS/Docker
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll() // Swagger API documentation
                         .requestMatchers("/api/faqs/**").permitAll() // Public FAQ endpoints
@@ -0,0 +1,118 @@
+package com.agri.market.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 진단
+ * - JFR jdk.VirtualThreadPinned 이벤트를 앱 안에서 구독해, 가상 스레드가 synchronized 블록이나
+ *   네이티브 호출 안에서 I/O로 멈춰 캐리어 스레드를 점유한 위치를 기록
+ * - 위치(우리 코드의 첫 프레임)별로 처음 한 번은 스택과 함께 WARN, 이후에는 횟수만 집계해 매시간 요약
+ * - 가상 스레드 모드에서만 동작
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.agri.market.";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final boolean enabled;
+    private final Duration threshold;
+
+    private final Map<String, AtomicLong> countsBySite = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${virtual-threads.pinning-monitor.enabled:true}") boolean enabled,
+                                       @Value("${virtual-threads.pinning-monitor.threshold-ms:20}") long thresholdMs) {
+        this.enabled = enabled;
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+            logger.info("Virtual thread pinning monitor started (threshold {}ms)", threshold.toMillis());
+        } catch (Exception e) {
+            // JFR을 쓸 수 없는 런타임에서도 애플리케이션은 계속 동작
+            logger.warn("Virtual thread pinning monitor is unavailable: {}", e.getMessage());
+            stream = null;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /**
+     * 위치별 고정 횟수 요약 (매시간, 발생한 경우만)
+     */
+    @Scheduled(fixedRate = 3_600_000, initialDelay = 3_600_000)
+    public void logSummary() {
+        if (countsBySite.isEmpty()) {
+            return;
+        }
+        String summary = countsBySite.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().get(), a.getValue().get()))
+                .map(entry -> entry.getKey() + "=" + entry.getValue().get())
+                .collect(Collectors.joining(", "));
+        logger.info("Virtual thread pinning by site: {}", summary);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String site = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(VirtualThreadPinningMonitor::describe)
+                .filter(frame -> frame.startsWith(APP_PACKAGE))
+                .findFirst()
+                .orElse(frames.isEmpty() ? "unknown" : describe(frames.get(0)));
+
+        long count = countsBySite.computeIfAbsent(site, key -> new AtomicLong()).incrementAndGet();
+        if (count == 1) {
+            String stack = frames.stream()
+                    .limit(LOGGED_FRAMES)
+                    .map(frame -> "\n    at " + describe(frame))
+                    .collect(Collectors.joining());
+            logger.warn("Virtual thread pinned for {}ms at {}{}", event.getDuration().toMillis(), site, stack);
+        } else {
+            logger.debug("Virtual thread pinned for {}ms at {} ({} times)", event.getDuration().toMillis(), site, count);
+        }
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
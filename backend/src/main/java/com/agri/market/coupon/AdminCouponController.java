@@ -1,5 +1,7 @@
 package com.agri.market.coupon;
 
+import com.agri.market.dto.CouponIssueJobRequest;
+import com.agri.market.dto.CouponIssueJobResponse;
 import com.agri.market.dto.CouponRequest;
 import com.agri.market.dto.CouponResponse;
 import com.agri.market.dto.UserCouponResponse;
@@ -7,12 +9,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -24,9 +27,11 @@ import java.util.Map;
 public class AdminCouponController {
 
     private final CouponService couponService;
+    private final CouponIssueJobService couponIssueJobService;
 
-    public AdminCouponController(CouponService couponService) {
+    public AdminCouponController(CouponService couponService, CouponIssueJobService couponIssueJobService) {
         this.couponService = couponService;
+        this.couponIssueJobService = couponIssueJobService;
     }
 
     /**
@@ -97,14 +102,51 @@ public class AdminCouponController {
     }
 
     /**
-     * 모든 사용자에게 쿠폰 발급
+     * 모든 사용자에게 쿠폰 발급 (백그라운드 작업으로 등록)
      * POST /api/admin/coupons/{couponId}/issue-all
      */
     @PostMapping("/{couponId}/issue-all")
-    public ResponseEntity<Map<String, Integer>> issueCouponToAllUsers(@PathVariable Long couponId) {
-        int issuedCount = couponService.issueCouponToAllUsers(couponId);
-        Map<String, Integer> response = new HashMap<>();
-        response.put("issuedCount", issuedCount);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<CouponIssueJobResponse> issueCouponToAllUsers(@PathVariable Long couponId,
+                                                                        Authentication authentication) {
+        CouponIssueJob job = couponIssueJobService.submit(couponId, new CouponIssueJobRequest(), requester(authentication));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(CouponIssueJobResponse.from(job));
+    }
+
+    /**
+     * 대상 세그먼트에 쿠폰 일괄 발급 (백그라운드 작업으로 등록, 같은 작업이 진행 중이면 기존 작업 반환)
+     * POST /api/admin/coupons/{couponId}/issue-jobs
+     * Body: { "segment": "RECENT_BUYERS", "days": 90 }
+     */
+    @PostMapping("/{couponId}/issue-jobs")
+    public ResponseEntity<CouponIssueJobResponse> submitIssueJob(
+            @PathVariable Long couponId,
+            @Valid @RequestBody CouponIssueJobRequest request,
+            Authentication authentication) {
+        CouponIssueJob job = couponIssueJobService.submit(couponId, request, requester(authentication));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(CouponIssueJobResponse.from(job));
+    }
+
+    /**
+     * 쿠폰별 일괄 발급 작업 목록 (최신순)
+     * GET /api/admin/coupons/{couponId}/issue-jobs
+     */
+    @GetMapping("/{couponId}/issue-jobs")
+    public ResponseEntity<Page<CouponIssueJobResponse>> getIssueJobs(
+            @PathVariable Long couponId,
+            @PageableDefault(size = 10) Pageable pageable) {
+        return ResponseEntity.ok(couponIssueJobService.getJobs(couponId, pageable).map(CouponIssueJobResponse::from));
+    }
+
+    /**
+     * 일괄 발급 작업 상태/진행률 조회
+     * GET /api/admin/coupons/issue-jobs/{jobId}
+     */
+    @GetMapping("/issue-jobs/{jobId}")
+    public ResponseEntity<CouponIssueJobResponse> getIssueJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(CouponIssueJobResponse.from(couponIssueJobService.getJob(jobId)));
+    }
+
+    private static String requester(Authentication authentication) {
+        return authentication != null ? authentication.getName() : null;
     }
 }
@@ -9,6 +9,8 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 쿠폰 엔티티
@@ -84,6 +86,12 @@ public class Coupon {
     @Column
     private Integer totalQuantity;
 
+    /**
+     * 선착순 다운로드로 발급된 수량 (수량 한정 쿠폰만 집계, 조건부 UPDATE로만 증가)
+     */
+    @Column(nullable = false)
+    private Integer issuedQuantity = 0;
+
     /**
      * 사용된 수량
      */
@@ -175,6 +183,14 @@ public class Coupon {
      * 할인 금액 계산
      */
     public BigDecimal calculateDiscount(BigDecimal orderAmount) {
+        return calculateDiscount(discountType, discountValue, maxDiscountAmount, orderAmount);
+    }
+
+    /**
+     * 할인 금액 계산 (CouponRuleIndex 스냅샷과 공유)
+     */
+    static BigDecimal calculateDiscount(DiscountType discountType, BigDecimal discountValue,
+                                        BigDecimal maxDiscountAmount, BigDecimal orderAmount) {
         BigDecimal discount;
 
         if (discountType == DiscountType.FIXED_AMOUNT) {
@@ -217,4 +233,37 @@ public class Coupon {
         return couponProducts.stream()
                 .anyMatch(cp -> cp.getProduct().getId().equals(productId));
     }
+
+    /**
+     * 쿠폰 적용 대상 금액 (카테고리/상품 조건을 만족하는 주문 라인 금액 합계)
+     * 할인 금액은 주문 전체가 아닌 이 금액으로 계산 - 장바구니 미리보기, 쿠폰 검증, 주문 생성이 같은 규칙을 사용
+     */
+    public BigDecimal eligibleAmount(List<CouponRuleIndex.CartLine> lines) {
+        Set<Long> productIds = couponProducts.stream()
+                .map(cp -> cp.getProduct().getId())
+                .collect(Collectors.toUnmodifiableSet());
+        return eligibleAmount(applicableCategory, productIds, lines);
+    }
+
+    /**
+     * 쿠폰 적용 대상 금액 계산 (CouponRuleIndex 스냅샷과 공유)
+     */
+    static BigDecimal eligibleAmount(String applicableCategory, Set<Long> productIds,
+                                     List<CouponRuleIndex.CartLine> lines) {
+        BigDecimal eligible = BigDecimal.ZERO;
+        for (CouponRuleIndex.CartLine line : lines) {
+            if (appliesTo(applicableCategory, productIds, line.getProductId(), line.getCategory())) {
+                eligible = eligible.add(line.getAmount());
+            }
+        }
+        return eligible;
+    }
+
+    /**
+     * 상품 한 줄에 적용 가능한지 확인 (isApplicableToCategory / isApplicableToProduct 를 모두 만족)
+     */
+    private static boolean appliesTo(String applicableCategory, Set<Long> productIds, Long productId, String category) {
+        return (applicableCategory == null || applicableCategory.equals(category))
+                && (productIds.isEmpty() || productIds.contains(productId));
+    }
 }
@@ -0,0 +1,110 @@
+package com.agri.market.coupon;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 일괄 발급 작업
+ * 사용자 ID 구간 단위로 발급하고 청크마다 진행 위치(lastUserId)를 발급과 같은 트랜잭션에서 기록
+ */
+@Entity
+@Table(name = "coupon_issue_jobs", indexes = {
+        @Index(name = "idx_coupon_issue_jobs_coupon", columnList = "couponId"),
+        @Index(name = "idx_coupon_issue_jobs_created_at", columnList = "createdAt")
+})
+@Getter
+@Setter
+public class CouponIssueJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long couponId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private CouponIssueSegment segment;
+
+    /**
+     * 대상 기간(일) - RECENT_BUYERS, NEW_MEMBERS 전용
+     */
+    private Integer segmentDays;
+
+    /**
+     * 중복 실행 방지 키 (쿠폰 + 대상)
+     * 대기/발급 중에만 값이 있고 종료 시 비움 - 같은 캠페인이 동시에 두 번 돌지 않음
+     */
+    @Column(unique = true, length = 100)
+    private String dedupKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CouponIssueJobStatus status = CouponIssueJobStatus.QUEUED;
+
+    /**
+     * 요청한 관리자 이메일
+     */
+    @Column(length = 255)
+    private String requestedBy;
+
+    /**
+     * 전체 회원 수 (진행률 계산용)
+     */
+    private Long totalUsers;
+
+    /**
+     * 지금까지 확인한 회원 수
+     */
+    @Column(nullable = false)
+    private Long processedUsers = 0L;
+
+    /**
+     * 실제 발급한 쿠폰 수
+     */
+    @Column(nullable = false)
+    private Long issuedCount = 0L;
+
+    /**
+     * 마지막으로 처리한 사용자 ID (다음 청크의 시작점)
+     */
+    @Column(nullable = false)
+    private Long lastUserId = 0L;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    /**
+     * 작업을 가진 서버가 마지막으로 살아 있음을 기록한 시각 (대기/발급 중에만 갱신)
+     */
+    private LocalDateTime heartbeatAt;
+
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 진행률 (0~100, 전체 회원 수를 모르면 null)
+     */
+    public Integer getProgressPercent() {
+        if (status == CouponIssueJobStatus.COMPLETED) {
+            return 100;
+        }
+        if (totalUsers == null || totalUsers == 0) {
+            return null;
+        }
+        return (int) Math.min(99, processedUsers * 100 / totalUsers);
+    }
+}
@@ -0,0 +1,68 @@
+package com.agri.market.coupon;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 쿠폰 일괄 발급 작업 리포지토리
+ */
+@Repository
+public interface CouponIssueJobRepository extends JpaRepository<CouponIssueJob, Long> {
+
+    /**
+     * 같은 캠페인의 진행 중인 작업 조회 (중복 요청 시 재사용)
+     */
+    Optional<CouponIssueJob> findByDedupKey(String dedupKey);
+
+    Page<CouponIssueJob> findByCouponIdOrderByCreatedAtDesc(Long couponId, Pageable pageable);
+
+    /**
+     * heartbeat가 끊긴 대기/발급 중 작업 (서버 재시작 등으로 중단된 작업 정리용)
+     * heartbeat를 한 번도 기록하지 않은 작업은 생성 시각 기준
+     */
+    @Query("SELECT j FROM CouponIssueJob j WHERE j.status IN :statuses " +
+           "AND COALESCE(j.heartbeatAt, j.createdAt) < :before")
+    List<CouponIssueJob> findStale(@Param("statuses") List<CouponIssueJobStatus> statuses,
+                                   @Param("before") LocalDateTime before);
+
+    /**
+     * 이 서버가 가진 대기/발급 중 작업의 heartbeat 갱신
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE CouponIssueJob j SET j.heartbeatAt = :now WHERE j.id IN :ids AND j.status IN :statuses")
+    int updateHeartbeat(@Param("ids") Collection<Long> ids,
+                        @Param("statuses") List<CouponIssueJobStatus> statuses,
+                        @Param("now") LocalDateTime now);
+
+    /**
+     * 대기 → 발급 중 전환 (대기 중일 때만, 그 사이 실패 처리된 작업은 시작하지 않음)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE CouponIssueJob j SET j.status = com.agri.market.coupon.CouponIssueJobStatus.RUNNING, " +
+           "j.startedAt = :now, j.heartbeatAt = :now, j.totalUsers = :totalUsers " +
+           "WHERE j.id = :id AND j.status = com.agri.market.coupon.CouponIssueJobStatus.QUEUED")
+    int markRunning(@Param("id") Long id, @Param("totalUsers") Long totalUsers, @Param("now") LocalDateTime now);
+
+    /**
+     * 발급 중 → 완료 전환 (발급 중일 때만, 정리 작업이 이미 실패 처리한 결과를 덮어쓰지 않음)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE CouponIssueJob j SET j.status = com.agri.market.coupon.CouponIssueJobStatus.COMPLETED, " +
+           "j.completedAt = :now, j.dedupKey = NULL " +
+           "WHERE j.id = :id AND j.status = com.agri.market.coupon.CouponIssueJobStatus.RUNNING")
+    int markCompleted(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,328 @@
+package com.agri.market.coupon;
+
+import com.agri.market.dto.CouponIssueJobRequest;
+import com.agri.market.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쿠폰 일괄 발급 작업 서비스
+ * - 요청은 작업만 등록하고 즉시 반환, 발급은 전용 스레드에서 진행
+ * - 사용자 엔티티를 불러오지 않고 사용자 ID 구간마다 INSERT ... SELECT ... WHERE NOT EXISTS 한 문장으로 발급
+ * - 청크마다 커밋하고 진행 위치를 같은 트랜잭션에서 기록 (커넥션을 오래 점유하지 않고, 중단되어도 발급 내역과 진행 위치가 어긋나지 않음)
+ * - 대상 세그먼트(최근 구매, 신규 가입 등)는 SELECT 조건으로 적용
+ * - 대기/발급 중 작업은 가진 서버가 청크마다, 그리고 주기적으로 heartbeat를 기록, heartbeat가 끊긴 작업만 중단된 것으로 정리
+ */
+@Service
+public class CouponIssueJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CouponIssueJobService.class);
+
+    // 결제 완료 이후 상태 (최근 구매 회원 판별 기준)
+    private static final String PAID_ORDER_STATUSES = "'PAID', 'PREPARING', 'SHIPPED', 'DELIVERED'";
+
+    // 다음 청크의 사용자 수와 마지막 ID
+    private static final String NEXT_CHUNK_SQL =
+            "SELECT COUNT(*), MAX(id) FROM (SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?) chunk";
+
+    // 진행 위치 + heartbeat 기록 (발급 중일 때만 - 실패 처리된 작업이면 0건이 되어 청크를 롤백)
+    private static final String UPDATE_PROGRESS_SQL =
+            "UPDATE coupon_issue_jobs SET processed_users = processed_users + ?, issued_count = issued_count + ?, " +
+            "last_user_id = ?, heartbeat_at = ? WHERE id = ? AND status = 'RUNNING'";
+
+    // 이 서버가 가진 작업의 heartbeat 기록 간격
+    private static final long HEARTBEAT_INTERVAL_MS = 60_000;
+
+    private static final List<CouponIssueJobStatus> ACTIVE_STATUSES =
+            List.of(CouponIssueJobStatus.QUEUED, CouponIssueJobStatus.RUNNING);
+
+    private final CouponIssueJobRepository couponIssueJobRepository;
+    private final CouponRepository couponRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final int chunkSize;
+    private final long heartbeatTimeoutMinutes;
+
+    // 이 서버의 실행기에 들어가 있는(대기/발급 중) 작업 ID
+    private final Set<Long> ownedJobIds = ConcurrentHashMap.newKeySet();
+
+    public CouponIssueJobService(CouponIssueJobRepository couponIssueJobRepository,
+                                 CouponRepository couponRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${coupon.issue.pool-size:1}") int poolSize,
+                                 @Value("${coupon.issue.queue-capacity:10}") int queueCapacity,
+                                 @Value("${coupon.issue.chunk-size:2000}") int chunkSize,
+                                 @Value("${coupon.issue.heartbeat-timeout-minutes:10}") long heartbeatTimeoutMinutes) {
+        this.couponIssueJobRepository = couponIssueJobRepository;
+        this.couponRepository = couponRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.heartbeatTimeoutMinutes = heartbeatTimeoutMinutes;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("coupon-issue-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 쿠폰 일괄 발급 작업 등록
+     * 같은 쿠폰/대상의 작업이 이미 대기/발급 중이면 그 작업을 반환
+     */
+    public CouponIssueJob submit(Long couponId, CouponIssueJobRequest request, String requestedBy) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new BusinessException("쿠폰을 찾을 수 없습니다: " + couponId, "COUPON_NOT_FOUND"));
+        if (coupon.isExpired()) {
+            throw new BusinessException("만료된 쿠폰은 발급할 수 없습니다.", "COUPON_EXPIRED");
+        }
+
+        CouponIssueSegment segment = request.getSegment() != null ? request.getSegment() : CouponIssueSegment.ALL_USERS;
+        Integer days = segment.requiresDays() ? request.getDays() : null;
+        if (segment.requiresDays() && days == null) {
+            throw new BusinessException(segment.getDescription() + " 발급에는 기간(일)이 필요합니다.", "COUPON_ISSUE_DAYS_REQUIRED");
+        }
+
+        String dedupKey = couponId + ":" + segment.name() + ":" + (days != null ? days : "");
+        CouponIssueJob existing = couponIssueJobRepository.findByDedupKey(dedupKey).orElse(null);
+        if (existing != null) {
+            logger.info("Reusing coupon issue job {} for {}", existing.getId(), dedupKey);
+            return existing;
+        }
+
+        CouponIssueJob job = new CouponIssueJob();
+        job.setCouponId(couponId);
+        job.setSegment(segment);
+        job.setSegmentDays(days);
+        job.setDedupKey(dedupKey);
+        job.setRequestedBy(requestedBy);
+        try {
+            job = couponIssueJobRepository.saveAndFlush(job);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 요청이 들어와 다른 쪽이 먼저 등록함
+            return couponIssueJobRepository.findByDedupKey(dedupKey)
+                    .orElseThrow(() -> new BusinessException("쿠폰 발급 작업 등록에 실패했습니다.", "COUPON_ISSUE_JOB_FAILED"));
+        }
+
+        Long jobId = job.getId();
+        ownedJobIds.add(jobId);
+        try {
+            executor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    ownedJobIds.remove(jobId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            ownedJobIds.remove(jobId);
+            logger.warn("Coupon issue queue is full, rejecting job {}", jobId);
+            fail(jobId, "발급 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            return getJob(jobId);
+        }
+        return job;
+    }
+
+    public CouponIssueJob getJob(Long jobId) {
+        return couponIssueJobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException("쿠폰 발급 작업을 찾을 수 없습니다: " + jobId, "COUPON_ISSUE_JOB_NOT_FOUND"));
+    }
+
+    public Page<CouponIssueJob> getJobs(Long couponId, Pageable pageable) {
+        return couponIssueJobRepository.findByCouponIdOrderByCreatedAtDesc(couponId, pageable);
+    }
+
+    /**
+     * heartbeat가 끊긴 작업 정리 (매시 30분)
+     * 오래 걸려도 heartbeat가 이어지는 작업이나 이 서버가 실행 중인 작업은 건드리지 않음
+     * 이미 커밋된 청크의 발급은 유지되며, 같은 요청을 다시 등록하면 1회용 쿠폰은 중복 없이 이어서 발급됨
+     */
+    @Scheduled(cron = "0 30 * * * *")
+    public void cleanupStaleJobs() {
+        List<CouponIssueJob> stale = couponIssueJobRepository.findStale(
+                        ACTIVE_STATUSES, LocalDateTime.now().minusMinutes(heartbeatTimeoutMinutes))
+                .stream()
+                .filter(job -> !ownedJobIds.contains(job.getId()))
+                .toList();
+        for (CouponIssueJob job : stale) {
+            fail(job.getId(), "작업을 처리하던 서버가 응답하지 않아 중단되었습니다.");
+        }
+        if (!stale.isEmpty()) {
+            logger.info("Coupon issue cleanup - stale: {}", stale.size());
+        }
+    }
+
+    /**
+     * 이 서버가 가진 대기/발급 중 작업의 heartbeat 기록
+     * (발급 중에는 청크 커밋도 heartbeat를 남기지만, 대기 중이거나 청크 하나가 오래 걸리는 구간도 살아 있음을 알림)
+     */
+    @Scheduled(fixedDelay = HEARTBEAT_INTERVAL_MS, initialDelay = HEARTBEAT_INTERVAL_MS)
+    public void recordHeartbeats() {
+        if (ownedJobIds.isEmpty()) {
+            return;
+        }
+        couponIssueJobRepository.updateHeartbeat(List.copyOf(ownedJobIds), ACTIVE_STATUSES, LocalDateTime.now());
+    }
+
+    private void run(Long jobId) {
+        try {
+            CouponIssueJob job = getJob(jobId);
+            Coupon coupon = couponRepository.findById(job.getCouponId())
+                    .orElseThrow(() -> new BusinessException("쿠폰을 찾을 수 없습니다: " + job.getCouponId(), "COUPON_NOT_FOUND"));
+
+            Long totalUsers = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+            if (couponIssueJobRepository.markRunning(jobId, totalUsers, LocalDateTime.now()) == 0) {
+                logger.warn("Coupon issue job {} is no longer queued, skipping", jobId);
+                return;
+            }
+
+            IssueStatement statement = issueStatement(coupon, job);
+            long lastUserId = job.getLastUserId();
+            while (true) {
+                long[] chunk = jdbcTemplate.queryForObject(NEXT_CHUNK_SQL,
+                        (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, lastUserId, chunkSize);
+                if (chunk == null || chunk[0] == 0) {
+                    break;
+                }
+                long fromExclusive = lastUserId;
+                long toInclusive = chunk[1];
+
+                // 발급과 진행 위치 기록을 한 트랜잭션으로 커밋 (작업이 발급 중이 아니면 롤백 후 중단)
+                Boolean recorded = transactionTemplate.execute(status -> {
+                    int issued = jdbcTemplate.update(statement.sql, statement.args(fromExclusive, toInclusive));
+                    if (jdbcTemplate.update(UPDATE_PROGRESS_SQL, chunk[0], issued, toInclusive,
+                            Timestamp.valueOf(LocalDateTime.now()), jobId) == 0) {
+                        status.setRollbackOnly();
+                        return false;
+                    }
+                    return true;
+                });
+                if (!Boolean.TRUE.equals(recorded)) {
+                    logger.warn("Coupon issue job {} is no longer running, stopping at user {}", jobId, lastUserId);
+                    return;
+                }
+                lastUserId = toInclusive;
+            }
+
+            if (couponIssueJobRepository.markCompleted(jobId, LocalDateTime.now()) == 0) {
+                logger.warn("Coupon issue job {} was closed elsewhere before completion", jobId);
+                return;
+            }
+            CouponIssueJob finished = getJob(jobId);
+
+            logger.info("Coupon issue job {} completed - coupon {}, segment {}, issued {}",
+                    jobId, finished.getCouponId(), finished.getSegment(), finished.getIssuedCount());
+        } catch (Exception e) {
+            logger.error("Coupon issue job {} failed", jobId, e);
+            fail(jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * 세그먼트 조건을 반영한 사용자 ID 구간 발급 문장
+     * 1회용 쿠폰은 이미 보유한 사용자를 NOT EXISTS로 제외 (재실행해도 중복 발급 없음)
+     */
+    private IssueStatement issueStatement(Coupon coupon, CouponIssueJob job) {
+        LocalDateTime now = LocalDateTime.now();
+        // 1회용 쿠폰은 single_use_coupon_id 유니크 제약에 걸리는 행(동시 다운로드 등)을 건너뜀
+        boolean singleUse = coupon.getUsageType() == CouponUsageType.SINGLE_USE;
+        StringBuilder sql = new StringBuilder(
+                (singleUse ? "INSERT IGNORE" : "INSERT") +
+                " INTO user_coupons (user_id, coupon_id, single_use_coupon_id, issued_at, expires_at) " +
+                "SELECT u.id, ?, ?, ?, ? FROM users u WHERE u.id > ? AND u.id <= ? AND u.enabled = TRUE");
+        List<Object> filterArgs = new ArrayList<>();
+
+        switch (job.getSegment()) {
+            case RECENT_BUYERS -> {
+                sql.append(" AND EXISTS (SELECT 1 FROM orders o WHERE o.user_id = u.id" +
+                           " AND o.order_status IN (" + PAID_ORDER_STATUSES + ") AND o.created_at >= ?)");
+                filterArgs.add(Timestamp.valueOf(now.minusDays(job.getSegmentDays())));
+            }
+            case NEW_MEMBERS -> {
+                sql.append(" AND u.created_at >= ?");
+                filterArgs.add(Timestamp.valueOf(now.minusDays(job.getSegmentDays())));
+            }
+            case MARKETING_CONSENT -> sql.append(" AND u.marketing_consent = TRUE");
+            case ALL_USERS -> { }
+        }
+
+        if (singleUse) {
+            sql.append(" AND NOT EXISTS (SELECT 1 FROM user_coupons uc WHERE uc.user_id = u.id AND uc.coupon_id = ?)");
+            filterArgs.add(coupon.getId());
+        }
+
+        return new IssueStatement(sql.toString(), coupon.getId(), singleUse ? coupon.getId() : null, Timestamp.valueOf(now),
+                Timestamp.valueOf(coupon.getEndDate()), filterArgs);
+    }
+
+    private void fail(Long jobId, String message) {
+        couponIssueJobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(CouponIssueJobStatus.FAILED);
+            job.setErrorMessage(message != null && message.length() > 1000 ? message.substring(0, 1000) : message);
+            job.setCompletedAt(LocalDateTime.now());
+            job.setDedupKey(null);
+            couponIssueJobRepository.save(job);
+        });
+    }
+
+    private static class IssueStatement {
+        private final String sql;
+        private final Long couponId;
+        private final Long singleUseCouponId;
+        private final Timestamp issuedAt;
+        private final Timestamp expiresAt;
+        private final List<Object> filterArgs;
+
+        IssueStatement(String sql, Long couponId, Long singleUseCouponId, Timestamp issuedAt, Timestamp expiresAt,
+                       List<Object> filterArgs) {
+            this.sql = sql;
+            this.couponId = couponId;
+            this.singleUseCouponId = singleUseCouponId;
+            this.issuedAt = issuedAt;
+            this.expiresAt = expiresAt;
+            this.filterArgs = filterArgs;
+        }
+
+        Object[] args(long fromExclusive, long toInclusive) {
+            List<Object> args = new ArrayList<>();
+            args.add(couponId);
+            args.add(singleUseCouponId); // 재사용 쿠폰은 null
+            args.add(issuedAt);
+            args.add(expiresAt);
+            args.add(fromExclusive);
+            args.add(toInclusive);
+            args.addAll(filterArgs);
+            return args.toArray();
+        }
+    }
+}
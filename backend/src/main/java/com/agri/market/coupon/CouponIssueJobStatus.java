@@ -0,0 +1,8 @@
+package com.agri.market.coupon;
+
+public enum CouponIssueJobStatus {
+    QUEUED,     // 대기 중
+    RUNNING,    // 발급 중
+    COMPLETED,  // 완료
+    FAILED      // 실패 (처리된 청크까지는 발급 유지)
+}
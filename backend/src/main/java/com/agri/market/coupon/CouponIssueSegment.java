@@ -0,0 +1,30 @@
+package com.agri.market.coupon;
+
+/**
+ * 쿠폰 일괄 발급 대상 (활성 사용자 중)
+ */
+public enum CouponIssueSegment {
+    ALL_USERS("전체 회원", false),
+    RECENT_BUYERS("최근 N일 내 결제한 회원", true),
+    NEW_MEMBERS("최근 N일 내 가입한 회원", true),
+    MARKETING_CONSENT("마케팅 수신 동의 회원", false);
+
+    private final String description;
+    private final boolean requiresDays;
+
+    CouponIssueSegment(String description, boolean requiresDays) {
+        this.description = description;
+        this.requiresDays = requiresDays;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 기간(일) 파라미터가 필요한 대상인지
+     */
+    public boolean requiresDays() {
+        return requiresDays;
+    }
+}
@@ -3,6 +3,7 @@ package com.agri.market.coupon;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -64,4 +65,39 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
 
     @Query("SELECT SUM(c.usedQuantity) FROM Coupon c")
     Long sumUsedQuantity();
+
+    /**
+     * 적용 규칙 인덱스용 - 활성 + 미종료 쿠폰과 적용 상품 목록
+     */
+    @Query("SELECT DISTINCT c FROM Coupon c LEFT JOIN FETCH c.couponProducts " +
+           "WHERE c.isActive = true AND c.endDate >= :now")
+    List<Coupon> findAllForRuleIndex(@Param("now") LocalDateTime now);
+
+    /**
+     * 다운로드 가능한 잔여 발급 수량 (무제한 쿠폰은 null)
+     */
+    @Query("SELECT c.totalQuantity - c.issuedQuantity FROM Coupon c WHERE c.id = :id")
+    Integer findRemainingIssueQuantity(@Param("id") Long id);
+
+    /**
+     * 발급 수량 1 증가 - 잔여 수량이 있을 때만 (0 반환 시 소진)
+     */
+    @Modifying
+    @Query("UPDATE Coupon c SET c.issuedQuantity = c.issuedQuantity + 1 " +
+           "WHERE c.id = :id AND c.totalQuantity IS NOT NULL AND c.issuedQuantity < c.totalQuantity")
+    int incrementIssuedQuantity(@Param("id") Long id);
+
+    /**
+     * 사용 수량 1 증가 (원자적 갱신 - 동시 주문에서 증가분이 유실되지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Coupon c SET c.usedQuantity = c.usedQuantity + 1 WHERE c.id = :id")
+    int incrementUsedQuantity(@Param("id") Long id);
+
+    /**
+     * 사용 수량 1 감소 (주문 취소)
+     */
+    @Modifying
+    @Query("UPDATE Coupon c SET c.usedQuantity = c.usedQuantity - 1 WHERE c.id = :id AND c.usedQuantity > 0")
+    int decrementUsedQuantity(@Param("id") Long id);
 }
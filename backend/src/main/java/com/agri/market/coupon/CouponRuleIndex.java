@@ -0,0 +1,270 @@
+package com.agri.market.coupon;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 적용 규칙 인덱스 (메모리)
+ * - 활성 쿠폰의 할인/적용 조건을 불변 스냅샷으로 보관하고 상품 ID, 카테고리별로 색인
+ * - 장바구니 전체에 대해 사용자 쿠폰을 한 번에 평가 (쿠폰마다 적용 상품을 다시 조회하지 않음)
+ * - 쿠폰 생성/수정/삭제 커밋 후와 REFRESH_INTERVAL_MS 마다 다시 생성 (다른 인스턴스의 변경 반영)
+ * - 발급/사용 수량 소진 여부는 스냅샷에 담지 않으며 주문 시점에 확인
+ */
+@Component
+public class CouponRuleIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CouponRuleIndex.class);
+
+    private static final long REFRESH_INTERVAL_MS = 300_000;
+
+    private final CouponRepository couponRepository;
+    // synchronized 대신 사용 - 재생성 중 DB 조회에서 가상 스레드가 캐리어에 고정되지 않도록
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public CouponRuleIndex(CouponRepository couponRepository) {
+        this.couponRepository = couponRepository;
+    }
+
+    /**
+     * 장바구니 한 줄 (평가 입력)
+     */
+    public static class CartLine {
+        private final Long productId;
+        private final String category;
+        private final BigDecimal amount;
+
+        public CartLine(Long productId, String category, BigDecimal amount) {
+            this.productId = productId;
+            this.category = category;
+            this.amount = amount;
+        }
+
+        public Long getProductId() {
+            return productId;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+    }
+
+    /**
+     * 쿠폰 하나의 평가 결과
+     */
+    public static class Evaluation {
+        private final Long couponId;
+        private final BigDecimal eligibleAmount;
+        private final BigDecimal discountAmount;
+
+        Evaluation(Long couponId, BigDecimal eligibleAmount, BigDecimal discountAmount) {
+            this.couponId = couponId;
+            this.eligibleAmount = eligibleAmount;
+            this.discountAmount = discountAmount;
+        }
+
+        public Long getCouponId() {
+            return couponId;
+        }
+
+        /**
+         * 쿠폰 적용 대상 상품 금액 합계
+         */
+        public BigDecimal getEligibleAmount() {
+            return eligibleAmount;
+        }
+
+        public BigDecimal getDiscountAmount() {
+            return discountAmount;
+        }
+    }
+
+    /**
+     * 주어진 쿠폰들을 장바구니 전체에 대해 평가
+     * 적용 대상 상품이 있고 최소 주문 금액(장바구니 합계 기준)을 만족하는 쿠폰만, 할인 금액이 큰 순서로 반환
+     * @param couponIds 평가할 쿠폰 (사용자가 보유한 미사용 쿠폰)
+     */
+    public List<Evaluation> evaluate(Collection<Long> couponIds, List<CartLine> lines) {
+        Snapshot current = current();
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> owned = Set.copyOf(couponIds);
+
+        BigDecimal cartTotal = lines.stream().map(line -> line.amount).reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        // 색인으로 장바구니와 관련 있는 규칙만 후보로 선택
+        Set<CouponRule> candidates = new LinkedHashSet<>();
+        for (CouponRule rule : current.unrestricted) {
+            if (owned.contains(rule.couponId)) {
+                candidates.add(rule);
+            }
+        }
+        for (CartLine line : lines) {
+            addOwned(candidates, current.byProduct.get(line.productId), owned);
+            if (line.category != null) {
+                addOwned(candidates, current.byCategory.get(line.category), owned);
+            }
+        }
+
+        List<Evaluation> evaluations = new ArrayList<>();
+        for (CouponRule rule : candidates) {
+            if (!rule.isOpenAt(now) || cartTotal.compareTo(rule.minOrderAmount) < 0) {
+                continue;
+            }
+            BigDecimal eligibleAmount = Coupon.eligibleAmount(rule.category, rule.productIds, lines);
+            if (eligibleAmount.signum() <= 0) {
+                continue;
+            }
+            evaluations.add(new Evaluation(rule.couponId, eligibleAmount, rule.discountFor(eligibleAmount)));
+        }
+
+        evaluations.sort(Comparator.comparing(Evaluation::getDiscountAmount).reversed());
+        return evaluations;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 인덱스 재생성 (트랜잭션 밖이면 즉시)
+     */
+    public void rebuildAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rebuild();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rebuild();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelay = REFRESH_INTERVAL_MS, initialDelay = REFRESH_INTERVAL_MS)
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * 활성 쿠폰 전체로 스냅샷 재생성
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            doRebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void doRebuild() {
+        List<Coupon> coupons = couponRepository.findAllForRuleIndex(LocalDateTime.now());
+
+        List<CouponRule> unrestricted = new ArrayList<>();
+        Map<Long, List<CouponRule>> byProduct = new HashMap<>();
+        Map<String, List<CouponRule>> byCategory = new HashMap<>();
+        for (Coupon coupon : coupons) {
+            CouponRule rule = new CouponRule(coupon);
+            if (!rule.productIds.isEmpty()) {
+                for (Long productId : rule.productIds) {
+                    byProduct.computeIfAbsent(productId, id -> new ArrayList<>()).add(rule);
+                }
+            } else if (rule.category != null) {
+                byCategory.computeIfAbsent(rule.category, category -> new ArrayList<>()).add(rule);
+            } else {
+                unrestricted.add(rule);
+            }
+        }
+
+        snapshot = new Snapshot(unrestricted, byProduct, byCategory);
+        logger.debug("Coupon rule index rebuilt - {} coupons", coupons.size());
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rebuild();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private static void addOwned(Set<CouponRule> candidates, List<CouponRule> rules, Set<Long> owned) {
+        if (rules == null) {
+            return;
+        }
+        for (CouponRule rule : rules) {
+            if (owned.contains(rule.couponId)) {
+                candidates.add(rule);
+            }
+        }
+    }
+
+    private static class Snapshot {
+        private final List<CouponRule> unrestricted;
+        private final Map<Long, List<CouponRule>> byProduct;
+        private final Map<String, List<CouponRule>> byCategory;
+
+        Snapshot(List<CouponRule> unrestricted, Map<Long, List<CouponRule>> byProduct,
+                 Map<String, List<CouponRule>> byCategory) {
+            this.unrestricted = List.copyOf(unrestricted);
+            this.byProduct = Map.copyOf(byProduct);
+            this.byCategory = Map.copyOf(byCategory);
+        }
+    }
+
+    /**
+     * 쿠폰 한 장의 적용 조건 (엔티티와 분리된 불변 복사본)
+     */
+    private static class CouponRule {
+        private final Long couponId;
+        private final DiscountType discountType;
+        private final BigDecimal discountValue;
+        private final BigDecimal maxDiscountAmount;
+        private final BigDecimal minOrderAmount;
+        private final LocalDateTime startDate;
+        private final LocalDateTime endDate;
+        private final String category;
+        private final Set<Long> productIds;
+
+        CouponRule(Coupon coupon) {
+            this.couponId = coupon.getId();
+            this.discountType = coupon.getDiscountType();
+            this.discountValue = coupon.getDiscountValue();
+            this.maxDiscountAmount = coupon.getMaxDiscountAmount();
+            this.minOrderAmount = coupon.getMinOrderAmount() != null ? coupon.getMinOrderAmount() : BigDecimal.ZERO;
+            this.startDate = coupon.getStartDate();
+            this.endDate = coupon.getEndDate();
+            this.category = coupon.getApplicableCategory();
+            this.productIds = coupon.getCouponProducts().stream()
+                    .map(cp -> cp.getProduct().getId())
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+
+        boolean isOpenAt(LocalDateTime now) {
+            return now.isAfter(startDate) && now.isBefore(endDate);
+        }
+
+        BigDecimal discountFor(BigDecimal amount) {
+            return Coupon.calculateDiscount(discountType, discountValue, maxDiscountAmount, amount);
+        }
+    }
+}
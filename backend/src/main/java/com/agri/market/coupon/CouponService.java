@@ -27,17 +27,23 @@ public class CouponService {
     private final CouponProductRepository couponProductRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final CouponStockGate couponStockGate;
+    private final CouponRuleIndex couponRuleIndex;
 
     public CouponService(CouponRepository couponRepository,
                          UserCouponRepository userCouponRepository,
                          CouponProductRepository couponProductRepository,
                          UserRepository userRepository,
-                         ProductRepository productRepository) {
+                         ProductRepository productRepository,
+                         CouponStockGate couponStockGate,
+                         CouponRuleIndex couponRuleIndex) {
         this.couponRepository = couponRepository;
         this.userCouponRepository = userCouponRepository;
         this.couponProductRepository = couponProductRepository;
         this.userRepository = userRepository;
         this.productRepository = productRepository;
+        this.couponStockGate = couponStockGate;
+        this.couponRuleIndex = couponRuleIndex;
     }
 
     /**
@@ -94,6 +100,8 @@ public class CouponService {
             }
         }
 
+        couponRuleIndex.rebuildAfterCommit();
+
         return new CouponResponse(savedCoupon);
     }
 
@@ -144,6 +152,11 @@ public class CouponService {
         }
 
         Coupon updatedCoupon = couponRepository.save(coupon);
+
+        // 총 수량이 바뀌었을 수 있으므로 선착순 게이트는 다음 요청에서 DB 기준으로 다시 생성
+        couponStockGate.evict(id);
+        couponRuleIndex.rebuildAfterCommit();
+
         return new CouponResponse(updatedCoupon);
     }
 
@@ -163,6 +176,8 @@ public class CouponService {
         }
 
         couponRepository.delete(coupon);
+        couponStockGate.evict(id);
+        couponRuleIndex.rebuildAfterCommit();
     }
 
     /**
@@ -249,8 +264,18 @@ public class CouponService {
             return CouponValidationResponse.failure("해당 상품에는 적용할 수 없는 쿠폰입니다.");
         }
 
-        // 할인 금액 계산
-        BigDecimal discountAmount = coupon.calculateDiscount(request.getOrderAmount());
+        // 적용 대상 금액 기준 할인 (주문 라인이 없으면 요청의 상품/카테고리 한 줄로 간주)
+        List<CouponRuleIndex.CartLine> lines = request.getItems() != null && !request.getItems().isEmpty()
+                ? request.getItems().stream()
+                        .map(item -> new CouponRuleIndex.CartLine(item.getProductId(), item.getCategory(), item.getAmount()))
+                        .toList()
+                : List.of(new CouponRuleIndex.CartLine(request.getProductId(), request.getCategory(), request.getOrderAmount()));
+        BigDecimal eligibleAmount = coupon.eligibleAmount(lines);
+        if (eligibleAmount.signum() <= 0) {
+            return CouponValidationResponse.failure("주문 상품 중 쿠폰을 적용할 수 있는 상품이 없습니다.");
+        }
+
+        BigDecimal discountAmount = coupon.calculateDiscount(eligibleAmount);
         BigDecimal finalAmount = request.getOrderAmount().subtract(discountAmount);
 
         return CouponValidationResponse.success(discountAmount, finalAmount);
@@ -290,37 +315,6 @@ public class CouponService {
         return new UserCouponResponse(savedUserCoupon);
     }
 
-    /**
-     * 모든 사용자에게 쿠폰 발급
-     */
-    @Transactional
-    public int issueCouponToAllUsers(Long couponId) {
-        Coupon coupon = couponRepository.findById(couponId)
-                .orElseThrow(() -> new BusinessException("쿠폰을 찾을 수 없습니다: " + couponId, "COUPON_NOT_FOUND"));
-
-        List<User> allUsers = userRepository.findAll();
-        int issuedCount = 0;
-
-        for (User user : allUsers) {
-            // 이미 발급받은 사용자는 제외 (단일 사용 쿠폰만)
-            if (coupon.getUsageType() == CouponUsageType.SINGLE_USE) {
-                if (userCouponRepository.existsByUserAndCoupon(user, coupon)) {
-                    continue;
-                }
-            }
-
-            UserCoupon userCoupon = new UserCoupon();
-            userCoupon.setUser(user);
-            userCoupon.setCoupon(coupon);
-            userCoupon.setExpiresAt(coupon.getEndDate());
-
-            userCouponRepository.save(userCoupon);
-            issuedCount++;
-        }
-
-        return issuedCount;
-    }
-
     /**
      * 할인 금액 계산
      */
@@ -0,0 +1,122 @@
+package com.agri.market.coupon;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 수량 한정 쿠폰의 인스턴스 내 잔여 수량 게이트
+ * - 선착순 발급 시 DB 조건부 갱신 전에 메모리 카운터를 먼저 차감해, 잔여 수량을 넘는 요청은 DB에 닿지 않고 바로 거절
+ * - 최종 판정은 DB 조건부 갱신(issued_quantity < total_quantity)이 하며, 게이트는 쿠폰 행 잠금 경합을 잔여 수량 이내로 줄이는 역할
+ * - 다른 인스턴스의 발급/취소는 모르므로 소진 상태가 SOLD_OUT_RECHECK_MS 이상 지나면 DB 잔여 수량으로 다시 맞춤
+ * - 선점은 Permit으로 돌려주고 반환/소진 처리는 선점한 게이트에만 적용 (교체된 게이트의 수량을 건드리지 않음)
+ */
+@Component
+public class CouponStockGate {
+
+    // 소진된 게이트를 DB 기준으로 다시 확인하는 최소 간격
+    static final long SOLD_OUT_RECHECK_MS = 5000;
+
+    private final Map<Long, Permits> permitsByCoupon = new ConcurrentHashMap<>();
+
+    /**
+     * 잔여 수량 1개 선점
+     * @param remainingLoader 게이트가 없거나 재확인이 필요할 때 DB 잔여 수량 조회 (쿠폰 ID → 잔여 수량)
+     * @return 선점한 수량 (실패 시 DB 조회 없이 소진 처리하고 null)
+     */
+    public Permit tryAcquire(Long couponId, Function<Long, Integer> remainingLoader) {
+        Permits permits = permitsByCoupon.get(couponId);
+        if (permits == null) {
+            // DB 조회는 맵 잠금 밖에서 (computeIfAbsent 안에서 조회하면 가상 스레드가 캐리어에 고정됨)
+            // 동시에 처음 들어온 요청들이 각자 조회해도 먼저 넣은 게이트 하나만 사용
+            Permits loaded = new Permits(remainingLoader.apply(couponId));
+            Permits existing = permitsByCoupon.putIfAbsent(couponId, loaded);
+            permits = existing != null ? existing : loaded;
+        }
+        if (permits.tryAcquire()) {
+            return new Permit(couponId, permits);
+        }
+        if (!permits.recheckDue()) {
+            return null;
+        }
+        // 다른 인스턴스의 취소 등으로 남은 수량이 생겼는지 확인
+        // 그 사이 다른 요청이 게이트를 교체했으면 그 게이트를 사용 (교체는 CAS로만)
+        Permits refreshed = new Permits(remainingLoader.apply(couponId));
+        if (!permitsByCoupon.replace(couponId, permits, refreshed)) {
+            refreshed = permitsByCoupon.getOrDefault(couponId, refreshed);
+        }
+        return refreshed.tryAcquire() ? new Permit(couponId, refreshed) : null;
+    }
+
+    /**
+     * DB 조건부 갱신이 소진을 확인한 경우 - 이후 요청은 재확인 간격까지 바로 거절
+     * 선점한 게이트가 아직 현재 게이트일 때만 교체 (그 사이 DB 기준으로 새로 맞춘 게이트를 덮어쓰지 않음)
+     */
+    public void markSoldOut(Permit permit) {
+        permitsByCoupon.replace(permit.couponId, permit.source, new Permits(0));
+    }
+
+    /**
+     * 쿠폰 수정/삭제 시 게이트 제거 (다음 요청에서 DB 기준으로 다시 생성)
+     */
+    public void evict(Long couponId) {
+        permitsByCoupon.remove(couponId);
+    }
+
+    /**
+     * 선점한 수량 1개
+     * 반환은 선점한 게이트에만 - 소진/재확인으로 게이트가 교체된 뒤에 롤백되어도 새 게이트의 수량을 늘리지 않음
+     */
+    public static final class Permit {
+        private final Long couponId;
+        private final Permits source;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Long couponId, Permits source) {
+            this.couponId = couponId;
+            this.source = source;
+        }
+
+        /**
+         * 선점한 수량 반환 (DB 발급이 실패하거나 롤백된 경우, 여러 번 호출해도 한 번만 반환)
+         */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                source.release();
+            }
+        }
+    }
+
+    private static class Permits {
+        private final AtomicInteger remaining;
+        private final long createdAt = System.currentTimeMillis();
+
+        Permits(Integer remaining) {
+            this.remaining = new AtomicInteger(remaining != null ? Math.max(0, remaining) : 0);
+        }
+
+        boolean tryAcquire() {
+            // 0 아래로 내려가지 않도록 CAS로 차감
+            int current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        void release() {
+            remaining.incrementAndGet();
+        }
+
+        boolean recheckDue() {
+            return System.currentTimeMillis() - createdAt >= SOLD_OUT_RECHECK_MS;
+        }
+    }
+}
@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
  * 사용자별 쿠폰 보유 엔티티
  */
 @Entity
-@Table(name = "user_coupons")
+@Table(name = "user_coupons", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_coupons_single_use", columnNames = {"user_id", "single_use_coupon_id"})
+})
 @Getter
 @Setter
 public class UserCoupon {
@@ -60,9 +62,19 @@ public class UserCoupon {
     @Column(nullable = false)
     private LocalDateTime expiresAt;
 
+    /**
+     * 1회용 쿠폰이면 coupon_id, 재사용 쿠폰이면 null
+     * (user_id, single_use_coupon_id) 유니크 제약으로 1회용 쿠폰은 사용자당 한 장만 보유 (NULL은 중복 허용)
+     */
+    @Column(name = "single_use_coupon_id")
+    private Long singleUseCouponId;
+
     @PrePersist
     protected void onCreate() {
         issuedAt = LocalDateTime.now();
+        if (coupon.getUsageType() == CouponUsageType.SINGLE_USE) {
+            singleUseCouponId = coupon.getId();
+        }
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.agri.market.coupon;
 
+import com.agri.market.dto.CouponApplicabilityResponse;
 import com.agri.market.dto.UserCouponResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -56,6 +57,17 @@ public class UserCouponController {
         return ResponseEntity.ok(coupons);
     }
 
+    /**
+     * 현재 장바구니에 적용 가능한 쿠폰 (예상 할인 금액이 큰 순서)
+     * GET /api/user/coupons/for-cart
+     */
+    @GetMapping("/for-cart")
+    public ResponseEntity<List<CouponApplicabilityResponse>> getApplicableCouponsForCart(Authentication authentication) {
+        String userEmail = authentication.getName();
+        List<CouponApplicabilityResponse> coupons = userCouponService.getApplicableCouponsForCart(userEmail);
+        return ResponseEntity.ok(coupons);
+    }
+
     /**
      * 쿠폰 다운로드
      * POST /api/user/coupons/download/{couponCode}
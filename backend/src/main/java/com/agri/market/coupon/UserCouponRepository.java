@@ -3,6 +3,7 @@ package com.agri.market.coupon;
 import com.agri.market.order.Order;
 import com.agri.market.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -72,6 +73,20 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
     @Query("SELECT uc FROM UserCoupon uc WHERE uc.expiresAt < :now AND uc.usedAt IS NULL")
     List<UserCoupon> findExpiredCoupons(@Param("now") LocalDateTime now);
 
+    /**
+     * 미사용 쿠폰을 사용 처리 - 이미 사용된 쿠폰이면 0 반환 (동시 주문에서 한 쿠폰이 두 번 쓰이지 않음)
+     */
+    @Modifying
+    @Query("UPDATE UserCoupon uc SET uc.usedAt = :usedAt, uc.order = :order WHERE uc.id = :id AND uc.usedAt IS NULL")
+    int markUsed(@Param("id") Long id, @Param("order") Order order, @Param("usedAt") LocalDateTime usedAt);
+
+    /**
+     * 사용 취소 - 사용된 쿠폰일 때만 (0 반환 시 이미 취소됨)
+     */
+    @Modifying
+    @Query("UPDATE UserCoupon uc SET uc.usedAt = NULL, uc.order = NULL WHERE uc.id = :id AND uc.usedAt IS NOT NULL")
+    int markUnused(@Param("id") Long id);
+
     /**
      * 주문에 사용된 쿠폰 조회
      */
@@ -1,16 +1,24 @@
 package com.agri.market.coupon;
 
+import com.agri.market.cart.CartPricingEngine;
+import com.agri.market.cart.CartRepository;
+import com.agri.market.dto.CouponApplicabilityResponse;
 import com.agri.market.dto.UserCouponResponse;
 import com.agri.market.exception.BusinessException;
 import com.agri.market.order.Order;
 import com.agri.market.user.User;
 import com.agri.market.user.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -22,13 +30,25 @@ public class UserCouponService {
     private final UserCouponRepository userCouponRepository;
     private final CouponRepository couponRepository;
     private final UserRepository userRepository;
+    private final CouponStockGate couponStockGate;
+    private final CouponRuleIndex couponRuleIndex;
+    private final CartRepository cartRepository;
+    private final CartPricingEngine cartPricingEngine;
 
     public UserCouponService(UserCouponRepository userCouponRepository,
                              CouponRepository couponRepository,
-                             UserRepository userRepository) {
+                             UserRepository userRepository,
+                             CouponStockGate couponStockGate,
+                             CouponRuleIndex couponRuleIndex,
+                             CartRepository cartRepository,
+                             CartPricingEngine cartPricingEngine) {
         this.userCouponRepository = userCouponRepository;
         this.couponRepository = couponRepository;
         this.userRepository = userRepository;
+        this.couponStockGate = couponStockGate;
+        this.couponRuleIndex = couponRuleIndex;
+        this.cartRepository = cartRepository;
+        this.cartPricingEngine = cartPricingEngine;
     }
 
     /**
@@ -81,7 +101,47 @@ public class UserCouponService {
     }
 
     /**
-     * 쿠폰 다운로드 (공개 쿠폰)
+     * 현재 장바구니에 적용 가능한 쿠폰 (할인 금액이 큰 순서)
+     * 장바구니 조회 + 사용자 쿠폰 조회 두 번으로 끝나고, 라인 금액은 CartPricingEngine, 쿠폰 규칙은 메모리 인덱스에서 평가
+     */
+    @Transactional(readOnly = true)
+    public List<CouponApplicabilityResponse> getApplicableCouponsForCart(String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new BusinessException("사용자를 찾을 수 없습니다: " + userEmail, "USER_NOT_FOUND"));
+
+        List<CouponRuleIndex.CartLine> lines = cartRepository.findByUserWithItems(user)
+                .map(cart -> cartPricingEngine.price(CartPricingEngine.itemsOf(cart)).couponLines())
+                .orElse(List.of());
+        return lines.isEmpty() ? List.of() : rankCoupons(user, lines);
+    }
+
+    /**
+     * 사용자 보유 쿠폰을 주어진 장바구니 라인에 대해 평가 (할인 금액이 큰 순서)
+     */
+    @Transactional(readOnly = true)
+    public List<CouponApplicabilityResponse> rankCoupons(User user, List<CouponRuleIndex.CartLine> lines) {
+        List<UserCoupon> userCoupons = userCouponRepository.findAvailableCoupons(user, LocalDateTime.now());
+        if (userCoupons.isEmpty()) {
+            return List.of();
+        }
+
+        // 같은 쿠폰을 여러 장 보유한 경우 만료가 가장 빠른 것을 제안 (findAvailableCoupons는 만료일 순)
+        Map<Long, UserCoupon> userCouponByCouponId = new LinkedHashMap<>();
+        for (UserCoupon userCoupon : userCoupons) {
+            userCouponByCouponId.putIfAbsent(userCoupon.getCoupon().getId(), userCoupon);
+        }
+
+        return couponRuleIndex.evaluate(userCouponByCouponId.keySet(), lines).stream()
+                .map(evaluation -> new CouponApplicabilityResponse(
+                        userCouponByCouponId.get(evaluation.getCouponId()), evaluation))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 쿠폰 다운로드 (공개 쿠폰, 수량 한정 쿠폰은 선착순)
+     * - 수량 한정 쿠폰은 메모리 게이트에서 잔여 수량을 먼저 선점 - 소진 후 요청은 DB에 닿지 않음
+     * - 발급 수량은 조건부 UPDATE로만 증가시켜 동시 요청에서도 총 수량을 넘지 않음
+     * - 1회용 쿠폰의 사용자당 1장은 유니크 제약으로 보장 (사전 조회는 빠른 거절용)
      */
     @Transactional
     public UserCouponResponse downloadCoupon(String userEmail, String couponCode) {
@@ -112,13 +172,45 @@ public class UserCouponService {
             }
         }
 
-        // UserCoupon 생성
+        // 수량 한정 쿠폰 - 잔여 수량 선점 (트랜잭션이 롤백되면 반환)
+        boolean limited = coupon.getTotalQuantity() != null;
+        CouponStockGate.Permit permit = null;
+        if (limited) {
+            permit = couponStockGate.tryAcquire(coupon.getId(), couponRepository::findRemainingIssueQuantity);
+            if (permit == null) {
+                throw new BusinessException("쿠폰 수량이 모두 소진되었습니다.", "COUPON_OUT_OF_STOCK");
+            }
+            CouponStockGate.Permit acquired = permit;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        acquired.release();
+                    }
+                }
+            });
+        }
+
+        // 발급 수량 증가 - 다른 인스턴스에서 먼저 소진된 경우 여기서 거절
+        // INSERT보다 먼저 쿠폰 행 배타 잠금을 잡음 (INSERT의 외래키 공유 잠금을 먼저 잡으면 동시 요청끼리 교착)
+        if (limited && couponRepository.incrementIssuedQuantity(coupon.getId()) == 0) {
+            couponStockGate.markSoldOut(permit);
+            throw new BusinessException("쿠폰 수량이 모두 소진되었습니다.", "COUPON_OUT_OF_STOCK");
+        }
+
+        // UserCoupon 생성 - 중복 발급으로 실패하면 발급 수량 증가도 함께 롤백됨
         UserCoupon userCoupon = new UserCoupon();
         userCoupon.setUser(user);
         userCoupon.setCoupon(coupon);
         userCoupon.setExpiresAt(coupon.getEndDate());
 
-        UserCoupon savedUserCoupon = userCouponRepository.save(userCoupon);
+        UserCoupon savedUserCoupon;
+        try {
+            savedUserCoupon = userCouponRepository.saveAndFlush(userCoupon);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자의 동시 요청이 먼저 발급받음
+            throw new BusinessException("이미 다운로드한 쿠폰입니다.", "COUPON_ALREADY_DOWNLOADED");
+        }
 
         return new UserCouponResponse(savedUserCoupon);
     }
@@ -147,14 +239,16 @@ public class UserCouponService {
             throw new BusinessException("본인의 쿠폰만 사용할 수 있습니다.", "COUPON_OWNER_MISMATCH");
         }
 
-        // 쿠폰 사용 처리
-        userCoupon.use(order);
-        userCouponRepository.save(userCoupon);
+        // 쿠폰 사용 처리 - 조건부 UPDATE로 동시 주문 중 한 건만 성공
+        LocalDateTime usedAt = LocalDateTime.now();
+        if (userCouponRepository.markUsed(userCouponId, order, usedAt) == 0) {
+            throw new BusinessException("이미 사용된 쿠폰입니다.", "COUPON_ALREADY_USED");
+        }
+        userCoupon.setUsedAt(usedAt);
+        userCoupon.setOrder(order);
 
         // 쿠폰 사용 수량 증가
-        Coupon coupon = userCoupon.getCoupon();
-        coupon.setUsedQuantity(coupon.getUsedQuantity() + 1);
-        couponRepository.save(coupon);
+        couponRepository.incrementUsedQuantity(userCoupon.getCoupon().getId());
     }
 
     /**
@@ -165,21 +259,15 @@ public class UserCouponService {
         UserCoupon userCoupon = userCouponRepository.findById(userCouponId)
                 .orElseThrow(() -> new BusinessException("사용자 쿠폰을 찾을 수 없습니다: " + userCouponId, "USER_COUPON_NOT_FOUND"));
 
-        if (!userCoupon.isUsed()) {
-            return; // 이미 취소되었거나 사용되지 않은 쿠폰
+        // 쿠폰 사용 취소 - 이미 취소되었거나 사용되지 않은 쿠폰이면 무시
+        if (userCouponRepository.markUnused(userCouponId) == 0) {
+            return;
         }
-
-        // 쿠폰 사용 취소
         userCoupon.setUsedAt(null);
         userCoupon.setOrder(null);
-        userCouponRepository.save(userCoupon);
 
         // 쿠폰 사용 수량 감소
-        Coupon coupon = userCoupon.getCoupon();
-        if (coupon.getUsedQuantity() > 0) {
-            coupon.setUsedQuantity(coupon.getUsedQuantity() - 1);
-            couponRepository.save(coupon);
-        }
+        couponRepository.decrementUsedQuantity(userCoupon.getCoupon().getId());
     }
 
     /**
@@ -0,0 +1,68 @@
+package com.agri.market.dto;
+
+import com.agri.market.cart.CartPricingEngine;
+import com.agri.market.cart.CartQuote;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 장바구니 가격 견적 DTO (현재 상품 가격 기준, 주문 생성과 같은 계산)
+ */
+@Getter
+@Setter
+public class CartQuoteResponse {
+
+    private List<LineResponse> lines;
+    private BigDecimal itemsTotal;
+    private BigDecimal shippingTotal;
+    private boolean orderable; // 경고가 있는 항목이 없을 때만 주문 가능
+    private CouponApplicabilityResponse bestCoupon; // 보유 쿠폰 중 할인이 가장 큰 쿠폰 (없으면 null)
+    private BigDecimal couponDiscount;
+    private BigDecimal finalAmount; // 상품 합계 + 배송비 - 쿠폰 할인
+
+    public CartQuoteResponse(CartQuote quote, CouponApplicabilityResponse bestCoupon) {
+        this.lines = quote.getLines().stream().map(LineResponse::new).collect(Collectors.toList());
+        this.itemsTotal = quote.getItemsTotal();
+        this.shippingTotal = quote.getShippingTotal();
+        this.orderable = !quote.getLines().isEmpty() && !quote.hasWarnings();
+        this.bestCoupon = bestCoupon;
+        this.couponDiscount = bestCoupon != null ? bestCoupon.getDiscountAmount() : BigDecimal.ZERO;
+        this.finalAmount = itemsTotal.add(shippingTotal).subtract(couponDiscount);
+    }
+
+    @Getter
+    @Setter
+    public static class LineResponse {
+        private Long cartItemId;
+        private Long productId;
+        private String productName;
+        private Long optionId;
+        private String optionName;
+        private int quantity;
+        private BigDecimal unitPrice;
+        private BigDecimal lineAmount;
+        private long shippingBoxes;
+        private BigDecimal shippingFee;
+        private CartPricingEngine.Warning warning;
+        private String warningMessage;
+
+        public LineResponse(CartQuote.Line line) {
+            this.cartItemId = line.getRefId();
+            this.productId = line.getProduct().getId();
+            this.productName = line.getProduct().getName();
+            this.optionId = line.getOption() != null ? line.getOption().getId() : null;
+            this.optionName = line.getOption() != null ? line.getOption().getName() : null;
+            this.quantity = line.getQuantity();
+            this.unitPrice = line.getUnitPrice();
+            this.lineAmount = line.getLineAmount();
+            this.shippingBoxes = line.getShippingBoxes();
+            this.shippingFee = line.getShippingFee();
+            this.warning = line.getWarning();
+            this.warningMessage = line.getWarningMessage();
+        }
+    }
+}
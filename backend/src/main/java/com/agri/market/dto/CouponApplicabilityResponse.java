@@ -0,0 +1,40 @@
+package com.agri.market.dto;
+
+import com.agri.market.coupon.CouponRuleIndex;
+import com.agri.market.coupon.DiscountType;
+import com.agri.market.coupon.UserCoupon;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 장바구니에 적용 가능한 사용자 쿠폰 DTO (할인 금액 순)
+ */
+@Getter
+@Setter
+public class CouponApplicabilityResponse {
+
+    private Long userCouponId; // 주문 시 couponId로 전달
+    private Long couponId;
+    private String code;
+    private String name;
+    private DiscountType discountType;
+    private BigDecimal discountValue;
+    private BigDecimal eligibleAmount; // 쿠폰 적용 대상 상품 금액
+    private BigDecimal discountAmount; // 예상 할인 금액
+    private LocalDateTime expiresAt;
+
+    public CouponApplicabilityResponse(UserCoupon userCoupon, CouponRuleIndex.Evaluation evaluation) {
+        this.userCouponId = userCoupon.getId();
+        this.couponId = userCoupon.getCoupon().getId();
+        this.code = userCoupon.getCoupon().getCode();
+        this.name = userCoupon.getCoupon().getName();
+        this.discountType = userCoupon.getCoupon().getDiscountType();
+        this.discountValue = userCoupon.getCoupon().getDiscountValue();
+        this.eligibleAmount = evaluation.getEligibleAmount();
+        this.discountAmount = evaluation.getDiscountAmount();
+        this.expiresAt = userCoupon.getExpiresAt();
+    }
+}
@@ -0,0 +1,26 @@
+package com.agri.market.dto;
+
+import com.agri.market.coupon.CouponIssueSegment;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 쿠폰 일괄 발급 요청 DTO
+ */
+@Getter
+@Setter
+public class CouponIssueJobRequest {
+
+    @NotNull(message = "발급 대상은 필수입니다")
+    private CouponIssueSegment segment = CouponIssueSegment.ALL_USERS;
+
+    /**
+     * 대상 기간(일) - RECENT_BUYERS, NEW_MEMBERS 전용
+     */
+    @Min(value = 1, message = "기간은 1일 이상이어야 합니다")
+    @Max(value = 3650, message = "기간은 3650일 이하여야 합니다")
+    private Integer days;
+}
@@ -0,0 +1,55 @@
+package com.agri.market.dto;
+
+import com.agri.market.coupon.CouponIssueJob;
+import com.agri.market.coupon.CouponIssueJobStatus;
+import com.agri.market.coupon.CouponIssueSegment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 일괄 발급 작업 상태 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponIssueJobResponse {
+
+    private Long jobId;
+    private Long couponId;
+    private CouponIssueSegment segment;
+    private Integer segmentDays;
+    private CouponIssueJobStatus status;
+    private String requestedBy;
+    private Long totalUsers;
+    private Long processedUsers;
+    private Long issuedCount;
+    private Integer progressPercent;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    public static CouponIssueJobResponse from(CouponIssueJob job) {
+        return CouponIssueJobResponse.builder()
+                .jobId(job.getId())
+                .couponId(job.getCouponId())
+                .segment(job.getSegment())
+                .segmentDays(job.getSegmentDays())
+                .status(job.getStatus())
+                .requestedBy(job.getRequestedBy())
+                .totalUsers(job.getTotalUsers())
+                .processedUsers(job.getProcessedUsers())
+                .issuedCount(job.getIssuedCount())
+                .progressPercent(job.getProgressPercent())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+}
@@ -28,6 +28,7 @@ public class CouponResponse {
     private LocalDateTime endDate;
     private Integer totalQuantity;
     private Integer usedQuantity;
+    private Integer issuedQuantity; // 선착순 다운로드 발급 수량
     private Integer remainingQuantity; // 남은 수량 (계산값)
     private Boolean isActive;
     private CouponUsageType usageType;
@@ -50,6 +51,7 @@ public class CouponResponse {
         this.endDate = coupon.getEndDate();
         this.totalQuantity = coupon.getTotalQuantity();
         this.usedQuantity = coupon.getUsedQuantity();
+        this.issuedQuantity = coupon.getIssuedQuantity();
         this.remainingQuantity = coupon.getTotalQuantity() != null
                 ? coupon.getTotalQuantity() - coupon.getUsedQuantity()
                 : null; // 무제한
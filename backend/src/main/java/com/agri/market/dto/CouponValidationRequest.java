@@ -1,5 +1,6 @@
 package com.agri.market.dto;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -7,6 +8,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * 쿠폰 유효성 검증 요청 DTO
@@ -25,4 +27,23 @@ public class CouponValidationRequest {
     private String category; // 카테고리 필터용 (선택사항)
 
     private Long productId; // 상품 필터용 (선택사항)
+
+    @Valid
+    private List<Item> items; // 주문 라인 (선택사항, 있으면 적용 대상 상품 금액만 할인)
+
+    /**
+     * 주문 라인 (상품별 금액)
+     */
+    @Getter
+    @Setter
+    public static class Item {
+        @NotNull(message = "상품 ID는 필수입니다")
+        private Long productId;
+
+        private String category;
+
+        @NotNull(message = "상품 금액은 필수입니다")
+        @DecimalMin(value = "0.0", message = "상품 금액은 0 이상이어야 합니다")
+        private BigDecimal amount;
+    }
 }
@@ -0,0 +1,17 @@
+package com.agri.market.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 알림 읽음 처리 요청 (all이 true면 전체, 아니면 ids만)
+ */
+@Getter
+@Setter
+public class NotificationReadRequest {
+
+    private List<Long> ids;
+    private boolean all;
+}
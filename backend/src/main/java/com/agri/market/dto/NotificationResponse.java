@@ -0,0 +1,32 @@
+package com.agri.market.dto;
+
+import com.agri.market.notification.Notification;
+import com.agri.market.notification.NotificationType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 응답 DTO
+ */
+@Getter
+@Setter
+public class NotificationResponse {
+
+    private Long id;
+    private String title;
+    private String message;
+    private NotificationType type;
+    private Boolean isRead;
+    private LocalDateTime createdAt;
+
+    public NotificationResponse(Notification notification) {
+        this.id = notification.getId();
+        this.title = notification.getTitle();
+        this.message = notification.getMessage();
+        this.type = notification.getType();
+        this.isRead = notification.getIsRead();
+        this.createdAt = notification.getCreatedAt();
+    }
+}
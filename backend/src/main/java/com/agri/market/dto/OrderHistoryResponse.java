@@ -0,0 +1,18 @@
+package com.agri.market.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 주문 내역 커서 페이지
+ * nextCursor를 다음 요청의 cursor로 넘기면 이어지는 주문을 조회 (더 없으면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderHistoryResponse {
+    private List<OrderSummaryResponse> orders;
+    private Long nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,77 @@
+package com.agri.market.dto;
+
+import com.agri.market.order.Order;
+import com.agri.market.order.OrderItem;
+import com.agri.market.order.OrderStatus;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 내역 목록용 요약 DTO (배송지/쿠폰/사용자 정보 제외, 상세는 OrderResponse)
+ */
+@Getter
+@Setter
+public class OrderSummaryResponse {
+
+    // 목록에 미리 보여줄 상품 수
+    private static final int PREVIEW_ITEM_COUNT = 2;
+
+    private Long id;
+    private String orderNumber;
+    private OrderStatus orderStatus;
+    private BigDecimal totalAmount;
+    private BigDecimal finalAmount;
+    private LocalDateTime createdAt;
+    private String trackingNumber;
+    private int itemCount;
+    private List<ItemPreview> previewItems;
+
+    @Getter
+    @Setter
+    public static class ItemPreview {
+        private Long productId;
+        private String productName;
+        private String productImageUrl;
+        private String optionValue;
+        private Integer quantity;
+        private BigDecimal price;
+
+        public static ItemPreview from(OrderItem item) {
+            ItemPreview preview = new ItemPreview();
+            preview.setProductId(item.getProduct().getId());
+            preview.setProductName(item.getProduct().getName());
+            preview.setProductImageUrl(item.getProduct().getImageUrl());
+            if (item.getProductOption() != null) {
+                preview.setOptionValue(item.getProductOption().getOptionValue());
+            }
+            preview.setQuantity(item.getQuantity());
+            preview.setPrice(item.getPrice());
+            return preview;
+        }
+    }
+
+    /**
+     * @param items 해당 주문의 항목 (ID 순, 상품/옵션 로딩 완료)
+     */
+    public static OrderSummaryResponse from(Order order, List<OrderItem> items) {
+        OrderSummaryResponse response = new OrderSummaryResponse();
+        response.setId(order.getId());
+        response.setOrderNumber(order.getOrderNumber());
+        response.setOrderStatus(order.getOrderStatus());
+        response.setTotalAmount(order.getTotalAmount());
+        response.setFinalAmount(order.getFinalAmount());
+        response.setCreatedAt(order.getCreatedAt());
+        response.setTrackingNumber(order.getTrackingNumber());
+        response.setItemCount(items.size());
+        response.setPreviewItems(items.stream()
+                .limit(PREVIEW_ITEM_COUNT)
+                .map(ItemPreview::from)
+                .collect(Collectors.toList()));
+        return response;
+    }
+}
@@ -0,0 +1,33 @@
+package com.agri.market.dto.admin;
+
+import com.agri.market.admin.export.ExportType;
+import com.agri.market.order.OrderStatus;
+import com.agri.market.settlement.SettlementStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 비동기 내보내기 요청 (유형별로 사용하지 않는 필드는 무시)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ExportJobRequest {
+
+    @NotNull(message = "내보내기 유형은 필수입니다")
+    private ExportType type;
+
+    private LocalDate from;
+    private LocalDate to;
+    private Long sellerId;
+
+    // ORDERS 전용 (기본값 PREPARING)
+    private OrderStatus orderStatus;
+
+    // SETTLEMENTS 전용
+    private SettlementStatus settlementStatus;
+}
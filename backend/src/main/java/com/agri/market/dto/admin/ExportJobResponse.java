@@ -0,0 +1,60 @@
+package com.agri.market.dto.admin;
+
+import com.agri.market.admin.export.ExportJob;
+import com.agri.market.admin.export.ExportJobStatus;
+import com.agri.market.admin.export.ExportType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 내보내기 작업 상태 응답
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportJobResponse {
+
+    private Long jobId;
+    private ExportType type;
+    private ExportJobStatus status;
+    private String params;
+    private String requestedBy;
+    private Long totalRows;
+    private Long rowCount;
+    private Integer progressPercent;
+    private String fileName;
+    private Long fileSize;
+    private String errorMessage;
+    private String downloadUrl;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime expiresAt;
+
+    public static ExportJobResponse from(ExportJob job) {
+        return ExportJobResponse.builder()
+                .jobId(job.getId())
+                .type(job.getExportType())
+                .status(job.getStatus())
+                .params(job.getParams())
+                .requestedBy(job.getRequestedBy())
+                .totalRows(job.getTotalRows())
+                .rowCount(job.getRowCount())
+                .progressPercent(job.getProgressPercent())
+                .fileName(job.getFileName())
+                .fileSize(job.getFileSize())
+                .errorMessage(job.getErrorMessage())
+                .downloadUrl(job.getStatus() == ExportJobStatus.COMPLETED
+                        ? "/api/admin/exports/" + job.getId() + "/download" : null)
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .expiresAt(job.getExpiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.agri.market.dto.admin;
+
+import lombok.Getter;
+
+/**
+ * 주문 내보내기용 주문 항목 단위 평면 행
+ * 엔티티 그래프 대신 생성자 표현식으로 필요한 컬럼만 조회 (스트리밍 내보내기 시 영속성 컨텍스트가 커지지 않음)
+ */
+@Getter
+public class OrderExportRow {
+    private final Long orderId;
+    private final String orderNumber;
+    private final String recipientName;
+    private final String recipientPhone;
+    private final String shippingPostcode;
+    private final String shippingAddressLine1;
+    private final String shippingAddressLine2;
+    private final String deliveryMessage;
+    private final Long orderItemId;
+    private final String productName;
+    private final String optionValue;
+    private final Integer quantity;
+    private final String trackingNumber;
+
+    public OrderExportRow(Long orderId, String orderNumber, String recipientName, String recipientPhone,
+                          String shippingPostcode, String shippingAddressLine1, String shippingAddressLine2,
+                          String deliveryMessage, Long orderItemId, String productName, String optionValue,
+                          Integer quantity, String trackingNumber) {
+        this.orderId = orderId;
+        this.orderNumber = orderNumber;
+        this.recipientName = recipientName;
+        this.recipientPhone = recipientPhone;
+        this.shippingPostcode = shippingPostcode;
+        this.shippingAddressLine1 = shippingAddressLine1;
+        this.shippingAddressLine2 = shippingAddressLine2;
+        this.deliveryMessage = deliveryMessage;
+        this.orderItemId = orderItemId;
+        this.productName = productName;
+        this.optionValue = optionValue;
+        this.quantity = quantity;
+        this.trackingNumber = trackingNumber;
+    }
+}
@@ -0,0 +1,29 @@
+package com.agri.market.dto.admin;
+
+import com.agri.market.order.OrderStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 상태 변경 대상 주문 (상태 검증과 낙관적 잠금에 필요한 컬럼만)
+ */
+@Getter
+public class OrderStatusTarget {
+    private final Long orderId;
+    private final String orderNumber;
+    private final OrderStatus orderStatus;
+    private final long version;
+    private final Long userId;
+    private final LocalDateTime deliveredAt; // 배송 완료된 적이 없으면 null
+
+    public OrderStatusTarget(Long orderId, String orderNumber, OrderStatus orderStatus, long version, Long userId,
+                             LocalDateTime deliveredAt) {
+        this.orderId = orderId;
+        this.orderNumber = orderNumber;
+        this.orderStatus = orderStatus;
+        this.version = version;
+        this.userId = userId;
+        this.deliveredAt = deliveredAt;
+    }
+}
@@ -0,0 +1,54 @@
+package com.agri.market.dto.admin;
+
+import com.agri.market.settlement.SettlementStatus;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 정산 내보내기용 평면 행 (판매자 정산 계좌 정보 포함)
+ * 생성자 표현식으로 필요한 컬럼만 조회
+ */
+@Getter
+public class SettlementExportRow {
+    private final Long settlementId;
+    private final Long sellerId;
+    private final String sellerName;
+    private final String businessNumber;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Integer orderCount;
+    private final BigDecimal totalSales;
+    private final BigDecimal commissionRate;
+    private final BigDecimal commissionAmount;
+    private final BigDecimal netAmount;
+    private final SettlementStatus status;
+    private final LocalDate paymentDate;
+    private final String bankName;
+    private final String accountNumber;
+    private final String accountHolder;
+
+    public SettlementExportRow(Long settlementId, Long sellerId, String sellerName, String businessNumber,
+                               LocalDate startDate, LocalDate endDate, Integer orderCount,
+                               BigDecimal totalSales, BigDecimal commissionRate, BigDecimal commissionAmount,
+                               BigDecimal netAmount, SettlementStatus status, LocalDate paymentDate,
+                               String bankName, String accountNumber, String accountHolder) {
+        this.settlementId = settlementId;
+        this.sellerId = sellerId;
+        this.sellerName = sellerName;
+        this.businessNumber = businessNumber;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.orderCount = orderCount;
+        this.totalSales = totalSales;
+        this.commissionRate = commissionRate;
+        this.commissionAmount = commissionAmount;
+        this.netAmount = netAmount;
+        this.status = status;
+        this.paymentDate = paymentDate;
+        this.bankName = bankName;
+        this.accountNumber = accountNumber;
+        this.accountHolder = accountHolder;
+    }
+}
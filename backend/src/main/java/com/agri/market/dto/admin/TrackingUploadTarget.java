@@ -0,0 +1,28 @@
+package com.agri.market.dto.admin;
+
+import lombok.Getter;
+
+/**
+ * 송장 업로드 대상 주문 항목 (주문번호 매칭용 평면 행)
+ */
+@Getter
+public class TrackingUploadTarget {
+    private final Long orderId;
+    private final String orderNumber;
+    private final Long orderItemId;
+    private final String trackingNumber;
+    private final String productName;
+    private final String courierCode;
+    private final String courierCompany;
+
+    public TrackingUploadTarget(Long orderId, String orderNumber, Long orderItemId, String trackingNumber,
+                                String productName, String courierCode, String courierCompany) {
+        this.orderId = orderId;
+        this.orderNumber = orderNumber;
+        this.orderItemId = orderItemId;
+        this.trackingNumber = trackingNumber;
+        this.productName = productName;
+        this.courierCode = courierCode;
+        this.courierCompany = courierCompany;
+    }
+}
@@ -0,0 +1,28 @@
+package com.agri.market.dto.admin;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 주문 통계 (주문 수, 총 결제 금액, 마지막 주문 일시)
+ * 페이지 단위 사용자 ID 목록에 대해 GROUP BY 한 번으로 조회
+ */
+@Getter
+public class UserOrderStats {
+    public static final UserOrderStats EMPTY = new UserOrderStats(null, 0L, BigDecimal.ZERO, null);
+
+    private final Long userId;
+    private final long orderCount;
+    private final BigDecimal totalSpent;
+    private final LocalDateTime lastOrderAt;
+
+    public UserOrderStats(Long userId, Long orderCount, BigDecimal totalSpent, LocalDateTime lastOrderAt) {
+        this.userId = userId;
+        this.orderCount = orderCount != null ? orderCount : 0L;
+        // 결제 완료 주문이 없으면 SUM 결과가 NULL
+        this.totalSpent = totalSpent != null ? totalSpent : BigDecimal.ZERO;
+        this.lastOrderAt = lastOrderAt;
+    }
+}
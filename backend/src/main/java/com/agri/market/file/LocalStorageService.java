@@ -7,6 +7,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -140,6 +141,53 @@ public class LocalStorageService implements StorageService {
         }
     }
 
+    @Override
+    public String storeGeneratedFile(String directory, String fileName, Path source, String contentType) {
+        String key = directory + "/" + System.currentTimeMillis() + "_" + fileName;
+        Path target = resolveGeneratedFile(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+            return key;
+        } catch (IOException ex) {
+            throw new RuntimeException("파일 저장에 실패했습니다: " + fileName, ex);
+        }
+    }
+
+    @Override
+    public InputStream openGeneratedFile(String key) {
+        try {
+            return Files.newInputStream(resolveGeneratedFile(key));
+        } catch (IOException ex) {
+            throw new RuntimeException("파일을 찾을 수 없습니다: " + key, ex);
+        }
+    }
+
+    @Override
+    public void deleteGeneratedFile(String key) {
+        try {
+            Files.deleteIfExists(resolveGeneratedFile(key));
+        } catch (IOException ex) {
+            throw new RuntimeException("파일 삭제에 실패했습니다: " + key, ex);
+        }
+    }
+
+    /**
+     * 생성 파일 키("디렉토리/파일명")를 경로로 변환
+     * 업로드 파일 다운로드 API(/api/files/{fileName})는 하위 디렉토리에 접근할 수 없으므로 외부에 노출되지 않음
+     */
+    private Path resolveGeneratedFile(String key) {
+        if (key.contains("..") || key.contains("\\") || key.startsWith("/")) {
+            throw new RuntimeException("부적합한 파일명입니다: " + key);
+        }
+
+        Path filePath = fileStorageLocation.resolve(key).normalize();
+        if (!filePath.startsWith(this.fileStorageLocation)) {
+            throw new RuntimeException("파일에 접근할 수 없습니다.");
+        }
+        return filePath;
+    }
+
     public Path loadFile(String fileName) {
         // 파일명 검증
         if (fileName.contains("..") || fileName.contains("/") || fileName.contains("\\")) {
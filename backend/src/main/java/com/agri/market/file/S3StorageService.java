@@ -8,10 +8,13 @@ import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -132,6 +135,40 @@ public class S3StorageService implements StorageService {
         }
     }
 
+    @Override
+    public String storeGeneratedFile(String directory, String fileName, Path source, String contentType) {
+        String s3Key = directory + "/" + java.time.LocalDate.now() + "/" + System.currentTimeMillis() + "_" + fileName;
+        try {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .contentType(contentType)
+                    .build();
+
+            s3Client.putObject(putObjectRequest, RequestBody.fromFile(source));
+            return s3Key;
+        } catch (S3Exception e) {
+            throw new RuntimeException("S3 업로드에 실패했습니다: " + e.awsErrorDetails().errorMessage(), e);
+        }
+    }
+
+    @Override
+    public InputStream openGeneratedFile(String s3Key) {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .build());
+        } catch (S3Exception e) {
+            throw new RuntimeException("S3 파일 조회에 실패했습니다: " + e.awsErrorDetails().errorMessage(), e);
+        }
+    }
+
+    @Override
+    public void deleteGeneratedFile(String s3Key) {
+        deleteFile(s3Key);
+    }
+
     /**
      * S3 키 생성 (uploads/YYYY-MM-DD/timestamp_uuid.ext)
      */
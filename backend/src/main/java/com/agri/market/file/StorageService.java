@@ -2,6 +2,9 @@ package com.agri.market.file;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.nio.file.Path;
+
 /**
  * 파일 저장소 서비스 인터페이스
  * 로컬 파일 시스템 또는 AWS S3를 지원
@@ -27,4 +30,27 @@ public interface StorageService {
      * @param fileName 파일명 또는 S3 키
      */
     void deleteFile(String fileName);
+
+    /**
+     * 서버에서 생성한 파일 저장 (내보내기 결과물 등)
+     * 업로드 파일과 달리 공개 URL을 제공하지 않으며, 반환된 키로만 접근
+     * @param directory 저장 디렉토리 (예: "exports")
+     * @param fileName 파일명
+     * @param source 저장할 로컬 파일
+     * @param contentType Content-Type
+     * @return 저장된 키
+     */
+    String storeGeneratedFile(String directory, String fileName, Path source, String contentType);
+
+    /**
+     * 생성 파일 읽기
+     * @param key storeGeneratedFile이 반환한 키
+     */
+    InputStream openGeneratedFile(String key);
+
+    /**
+     * 생성 파일 삭제
+     * @param key storeGeneratedFile이 반환한 키
+     */
+    void deleteGeneratedFile(String key);
 }
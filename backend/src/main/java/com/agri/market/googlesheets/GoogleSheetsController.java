@@ -23,6 +23,9 @@ public class GoogleSheetsController {
     @Autowired(required = false)
     private GoogleSheetsService googleSheetsService;
 
+    @Autowired(required = false)
+    private GoogleSheetsSyncExecutor syncExecutor;
+
     private final GoogleSheetsSyncLogRepository syncLogRepository;
 
     public GoogleSheetsController(GoogleSheetsSyncLogRepository syncLogRepository) {
@@ -30,37 +33,67 @@ public class GoogleSheetsController {
     }
 
     /**
-     * 전체 판매자 동기화 (관리자용)
+     * 전체 판매자 동기화 시작 (관리자용, 비동기 - 진행률은 /sync-runs/current 로 조회)
      */
     @PostMapping("/sync-all")
     public ResponseEntity<?> syncAllSellers() {
-        if (googleSheetsService == null) {
+        if (syncExecutor == null) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("Google Sheets 서비스가 활성화되어 있지 않습니다."));
         }
 
         try {
-            googleSheetsService.syncAllSellers(GoogleSheetsSyncLog.TriggerType.ADMIN);
-            return ResponseEntity.ok(ApiResponse.success("모든 판매자의 주문 내역이 동기화되었습니다.", null));
+            GoogleSheetsSyncRun run = syncExecutor.startRun(GoogleSheetsSyncLog.TriggerType.ADMIN);
+            return ResponseEntity.ok(ApiResponse.success("모든 판매자의 주문 내역 동기화를 시작했습니다.", run));
         } catch (Exception e) {
-            log.error("Failed to sync all sellers", e);
+            log.error("Failed to start sync for all sellers", e);
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("동기화 실패: " + e.getMessage()));
         }
     }
 
     /**
-     * 특정 판매자 동기화
+     * 현재(또는 마지막) 전체 동기화 진행률 조회
+     */
+    @GetMapping("/sync-runs/current")
+    public ResponseEntity<?> getCurrentSyncRun() {
+        if (syncExecutor == null) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Google Sheets 서비스가 활성화되어 있지 않습니다."));
+        }
+
+        return ResponseEntity.ok(ApiResponse.success("동기화 진행률 조회 성공",
+                syncExecutor.getCurrentRun().orElse(null)));
+    }
+
+    /**
+     * 진행 중인 전체 동기화 취소 (이미 처리 중인 판매자는 완료 후 중단)
+     */
+    @PostMapping("/sync-runs/current/cancel")
+    public ResponseEntity<?> cancelCurrentSyncRun() {
+        if (syncExecutor == null) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Google Sheets 서비스가 활성화되어 있지 않습니다."));
+        }
+
+        return syncExecutor.cancelCurrentRun()
+                .<ResponseEntity<?>>map(run -> ResponseEntity.ok(ApiResponse.success("동기화 취소를 요청했습니다.", run)))
+                .orElseGet(() -> ResponseEntity.badRequest().body(ApiResponse.error("진행 중인 동기화가 없습니다.")));
+    }
+
+    /**
+     * 특정 판매자 동기화 (full=true 이면 증분 대신 시트 전체 다시 쓰기)
      */
     @PostMapping("/sync/{sellerId}")
-    public ResponseEntity<?> syncSeller(@PathVariable Long sellerId) {
+    public ResponseEntity<?> syncSeller(@PathVariable Long sellerId,
+                                        @RequestParam(defaultValue = "false") boolean full) {
         if (googleSheetsService == null) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("Google Sheets 서비스가 활성화되어 있지 않습니다."));
         }
 
         try {
-            googleSheetsService.syncSellerOrders(sellerId, GoogleSheetsSyncLog.TriggerType.ADMIN);
+            googleSheetsService.syncSellerOrders(sellerId, GoogleSheetsSyncLog.TriggerType.ADMIN, full);
             return ResponseEntity.ok(ApiResponse.success("판매자의 주문 내역이 동기화되었습니다.", null));
         } catch (Exception e) {
             log.error("Failed to sync seller: " + sellerId, e);
@@ -115,6 +148,8 @@ public class GoogleSheetsController {
                 response.put("status", log.getStatus());
                 response.put("triggeredBy", log.getTriggeredBy());
                 response.put("rowsUpdated", log.getRowsUpdated());
+                response.put("syncMode", log.getSyncMode());
+                response.put("durationMs", log.getDurationMs());
                 if (log.getErrorMessage() != null) {
                     response.put("errorMessage", log.getErrorMessage());
                 }
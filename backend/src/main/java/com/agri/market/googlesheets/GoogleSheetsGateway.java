@@ -0,0 +1,101 @@
+package com.agri.market.googlesheets;
+
+import com.google.api.services.sheets.v4.Sheets;
+import com.google.api.services.sheets.v4.model.BatchUpdateSpreadsheetRequest;
+import com.google.api.services.sheets.v4.model.BatchUpdateValuesRequest;
+import com.google.api.services.sheets.v4.model.ClearValuesRequest;
+import com.google.api.services.sheets.v4.model.Request;
+import com.google.api.services.sheets.v4.model.Sheet;
+import com.google.api.services.sheets.v4.model.Spreadsheet;
+import com.google.api.services.sheets.v4.model.ValueRange;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import io.github.resilience4j.retry.annotation.Retry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sheets API 클라이언트 기반 SheetsGateway 구현
+ * - 쓰기 호출은 공유 rate limiter(googleSheetsWrite)로 분당 쓰기 쿼터 이내로 제한 (병렬 동기화 작업자 전체 공통)
+ * - 429/5xx 응답은 지수 백오프로 재시도 (googleSheets retry, 재시도마다 쿼터 permit 재획득)
+ */
+@Component
+@ConditionalOnProperty(name = "google.sheets.enabled", havingValue = "true")
+public class GoogleSheetsGateway implements SheetsGateway {
+
+    private static final String VALUE_INPUT_OPTION = "RAW";
+
+    private final Sheets sheetsService;
+
+    public GoogleSheetsGateway(@Qualifier("googleSheetsClient") Sheets sheetsService) {
+        this.sheetsService = sheetsService;
+    }
+
+    @Override
+    @Retry(name = "googleSheets")
+    public List<List<Object>> readValues(String spreadsheetId, String range) throws IOException {
+        ValueRange response = sheetsService.spreadsheets().values()
+                .get(spreadsheetId, range)
+                .execute();
+        return response.getValues() != null ? response.getValues() : Collections.emptyList();
+    }
+
+    @Override
+    @Retry(name = "googleSheets")
+    public Map<String, Integer> getSheetIds(String spreadsheetId) throws IOException {
+        Spreadsheet spreadsheet = sheetsService.spreadsheets().get(spreadsheetId)
+                .setFields("sheets.properties(sheetId,title)")
+                .execute();
+        Map<String, Integer> sheetIds = new HashMap<>();
+        for (Sheet sheet : spreadsheet.getSheets()) {
+            sheetIds.put(sheet.getProperties().getTitle(), sheet.getProperties().getSheetId());
+        }
+        return sheetIds;
+    }
+
+    @Override
+    @Retry(name = "googleSheets")
+    @RateLimiter(name = "googleSheetsWrite")
+    public void clearValues(String spreadsheetId, String range) throws IOException {
+        sheetsService.spreadsheets().values()
+                .clear(spreadsheetId, range, new ClearValuesRequest())
+                .execute();
+    }
+
+    @Override
+    @Retry(name = "googleSheets")
+    @RateLimiter(name = "googleSheetsWrite")
+    public void updateValues(String spreadsheetId, String range, List<List<Object>> values) throws IOException {
+        sheetsService.spreadsheets().values()
+                .update(spreadsheetId, range, new ValueRange().setValues(values))
+                .setValueInputOption(VALUE_INPUT_OPTION)
+                .execute();
+    }
+
+    @Override
+    @Retry(name = "googleSheets")
+    @RateLimiter(name = "googleSheetsWrite")
+    public void batchUpdateValues(String spreadsheetId, List<ValueRange> data) throws IOException {
+        BatchUpdateValuesRequest body = new BatchUpdateValuesRequest()
+                .setValueInputOption(VALUE_INPUT_OPTION)
+                .setData(data);
+        sheetsService.spreadsheets().values()
+                .batchUpdate(spreadsheetId, body)
+                .execute();
+    }
+
+    @Override
+    @Retry(name = "googleSheets")
+    @RateLimiter(name = "googleSheetsWrite")
+    public void batchUpdateSpreadsheet(String spreadsheetId, List<Request> requests) throws IOException {
+        BatchUpdateSpreadsheetRequest body = new BatchUpdateSpreadsheetRequest()
+                .setRequests(requests);
+        sheetsService.spreadsheets().batchUpdate(spreadsheetId, body).execute();
+    }
+}
@@ -12,23 +12,27 @@ import org.springframework.stereotype.Component;
 public class GoogleSheetsScheduler {
 
     @Autowired(required = false)
-    private GoogleSheetsService googleSheetsService;
+    private GoogleSheetsSyncExecutor syncExecutor;
 
     /**
-     * 매일 자정에 모든 판매자의 주문 내역 동기화
+     * 매일 자정에 모든 판매자의 주문 내역 동기화 (판매자별 병렬 실행, 완료까지 대기)
      * cron: 초 분 시 일 월 요일
      */
     @Scheduled(cron = "${google.sheets.sync.cron:0 0 0 * * ?}")
     public void scheduledSync() {
-        if (googleSheetsService == null) {
+        if (syncExecutor == null) {
             log.warn("Google Sheets service is not available for scheduled sync");
             return;
         }
 
         log.info("Starting scheduled Google Sheets sync");
         try {
-            googleSheetsService.syncAllSellers(GoogleSheetsSyncLog.TriggerType.SCHEDULED);
-            log.info("Scheduled Google Sheets sync completed successfully");
+            GoogleSheetsSyncRun run = syncExecutor.runAndWait(GoogleSheetsSyncLog.TriggerType.SCHEDULED);
+            log.info("Scheduled Google Sheets sync {} - succeeded: {}, failed: {}",
+                    run.getStatus(), run.getSucceeded(), run.getFailed());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Scheduled Google Sheets sync interrupted");
         } catch (Exception e) {
             log.error("Scheduled Google Sheets sync failed", e);
         }
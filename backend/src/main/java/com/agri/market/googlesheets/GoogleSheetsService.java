@@ -2,29 +2,29 @@ package com.agri.market.googlesheets;
 
 import com.agri.market.order.Order;
 import com.agri.market.order.OrderItem;
-import com.agri.market.order.OrderRepository;
+import com.agri.market.order.OrderItemRepository;
+import com.agri.market.order.OrderStatus;
 import com.agri.market.product.Product;
 import com.agri.market.product.ProductImage;
 import com.agri.market.product.ProductOption;
 import com.agri.market.product.ProductRepository;
 import com.agri.market.seller.Seller;
 import com.agri.market.seller.SellerRepository;
-import com.google.api.services.sheets.v4.Sheets;
 import com.google.api.services.sheets.v4.model.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -34,81 +34,181 @@ public class GoogleSheetsService {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
+    private static final String ORDER_SHEET = "주문내역";
+
+    /**
+     * 시트에 기록하는 주문 상태 (결제 완료 이후)
+     */
+    private static final List<OrderStatus> SHEET_ORDER_STATUSES = List.of(
+            OrderStatus.PAID, OrderStatus.PREPARING, OrderStatus.SHIPPED, OrderStatus.DELIVERED);
+
+    /**
+     * 증분 동기화 시 워터마크 이전으로 겹쳐 조회하는 시간 (늦게 커밋된 트랜잭션 누락 방지, upsert라 중복 무해)
+     */
+    private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(5);
+
+    private static final List<Object> ORDER_HEADER = Arrays.asList(
+            "주문번호",
+            "주문일시",
+            "고객명",
+            "고객이메일",
+            "상품명",
+            "옵션",
+            "수량",
+            "단가",
+            "금액",
+            "주문상태",
+            "우편번호",
+            "배송지",
+            "수령인",
+            "연락처",
+            "배송 요청사항",
+            "송장번호",
+            "주문상품ID"
+    );
+
+    private final SheetRowUpserter orderSheetWriter = new SheetRowUpserter(ORDER_SHEET, ORDER_HEADER);
+
+    private final SheetRowDiffWriter productListWriter = new SheetRowDiffWriter("ProductList", Arrays.asList(
+            "상품ID",
+            "상품명",
+            "카테고리",
+            "원산지",
+            "판매가",
+            "할인율(%)",
+            "할인가",
+            "공급가",
+            "재고수량",
+            "최소주문수량",
+            "최대주문수량",
+            "배송비",
+            "합포장가능",
+            "합포장단위",
+            "택배사",
+            "메인이미지URL",
+            "상품요약",
+            "상품설명(마크다운)",
+            "옵션개수",
+            "이미지개수",
+            "등록일시",
+            "수정일시",
+            "동기화상태"
+    ));
+
+    private final SheetRowDiffWriter productOptionsWriter = new SheetRowDiffWriter("ProductOptions", Arrays.asList(
+            "옵션ID",
+            "상품ID",
+            "상품명",
+            "옵션명",
+            "추가금액",
+            "재고수량",
+            "필수옵션"
+    ));
+
+    private final SheetRowDiffWriter productImagesWriter = new SheetRowDiffWriter("ProductImages", Arrays.asList(
+            "이미지ID",
+            "상품ID",
+            "상품명",
+            "이미지URL",
+            "이미지타입",
+            "표시순서"
+    ));
+
     @Autowired(required = false)
-    @Qualifier("googleSheetsClient")
-    private Sheets sheetsService;
+    private SheetsGateway sheetsGateway;
 
-    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
     private final ProductRepository productRepository;
     private final SellerRepository sellerRepository;
     private final GoogleSheetsSyncLogRepository syncLogRepository;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
 
     public GoogleSheetsService(
-            OrderRepository orderRepository,
+            OrderItemRepository orderItemRepository,
             ProductRepository productRepository,
             SellerRepository sellerRepository,
-            GoogleSheetsSyncLogRepository syncLogRepository) {
-        this.orderRepository = orderRepository;
+            GoogleSheetsSyncLogRepository syncLogRepository,
+            PlatformTransactionManager transactionManager) {
+        this.orderItemRepository = orderItemRepository;
         this.productRepository = productRepository;
         this.sellerRepository = sellerRepository;
         this.syncLogRepository = syncLogRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
     }
 
     /**
-     * 특정 판매자의 주문 내역을 구글 스프레드시트에 동기화
+     * 특정 판매자의 주문 내역을 구글 스프레드시트에 동기화 (가능하면 증분 동기화)
      */
-    @Transactional
     public void syncSellerOrders(Long sellerId, GoogleSheetsSyncLog.TriggerType triggerType) {
-        if (sheetsService == null) {
+        syncSellerOrders(sellerId, triggerType, false);
+    }
+
+    /**
+     * 특정 판매자의 주문 내역을 구글 스프레드시트에 동기화
+     * - 마지막 성공 워터마크가 있으면 그 이후 변경된 주문 항목만 upsert (values.batchUpdate 1회)
+     * - 워터마크가 없거나, 시트 형식이 다르거나, forceFull이면 시트 전체 다시 쓰기
+     * 시트 API 호출(속도 제한 대기 포함) 동안 DB 연결을 잡지 않도록 트랜잭션은 짧게 나눔
+     * - 주문 항목 조회와 시트 행 변환은 읽기 트랜잭션, 동기화 이력과 판매자 동기화 시각 저장은 마지막 쓰기 트랜잭션
+     * - 실패 시에도 동기화 이력(소요 시간 포함)은 저장됨
+     */
+    public void syncSellerOrders(Long sellerId, GoogleSheetsSyncLog.TriggerType triggerType, boolean forceFull) {
+        if (sheetsGateway == null) {
             log.warn("Google Sheets service is not enabled");
             return;
         }
 
-        Seller seller = sellerRepository.findById(sellerId)
-                .orElseThrow(() -> new RuntimeException("판매자를 찾을 수 없습니다: " + sellerId));
-
-        if (seller.getSpreadsheetId() == null || seller.getSpreadsheetId().isEmpty()) {
-            throw new RuntimeException("판매자의 스프레드시트 ID가 설정되지 않았습니다.");
-        }
+        Seller seller = findSyncTarget(sellerId);
 
         GoogleSheetsSyncLog syncLog = new GoogleSheetsSyncLog();
         syncLog.setSeller(seller);
         syncLog.setTriggeredBy(triggerType);
         syncLog.setSyncTime(LocalDateTime.now());
+        long startNanos = System.nanoTime();
 
         try {
             log.info("Starting sync for seller: {} (ID: {})", seller.getName(), sellerId);
             log.info("Spreadsheet ID: {}", seller.getSpreadsheetId());
 
-            // 판매자의 주문 내역 조회 - 결제 완료된 주문만
-            List<Order> orders = orderRepository.findAll().stream()
-                    .filter(order -> {
-                        // 결제 완료 상태인 주문만 필터링 (PAID, PREPARING, SHIPPED, DELIVERED)
-                        String status = order.getOrderStatus().name();
-                        return (status.equals("PAID") || status.equals("PREPARING") ||
-                                status.equals("SHIPPED") || status.equals("DELIVERED")) &&
-                               order.getOrderItems().stream()
-                                    .anyMatch(item -> item.getProduct().getSeller() != null
-                                            && item.getProduct().getSeller().getId().equals(sellerId));
-                    })
-                    .collect(Collectors.toList());
-
-            log.info("Found {} orders for seller {}", orders.size(), seller.getName());
-
-            // 스프레드시트 데이터 준비
-            List<List<Object>> values = prepareOrderData(orders, sellerId);
-            log.info("Prepared {} rows of data (including header)", values.size());
+            // 조회 시작 시각을 다음 워터마크로 사용
+            LocalDateTime watermark = LocalDateTime.now();
+            Optional<LocalDateTime> lastWatermark = forceFull ? Optional.empty()
+                    : syncLogRepository.findTopBySellerIdAndStatusAndWatermarkIsNotNullOrderBySyncTimeDesc(
+                            sellerId, GoogleSheetsSyncLog.SyncStatus.SUCCESS)
+                    .map(GoogleSheetsSyncLog::getWatermark);
+
+            int rowsWritten = SheetRowUpserter.LAYOUT_MISMATCH;
+            if (lastWatermark.isPresent()) {
+                LocalDateTime since = lastWatermark.get().minus(WATERMARK_OVERLAP);
+                List<SheetRowUpserter.Row> changedRows = readTransaction.execute(status ->
+                        prepareOrderRows(orderItemRepository.findBySellerChangedSince(sellerId, since)));
+                log.info("Found {} changed order items for seller {} since {}",
+                        changedRows.size(), seller.getName(), lastWatermark.get());
+
+                rowsWritten = orderSheetWriter.upsert(sheetsGateway, seller.getSpreadsheetId(), changedRows);
+                if (rowsWritten == SheetRowUpserter.LAYOUT_MISMATCH) {
+                    log.info("Order sheet layout differs for seller {}, falling back to full rewrite", seller.getName());
+                } else {
+                    syncLog.setSyncMode(GoogleSheetsSyncLog.SyncMode.DELTA);
+                }
+            }
 
-            // 스프레드시트 업데이트
-            updateSpreadsheet(seller.getSpreadsheetId(), values);
-            log.info("Successfully updated spreadsheet");
+            if (rowsWritten == SheetRowUpserter.LAYOUT_MISMATCH) {
+                List<SheetRowUpserter.Row> rows = readTransaction.execute(status ->
+                        prepareOrderRows(orderItemRepository.findBySellerForSheetSync(sellerId, SHEET_ORDER_STATUSES)));
+                log.info("Found {} order items for seller {}", rows.size(), seller.getName());
 
-            syncLog.setStatus(GoogleSheetsSyncLog.SyncStatus.SUCCESS);
-            syncLog.setRowsUpdated(values.size() - 1); // 헤더 제외
+                rowsWritten = orderSheetWriter.writeAll(sheetsGateway, seller.getSpreadsheetId(), rows);
+                formatHeader(seller.getSpreadsheetId());
+                syncLog.setSyncMode(GoogleSheetsSyncLog.SyncMode.FULL);
+            }
+            log.info("Successfully updated spreadsheet ({} rows, {})", rowsWritten, syncLog.getSyncMode());
 
-            // 마지막 동기화 시간 업데이트
-            seller.setLastSyncedAt(LocalDateTime.now());
-            sellerRepository.save(seller);
+            syncLog.setStatus(GoogleSheetsSyncLog.SyncStatus.SUCCESS);
+            syncLog.setRowsUpdated(rowsWritten);
+            syncLog.setWatermark(watermark);
 
             log.info("Successfully synced orders for seller: {} ({})", seller.getName(), seller.getId());
 
@@ -118,121 +218,80 @@ public class GoogleSheetsService {
             syncLog.setErrorMessage(e.getMessage());
             throw new RuntimeException("스프레드시트 동기화 실패: " + e.getMessage(), e);
         } finally {
-            syncLogRepository.save(syncLog);
+            syncLog.setDurationMs((System.nanoTime() - startNanos) / 1_000_000);
+            saveSyncResult(syncLog);
         }
     }
 
     /**
-     * 모든 판매자의 주문 내역을 동기화
+     * 동기화 대상 판매자 조회 (스프레드시트 ID 필수)
      */
-    @Transactional
-    public void syncAllSellers(GoogleSheetsSyncLog.TriggerType triggerType) {
-        List<Seller> sellers = sellerRepository.findAll().stream()
-                .filter(seller -> seller.getSpreadsheetId() != null && !seller.getSpreadsheetId().isEmpty())
-                .collect(Collectors.toList());
-
-        log.info("Syncing orders for {} sellers", sellers.size());
-
-        for (Seller seller : sellers) {
-            try {
-                syncSellerOrders(seller.getId(), triggerType);
-            } catch (Exception e) {
-                log.error("Failed to sync seller: " + seller.getName(), e);
-                // 한 판매자 실패해도 다른 판매자는 계속 진행
-            }
+    private Seller findSyncTarget(Long sellerId) {
+        Seller seller = sellerRepository.findById(sellerId)
+                .orElseThrow(() -> new RuntimeException("판매자를 찾을 수 없습니다: " + sellerId));
+
+        if (seller.getSpreadsheetId() == null || seller.getSpreadsheetId().isEmpty()) {
+            throw new RuntimeException("판매자의 스프레드시트 ID가 설정되지 않았습니다.");
         }
+        return seller;
     }
 
     /**
-     * 주문 데이터를 스프레드시트 형식으로 변환
+     * 동기화 이력 저장, 성공했으면 판매자의 마지막 동기화 시각도 함께 갱신 (시트 호출이 끝난 뒤 한 트랜잭션)
      */
-    private List<List<Object>> prepareOrderData(List<Order> orders, Long sellerId) {
-        List<List<Object>> values = new ArrayList<>();
-
-        // 헤더
-        values.add(Arrays.asList(
-                "주문번호",
-                "주문일시",
-                "고객명",
-                "고객이메일",
-                "상품명",
-                "옵션",
-                "수량",
-                "단가",
-                "금액",
-                "주문상태",
-                "우편번호",
-                "배송지",
-                "수령인",
-                "연락처",
-                "배송 요청사항",
-                "송장번호"
-        ));
-
-        // 데이터 행
-        for (Order order : orders) {
-            for (OrderItem item : order.getOrderItems()) {
-                // 해당 판매자의 상품만 포함
-                if (item.getProduct().getSeller() != null
-                        && item.getProduct().getSeller().getId().equals(sellerId)) {
-
-                    // 주문 시간을 한국 시간대로 변환
-                    ZonedDateTime kstTime = order.getCreatedAt().atZone(ZoneId.systemDefault()).withZoneSameInstant(KST);
-
-                    // 옵션 정보 가져오기
-                    String optionValue = "";
-                    if (item.getProductOption() != null) {
-                        optionValue = item.getProductOption().getOptionValue();
-                    }
-
-                    values.add(Arrays.asList(
-                            order.getId().toString(),
-                            kstTime.format(DATE_FORMATTER),
-                            order.getUser().getName(),
-                            order.getUser().getEmail(),
-                            item.getProduct().getName(),
-                            optionValue,  // 옵션 값 추가
-                            item.getQuantity().toString(),
-                            item.getPrice().toString(),
-                            item.getPrice().multiply(java.math.BigDecimal.valueOf(item.getQuantity())).toString(),
-                            getOrderStatusKorean(order.getOrderStatus().name()),
-                            order.getShippingPostcode() != null ? order.getShippingPostcode() : "",
-                            order.getShippingAddressLine1() + " " + (order.getShippingAddressLine2() != null ? order.getShippingAddressLine2() : ""),
-                            order.getRecipientName(),
-                            order.getRecipientPhone(),
-                            order.getDeliveryMessage() != null ? order.getDeliveryMessage() : "",
-                            order.getTrackingNumber() != null ? order.getTrackingNumber() : ""
-                    ));
-                }
+    private void saveSyncResult(GoogleSheetsSyncLog syncLog) {
+        writeTransaction.executeWithoutResult(status -> {
+            syncLogRepository.save(syncLog);
+            if (syncLog.getStatus() == GoogleSheetsSyncLog.SyncStatus.SUCCESS) {
+                sellerRepository.updateLastSyncedAt(syncLog.getSeller().getId(), LocalDateTime.now());
             }
-        }
-
-        return values;
+        });
     }
 
     /**
-     * 스프레드시트 업데이트
+     * 주문 항목을 시트 행으로 변환 (키: 주문상품ID)
+     * 결제 완료 이후 상태가 아닌 항목은 이미 시트에 있는 경우에만 상태 갱신
      */
-    private void updateSpreadsheet(String spreadsheetId, List<List<Object>> values) throws IOException {
-        String range = "주문내역!A1"; // 시트 이름과 범위
-
-        // 기존 데이터 삭제
-        ClearValuesRequest clearRequest = new ClearValuesRequest();
-        sheetsService.spreadsheets().values()
-                .clear(spreadsheetId, "주문내역!A:Z", clearRequest)
-                .execute();
-
-        // 새 데이터 쓰기
-        ValueRange body = new ValueRange()
-                .setValues(values);
-
-        sheetsService.spreadsheets().values()
-                .update(spreadsheetId, range, body)
-                .setValueInputOption("RAW")
-                .execute();
-
-        // 헤더 서식 적용
-        formatHeader(spreadsheetId);
+    private List<SheetRowUpserter.Row> prepareOrderRows(List<OrderItem> items) {
+        List<SheetRowUpserter.Row> rows = new ArrayList<>(items.size());
+
+        for (OrderItem item : items) {
+            Order order = item.getOrder();
+
+            // 주문 시간을 한국 시간대로 변환
+            ZonedDateTime kstTime = order.getCreatedAt().atZone(ZoneId.systemDefault()).withZoneSameInstant(KST);
+
+            // 옵션 정보 가져오기
+            String optionValue = "";
+            if (item.getProductOption() != null) {
+                optionValue = item.getProductOption().getOptionValue();
+            }
+
+            List<Object> values = Arrays.asList(
+                    order.getId().toString(),
+                    kstTime.format(DATE_FORMATTER),
+                    order.getUser().getName(),
+                    order.getUser().getEmail(),
+                    item.getProduct().getName(),
+                    optionValue,  // 옵션 값 추가
+                    item.getQuantity().toString(),
+                    item.getPrice().toString(),
+                    item.getPrice().multiply(java.math.BigDecimal.valueOf(item.getQuantity())).toString(),
+                    getOrderStatusKorean(order.getOrderStatus().name()),
+                    order.getShippingPostcode() != null ? order.getShippingPostcode() : "",
+                    order.getShippingAddressLine1() + " " + (order.getShippingAddressLine2() != null ? order.getShippingAddressLine2() : ""),
+                    order.getRecipientName(),
+                    order.getRecipientPhone(),
+                    order.getDeliveryMessage() != null ? order.getDeliveryMessage() : "",
+                    order.getTrackingNumber() != null ? order.getTrackingNumber() : "",
+                    item.getId().toString()
+            );
+
+            rows.add(new SheetRowUpserter.Row(item.getId().toString(), values,
+                    SHEET_ORDER_STATUSES.contains(order.getOrderStatus())));
+        }
+
+        return rows;
     }
 
     /**
@@ -267,10 +326,7 @@ public class GoogleSheetsService {
                                         .setFrozenRowCount(1)))
                         .setFields("gridProperties.frozenRowCount")));
 
-        BatchUpdateSpreadsheetRequest batchRequest = new BatchUpdateSpreadsheetRequest()
-                .setRequests(requests);
-
-        sheetsService.spreadsheets().batchUpdate(spreadsheetId, batchRequest).execute();
+        sheetsGateway.batchUpdateSpreadsheet(spreadsheetId, requests);
     }
 
     /**
@@ -299,59 +355,67 @@ public class GoogleSheetsService {
 
     /**
      * 특정 판매자의 상품 목록을 구글 스프레드시트에 동기화
+     * - 카탈로그 전체 해시가 마지막 성공 동기화와 같으면 시트 호출 없이 건너뜀
+     * - 그 외에는 3개 시트의 행 해시를 비교해 변경/추가/삭제된 행만 한 번의 batchUpdate로 반영
+     *   (행키/행해시 컬럼이 없는 이전 형식 시트는 전체 다시 쓰기)
+     * 주문 동기화와 같이 상품 조회/행 변환만 읽기 트랜잭션에서 하고, 시트 호출은 트랜잭션 밖에서 실행
      */
-    @Transactional
     public void syncSellerProducts(Long sellerId, GoogleSheetsSyncLog.TriggerType triggerType) {
-        if (sheetsService == null) {
+        if (sheetsGateway == null) {
             log.warn("Google Sheets service is not enabled");
             return;
         }
 
-        Seller seller = sellerRepository.findById(sellerId)
-                .orElseThrow(() -> new RuntimeException("판매자를 찾을 수 없습니다: " + sellerId));
-
-        if (seller.getSpreadsheetId() == null || seller.getSpreadsheetId().isEmpty()) {
-            throw new RuntimeException("판매자의 스프레드시트 ID가 설정되지 않았습니다.");
-        }
+        Seller seller = findSyncTarget(sellerId);
 
         GoogleSheetsSyncLog syncLog = new GoogleSheetsSyncLog();
         syncLog.setSeller(seller);
         syncLog.setTriggeredBy(triggerType);
         syncLog.setSyncTime(LocalDateTime.now());
+        long startNanos = System.nanoTime();
 
         try {
             log.info("Starting product sync for seller: {} (ID: {})", seller.getName(), sellerId);
             log.info("Spreadsheet ID: {}", seller.getSpreadsheetId());
 
-            // 판매자의 상품 목록 조회 (이미지 포함)
-            List<Product> products = productRepository.findBySellerIdWithImagesAndOptions(sellerId);
-            log.info("Found {} products for seller {}", products.size(), seller.getName());
-
-            // 옵션 LAZY loading 강제 초기화 (MultipleBagFetchException 방지)
-            products.forEach(p -> p.getOptions().size());
-
-            // 3개의 시트에 데이터 준비
-            List<List<Object>> productData = prepareProductData(products);
-            List<List<Object>> optionData = prepareProductOptionData(products);
-            List<List<Object>> imageData = prepareProductImageData(products);
-
-            log.info("Prepared {} product rows, {} option rows, {} image rows",
-                    productData.size() - 1, optionData.size() - 1, imageData.size() - 1);
+            // 3개의 시트에 데이터 준비 (LAZY 연관은 읽기 트랜잭션 안에서 행으로 변환)
+            Map<SheetRowDiffWriter, List<SheetRowDiffWriter.Row>> sheetRows = readTransaction.execute(status -> {
+                // 판매자의 상품 목록 조회 (이미지 포함)
+                List<Product> products = productRepository.findBySellerIdWithImagesAndOptions(sellerId);
+                log.info("Found {} products for seller {}", products.size(), seller.getName());
+
+                // 옵션 LAZY loading 강제 초기화 (MultipleBagFetchException 방지)
+                products.forEach(p -> p.getOptions().size());
+
+                Map<SheetRowDiffWriter, List<SheetRowDiffWriter.Row>> rows = new LinkedHashMap<>();
+                rows.put(productListWriter, prepareProductData(products));
+                rows.put(productOptionsWriter, prepareProductOptionData(products));
+                rows.put(productImagesWriter, prepareProductImageData(products));
+                return rows;
+            });
+
+            List<SheetRowDiffWriter.Row> allRows = new ArrayList<>();
+            sheetRows.values().forEach(allRows::addAll);
+            String catalogHash = SheetRowDiffWriter.combinedHash(allRows);
+            syncLog.setContentHash(catalogHash);
+
+            Optional<String> lastHash = syncLogRepository
+                    .findTopBySellerIdAndStatusAndContentHashIsNotNullOrderBySyncTimeDesc(
+                            sellerId, GoogleSheetsSyncLog.SyncStatus.SUCCESS)
+                    .map(GoogleSheetsSyncLog::getContentHash);
+            if (lastHash.isPresent() && lastHash.get().equals(catalogHash)) {
+                log.info("Catalog unchanged for seller {}, skipping product sync", seller.getName());
+                syncLog.setStatus(GoogleSheetsSyncLog.SyncStatus.SKIPPED);
+                syncLog.setRowsUpdated(0);
+                return;
+            }
 
             // 스프레드시트 업데이트
-            updateProductSpreadsheet(seller.getSpreadsheetId(), productData, optionData, imageData);
-            log.info("Successfully updated product spreadsheet");
-
-            // 서식 적용 (TODO: 시트 ID 동적 조회 후 활성화)
-            // formatProductSheet(seller.getSpreadsheetId());
-            log.info("Skipped formatting (sheet IDs need to be determined dynamically)");
+            int changedRows = updateProductSpreadsheet(seller.getSpreadsheetId(), sheetRows);
+            log.info("Successfully updated product spreadsheet ({} rows changed)", changedRows);
 
             syncLog.setStatus(GoogleSheetsSyncLog.SyncStatus.SUCCESS);
-            syncLog.setRowsUpdated(productData.size() - 1); // 헤더 제외
-
-            // 마지막 동기화 시간 업데이트
-            seller.setLastSyncedAt(LocalDateTime.now());
-            sellerRepository.save(seller);
+            syncLog.setRowsUpdated(changedRows);
 
             log.info("Successfully synced products for seller: {} ({})", seller.getName(), seller.getId());
 
@@ -361,46 +425,20 @@ public class GoogleSheetsService {
             syncLog.setErrorMessage(e.getMessage());
             throw new RuntimeException("상품 스프레드시트 동기화 실패: " + e.getMessage(), e);
         } finally {
-            syncLogRepository.save(syncLog);
+            syncLog.setDurationMs((System.nanoTime() - startNanos) / 1_000_000);
+            saveSyncResult(syncLog);
         }
     }
 
     /**
-     * 상품 데이터를 스프레드시트 형식으로 변환
+     * 상품 데이터를 스프레드시트 행으로 변환 (키: 상품ID)
      */
-    private List<List<Object>> prepareProductData(List<Product> products) {
-        List<List<Object>> values = new ArrayList<>();
-
-        // 헤더
-        values.add(Arrays.asList(
-                "상품ID",
-                "상품명",
-                "카테고리",
-                "원산지",
-                "판매가",
-                "할인율(%)",
-                "할인가",
-                "공급가",
-                "재고수량",
-                "최소주문수량",
-                "최대주문수량",
-                "배송비",
-                "합포장가능",
-                "합포장단위",
-                "택배사",
-                "메인이미지URL",
-                "상품요약",
-                "상품설명(마크다운)",
-                "옵션개수",
-                "이미지개수",
-                "등록일시",
-                "수정일시",
-                "동기화상태"
-        ));
+    private List<SheetRowDiffWriter.Row> prepareProductData(List<Product> products) {
+        List<SheetRowDiffWriter.Row> rows = new ArrayList<>(products.size());
 
         // 데이터 행
         for (Product p : products) {
-            values.add(Arrays.asList(
+            rows.add(new SheetRowDiffWriter.Row("P" + p.getId(), Arrays.asList(
                     p.getId() != null ? p.getId().toString() : "",
                     p.getName() != null ? p.getName() : "",
                     p.getCategory() != null ? p.getCategory() : "",
@@ -424,34 +462,23 @@ public class GoogleSheetsService {
                     p.getCreatedAt() != null ? p.getCreatedAt().format(DATE_FORMATTER) : "",
                     p.getUpdatedAt() != null ? p.getUpdatedAt().format(DATE_FORMATTER) : "",
                     "동기화완료"
-            ));
+            )));
         }
 
-        return values;
+        return rows;
     }
 
     /**
-     * 상품 옵션 데이터를 스프레드시트 형식으로 변환
+     * 상품 옵션 데이터를 스프레드시트 행으로 변환 (키: 옵션ID)
      */
-    private List<List<Object>> prepareProductOptionData(List<Product> products) {
-        List<List<Object>> values = new ArrayList<>();
-
-        // 헤더
-        values.add(Arrays.asList(
-                "옵션ID",
-                "상품ID",
-                "상품명",
-                "옵션명",
-                "추가금액",
-                "재고수량",
-                "필수옵션"
-        ));
+    private List<SheetRowDiffWriter.Row> prepareProductOptionData(List<Product> products) {
+        List<SheetRowDiffWriter.Row> rows = new ArrayList<>();
 
         // 데이터 행
         for (Product p : products) {
             if (p.getOptions() != null && !p.getOptions().isEmpty()) {
                 for (ProductOption option : p.getOptions()) {
-                    values.add(Arrays.asList(
+                    rows.add(new SheetRowDiffWriter.Row("O" + option.getId(), Arrays.asList(
                             option.getId() != null ? option.getId().toString() : "",
                             p.getId() != null ? p.getId().toString() : "",
                             p.getName() != null ? p.getName() : "",
@@ -459,123 +486,87 @@ public class GoogleSheetsService {
                             option.getAdditionalPrice() != null ? option.getAdditionalPrice().toString() : "0",
                             option.getStock() != null ? option.getStock().toString() : "0",
                             option.getIsRequired() != null && option.getIsRequired() ? "Y" : "N"
-                    ));
+                    )));
                 }
             }
         }
 
-        return values;
+        return rows;
     }
 
     /**
-     * 상품 이미지 데이터를 스프레드시트 형식으로 변환
+     * 상품 이미지 데이터를 스프레드시트 행으로 변환 (키: 상품ID + 표시순서)
      */
-    private List<List<Object>> prepareProductImageData(List<Product> products) {
-        List<List<Object>> values = new ArrayList<>();
-
-        // 헤더
-        values.add(Arrays.asList(
-                "이미지ID",
-                "상품ID",
-                "상품명",
-                "이미지URL",
-                "이미지타입",
-                "표시순서"
-        ));
+    private List<SheetRowDiffWriter.Row> prepareProductImageData(List<Product> products) {
+        List<SheetRowDiffWriter.Row> rows = new ArrayList<>();
 
         // 데이터 행
         for (Product p : products) {
             if (p.getImageUrls() != null && !p.getImageUrls().isEmpty()) {
                 String[] imageUrls = p.getImageUrls().split(",");
                 for (int i = 0; i < imageUrls.length; i++) {
-                    values.add(Arrays.asList(
+                    rows.add(new SheetRowDiffWriter.Row("I" + p.getId() + "-" + i, Arrays.asList(
                             "",  // No image ID anymore
                             p.getId() != null ? p.getId().toString() : "",
                             p.getName() != null ? p.getName() : "",
                             imageUrls[i].trim(),
                             "MAIN",  // Image type
                             String.valueOf(i)  // Display order
-                    ));
+                    )));
                 }
             }
         }
 
-        return values;
+        return rows;
     }
 
     /**
      * 상품 스프레드시트 업데이트 (3개 시트)
+     * 형식이 맞는 시트의 변경분은 모아서 spreadsheets.batchUpdate 한 번으로 실행
+     * @return 변경된 행 수
      */
-    private void updateProductSpreadsheet(String spreadsheetId,
-                                          List<List<Object>> productData,
-                                          List<List<Object>> optionData,
-                                          List<List<Object>> imageData) throws IOException {
-        // 1. 상품목록 시트 업데이트 - 시트 이름을 ProductList로 변경
-        ClearValuesRequest clearRequest = new ClearValuesRequest();
-        sheetsService.spreadsheets().values()
-                .clear(spreadsheetId, "ProductList!A:Z", clearRequest)
-                .execute();
-
-        ValueRange productBody = new ValueRange().setValues(productData);
-        sheetsService.spreadsheets().values()
-                .update(spreadsheetId, "ProductList!A1", productBody)
-                .setValueInputOption("RAW")
-                .execute();
-
-        // 2. 상품옵션 시트 업데이트 - 시트 이름을 ProductOptions로 변경
-        sheetsService.spreadsheets().values()
-                .clear(spreadsheetId, "ProductOptions!A:Z", clearRequest)
-                .execute();
-
-        ValueRange optionBody = new ValueRange().setValues(optionData);
-        sheetsService.spreadsheets().values()
-                .update(spreadsheetId, "ProductOptions!A1", optionBody)
-                .setValueInputOption("RAW")
-                .execute();
-
-        // 3. 상품이미지 시트 업데이트 - 시트 이름을 ProductImages로 변경
-        sheetsService.spreadsheets().values()
-                .clear(spreadsheetId, "ProductImages!A:Z", clearRequest)
-                .execute();
-
-        ValueRange imageBody = new ValueRange().setValues(imageData);
-        sheetsService.spreadsheets().values()
-                .update(spreadsheetId, "ProductImages!A1", imageBody)
-                .setValueInputOption("RAW")
-                .execute();
-    }
+    private int updateProductSpreadsheet(String spreadsheetId,
+                                         Map<SheetRowDiffWriter, List<SheetRowDiffWriter.Row>> sheetRows) throws IOException {
+        Map<String, Integer> sheetIds = sheetsGateway.getSheetIds(spreadsheetId);
 
-    /**
-     * 상품 시트 서식 적용
-     */
-    private void formatProductSheet(String spreadsheetId) throws IOException {
-        // 스프레드시트 메타데이터 가져오기
-        Spreadsheet spreadsheet = sheetsService.spreadsheets().get(spreadsheetId).execute();
-        Map<String, Integer> sheetIds = new HashMap<>();
-
-        for (Sheet sheet : spreadsheet.getSheets()) {
-            String title = sheet.getProperties().getTitle();
-            Integer sheetId = sheet.getProperties().getSheetId();
-            sheetIds.put(title, sheetId);
-            log.debug("Found sheet: {} with ID: {}", title, sheetId);
+        List<Request> requests = new ArrayList<>();
+        int changedRows = 0;
+        boolean fullWrite = false;
+        for (Map.Entry<SheetRowDiffWriter, List<SheetRowDiffWriter.Row>> entry : sheetRows.entrySet()) {
+            SheetRowDiffWriter writer = entry.getKey();
+            SheetRowDiffWriter.Diff diff = writer.diff(sheetsGateway, spreadsheetId,
+                    sheetIds.get(writer.getSheetName()), entry.getValue());
+
+            if (diff.isRequiresFullWrite()) {
+                log.info("{} sheet has no row hash columns, rewriting whole sheet", writer.getSheetName());
+                changedRows += writer.writeAll(sheetsGateway, spreadsheetId, entry.getValue());
+                fullWrite = true;
+            } else {
+                log.info("{} sheet diff: {}", writer.getSheetName(), diff);
+                requests.addAll(diff.getRequests());
+                changedRows += diff.getChangedRows();
+            }
         }
 
-        // 필요한 시트가 없으면 생성
-        ensureSheetsExist(spreadsheetId, sheetIds);
-
-        // 시트 ID를 다시 가져오기 (새로 생성된 경우)
-        spreadsheet = sheetsService.spreadsheets().get(spreadsheetId).execute();
-        sheetIds.clear();
-        for (Sheet sheet : spreadsheet.getSheets()) {
-            sheetIds.put(sheet.getProperties().getTitle(), sheet.getProperties().getSheetId());
+        if (fullWrite) {
+            requests.addAll(formatProductSheet(sheetIds));
         }
+        if (!requests.isEmpty()) {
+            sheetsGateway.batchUpdateSpreadsheet(spreadsheetId, requests);
+        }
+        return changedRows;
+    }
 
+    /**
+     * 상품 시트 서식 요청 생성 (전체 다시 쓰기한 경우에만 적용)
+     */
+    private List<Request> formatProductSheet(Map<String, Integer> sheetIds) {
         List<Request> requests = new ArrayList<>();
 
         Integer productListSheetId = sheetIds.get("ProductList");
         if (productListSheetId == null) {
             log.warn("ProductList 시트를 찾을 수 없습니다. 서식 적용을 건너뜁니다.");
-            return;
+            return requests;
         }
 
         // ProductList 시트 헤더 행 배경색 및 굵게
@@ -640,19 +631,6 @@ public class GoogleSheetsService {
                             .setFields("gridProperties.frozenRowCount")));
         }
 
-        // Apply formatting (execute requests)
-        if (!requests.isEmpty()) {
-            BatchUpdateSpreadsheetRequest batchRequest = new BatchUpdateSpreadsheetRequest()
-                    .setRequests(requests);
-            sheetsService.spreadsheets().batchUpdate(spreadsheetId, batchRequest).execute();
-        }
-    }
-
-    /**
-     * 필요한 시트가 없으면 생성 (미구현 - TODO)
-     */
-    private void ensureSheetsExist(String spreadsheetId, Map<String, Integer> existingSheets) {
-        // TODO: ProductList, ProductOptions, ProductImages 시트가 없으면 생성
-        // 지금은 수동으로 시트를 만들어야 함
+        return requests;
     }
 }
@@ -0,0 +1,139 @@
+package com.agri.market.googlesheets;
+
+import com.agri.market.seller.Seller;
+import com.agri.market.seller.SellerRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 전체 판매자 시트 동기화 실행기
+ * - 판매자별 동기화를 제한된 크기의 전용 스레드 풀에서 병렬 실행 (느리거나 실패한 시트가 다른 판매자를 막지 않음)
+ * - Sheets API 쓰기 쿼터/429 재시도는 GoogleSheetsGateway의 rate limiter + retry가 모든 작업자에 공통 적용
+ * - 한 번에 하나의 실행만 허용하며, 진행률 조회 및 취소 지원 (취소 시 대기 중인 판매자는 건너뜀)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "google.sheets.enabled", havingValue = "true")
+public class GoogleSheetsSyncExecutor {
+
+    private final GoogleSheetsService googleSheetsService;
+    private final SellerRepository sellerRepository;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final AtomicReference<GoogleSheetsSyncRun> currentRun = new AtomicReference<>();
+
+    public GoogleSheetsSyncExecutor(GoogleSheetsService googleSheetsService,
+                                    SellerRepository sellerRepository,
+                                    @Value("${google.sheets.sync.parallelism:4}") int parallelism) {
+        this.googleSheetsService = googleSheetsService;
+        this.sellerRepository = sellerRepository;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadNamePrefix("sheets-sync-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+
+    /**
+     * 모든 판매자 동기화 시작 (비동기)
+     * @return 시작된 실행 (진행률 조회용)
+     */
+    public GoogleSheetsSyncRun startRun(GoogleSheetsSyncLog.TriggerType triggerType) {
+        List<Long> sellerIds = sellerRepository.findBySpreadsheetIdIsNotNull().stream()
+                .filter(seller -> !seller.getSpreadsheetId().isEmpty())
+                .map(Seller::getId)
+                .collect(Collectors.toList());
+
+        GoogleSheetsSyncRun run = new GoogleSheetsSyncRun(triggerType, sellerIds.size());
+        GoogleSheetsSyncRun previous = currentRun.get();
+        if (previous != null && previous.getStatus() == GoogleSheetsSyncRun.RunStatus.RUNNING) {
+            throw new RuntimeException("이미 진행 중인 동기화가 있습니다: " + previous.getRunId());
+        }
+        if (!currentRun.compareAndSet(previous, run)) {
+            throw new RuntimeException("이미 진행 중인 동기화가 있습니다.");
+        }
+
+        log.info("Starting sheets sync run {} for {} sellers", run.getRunId(), sellerIds.size());
+
+        CompletableFuture<?>[] futures = sellerIds.stream()
+                .map(sellerId -> CompletableFuture.runAsync(() -> syncOne(run, sellerId), executor))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(futures).whenComplete((result, error) -> {
+            run.finish();
+            log.info("Sheets sync run {} {} - succeeded: {}, failed: {}, skipped: {}",
+                    run.getRunId(), run.getStatus(), run.getSucceeded(), run.getFailed(), run.getSkipped());
+        });
+
+        return run;
+    }
+
+    /**
+     * 모든 판매자 동기화 후 완료까지 대기 (스케줄러용)
+     */
+    public GoogleSheetsSyncRun runAndWait(GoogleSheetsSyncLog.TriggerType triggerType) throws InterruptedException {
+        GoogleSheetsSyncRun run = startRun(triggerType);
+        while (run.getStatus() == GoogleSheetsSyncRun.RunStatus.RUNNING) {
+            Thread.sleep(1000);
+        }
+        return run;
+    }
+
+    private void syncOne(GoogleSheetsSyncRun run, Long sellerId) {
+        if (run.isCancelRequested()) {
+            run.getSkipped().incrementAndGet();
+            return;
+        }
+
+        try {
+            googleSheetsService.syncSellerOrders(sellerId, run.getTriggeredBy());
+            run.getSucceeded().incrementAndGet();
+        } catch (Exception e) {
+            // 한 판매자 실패해도 다른 판매자는 계속 진행
+            log.error("Failed to sync seller {} in run {}", sellerId, run.getRunId(), e);
+            run.getFailed().incrementAndGet();
+        }
+    }
+
+    /**
+     * 현재(또는 마지막) 실행 조회
+     */
+    public Optional<GoogleSheetsSyncRun> getCurrentRun() {
+        return Optional.ofNullable(currentRun.get());
+    }
+
+    /**
+     * 진행 중인 실행 취소 (이미 시작된 판매자 동기화는 끝까지 진행)
+     */
+    public Optional<GoogleSheetsSyncRun> cancelCurrentRun() {
+        GoogleSheetsSyncRun run = currentRun.get();
+        if (run == null || run.getStatus() != GoogleSheetsSyncRun.RunStatus.RUNNING) {
+            return Optional.empty();
+        }
+        run.requestCancel();
+        log.info("Cancel requested for sheets sync run {}", run.getRunId());
+        return Optional.of(run);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        GoogleSheetsSyncRun run = currentRun.get();
+        if (run != null) {
+            run.requestCancel();
+        }
+        executor.shutdown();
+    }
+}
@@ -40,9 +40,28 @@ public class GoogleSheetsSyncLog {
     @Column(name = "triggered_by", length = 50)
     private TriggerType triggeredBy; // MANUAL, SCHEDULED, ADMIN
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sync_mode", length = 20)
+    private SyncMode syncMode; // FULL, DELTA
+
+    @Column(name = "watermark")
+    private LocalDateTime watermark; // 이 동기화가 반영한 주문 변경 시각 상한 (다음 증분 동기화 기준)
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // 상품 동기화 시 판매자 카탈로그 전체 해시 (변경 없으면 다음 동기화 건너뜀)
+
+    @Column(name = "duration_ms")
+    private Long durationMs; // 판매자별 동기화 소요 시간 (API 대기/재시도 포함)
+
     public enum SyncStatus {
         SUCCESS,
-        FAILED
+        FAILED,
+        SKIPPED // 변경 없음 (카탈로그 해시 동일)
+    }
+
+    public enum SyncMode {
+        FULL,  // 시트 전체 다시 쓰기
+        DELTA  // 워터마크 이후 변경분만 upsert
     }
 
     public enum TriggerType {
@@ -18,6 +18,14 @@ public interface GoogleSheetsSyncLogRepository extends JpaRepository<GoogleSheet
     // 특정 판매자의 마지막 동기화 조회
     Optional<GoogleSheetsSyncLog> findTopBySellerIdOrderBySyncTimeDesc(Long sellerId);
 
+    // 특정 판매자의 마지막 성공 워터마크 조회 (증분 동기화 기준)
+    Optional<GoogleSheetsSyncLog> findTopBySellerIdAndStatusAndWatermarkIsNotNullOrderBySyncTimeDesc(
+            Long sellerId, GoogleSheetsSyncLog.SyncStatus status);
+
+    // 특정 판매자의 마지막 성공 상품 동기화 카탈로그 해시 조회 (변경 없으면 건너뛰기)
+    Optional<GoogleSheetsSyncLog> findTopBySellerIdAndStatusAndContentHashIsNotNullOrderBySyncTimeDesc(
+            Long sellerId, GoogleSheetsSyncLog.SyncStatus status);
+
     // 전체 동기화 이력 조회 (판매자 NULL인 경우)
     @Query("SELECT l FROM GoogleSheetsSyncLog l WHERE l.seller IS NULL ORDER BY l.syncTime DESC")
     List<GoogleSheetsSyncLog> findAllSyncLogs();
@@ -0,0 +1,57 @@
+package com.agri.market.googlesheets;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전체 판매자 시트 동기화 실행 상태 (진행률 조회용)
+ */
+@Getter
+public class GoogleSheetsSyncRun {
+
+    public enum RunStatus {
+        RUNNING,
+        COMPLETED,
+        CANCELLED
+    }
+
+    private final String runId = UUID.randomUUID().toString();
+    private final GoogleSheetsSyncLog.TriggerType triggeredBy;
+    private final int totalSellers;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private volatile LocalDateTime finishedAt;
+    private volatile RunStatus status = RunStatus.RUNNING;
+
+    private final AtomicInteger succeeded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean cancelRequested = new AtomicBoolean();
+
+    public GoogleSheetsSyncRun(GoogleSheetsSyncLog.TriggerType triggeredBy, int totalSellers) {
+        this.triggeredBy = triggeredBy;
+        this.totalSellers = totalSellers;
+    }
+
+    public int getCompleted() {
+        return succeeded.get() + failed.get() + skipped.get();
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested.get();
+    }
+
+    void requestCancel() {
+        cancelRequested.set(true);
+    }
+
+    void finish() {
+        finishedAt = LocalDateTime.now();
+        status = cancelRequested.get() ? RunStatus.CANCELLED : RunStatus.COMPLETED;
+    }
+}
@@ -0,0 +1,263 @@
+package com.agri.market.googlesheets;
+
+import com.google.api.services.sheets.v4.model.AppendCellsRequest;
+import com.google.api.services.sheets.v4.model.CellData;
+import com.google.api.services.sheets.v4.model.DeleteDimensionRequest;
+import com.google.api.services.sheets.v4.model.DimensionRange;
+import com.google.api.services.sheets.v4.model.ExtendedValue;
+import com.google.api.services.sheets.v4.model.GridCoordinate;
+import com.google.api.services.sheets.v4.model.Request;
+import com.google.api.services.sheets.v4.model.RowData;
+import com.google.api.services.sheets.v4.model.UpdateCellsRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 행 해시 기반 시트 diff 쓰기
+ * - 각 행 끝에 행키/행해시 컬럼을 함께 기록하고, 다음 동기화 때 두 컬럼만 읽어 기존 행과 비교
+ * - 변경/추가/삭제된 행만 spreadsheets.batchUpdate 요청(updateCells/appendCells/deleteDimension)으로 생성
+ *   (여러 시트의 요청을 모아 한 번의 batchUpdate로 실행)
+ */
+public class SheetRowDiffWriter {
+
+    public static final String KEY_HEADER = "행키";
+    public static final String HASH_HEADER = "행해시";
+
+    private final String sheetName;
+    private final List<Object> header;
+    private final String keyColumn;
+    private final String hashColumn;
+
+    public SheetRowDiffWriter(String sheetName, List<Object> dataHeader) {
+        this.sheetName = sheetName;
+        this.header = new ArrayList<>(dataHeader);
+        this.header.add(KEY_HEADER);
+        this.header.add(HASH_HEADER);
+        this.keyColumn = SheetRowUpserter.columnLetter(header.size() - 1);
+        this.hashColumn = SheetRowUpserter.columnLetter(header.size());
+    }
+
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    /**
+     * 시트 행 (논리 키 + 데이터 값). 해시는 데이터 값으로 계산
+     */
+    public static class Row {
+        private final String key;
+        private final List<Object> values;
+        private final String hash;
+
+        public Row(String key, List<Object> values) {
+            this.key = key;
+            this.values = values;
+            this.hash = hash(values);
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        List<Object> toSheetValues() {
+            List<Object> sheetValues = new ArrayList<>(values);
+            sheetValues.add(key);
+            sheetValues.add(hash);
+            return sheetValues;
+        }
+    }
+
+    /**
+     * diff 결과 - 시트 형식이 맞지 않으면 requiresFullWrite
+     */
+    public static class Diff {
+        private final boolean requiresFullWrite;
+        private final List<Request> requests;
+        private final int updated;
+        private final int inserted;
+        private final int deleted;
+
+        Diff(boolean requiresFullWrite, List<Request> requests, int updated, int inserted, int deleted) {
+            this.requiresFullWrite = requiresFullWrite;
+            this.requests = requests;
+            this.updated = updated;
+            this.inserted = inserted;
+            this.deleted = deleted;
+        }
+
+        public boolean isRequiresFullWrite() {
+            return requiresFullWrite;
+        }
+
+        public List<Request> getRequests() {
+            return requests;
+        }
+
+        public int getChangedRows() {
+            return updated + inserted + deleted;
+        }
+
+        @Override
+        public String toString() {
+            return "updated=" + updated + ", inserted=" + inserted + ", deleted=" + deleted;
+        }
+    }
+
+    /**
+     * 시트의 행키/행해시 컬럼을 읽어 변경분에 대한 batchUpdate 요청 생성
+     * 삭제는 아래쪽 행부터 처리하고, 이후 갱신 위치는 삭제로 당겨진 행 번호 기준으로 계산
+     */
+    public Diff diff(SheetsGateway gateway, String spreadsheetId, Integer sheetId, List<Row> rows) throws IOException {
+        List<List<Object>> existing = gateway.readValues(spreadsheetId,
+                sheetName + "!" + keyColumn + "1:" + hashColumn);
+
+        if (sheetId == null || existing.isEmpty() || existing.get(0).size() < 2
+                || !KEY_HEADER.equals(existing.get(0).get(0)) || !HASH_HEADER.equals(existing.get(0).get(1))) {
+            return new Diff(true, List.of(), 0, 0, 0);
+        }
+
+        // 키 -> 기존 행 인덱스 (0-based, 0은 헤더)
+        Map<String, Integer> indexByKey = new HashMap<>();
+        List<Integer> deletedIndexes = new ArrayList<>();
+        for (int i = 1; i < existing.size(); i++) {
+            List<Object> cells = existing.get(i);
+            String key = cells.isEmpty() ? "" : String.valueOf(cells.get(0));
+            if (key.isEmpty() || indexByKey.putIfAbsent(key, i) != null) {
+                deletedIndexes.add(i);
+            }
+        }
+
+        Map<String, Row> rowByKey = new HashMap<>();
+        for (Row row : rows) {
+            rowByKey.put(row.getKey(), row);
+        }
+        for (Map.Entry<String, Integer> entry : indexByKey.entrySet()) {
+            if (!rowByKey.containsKey(entry.getKey())) {
+                deletedIndexes.add(entry.getValue());
+            }
+        }
+        deletedIndexes.sort(null);
+
+        List<Request> requests = new ArrayList<>();
+
+        // 1. 삭제 (연속 구간을 묶어 아래쪽부터)
+        for (int end = deletedIndexes.size() - 1; end >= 0; ) {
+            int start = end;
+            while (start > 0 && deletedIndexes.get(start - 1) == deletedIndexes.get(start) - 1) {
+                start--;
+            }
+            requests.add(new Request().setDeleteDimension(new DeleteDimensionRequest()
+                    .setRange(new DimensionRange()
+                            .setSheetId(sheetId)
+                            .setDimension("ROWS")
+                            .setStartIndex(deletedIndexes.get(start))
+                            .setEndIndex(deletedIndexes.get(end) + 1))));
+            end = start - 1;
+        }
+
+        // 2. 변경된 행 제자리 갱신, 3. 새 행 추가
+        int updated = 0;
+        List<RowData> appended = new ArrayList<>();
+        for (Row row : rows) {
+            Integer index = indexByKey.get(row.getKey());
+            if (index == null) {
+                appended.add(toRowData(row));
+                indexByKey.put(row.getKey(), -1);
+                continue;
+            }
+            if (index < 0) {
+                continue;
+            }
+            Object existingHash = existing.get(index).size() > 1 ? existing.get(index).get(1) : null;
+            if (row.getHash().equals(existingHash)) {
+                continue;
+            }
+            int shiftedIndex = index - countBefore(deletedIndexes, index);
+            requests.add(new Request().setUpdateCells(new UpdateCellsRequest()
+                    .setStart(new GridCoordinate()
+                            .setSheetId(sheetId)
+                            .setRowIndex(shiftedIndex)
+                            .setColumnIndex(0))
+                    .setRows(List.of(toRowData(row)))
+                    .setFields("userEnteredValue")));
+            updated++;
+        }
+
+        if (!appended.isEmpty()) {
+            requests.add(new Request().setAppendCells(new AppendCellsRequest()
+                    .setSheetId(sheetId)
+                    .setRows(appended)
+                    .setFields("userEnteredValue")));
+        }
+
+        return new Diff(false, requests, updated, appended.size(), deletedIndexes.size());
+    }
+
+    /**
+     * 시트 전체 다시 쓰기 (최초 동기화 / 이전 형식 시트)
+     * @return 쓴 데이터 행 수 (헤더 제외)
+     */
+    public int writeAll(SheetsGateway gateway, String spreadsheetId, List<Row> rows) throws IOException {
+        List<List<Object>> values = new ArrayList<>(rows.size() + 1);
+        values.add(header);
+        for (Row row : rows) {
+            values.add(row.toSheetValues());
+        }
+
+        gateway.clearValues(spreadsheetId, sheetName + "!A:Z");
+        gateway.updateValues(spreadsheetId, sheetName + "!A1", values);
+        return rows.size();
+    }
+
+    /**
+     * 행 목록 전체의 해시 (판매자 카탈로그 변경 여부 판단용)
+     */
+    public static String combinedHash(List<Row> rows) {
+        List<Object> hashes = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            hashes.add(row.getKey());
+            hashes.add(row.getHash());
+        }
+        return hash(hashes);
+    }
+
+    static String hash(List<Object> values) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object value : values) {
+                digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0x1F);
+            }
+            // 행 비교용이므로 앞 16바이트만 사용
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int countBefore(List<Integer> sortedIndexes, int index) {
+        // index는 삭제 목록에 없으므로 삽입 위치 = index보다 작은 삭제 행 수
+        return -(Collections.binarySearch(sortedIndexes, index) + 1);
+    }
+
+    private static RowData toRowData(Row row) {
+        List<CellData> cells = new ArrayList<>();
+        for (Object value : row.toSheetValues()) {
+            cells.add(new CellData().setUserEnteredValue(new ExtendedValue().setStringValue(String.valueOf(value))));
+        }
+        return new RowData().setValues(cells);
+    }
+}
@@ -0,0 +1,136 @@
+package com.agri.market.googlesheets;
+
+import com.google.api.services.sheets.v4.model.ValueRange;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 키 컬럼(헤더의 마지막 컬럼) 기준으로 시트 행을 전체 쓰기 또는 upsert
+ * - 전체 쓰기: 시트를 비우고 헤더 + 전체 행을 다시 씀 (최초 동기화 / fallback)
+ * - upsert: 키 컬럼만 읽어 행 번호를 찾고, 변경된 행만 values.batchUpdate 한 번으로 씀
+ */
+public class SheetRowUpserter {
+
+    /**
+     * upsert 불가 (키 컬럼 헤더가 없는 이전 형식의 시트) - 전체 쓰기로 대체 필요
+     */
+    public static final int LAYOUT_MISMATCH = -1;
+
+    private final String sheetName;
+    private final List<Object> header;
+    private final String lastColumn;
+
+    public SheetRowUpserter(String sheetName, List<Object> header) {
+        this.sheetName = sheetName;
+        this.header = header;
+        this.lastColumn = columnLetter(header.size());
+    }
+
+    /**
+     * 시트 행 (키 + 값). insertable이 false이면 이미 시트에 있는 경우에만 갱신
+     */
+    public static class Row {
+        private final String key;
+        private final List<Object> values;
+        private final boolean insertable;
+
+        public Row(String key, List<Object> values, boolean insertable) {
+            this.key = key;
+            this.values = values;
+            this.insertable = insertable;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public List<Object> getValues() {
+            return values;
+        }
+
+        public boolean isInsertable() {
+            return insertable;
+        }
+    }
+
+    /**
+     * 시트 전체 다시 쓰기
+     * @return 쓴 데이터 행 수 (헤더 제외)
+     */
+    public int writeAll(SheetsGateway gateway, String spreadsheetId, List<Row> rows) throws IOException {
+        List<List<Object>> values = new ArrayList<>(rows.size() + 1);
+        values.add(header);
+        for (Row row : rows) {
+            if (row.isInsertable()) {
+                values.add(row.getValues());
+            }
+        }
+
+        gateway.clearValues(spreadsheetId, sheetName + "!A:Z");
+        gateway.updateValues(spreadsheetId, sheetName + "!A1", values);
+        return values.size() - 1;
+    }
+
+    /**
+     * 변경된 행만 upsert (기존 행은 제자리 갱신, 새 행은 마지막 행 뒤에 추가)
+     * @return 쓴 행 수, 시트 형식이 맞지 않으면 LAYOUT_MISMATCH
+     */
+    public int upsert(SheetsGateway gateway, String spreadsheetId, List<Row> rows) throws IOException {
+        List<List<Object>> keyColumn = gateway.readValues(spreadsheetId,
+                sheetName + "!" + lastColumn + "1:" + lastColumn);
+
+        Object keyHeader = header.get(header.size() - 1);
+        if (keyColumn.isEmpty() || keyColumn.get(0).isEmpty()
+                || !keyHeader.equals(keyColumn.get(0).get(0))) {
+            return LAYOUT_MISMATCH;
+        }
+
+        // 키 -> 시트 행 번호 (1-based)
+        Map<String, Integer> rowByKey = new HashMap<>();
+        for (int i = 1; i < keyColumn.size(); i++) {
+            List<Object> cell = keyColumn.get(i);
+            if (!cell.isEmpty() && cell.get(0) != null) {
+                rowByKey.put(cell.get(0).toString(), i + 1);
+            }
+        }
+        int nextRow = keyColumn.size() + 1;
+
+        List<ValueRange> data = new ArrayList<>();
+        for (Row row : rows) {
+            Integer rowNumber = rowByKey.get(row.getKey());
+            if (rowNumber == null) {
+                if (!row.isInsertable()) {
+                    continue;
+                }
+                rowNumber = nextRow++;
+                rowByKey.put(row.getKey(), rowNumber);
+            }
+            data.add(new ValueRange()
+                    .setRange(sheetName + "!A" + rowNumber + ":" + lastColumn + rowNumber)
+                    .setValues(List.of(row.getValues())));
+        }
+
+        if (!data.isEmpty()) {
+            gateway.batchUpdateValues(spreadsheetId, data);
+        }
+        return data.size();
+    }
+
+    /**
+     * 컬럼 번호(1-based)를 A1 표기 컬럼 문자로 변환 (1 -> A, 27 -> AA)
+     */
+    static String columnLetter(int column) {
+        StringBuilder letters = new StringBuilder();
+        int n = column;
+        while (n > 0) {
+            int rem = (n - 1) % 26;
+            letters.insert(0, (char) ('A' + rem));
+            n = (n - 1) / 26;
+        }
+        return letters.toString();
+    }
+}
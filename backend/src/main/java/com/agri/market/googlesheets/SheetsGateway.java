@@ -0,0 +1,45 @@
+package com.agri.market.googlesheets;
+
+import com.google.api.services.sheets.v4.model.Request;
+import com.google.api.services.sheets.v4.model.ValueRange;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구글 시트 API 호출 추상화
+ * 동기화 로직이 실제 Sheets 클라이언트 없이도 동작하도록 필요한 호출만 노출 (테스트 시 로컬 fake로 대체)
+ */
+public interface SheetsGateway {
+
+    /**
+     * 범위의 값 조회 (예: "주문내역!Q1:Q")
+     */
+    List<List<Object>> readValues(String spreadsheetId, String range) throws IOException;
+
+    /**
+     * 시트 이름 -> 시트 ID (spreadsheets.batchUpdate 요청에 필요)
+     */
+    Map<String, Integer> getSheetIds(String spreadsheetId) throws IOException;
+
+    /**
+     * 범위의 값 삭제 (예: "주문내역!A:Z")
+     */
+    void clearValues(String spreadsheetId, String range) throws IOException;
+
+    /**
+     * 시작 셀부터 값 쓰기 (예: "주문내역!A1")
+     */
+    void updateValues(String spreadsheetId, String range, List<List<Object>> values) throws IOException;
+
+    /**
+     * 여러 범위의 값을 한 번의 values.batchUpdate 호출로 쓰기
+     */
+    void batchUpdateValues(String spreadsheetId, List<ValueRange> data) throws IOException;
+
+    /**
+     * 서식/시트 속성 변경 요청 일괄 실행 (spreadsheets.batchUpdate)
+     */
+    void batchUpdateSpreadsheet(String spreadsheetId, List<Request> requests) throws IOException;
+}
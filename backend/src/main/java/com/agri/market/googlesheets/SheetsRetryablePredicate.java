@@ -0,0 +1,21 @@
+package com.agri.market.googlesheets;
+
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+
+import java.util.function.Predicate;
+
+/**
+ * Sheets API 재시도 대상 판별 (resilience4j retry의 retryExceptionPredicate)
+ * 쿼터 초과(429)와 일시적인 서버 오류(5xx)만 재시도하고, 권한/범위 오류 등은 즉시 실패
+ */
+public class SheetsRetryablePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable throwable) {
+        if (throwable instanceof GoogleJsonResponseException e) {
+            int status = e.getStatusCode();
+            return status == 429 || status >= 500;
+        }
+        return false;
+    }
+}
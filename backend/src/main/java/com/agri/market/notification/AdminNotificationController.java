@@ -0,0 +1,70 @@
+package com.agri.market.notification;
+
+import com.agri.market.dto.NotificationReadRequest;
+import com.agri.market.dto.NotificationResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 알림 컨트롤러 (관리자 알림은 관리자 전원이 공유)
+ */
+@RestController
+@RequestMapping("/api/admin/notifications")
+public class AdminNotificationController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final NotificationService notificationService;
+
+    public AdminNotificationController(NotificationService notificationService) {
+        this.notificationService = notificationService;
+    }
+
+    /**
+     * 관리자 알림 목록
+     * GET /api/admin/notifications?page=0&size=20
+     */
+    @GetMapping
+    public ResponseEntity<Page<NotificationResponse>> getNotifications(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE));
+        return ResponseEntity.ok(notificationService.getAdminNotifications(pageable));
+    }
+
+    /**
+     * 안 읽은 관리자 알림
+     * GET /api/admin/notifications/unread
+     */
+    @GetMapping("/unread")
+    public ResponseEntity<List<NotificationResponse>> getUnreadNotifications() {
+        return ResponseEntity.ok(notificationService.getUnreadAdminNotifications());
+    }
+
+    /**
+     * 안 읽은 관리자 알림 개수
+     * GET /api/admin/notifications/unread-count
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<Map<String, Object>> getUnreadCount() {
+        return ResponseEntity.ok(Map.of("unreadCount", notificationService.getUnreadAdminCount()));
+    }
+
+    /**
+     * 관리자 알림 읽음 처리 (선택 또는 전체)
+     * PATCH /api/admin/notifications/read  {"ids": [1, 2]} 또는 {"all": true}
+     */
+    @PatchMapping("/read")
+    public ResponseEntity<Map<String, Object>> markRead(@RequestBody NotificationReadRequest request) {
+        int updated = notificationService.markAdminRead(request.getIds(), request.isAll());
+        return ResponseEntity.ok(Map.of(
+                "updated", updated,
+                "unreadCount", notificationService.getUnreadAdminCount()));
+    }
+}
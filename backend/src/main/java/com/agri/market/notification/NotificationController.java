@@ -0,0 +1,125 @@
+package com.agri.market.notification;
+
+import com.agri.market.dto.NotificationReadRequest;
+import com.agri.market.dto.NotificationResponse;
+import com.agri.market.exception.UnauthorizedException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/notifications")
+public class NotificationController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final NotificationService notificationService;
+    private final NotificationStreamTicketService streamTicketService;
+
+    public NotificationController(NotificationService notificationService,
+                                  NotificationStreamTicketService streamTicketService) {
+        this.notificationService = notificationService;
+        this.streamTicketService = streamTicketService;
+    }
+
+    /**
+     * 내 알림 목록
+     * GET /api/notifications?page=0&size=20
+     */
+    @GetMapping
+    public ResponseEntity<Page<NotificationResponse>> getNotifications(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE));
+        return ResponseEntity.ok(notificationService.getNotifications(authentication.getName(), pageable));
+    }
+
+    /**
+     * 안 읽은 알림 (드롭다운)
+     * GET /api/notifications/unread
+     */
+    @GetMapping("/unread")
+    public ResponseEntity<List<NotificationResponse>> getUnreadNotifications(Authentication authentication) {
+        return ResponseEntity.ok(notificationService.getUnreadNotifications(authentication.getName()));
+    }
+
+    /**
+     * 안 읽은 알림 개수 (배지)
+     * GET /api/notifications/unread-count
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<Map<String, Object>> getUnreadCount(Authentication authentication) {
+        return ResponseEntity.ok(Map.of("unreadCount", notificationService.getUnreadCount(authentication.getName())));
+    }
+
+    /**
+     * 읽음 처리 (선택 또는 전체)
+     * PATCH /api/notifications/read  {"ids": [1, 2]} 또는 {"all": true}
+     */
+    @PatchMapping("/read")
+    public ResponseEntity<Map<String, Object>> markRead(@RequestBody NotificationReadRequest request,
+                                                        Authentication authentication) {
+        String userEmail = authentication.getName();
+        int updated = notificationService.markRead(userEmail, request.getIds(), request.isAll());
+        return ResponseEntity.ok(Map.of(
+                "updated", updated,
+                "unreadCount", notificationService.getUnreadCount(userEmail)));
+    }
+
+    /**
+     * 알림 구독 티켓 발급 (Authorization 헤더 인증)
+     * POST /api/notifications/stream-ticket
+     * 티켓은 짧게 유효하고 한 번만 사용 가능 - 재연결할 때마다 새로 발급
+     */
+    @PostMapping("/stream-ticket")
+    public ResponseEntity<Map<String, Object>> issueStreamTicket(Authentication authentication) {
+        NotificationStreamTicket ticket = streamTicketService.issue(authentication.getName());
+        return ResponseEntity.ok(Map.of(
+                "ticket", ticket.getTicket(),
+                "expiresAt", ticket.getExpiresAt()));
+    }
+
+    /**
+     * 알림 실시간 구독 (SSE)
+     * GET /api/notifications/stream?ticket=...
+     * EventSource는 Authorization 헤더를 보낼 수 없어 액세스 토큰 대신 1회용 구독 티켓으로 인증
+     * 재연결 시 브라우저가 보내는 Last-Event-ID 이후 알림부터 다시 전송
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(required = false) String ticket,
+                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                             @RequestParam(required = false) Long lastEventId,
+                             HttpServletResponse response) {
+        if (!StringUtils.hasText(ticket)) {
+            throw new UnauthorizedException("구독 티켓이 필요합니다.");
+        }
+        String userEmail = streamTicketService.consume(ticket);
+
+        // 프록시(nginx) 응답 버퍼링 비활성화
+        response.setHeader("X-Accel-Buffering", "no");
+
+        Long resumeFrom = lastEventId;
+        if (StringUtils.hasText(lastEventIdHeader)) {
+            try {
+                resumeFrom = Long.valueOf(lastEventIdHeader.trim());
+            } catch (NumberFormatException ignored) {
+                // 잘못된 값이면 재개 없이 새로 구독
+            }
+        }
+        return notificationService.subscribe(userEmail, resumeFrom);
+    }
+}
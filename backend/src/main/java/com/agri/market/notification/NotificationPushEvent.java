@@ -0,0 +1,31 @@
+package com.agri.market.notification;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * SSE로 보내는 알림 이벤트 (목록 갱신 신호용 경량 데이터, 본문은 목록 API로 조회)
+ */
+@Getter
+public class NotificationPushEvent {
+
+    private final Long id; // 알림 ID - SSE 이벤트 ID로도 사용 (Last-Event-ID 재개 기준)
+    private final String title;
+    private final NotificationType type;
+    private final boolean admin; // 관리자 알림 여부
+    private final LocalDateTime createdAt;
+
+    public NotificationPushEvent(Long id, String title, NotificationType type, boolean admin, LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.type = type;
+        this.admin = admin;
+        this.createdAt = createdAt;
+    }
+
+    public static NotificationPushEvent of(Notification notification, boolean admin) {
+        return new NotificationPushEvent(notification.getId(), notification.getTitle(), notification.getType(),
+                admin, notification.getCreatedAt());
+    }
+}
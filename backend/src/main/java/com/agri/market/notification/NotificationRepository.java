@@ -4,9 +4,11 @@ import com.agri.market.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
@@ -18,13 +20,45 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT n FROM Notification n WHERE n.user IS NULL ORDER BY n.createdAt DESC")
     Page<Notification> findAdminNotifications(Pageable pageable);
     
-    // 읽지 않은 알림 개수
-    long countByUserAndIsReadFalse(User user);
-    
-    // 읽지 않은 관리자 알림 개수
-    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user IS NULL AND n.isRead = false")
-    long countUnreadAdminNotifications();
-    
-    // 사용자의 읽지 않은 알림 목록
-    List<Notification> findByUserAndIsReadFalseOrderByCreatedAtDesc(User user);
+    // 사용자의 읽지 않은 알림 목록 (idx_notifications_user_read_created)
+    List<Notification> findByUserAndIsReadFalseOrderByCreatedAtDesc(User user, Pageable pageable);
+
+    // 읽지 않은 관리자 알림 목록
+    @Query("SELECT n FROM Notification n WHERE n.user IS NULL AND n.isRead = false ORDER BY n.createdAt DESC")
+    List<Notification> findUnreadAdminNotifications(Pageable pageable);
+
+    // 선택한 알림 읽음 처리 - 실제로 바뀐 행 수를 반환 (안 읽음 카운터 감소분)
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false AND n.id IN :ids")
+    int markReadByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    // 전체 읽음 처리
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllRead(@Param("userId") Long userId);
+
+    // 선택한 관리자 알림 읽음 처리
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user IS NULL AND n.isRead = false AND n.id IN :ids")
+    int markAdminReadByIds(@Param("ids") Collection<Long> ids);
+
+    // 관리자 알림 전체 읽음 처리
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user IS NULL AND n.isRead = false")
+    int markAllAdminRead();
+
+    // SSE 재연결 시 놓친 사용자 알림 (Last-Event-ID 이후, ID 순)
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.id > :afterId ORDER BY n.id ASC")
+    List<Notification> findUserNotificationsAfter(@Param("userId") Long userId, @Param("afterId") Long afterId,
+                                                  Pageable pageable);
+
+    // SSE 재연결 시 놓친 관리자 알림 (Last-Event-ID 이후, ID 순)
+    @Query("SELECT n FROM Notification n WHERE n.user IS NULL AND n.id > :afterId ORDER BY n.id ASC")
+    List<Notification> findAdminNotificationsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // SSE 재연결 시 놓친 관리자 연결용 알림 - 본인 알림과 관리자 알림을 한 흐름으로 (Last-Event-ID 이후, ID 순)
+    @Query("SELECT n FROM Notification n LEFT JOIN n.user u " +
+           "WHERE (u.id = :userId OR u IS NULL) AND n.id > :afterId ORDER BY n.id ASC")
+    List<Notification> findUserAndAdminNotificationsAfter(@Param("userId") Long userId, @Param("afterId") Long afterId,
+                                                          Pageable pageable);
 }
@@ -1,42 +1,292 @@
 package com.agri.market.notification;
 
+import com.agri.market.dto.NotificationResponse;
+import com.agri.market.exception.UnauthorizedException;
 import com.agri.market.user.User;
 import com.agri.market.user.UserRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 public class NotificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
 
+    private static final int BATCH_SIZE = 500;
+
+    // 안 읽은 알림 드롭다운 최대 개수
+    private static final int MAX_UNREAD_LIST = 50;
+
+    private static final String INSERT_NOTIFICATION_SQL =
+            "INSERT INTO notifications (user_id, title, message, type, is_read, created_at) VALUES (?, ?, ?, ?, false, ?)";
+
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationStreamRegistry streamRegistry;
+    private final NotificationUnreadCounter unreadCounter;
 
-    public NotificationService(NotificationRepository notificationRepository, UserRepository userRepository) {
+    public NotificationService(NotificationRepository notificationRepository, UserRepository userRepository,
+                               JdbcTemplate jdbcTemplate, NotificationStreamRegistry streamRegistry,
+                               NotificationUnreadCounter unreadCounter) {
         this.notificationRepository = notificationRepository;
         this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamRegistry = streamRegistry;
+        this.unreadCounter = unreadCounter;
+    }
+
+    /**
+     * 알림 SSE 구독 (관리자는 관리자 알림도 같은 연결로 받음)
+     * @param lastEventId 재연결 시 마지막으로 받은 알림 ID
+     */
+    public SseEmitter subscribe(String userEmail, Long lastEventId) {
+        User user = getUser(userEmail);
+        return streamRegistry.subscribe(user.getId(), "ADMIN".equals(user.getRole()), lastEventId);
+    }
+
+    /**
+     * 내 알림 목록 (최신순)
+     */
+    @Transactional(readOnly = true)
+    public Page<NotificationResponse> getNotifications(String userEmail, Pageable pageable) {
+        User user = getUser(userEmail);
+        return notificationRepository.findByUserOrderByCreatedAtDesc(user, pageable).map(NotificationResponse::new);
+    }
+
+    /**
+     * 내 안 읽은 알림 (드롭다운용, 최신 MAX_UNREAD_LIST개)
+     */
+    @Transactional(readOnly = true)
+    public List<NotificationResponse> getUnreadNotifications(String userEmail) {
+        User user = getUser(userEmail);
+        return notificationRepository.findByUserAndIsReadFalseOrderByCreatedAtDesc(user, PageRequest.of(0, MAX_UNREAD_LIST))
+                .stream()
+                .map(NotificationResponse::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 내 안 읽은 알림 개수 (카운터 조회, COUNT 쿼리 없음 - 카운터 행이 없을 때만 세어 저장하므로 쓰기 트랜잭션)
+     */
+    @Transactional
+    public long getUnreadCount(String userEmail) {
+        return unreadCounter.get(getUser(userEmail).getId());
+    }
+
+    /**
+     * 내 알림 읽음 처리 - 한 번의 UPDATE로 처리하고 실제 바뀐 행 수만큼 카운터 감소
+     * @param ids 읽음 처리할 알림 ID (all이 true면 무시)
+     * @return 읽음 처리된 알림 수
+     */
+    @Transactional
+    public int markRead(String userEmail, Collection<Long> ids, boolean all) {
+        Long userId = getUser(userEmail).getId();
+        int updated;
+        if (all) {
+            updated = notificationRepository.markAllRead(userId);
+        } else if (ids != null && !ids.isEmpty()) {
+            updated = notificationRepository.markReadByIds(userId, ids);
+        } else {
+            return 0;
+        }
+        unreadCounter.decrement(userId, updated);
+        return updated;
+    }
+
+    /**
+     * 관리자 알림 목록 (최신순)
+     */
+    @Transactional(readOnly = true)
+    public Page<NotificationResponse> getAdminNotifications(Pageable pageable) {
+        return notificationRepository.findAdminNotifications(pageable).map(NotificationResponse::new);
+    }
+
+    @Transactional(readOnly = true)
+    public List<NotificationResponse> getUnreadAdminNotifications() {
+        return notificationRepository.findUnreadAdminNotifications(PageRequest.of(0, MAX_UNREAD_LIST)).stream()
+                .map(NotificationResponse::new)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public long getUnreadAdminCount() {
+        return unreadCounter.get(NotificationUnreadCounter.ADMIN_OWNER_ID);
+    }
+
+    /**
+     * 관리자 알림 읽음 처리 (관리자 알림은 관리자 전원이 공유)
+     */
+    @Transactional
+    public int markAdminRead(Collection<Long> ids, boolean all) {
+        int updated;
+        if (all) {
+            updated = notificationRepository.markAllAdminRead();
+        } else if (ids != null && !ids.isEmpty()) {
+            updated = notificationRepository.markAdminReadByIds(ids);
+        } else {
+            return 0;
+        }
+        unreadCounter.decrement(NotificationUnreadCounter.ADMIN_OWNER_ID, updated);
+        return updated;
     }
 
     /**
      * 사용자에게 알림 저장 (DB only)
      */
+    @Transactional
     public void saveNotificationForUser(String userEmail, String title, String message, NotificationType type) {
         User user = userRepository.findByEmail(userEmail).orElse(null);
         if (user != null) {
             Notification notification = new Notification(user, title, message, type);
             notificationRepository.save(notification);
+            unreadCounter.increment(user.getId());
             logger.info("Saved notification to DB for user: {} - {}", userEmail, title);
+
+            Long userId = user.getId();
+            NotificationPushEvent event = NotificationPushEvent.of(notification, false);
+            afterCommit(() -> streamRegistry.publishToUser(userId, event));
         }
     }
 
     /**
      * 관리자 알림 저장 (DB only)
      */
+    @Transactional
     public void saveNotificationForAdmins(String title, String message, NotificationType type) {
         Notification notification = new Notification(null, title, message, type);
         notificationRepository.save(notification);
+        unreadCounter.increment(NotificationUnreadCounter.ADMIN_OWNER_ID);
         logger.info("Saved admin notification to DB: {} - {}", title, message);
+
+        NotificationPushEvent event = NotificationPushEvent.of(notification, true);
+        afterCommit(() -> streamRegistry.publishToAdmins(event));
+    }
+
+    /**
+     * 여러 사용자에게 알림 일괄 저장 (DB only)
+     * 대량 작업 후 알림, 아웃박스 릴레이용 - 사용자 조회 없이 ID로 바로 JDBC 배치 INSERT (userId가 null이면 관리자 알림)
+     */
+    @Transactional
+    public void saveNotificationsForUsers(List<UserNotification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp createdAt = Timestamp.valueOf(now);
+        List<Runnable> pushes = new ArrayList<>(notifications.size());
+        Map<Long, Integer> unreadDeltas = new HashMap<>();
+        for (int from = 0; from < notifications.size(); from += BATCH_SIZE) {
+            List<UserNotification> chunk = notifications.subList(from, Math.min(from + BATCH_SIZE, notifications.size()));
+            // 생성된 알림 ID는 SSE 이벤트 ID로 사용
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_NOTIFICATION_SQL, Statement.RETURN_GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            UserNotification notification = chunk.get(i);
+                            if (notification.getUserId() != null) {
+                                ps.setLong(1, notification.getUserId());
+                            } else {
+                                ps.setNull(1, Types.BIGINT);
+                            }
+                            ps.setString(2, notification.getTitle());
+                            ps.setString(3, notification.getMessage());
+                            ps.setString(4, notification.getType().name());
+                            ps.setTimestamp(5, createdAt);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    },
+                    keyHolder);
+
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            for (int i = 0; i < chunk.size() && i < keys.size(); i++) {
+                UserNotification notification = chunk.get(i);
+                Long id = ((Number) keys.get(i).values().iterator().next()).longValue();
+                NotificationPushEvent event = new NotificationPushEvent(id, notification.getTitle(),
+                        notification.getType(), notification.getUserId() == null, now);
+                pushes.add(() -> publish(notification.getUserId(), event));
+            }
+            for (UserNotification notification : chunk) {
+                long ownerId = notification.getUserId() != null ? notification.getUserId() : NotificationUnreadCounter.ADMIN_OWNER_ID;
+                unreadDeltas.merge(ownerId, 1, Integer::sum);
+            }
+        }
+        unreadCounter.increment(unreadDeltas);
+        afterCommit(() -> pushes.forEach(Runnable::run));
+        logger.info("Saved {} notifications to DB in batch", notifications.size());
+    }
+
+    private User getUser(String userEmail) {
+        return userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new UnauthorizedException("사용자를 찾을 수 없습니다."));
+    }
+
+    private void publish(Long userId, NotificationPushEvent event) {
+        if (userId != null) {
+            streamRegistry.publishToUser(userId, event);
+        } else {
+            streamRegistry.publishToAdmins(event);
+        }
+    }
+
+    /**
+     * 커밋 후 실행 (롤백된 알림은 보내지 않음, 트랜잭션 밖이면 즉시)
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 일괄 저장용 사용자 알림
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class UserNotification {
+        private final Long userId;
+        private final String title;
+        private final String message;
+        private final NotificationType type;
     }
 }
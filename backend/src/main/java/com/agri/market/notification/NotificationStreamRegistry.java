@@ -0,0 +1,219 @@
+package com.agri.market.notification;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 알림 SSE 구독자 레지스트리 (인스턴스 메모리)
+ * - 사용자별 연결 목록과 관리자 연결 목록을 보관하고, 알림 저장 커밋 후 해당 연결로 이벤트를 보냄
+ * - 연결은 비동기 서블릿(SseEmitter)으로 유지되어 요청 스레드를 점유하지 않음
+ * - 프록시/로드밸런서 유휴 타임아웃을 넘지 않도록 heartbeat 주석 이벤트 전송
+ * - 알림 전송은 전용 스레드 하나에서 순서대로 처리 - 커밋 후 콜백(요청 스레드)은 전송을 넘기기만 하고 느린 연결을 기다리지 않음
+ * - 재연결 시 Last-Event-ID(알림 ID) 이후 알림을 DB에서 ID 순으로 끝까지 다시 보내 끊긴 동안의 알림을 놓치지 않음
+ * - 다른 인스턴스에 연결된 사용자에게는 전달되지 않으며, 재연결 시 재개로 보완
+ */
+@Component
+public class NotificationStreamRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationStreamRegistry.class);
+
+    private static final String EVENT_NAME = "notification";
+
+    // 사용자당 동시 연결 수 (탭 수) - 넘으면 가장 오래된 연결을 닫음
+    private static final int MAX_CONNECTIONS_PER_USER = 5;
+
+    // 재연결 시 한 번에 조회하는 알림 수 (ID 순으로 페이지를 이어 가며 전부 보냄)
+    private static final int REPLAY_PAGE_SIZE = 100;
+
+    // 전송 대기 최대 건수 - 넘으면 버리고 클라이언트는 재연결/목록 조회로 보완
+    private static final int PUBLISH_QUEUE_CAPACITY = 10_000;
+
+    private final NotificationRepository notificationRepository;
+    private final long timeoutMs;
+    private final ThreadPoolTaskExecutor publisher;
+
+    private final Map<Long, List<SseEmitter>> userEmitters = new ConcurrentHashMap<>();
+    private final Set<SseEmitter> adminEmitters = ConcurrentHashMap.newKeySet();
+
+    public NotificationStreamRegistry(NotificationRepository notificationRepository,
+                                      @Value("${notification.stream.timeout-ms:1800000}") long timeoutMs) {
+        this.notificationRepository = notificationRepository;
+        this.timeoutMs = timeoutMs;
+
+        // 한 스레드에서 보내 같은 연결의 이벤트가 ID 순서대로 나감
+        this.publisher = new ThreadPoolTaskExecutor();
+        publisher.setCorePoolSize(1);
+        publisher.setMaxPoolSize(1);
+        publisher.setQueueCapacity(PUBLISH_QUEUE_CAPACITY);
+        publisher.setThreadNamePrefix("notification-stream-");
+        publisher.setWaitForTasksToCompleteOnShutdown(true);
+        publisher.setAwaitTerminationSeconds(10);
+        publisher.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publisher.shutdown();
+    }
+
+    /**
+     * 구독 등록 - 관리자는 본인 알림과 관리자 알림을 같은 연결로 받음
+     * @param lastEventId 마지막으로 받은 알림 ID (재연결 시, 없으면 null)
+     */
+    public SseEmitter subscribe(Long userId, boolean admin, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+
+        // 목록 생성과 추가를 한 번에 (remove가 빈 목록을 지우는 것과 겹쳐도 유실되지 않음)
+        List<SseEmitter> emitters = userEmitters.compute(userId, (id, current) -> {
+            List<SseEmitter> list = current != null ? current : new CopyOnWriteArrayList<>();
+            list.add(emitter);
+            return list;
+        });
+        if (admin) {
+            adminEmitters.add(emitter);
+        }
+        Runnable remove = () -> remove(userId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        while (emitters.size() > MAX_CONNECTIONS_PER_USER) {
+            SseEmitter oldest = emitters.get(0);
+            remove(userId, oldest);
+            oldest.complete();
+        }
+
+        // 등록 후 재개분 전송 - 등록과 조회 사이에 저장된 알림은 중복될 수 있으며 클라이언트가 ID로 걸러냄
+        if (lastEventId != null) {
+            replay(emitter, userId, admin, lastEventId);
+        } else {
+            send(emitter, SseEmitter.event().comment("connected"));
+        }
+        return emitter;
+    }
+
+    /**
+     * 사용자 연결로 알림 전송 예약 (호출 스레드에서 보내지 않음)
+     */
+    public void publishToUser(Long userId, NotificationPushEvent event) {
+        if (!userEmitters.containsKey(userId)) {
+            return;
+        }
+        execute(() -> {
+            List<SseEmitter> emitters = userEmitters.get(userId);
+            if (emitters == null) {
+                return;
+            }
+            for (SseEmitter emitter : emitters) {
+                sendEvent(emitter, event);
+            }
+        }, event);
+    }
+
+    /**
+     * 관리자 연결로 알림 전송 예약 (호출 스레드에서 보내지 않음)
+     */
+    public void publishToAdmins(NotificationPushEvent event) {
+        if (adminEmitters.isEmpty()) {
+            return;
+        }
+        execute(() -> {
+            for (SseEmitter emitter : adminEmitters) {
+                sendEvent(emitter, event);
+            }
+        }, event);
+    }
+
+    /**
+     * 연결 유지용 heartbeat (끊긴 연결은 전송 실패 시 정리)
+     */
+    @Scheduled(fixedRateString = "${notification.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (List<SseEmitter> emitters : userEmitters.values()) {
+            for (SseEmitter emitter : emitters) {
+                send(emitter, SseEmitter.event().comment("ping"));
+            }
+        }
+    }
+
+    /**
+     * 현재 인스턴스의 연결 수 (사용자 연결 기준)
+     */
+    public int getConnectionCount() {
+        return userEmitters.values().stream().mapToInt(List::size).sum();
+    }
+
+    private void execute(Runnable task, NotificationPushEvent event) {
+        try {
+            publisher.execute(task);
+        } catch (TaskRejectedException e) {
+            logger.warn("Notification stream queue is full, dropping push for notification {}", event.getId());
+        }
+    }
+
+    /**
+     * 놓친 알림 재전송 - 관리자는 본인 알림과 관리자 알림을 한 쿼리로 합쳐 ID 순으로 페이지를 이어 감
+     * (목록별로 따로 잘라 합치면 한쪽이 잘린 지점 뒤의 다른 쪽 알림과 섞여 중간 알림을 건너뜀)
+     */
+    private void replay(SseEmitter emitter, Long userId, boolean admin, Long lastEventId) {
+        PageRequest page = PageRequest.of(0, REPLAY_PAGE_SIZE);
+        long afterId = lastEventId;
+        while (true) {
+            List<Notification> missed = admin
+                    ? notificationRepository.findUserAndAdminNotificationsAfter(userId, afterId, page)
+                    : notificationRepository.findUserNotificationsAfter(userId, afterId, page);
+            for (Notification notification : missed) {
+                if (!sendEvent(emitter, NotificationPushEvent.of(notification, notification.getUser() == null))) {
+                    return;
+                }
+                afterId = notification.getId();
+            }
+            if (missed.size() < REPLAY_PAGE_SIZE) {
+                return;
+            }
+        }
+    }
+
+    private boolean sendEvent(SseEmitter emitter, NotificationPushEvent event) {
+        return send(emitter, SseEmitter.event()
+                .id(String.valueOf(event.getId()))
+                .name(EVENT_NAME)
+                .data(event, MediaType.APPLICATION_JSON));
+    }
+
+    private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder builder) {
+        try {
+            emitter.send(builder);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊음 - onError/onCompletion 콜백에서 정리되지만 먼저 닫아 둠
+            logger.debug("Closing notification stream: {}", e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        adminEmitters.remove(emitter);
+        userEmitters.computeIfPresent(userId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
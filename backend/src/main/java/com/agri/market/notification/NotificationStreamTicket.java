@@ -0,0 +1,45 @@
+package com.agri.market.notification;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 SSE 구독용 1회용 티켓
+ * EventSource는 Authorization 헤더를 보낼 수 없어, 액세스 토큰 대신 짧게 유효한 티켓을 쿼리 파라미터로 사용
+ */
+@Entity
+@Table(name = "notification_stream_tickets", indexes = {
+        @Index(name = "idx_notification_stream_tickets_expires_at", columnList = "expiresAt")
+})
+@Getter
+@Setter
+public class NotificationStreamTicket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String ticket;
+
+    @Column(nullable = false)
+    private String userEmail;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public boolean isExpired() {
+        return LocalDateTime.now().isAfter(expiresAt);
+    }
+}
@@ -0,0 +1,27 @@
+package com.agri.market.notification;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface NotificationStreamTicketRepository extends JpaRepository<NotificationStreamTicket, Long> {
+
+    Optional<NotificationStreamTicket> findByTicket(String ticket);
+
+    /**
+     * 티켓 사용 처리 (삭제) - 동시에 같은 티켓을 쓰면 한 요청만 1을 받음
+     */
+    @Modifying
+    @Query("DELETE FROM NotificationStreamTicket t WHERE t.id = :id")
+    int deleteTicket(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM NotificationStreamTicket t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,81 @@
+package com.agri.market.notification;
+
+import com.agri.market.exception.UnauthorizedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 알림 SSE 구독 티켓 발급/사용
+ * - 헤더 인증된 사용자에게 짧게 유효한(기본 30초) 1회용 티켓 발급
+ * - 액세스 토큰이 쿼리 파라미터로 접근/프록시 로그에 남지 않도록, 구독 URL에는 티켓만 사용
+ * - DB에 보관해 발급 서버와 구독 서버가 달라도 사용 가능하며, 사용 즉시 삭제
+ */
+@Service
+public class NotificationStreamTicketService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationStreamTicketService.class);
+
+    private static final int TICKET_BYTES = 32;
+
+    private final NotificationStreamTicketRepository ticketRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final long ttlSeconds;
+
+    public NotificationStreamTicketService(NotificationStreamTicketRepository ticketRepository,
+                                           @Value("${notification.stream.ticket-ttl-seconds:30}") long ttlSeconds) {
+        this.ticketRepository = ticketRepository;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 구독 티켓 발급
+     */
+    @Transactional
+    public NotificationStreamTicket issue(String userEmail) {
+        byte[] bytes = new byte[TICKET_BYTES];
+        secureRandom.nextBytes(bytes);
+
+        NotificationStreamTicket ticket = new NotificationStreamTicket();
+        ticket.setTicket(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes));
+        ticket.setUserEmail(userEmail);
+        ticket.setExpiresAt(LocalDateTime.now().plusSeconds(ttlSeconds));
+        return ticketRepository.save(ticket);
+    }
+
+    /**
+     * 티켓 사용 - 유효하면 삭제하고 발급받은 사용자 이메일 반환
+     */
+    @Transactional
+    public String consume(String ticketValue) {
+        NotificationStreamTicket ticket = ticketRepository.findByTicket(ticketValue)
+                .orElseThrow(() -> new UnauthorizedException("유효하지 않은 구독 티켓입니다."));
+
+        if (ticket.isExpired()) {
+            throw new UnauthorizedException("만료된 구독 티켓입니다.");
+        }
+        if (ticketRepository.deleteTicket(ticket.getId()) == 0) {
+            throw new UnauthorizedException("이미 사용된 구독 티켓입니다.");
+        }
+        return ticket.getUserEmail();
+    }
+
+    /**
+     * 만료된 티켓 정리 (사용되지 않은 티켓)
+     */
+    @Scheduled(fixedDelay = 600_000)
+    @Transactional
+    public void cleanupExpiredTickets() {
+        int deleted = ticketRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            logger.debug("Deleted {} expired notification stream tickets", deleted);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.agri.market.notification;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 알림 안 읽음 개수 카운터 (알림 저장/읽음 처리와 같은 트랜잭션에서 증감, 값 갱신은 NotificationUnreadCounter의 JDBC로 수행)
+ */
+@Entity
+@Table(name = "notification_unread_counts")
+@Getter
+@Setter
+public class NotificationUnreadCount {
+
+    /**
+     * 사용자 ID (관리자 알림은 NotificationUnreadCounter.ADMIN_OWNER_ID)
+     */
+    @Id
+    private Long ownerId;
+
+    @Column(nullable = false)
+    private Integer unreadCount = 0;
+}
@@ -0,0 +1,152 @@
+package com.agri.market.notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 알림 안 읽음 개수 카운터
+ * - 배지 표시마다 COUNT(*)를 하지 않도록 소유자별 개수를 notification_unread_counts에 보관
+ * - 알림 저장 시 증가, 읽음 처리 시 실제로 바뀐 행 수만큼 감소 (둘 다 호출한 쪽 트랜잭션 안에서 실행)
+ * - 카운터 행이 없으면 조회/증가 시 notifications에서 한 번 세어 채움 (증분만으로 만들면 기존 안 읽은 알림이 빠짐)
+ * - 커넥션 풀이 auto-commit=false라 조회 시 채우기와 재계산도 트랜잭션 안에서 실행
+ * - 비정상 종료 등으로 어긋난 값은 매일 새벽 notifications 기준으로 다시 맞춤
+ */
+@Component
+public class NotificationUnreadCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationUnreadCounter.class);
+
+    // 관리자 알림(user_id IS NULL)의 카운터 키
+    public static final long ADMIN_OWNER_ID = 0L;
+
+    private static final String INCREMENT_SQL =
+            "INSERT INTO notification_unread_counts (owner_id, unread_count) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE unread_count = unread_count + VALUES(unread_count)";
+
+    private static final String SEED_SQL =
+            "INSERT INTO notification_unread_counts (owner_id, unread_count) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE unread_count = unread_count + ?";
+
+    private static final String DECREMENT_SQL =
+            "UPDATE notification_unread_counts SET unread_count = GREATEST(unread_count - ?, 0) WHERE owner_id = ?";
+
+    private static final String SELECT_SQL =
+            "SELECT unread_count FROM notification_unread_counts WHERE owner_id = ?";
+
+    private static final String EXISTING_OWNERS_SQL =
+            "SELECT owner_id FROM notification_unread_counts WHERE owner_id IN (%s)";
+
+    // 카운터 행이 없을 때 채우기 (동시에 다른 요청이 먼저 채웠으면 무시)
+    private static final String INIT_SQL =
+            "INSERT IGNORE INTO notification_unread_counts (owner_id, unread_count) VALUES (?, ?)";
+
+    private static final String COUNT_USER_SQL =
+            "SELECT COUNT(*) FROM notifications WHERE user_id = ? AND is_read = false";
+
+    private static final String COUNT_ADMIN_SQL =
+            "SELECT COUNT(*) FROM notifications WHERE user_id IS NULL AND is_read = false";
+
+    private static final String RECONCILE_USERS_SQL =
+            "UPDATE notification_unread_counts c SET c.unread_count = " +
+            "(SELECT COUNT(*) FROM notifications n WHERE n.user_id = c.owner_id AND n.is_read = false) " +
+            "WHERE c.owner_id <> " + ADMIN_OWNER_ID;
+
+    private static final String RECONCILE_ADMIN_SQL =
+            "UPDATE notification_unread_counts c SET c.unread_count = " +
+            "(SELECT COUNT(*) FROM notifications n WHERE n.user_id IS NULL AND n.is_read = false) " +
+            "WHERE c.owner_id = " + ADMIN_OWNER_ID;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationUnreadCounter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 안 읽음 개수 조회
+     * @param ownerId 사용자 ID (관리자는 ADMIN_OWNER_ID)
+     */
+    @Transactional
+    public long get(long ownerId) {
+        List<Integer> counts = jdbcTemplate.queryForList(SELECT_SQL, Integer.class, ownerId);
+        if (!counts.isEmpty()) {
+            return counts.get(0);
+        }
+        long count = countUnread(ownerId);
+        jdbcTemplate.update(INIT_SQL, ownerId, count);
+        return count;
+    }
+
+    /**
+     * 소유자별 증가분을 한 번의 배치로 반영 (알림 INSERT 후 같은 트랜잭션에서 호출)
+     * 카운터 행이 없는 소유자는 방금 저장한 알림까지 포함한 COUNT(*)로 채움
+     */
+    public void increment(Map<Long, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(",", deltas.keySet().stream().map(id -> "?").toList());
+        Set<Long> existing = new HashSet<>(jdbcTemplate.queryForList(
+                String.format(EXISTING_OWNERS_SQL, placeholders), Long.class, deltas.keySet().toArray()));
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((ownerId, delta) -> {
+            if (existing.contains(ownerId)) {
+                args.add(new Object[]{ownerId, delta});
+            } else {
+                seed(ownerId, delta);
+            }
+        });
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(INCREMENT_SQL, args);
+        }
+    }
+
+    public void increment(long ownerId) {
+        increment(Map.of(ownerId, 1));
+    }
+
+    /**
+     * 읽음 처리로 실제 바뀐 행 수만큼 감소
+     */
+    public void decrement(long ownerId, int count) {
+        if (count > 0) {
+            jdbcTemplate.update(DECREMENT_SQL, count, ownerId);
+        }
+    }
+
+    /**
+     * 카운터를 notifications 기준으로 다시 맞춤 (매일 04:20)
+     */
+    @Scheduled(cron = "0 20 4 * * *")
+    @Transactional
+    public void reconcile() {
+        int users = jdbcTemplate.update(RECONCILE_USERS_SQL);
+        jdbcTemplate.update(RECONCILE_ADMIN_SQL);
+        logger.info("Notification unread counters reconciled - {} users", users);
+    }
+
+    /**
+     * 카운터 행 새로 만들기 - 그사이 다른 트랜잭션이 먼저 만들었으면 이번 증가분만 더함
+     */
+    private void seed(long ownerId, int delta) {
+        jdbcTemplate.update(SEED_SQL, ownerId, countUnread(ownerId), delta);
+    }
+
+    private long countUnread(long ownerId) {
+        Long counted = ownerId == ADMIN_OWNER_ID
+                ? jdbcTemplate.queryForObject(COUNT_ADMIN_SQL, Long.class)
+                : jdbcTemplate.queryForObject(COUNT_USER_SQL, Long.class, ownerId);
+        return counted != null ? counted : 0L;
+    }
+}
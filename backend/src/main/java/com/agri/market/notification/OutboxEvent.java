@@ -0,0 +1,66 @@
+package com.agri.market.notification;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 이벤트
+ * 주문/결제/반품 처리와 같은 트랜잭션에서 기록하고, 커밋된 이벤트만 OutboxRelay가 알림/Slack/이메일로 전달
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_status_available", columnList = "status, availableAt")
+})
+@Getter
+@Setter
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private OutboxEventType eventType;
+
+    /**
+     * 전달 내용 (JSON)
+     */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxEventStatus status = OutboxEventStatus.PENDING;
+
+    /**
+     * 시도 횟수 (릴레이가 가져갈 때 증가)
+     */
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    /**
+     * 다음 전달 가능 시각 - 릴레이가 가져가면 임대 시간만큼, 실패하면 백오프만큼 뒤로 미룸
+     */
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime processedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (availableAt == null) {
+            availableAt = createdAt;
+        }
+    }
+}
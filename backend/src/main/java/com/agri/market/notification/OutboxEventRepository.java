@@ -0,0 +1,11 @@
+package com.agri.market.notification;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 아웃박스 이벤트 리포지토리 (기록용 - 릴레이의 선점/완료 처리는 JDBC)
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+}
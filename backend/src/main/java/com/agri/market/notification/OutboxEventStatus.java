@@ -0,0 +1,7 @@
+package com.agri.market.notification;
+
+public enum OutboxEventStatus {
+    PENDING,   // 전달 대기 (릴레이가 가져간 뒤 실패하면 다음 시도 시각까지 다시 대기)
+    DONE,      // 전달 완료
+    FAILED     // 최대 시도 횟수 초과
+}
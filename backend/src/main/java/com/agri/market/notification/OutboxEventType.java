@@ -0,0 +1,11 @@
+package com.agri.market.notification;
+
+/**
+ * 아웃박스 이벤트 종류 (릴레이가 어느 서비스로 전달할지 결정)
+ */
+public enum OutboxEventType {
+    USER_NOTIFICATION,    // 사용자 알림 저장 (payload: userId, title, message, type)
+    ADMIN_NOTIFICATION,   // 관리자 알림 저장 (payload: title, message, type)
+    SLACK_PAYMENT,        // 결제 완료 Slack 알림 (payload: orderId, amount)
+    EMAIL                 // 이메일 발송 (payload: recipient, subject, body)
+}
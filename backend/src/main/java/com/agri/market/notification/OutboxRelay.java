@@ -0,0 +1,378 @@
+package com.agri.market.notification;
+
+import com.agri.market.service.EmailService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 아웃박스 릴레이
+ * - 커밋된 이벤트를 배치 단위로 선점(FOR UPDATE SKIP LOCKED)해 여러 인스턴스가 같은 이벤트를 동시에 가져가지 않음
+ * - 선점 시 시도 횟수를 올리고 임대 시간만큼 available_at을 미룬 뒤 바로 커밋 - 전달 중에는 행 잠금/커넥션을 잡지 않음
+ * - 전달 중 서버가 죽으면 임대 시간이 지난 뒤 다른 릴레이가 다시 가져감 (최소 1회 전달)
+ * - 실패하면 지수 백오프로 다시 대기, 최대 시도 횟수를 넘으면 FAILED로 남김
+ * - 알림 저장 이벤트는 배치 안에서 모아 JDBC 배치 INSERT 한 번으로 처리
+ * - Slack 결제 알림은 묶음 메시지가 실제로 전송된 뒤에 완료 처리 - 전송 결과를 받을 때까지 더 긴 임대(slack-ack-lease-ms)로 잡아 두고,
+ *   그 전에 서버가 재시작되면 임대가 끝난 뒤 다시 전달 (이미 전송된 묶음이 완료 기록 전에 끊기면 같은 알림이 한 번 더 갈 수 있음)
+ * - 커넥션 풀이 auto-commit=false라 상태 갱신(선점/완료/재시도/실패/정리)은 모두 transactionTemplate 안에서 실행
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String CLAIM_SQL =
+            "SELECT id, event_type, payload, attempts FROM outbox_events " +
+            "WHERE status = 'PENDING' AND available_at <= ? ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String LEASE_SQL =
+            "UPDATE outbox_events SET attempts = attempts + 1, available_at = ? WHERE id = ?";
+
+    private static final String DONE_SQL =
+            "UPDATE outbox_events SET status = 'DONE', processed_at = ?, last_error = NULL WHERE id = ?";
+
+    private static final String RETRY_SQL =
+            "UPDATE outbox_events SET available_at = ?, last_error = ? WHERE id = ?";
+
+    private static final String FAIL_SQL =
+            "UPDATE outbox_events SET status = 'FAILED', processed_at = ?, last_error = ? WHERE id = ?";
+
+    private static final String CLEANUP_SQL =
+            "DELETE FROM outbox_events WHERE status = 'DONE' AND processed_at < ? LIMIT 5000";
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationService notificationService;
+    private final SlackNotificationService slackNotificationService;
+    private final EmailService emailService;
+    private final ThreadPoolTaskExecutor executor;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    // Slack 디스패처 스레드가 넘긴 전송 결과 - 릴레이 스레드가 모아서 반영
+    private final Queue<SlackResult> slackResults = new ConcurrentLinkedQueue<>();
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long leaseMs;
+    private final long slackAckLeaseMs;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+    private final int retentionDays;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager,
+                       ObjectMapper objectMapper,
+                       NotificationService notificationService,
+                       SlackNotificationService slackNotificationService,
+                       EmailService emailService,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${outbox.relay.max-attempts:8}") int maxAttempts,
+                       @Value("${outbox.relay.lease-ms:60000}") long leaseMs,
+                       @Value("${outbox.relay.slack-ack-lease-ms:600000}") long slackAckLeaseMs,
+                       @Value("${outbox.relay.base-backoff-ms:2000}") long baseBackoffMs,
+                       @Value("${outbox.relay.max-backoff-ms:600000}") long maxBackoffMs,
+                       @Value("${outbox.relay.retention-days:7}") int retentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.notificationService = notificationService;
+        this.slackNotificationService = slackNotificationService;
+        this.emailService = emailService;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.leaseMs = leaseMs;
+        this.slackAckLeaseMs = slackAckLeaseMs;
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.retentionDays = retentionDays;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("outbox-relay-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        // 종료 전에 받은 전송 결과는 반영 (못 한 이벤트는 임대가 끝난 뒤 다시 전달)
+        try {
+            applySlackResults();
+        } catch (Exception e) {
+            logger.warn("Failed to apply Slack delivery results on shutdown: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 주기적으로 대기 이벤트 전달 (다른 인스턴스가 기록한 이벤트, 재시도 대기 이벤트 포함)
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:1000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    /**
+     * 전달 시작 요청 - 이미 전달 중이면 무시 (스케줄러 스레드를 막지 않도록 전용 스레드에서 실행)
+     */
+    public void wakeUp() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (TaskRejectedException e) {
+            draining.set(false);
+        }
+    }
+
+    /**
+     * 오래된 완료 이벤트 삭제 (매일 04:10, 실패 이벤트는 확인용으로 남김)
+     */
+    @Scheduled(cron = "0 10 4 * * *")
+    public void cleanupDoneEvents() {
+        Timestamp threshold = Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays));
+        int deleted;
+        int total = 0;
+        do {
+            Integer chunk = transactionTemplate.execute(status -> jdbcTemplate.update(CLEANUP_SQL, threshold));
+            deleted = chunk != null ? chunk : 0;
+            total += deleted;
+        } while (deleted > 0);
+        if (total > 0) {
+            logger.info("Outbox cleanup - deleted {} delivered events", total);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                applySlackResults();
+                List<ClaimedEvent> batch = claim();
+                if (batch.isEmpty()) {
+                    return;
+                }
+                dispatch(batch);
+                if (batch.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Outbox relay failed", e);
+        } finally {
+            draining.set(false);
+        }
+        // 전달 중에 들어온 전송 결과는 깨우기가 무시됐으므로 다시 깨움
+        if (!slackResults.isEmpty()) {
+            wakeUp();
+        }
+    }
+
+    /**
+     * 전달 가능한 이벤트 선점 (다른 릴레이가 잠근 행은 건너뜀)
+     */
+    private List<ClaimedEvent> claim() {
+        List<ClaimedEvent> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<ClaimedEvent> rows = jdbcTemplate.query(CLAIM_SQL,
+                    (rs, rowNum) -> new ClaimedEvent(rs.getLong("id"), OutboxEventType.valueOf(rs.getString("event_type")),
+                            rs.getString("payload"), rs.getInt("attempts") + 1),
+                    Timestamp.valueOf(now), batchSize);
+            if (!rows.isEmpty()) {
+                Timestamp leaseUntil = Timestamp.valueOf(now.plusNanos(leaseMs * 1_000_000));
+                // Slack 결제 알림은 묶음 대기 + 디스패처 재시도가 끝나 전송 결과가 올 때까지 잡아 둠
+                Timestamp slackLeaseUntil = Timestamp.valueOf(now.plusNanos(slackAckLeaseMs * 1_000_000));
+                jdbcTemplate.batchUpdate(LEASE_SQL, rows, rows.size(), (ps, event) -> {
+                    ps.setTimestamp(1, event.eventType == OutboxEventType.SLACK_PAYMENT ? slackLeaseUntil : leaseUntil);
+                    ps.setLong(2, event.id);
+                });
+            }
+            return rows;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    private void dispatch(List<ClaimedEvent> batch) {
+        List<ClaimedEvent> notificationEvents = new ArrayList<>();
+        List<NotificationService.UserNotification> notifications = new ArrayList<>();
+        List<ClaimedEvent> done = new ArrayList<>();
+
+        for (ClaimedEvent event : batch) {
+            Map<String, Object> payload;
+            try {
+                payload = objectMapper.readValue(event.payload, PAYLOAD_TYPE);
+            } catch (Exception e) {
+                // 다시 시도해도 해석할 수 없음
+                markFailed(event, "Invalid payload: " + e.getMessage());
+                continue;
+            }
+
+            try {
+                switch (event.eventType) {
+                    case USER_NOTIFICATION, ADMIN_NOTIFICATION -> {
+                        notifications.add(toNotification(event.eventType, payload));
+                        notificationEvents.add(event);
+                    }
+                    case SLACK_PAYMENT -> {
+                        // 짧은 시간 안의 결제는 묶어서 전송, 재시도는 디스패처가 담당 - 완료/재시도는 전송 결과를 받은 뒤 반영
+                        boolean accepted = slackNotificationService.sendPaymentNotification(
+                                toLong(payload.get("orderId")), new BigDecimal(String.valueOf(payload.get("amount"))),
+                                slackListener(event));
+                        if (!accepted) {
+                            throw new IllegalStateException("Slack dispatch queue is full");
+                        }
+                    }
+                    case EMAIL -> {
+                        emailService.sendNotificationEmail(String.valueOf(payload.get("recipient")),
+                                String.valueOf(payload.get("subject")), String.valueOf(payload.get("body")));
+                        done.add(event);
+                    }
+                }
+            } catch (Exception e) {
+                retryOrFail(event, e);
+            }
+        }
+
+        if (!notifications.isEmpty()) {
+            try {
+                notificationService.saveNotificationsForUsers(notifications);
+                done.addAll(notificationEvents);
+            } catch (Exception e) {
+                for (ClaimedEvent event : notificationEvents) {
+                    retryOrFail(event, e);
+                }
+            }
+        }
+
+        markDone(done);
+    }
+
+    /**
+     * Slack 전송 결과를 큐에 넣고 릴레이를 깨움 (디스패처 스레드에서 DB 작업을 하지 않음)
+     */
+    private SlackDispatcher.DeliveryListener slackListener(ClaimedEvent event) {
+        return new SlackDispatcher.DeliveryListener() {
+            @Override
+            public void delivered() {
+                slackResults.add(new SlackResult(event, null));
+                wakeUp();
+            }
+
+            @Override
+            public void failed(Exception cause) {
+                slackResults.add(new SlackResult(event, cause));
+                wakeUp();
+            }
+        };
+    }
+
+    /**
+     * 받은 Slack 전송 결과 반영 - 전송된 이벤트는 한 번에 완료 처리, 실패한 이벤트는 재시도 대기
+     */
+    private void applySlackResults() {
+        List<ClaimedEvent> delivered = new ArrayList<>();
+        SlackResult result;
+        while ((result = slackResults.poll()) != null) {
+            if (result.cause == null) {
+                delivered.add(result.event);
+            } else {
+                retryOrFail(result.event, result.cause);
+            }
+        }
+        markDone(delivered);
+    }
+
+    private void markDone(List<ClaimedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(DONE_SQL, events, events.size(), (ps, event) -> {
+                    ps.setTimestamp(1, now);
+                    ps.setLong(2, event.id);
+                }));
+    }
+
+    private void retryOrFail(ClaimedEvent event, Exception e) {
+        if (event.attempts >= maxAttempts) {
+            logger.error("Outbox event {} ({}) failed after {} attempts", event.id, event.eventType, event.attempts, e);
+            markFailed(event, e.getMessage());
+            return;
+        }
+        // 2초, 4초, 8초 ... 최대 maxBackoffMs
+        long backoffMs = Math.min(maxBackoffMs, baseBackoffMs << Math.min(event.attempts - 1, 20));
+        logger.warn("Outbox event {} ({}) failed (attempt {}/{}), retrying in {}ms: {}",
+                event.id, event.eventType, event.attempts, maxAttempts, backoffMs, e.getMessage());
+        Timestamp availableAt = Timestamp.valueOf(LocalDateTime.now().plusNanos(backoffMs * 1_000_000));
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.update(RETRY_SQL, availableAt, truncate(e.getMessage()), event.id));
+    }
+
+    private void markFailed(ClaimedEvent event, String message) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.update(FAIL_SQL, Timestamp.valueOf(LocalDateTime.now()), truncate(message), event.id));
+    }
+
+    private static NotificationService.UserNotification toNotification(OutboxEventType eventType, Map<String, Object> payload) {
+        Long userId = eventType == OutboxEventType.USER_NOTIFICATION ? toLong(payload.get("userId")) : null;
+        return new NotificationService.UserNotification(userId, String.valueOf(payload.get("title")),
+                String.valueOf(payload.get("message")), NotificationType.valueOf(String.valueOf(payload.get("type"))));
+    }
+
+    private static Long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.valueOf(String.valueOf(value));
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    private static class ClaimedEvent {
+        private final long id;
+        private final OutboxEventType eventType;
+        private final String payload;
+        private final int attempts; // 이번 시도를 포함한 횟수
+
+        ClaimedEvent(long id, OutboxEventType eventType, String payload, int attempts) {
+            this.id = id;
+            this.eventType = eventType;
+            this.payload = payload;
+            this.attempts = attempts;
+        }
+    }
+
+    private static class SlackResult {
+        private final ClaimedEvent event;
+        private final Exception cause; // null이면 전송 성공
+
+        SlackResult(ClaimedEvent event, Exception cause) {
+            this.event = event;
+            this.cause = cause;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.agri.market.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 트랜잭션 아웃박스 기록
+ * - 호출한 서비스의 트랜잭션 안에서 이벤트 행만 추가 (알림 저장, Slack, 이메일은 커밋 후 OutboxRelay가 수행)
+ * - 비즈니스 처리가 롤백되면 이벤트도 함께 사라지고, 커밋되면 전달될 때까지 재시도됨
+ * - 커밋 직후 릴레이를 깨워 폴링 주기를 기다리지 않고 전달
+ */
+@Service
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final OutboxRelay outboxRelay;
+
+    public OutboxService(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper,
+                         OutboxRelay outboxRelay) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.outboxRelay = outboxRelay;
+    }
+
+    /**
+     * 사용자 알림 저장 예약
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendUserNotification(Long userId, String title, String message, NotificationType type) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("userId", userId);
+        payload.put("title", title);
+        payload.put("message", message);
+        payload.put("type", type.name());
+        append(OutboxEventType.USER_NOTIFICATION, payload);
+    }
+
+    /**
+     * 관리자 알림 저장 예약
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAdminNotification(String title, String message, NotificationType type) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("title", title);
+        payload.put("message", message);
+        payload.put("type", type.name());
+        append(OutboxEventType.ADMIN_NOTIFICATION, payload);
+    }
+
+    /**
+     * 결제 완료 Slack 알림 예약
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendSlackPaymentNotification(Long orderId, BigDecimal amount) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderId", orderId);
+        payload.put("amount", amount.toPlainString());
+        append(OutboxEventType.SLACK_PAYMENT, payload);
+    }
+
+    /**
+     * 이메일 발송 예약 (본문은 텍스트, 임시 비밀번호 등 민감 정보는 담지 않음)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendEmail(String recipient, String subject, String body) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("recipient", recipient);
+        payload.put("subject", subject);
+        payload.put("body", body);
+        append(OutboxEventType.EMAIL, payload);
+    }
+
+    private void append(OutboxEventType eventType, Map<String, Object> payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setEventType(eventType);
+        try {
+            event.setPayload(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize outbox payload: " + eventType, e);
+        }
+        outboxEventRepository.save(event);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxRelay.wakeUp();
+            }
+        });
+    }
+}
@@ -0,0 +1,239 @@
+package com.agri.market.notification;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Slack 웹훅 전송 전용 디스패처
+ * - 전용 스레드 하나에서 순서대로 전송하고, 공용 @Async 풀을 쓰지 않아 Slack 장애가 다른 비동기 작업을 막지 않음
+ * - 재시도는 스레드를 재우지 않고 타이머로 다시 예약 (지수 백오프, 429 응답은 Retry-After 존중)
+ * - 대기 메시지 수를 제한해 장애가 길어져도 메모리가 늘지 않음 (가득 차면 submit/tryReserve가 false 반환)
+ * - 메시지 내용은 처음 전송할 때 한 번만 만들고 재시도 시 다시 조회하지 않음
+ * - 전송 결과가 필요한 호출 측(아웃박스 결제 알림)은 DeliveryListener로 전송 성공/최종 실패를 통보받음
+ */
+@Component
+public class SlackDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlackDispatcher.class);
+
+    /**
+     * 전송 결과 통보 (디스패처 스레드에서 호출되므로 오래 걸리는 작업을 하지 않음)
+     */
+    public interface DeliveryListener {
+
+        DeliveryListener NONE = new DeliveryListener() {
+            @Override
+            public void delivered() {
+            }
+
+            @Override
+            public void failed(Exception cause) {
+            }
+        };
+
+        /**
+         * 전송 성공 (메시지 내용이 null이라 보낼 것이 없는 경우 포함)
+         */
+        void delivered();
+
+        /**
+         * 메시지 구성 실패 또는 최대 재시도 후 전송 실패
+         */
+        void failed(Exception cause);
+    }
+
+    private final RestTemplate restTemplate;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final int queueCapacity;
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+
+    public SlackDispatcher(RestTemplate restTemplate,
+                           @Value("${slack.dispatch.queue-capacity:500}") int queueCapacity,
+                           @Value("${slack.dispatch.max-attempts:5}") int maxAttempts,
+                           @Value("${slack.dispatch.base-backoff-ms:1000}") long baseBackoffMs,
+                           @Value("${slack.dispatch.max-backoff-ms:60000}") long maxBackoffMs) {
+        this.restTemplate = restTemplate;
+        this.queueCapacity = queueCapacity;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "slack-dispatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 메시지 전송 예약
+     * @param payloadBuilder 디스패처 스레드에서 한 번 호출되어 메시지를 만듦 (null 반환 시 전송 생략)
+     * @return 대기열이 가득 차서 받지 못하면 false
+     */
+    public boolean submit(String webhookUrl, String description, Supplier<Map<String, Object>> payloadBuilder) {
+        if (!tryReserve()) {
+            logger.warn("Slack dispatch queue is full, rejecting {}", description);
+            return false;
+        }
+        submitReserved(webhookUrl, description, payloadBuilder, DeliveryListener.NONE);
+        return true;
+    }
+
+    /**
+     * 나중에 보낼 메시지 한 건의 대기열 자리를 미리 확보 (묶음 전송용 - submitReserved 또는 releaseReservation으로 반환)
+     * @return 대기열이 가득 차면 false
+     */
+    public boolean tryReserve() {
+        if (pending.incrementAndGet() > queueCapacity) {
+            pending.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 미리 확보한 자리로 메시지 전송 예약 (대기열 용량을 다시 확인하지 않음)
+     * @param listener 전송 성공/최종 실패 통보
+     */
+    public void submitReserved(String webhookUrl, String description, Supplier<Map<String, Object>> payloadBuilder,
+                               DeliveryListener listener) {
+        scheduler.execute(() -> {
+            Map<String, Object> payload;
+            try {
+                payload = payloadBuilder.get();
+            } catch (Exception e) {
+                pending.decrementAndGet();
+                logger.error("Failed to build Slack message for {}", description, e);
+                notifyFailed(listener, description, e);
+                return;
+            }
+            if (payload == null) {
+                pending.decrementAndGet();
+                notifyDelivered(listener, description);
+                return;
+            }
+            attempt(new Message(webhookUrl, description, payload, listener), 1);
+        });
+    }
+
+    /**
+     * 확보한 자리를 쓰지 않고 반환
+     */
+    public void releaseReservation() {
+        pending.decrementAndGet();
+    }
+
+    /**
+     * 디스패처 스레드에서 지연 실행 (메시지 묶음 전송용)
+     */
+    public void schedule(Runnable task, long delayMs) {
+        scheduler.schedule(task, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 대기 중이거나 재시도 예약된 메시지 수
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    private void attempt(Message message, int attempt) {
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            restTemplate.postForEntity(message.webhookUrl, new HttpEntity<>(message.payload, headers), String.class);
+        } catch (Exception e) {
+            if (attempt >= maxAttempts || scheduler.isShutdown()) {
+                pending.decrementAndGet();
+                logger.error("Failed to send Slack message after {} attempts: {}", attempt, message.description, e);
+                notifyFailed(message.listener, message.description, e);
+                return;
+            }
+            long delayMs = retryDelayMs(e, attempt);
+            logger.warn("Failed to send Slack message (attempt {}/{}), retrying in {}ms: {} - {}",
+                    attempt, maxAttempts, delayMs, message.description, e.getMessage());
+            scheduler.schedule(() -> attempt(message, attempt + 1), delayMs, TimeUnit.MILLISECONDS);
+            return;
+        }
+        pending.decrementAndGet();
+        logger.info("Slack message sent: {}", message.description);
+        notifyDelivered(message.listener, message.description);
+    }
+
+    // 통보 중 예외가 디스패처 스레드나 재시도 흐름으로 번지지 않도록 기록만 함
+    private static void notifyDelivered(DeliveryListener listener, String description) {
+        try {
+            listener.delivered();
+        } catch (Exception e) {
+            logger.error("Slack delivery listener failed for {}", description, e);
+        }
+    }
+
+    private static void notifyFailed(DeliveryListener listener, String description, Exception cause) {
+        try {
+            listener.failed(cause);
+        } catch (Exception e) {
+            logger.error("Slack delivery listener failed for {}", description, e);
+        }
+    }
+
+    /**
+     * 재시도 간격 - Slack 속도 제한(429)은 Retry-After(초)를 따르고, 그 외에는 1초, 2초, 4초 ... 최대 maxBackoffMs
+     */
+    private long retryDelayMs(Exception e, int attempt) {
+        if (e instanceof HttpClientErrorException.TooManyRequests tooManyRequests
+                && tooManyRequests.getResponseHeaders() != null) {
+            String retryAfter = tooManyRequests.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+            if (retryAfter != null) {
+                try {
+                    return Math.min(maxBackoffMs, Long.parseLong(retryAfter.trim()) * 1000);
+                } catch (NumberFormatException ignored) {
+                    // 기본 백오프 사용
+                }
+            }
+        }
+        return Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt - 1, 20));
+    }
+
+    private static class Message {
+        private final String webhookUrl;
+        private final String description;
+        private final Map<String, Object> payload;
+        private final DeliveryListener listener;
+
+        Message(String webhookUrl, String description, Map<String, Object> payload, DeliveryListener listener) {
+            this.webhookUrl = webhookUrl;
+            this.description = description;
+            this.payload = payload;
+            this.listener = listener;
+        }
+    }
+}
@@ -7,11 +7,9 @@ import com.agri.market.order.OrderRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.text.NumberFormat;
@@ -25,9 +23,19 @@ public class SlackNotificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(SlackNotificationService.class);
 
-    private final RestTemplate restTemplate;
+    // 결제 알림 묶음에 담는 최대 건수 (넘으면 거절해 아웃박스가 나중에 다시 전달)
+    private static final int MAX_COALESCED_PAYMENTS = 1000;
+
+    // 묶음 메시지에 나열하는 최대 주문 수
+    private static final int DIGEST_MAX_LINES = 15;
+
+    private final SlackDispatcher slackDispatcher;
     private final OrderRepository orderRepository;
     private final InquiryRepository inquiryRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Object paymentLock = new Object();
+    private List<PendingPayment> pendingPayments = new ArrayList<>();
 
     @Value("${slack.webhook.url:}")
     private String slackWebhookUrl;
@@ -38,54 +46,103 @@ public class SlackNotificationService {
     @Value("${slack.notification.enabled:true}")
     private boolean notificationEnabled;
 
-    public SlackNotificationService(RestTemplate restTemplate, OrderRepository orderRepository, InquiryRepository inquiryRepository) {
-        this.restTemplate = restTemplate;
+    // 결제 알림을 모으는 시간 - 이 안에 들어온 결제는 한 메시지로 전송
+    @Value("${slack.payment.coalesce-window-ms:3000}")
+    private long paymentCoalesceWindowMs;
+
+    public SlackNotificationService(SlackDispatcher slackDispatcher,
+                                    OrderRepository orderRepository, InquiryRepository inquiryRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.slackDispatcher = slackDispatcher;
         this.orderRepository = orderRepository;
         this.inquiryRepository = inquiryRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
-     * 결제 완료 알림을 Slack으로 전송 (Order ID로 조회)
-     * 지수 백오프 재시도 로직 적용 (500ms × attempt, 최대 3회)
+     * 결제 완료 알림 전송 예약 (결제 트랜잭션 커밋 후 OutboxRelay가 호출)
+     * 묶음 대기 시간 안에 들어온 결제는 모아서 한 메시지로 보냄 (1건이면 기존 상세 메시지, 여러 건이면 요약 메시지)
+     * 묶음을 시작할 때 디스패처 자리를 미리 잡아 두므로, 받은 결제는 전송 시점에 대기열 부족으로 버려지지 않음
+     * 받은 것만으로는 전송된 것이 아니므로, 묶음 메시지가 실제로 전송되거나 최종 실패하면 listener로 알림
      * @param orderId 주문 ID
      * @param amount 결제 금액
+     * @param listener 이 결제가 담긴 메시지의 전송 결과 통보 (알림이 꺼져 있으면 바로 delivered)
+     * @return 받지 못한 경우 false (묶음 또는 디스패처 대기열이 가득 참 - 호출 측에서 나중에 다시 시도)
      */
-    @Async
-    @Transactional(readOnly = true)
-    public void sendPaymentNotification(Long orderId, BigDecimal amount) {
+    public boolean sendPaymentNotification(Long orderId, BigDecimal amount, SlackDispatcher.DeliveryListener listener) {
         if (!notificationEnabled || slackWebhookUrl == null || slackWebhookUrl.isBlank()) {
             logger.debug("Slack notification is disabled or webhook URL is not configured");
+            listener.delivered();
+            return true;
+        }
+
+        synchronized (paymentLock) {
+            if (pendingPayments.size() >= MAX_COALESCED_PAYMENTS) {
+                return false;
+            }
+            if (pendingPayments.isEmpty()) {
+                // 묶음의 첫 결제가 묶음 메시지 한 건의 디스패처 자리를 잡고 대기 시간을 시작
+                if (!slackDispatcher.tryReserve()) {
+                    return false;
+                }
+                slackDispatcher.schedule(this::flushPaymentNotifications, paymentCoalesceWindowMs);
+            }
+            pendingPayments.add(new PendingPayment(orderId, amount, listener));
+        }
+        return true;
+    }
+
+    /**
+     * 모인 결제 알림을 한 메시지로 전송 예약 (디스패처 스레드에서 실행, 묶음 시작 시 잡아 둔 자리 사용)
+     * 전송 결과는 묶음에 담긴 결제마다 통보
+     */
+    private void flushPaymentNotifications() {
+        List<PendingPayment> batch;
+        synchronized (paymentLock) {
+            batch = pendingPayments;
+            pendingPayments = new ArrayList<>();
+        }
+        if (batch.isEmpty()) {
+            slackDispatcher.releaseReservation();
             return;
         }
 
-        // 재시도 로직 (네트워크 오류 등 대비)
-        int maxRetries = 3;
-        int baseDelayMs = 500;
-
-        for (int attempt = 1; attempt <= maxRetries; attempt++) {
-            try {
-                // 새로운 트랜잭션에서 Order 조회 (OrderItems 포함)
-                Order order = orderRepository.findById(orderId)
-                        .orElseThrow(() -> new RuntimeException("Order not found: " + orderId));
-
-                Map<String, Object> payload = buildPaymentNotificationPayload(order, amount);
-                sendSlackMessage(payload);
-                logger.info("Payment notification sent to Slack for order: {}", order.getOrderNumber());
-                return; // 성공하면 종료
-            } catch (Exception e) {
-                logger.warn("Failed to send payment notification (attempt {}/{}): {}", attempt, maxRetries, e.getMessage());
-                if (attempt < maxRetries) {
-                    try {
-                        Thread.sleep(baseDelayMs * attempt); // 지수 백오프
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        return;
+        String description = batch.size() == 1
+                ? "payment notification for orderId " + batch.get(0).orderId
+                : "payment digest for " + batch.size() + " orders";
+        slackDispatcher.submitReserved(slackWebhookUrl, description,
+                () -> readOnlyTransaction.execute(status -> buildPaymentMessage(batch)),
+                new SlackDispatcher.DeliveryListener() {
+                    @Override
+                    public void delivered() {
+                        batch.forEach(payment -> payment.listener.delivered());
                     }
-                } else {
-                    logger.error("Failed to send Slack notification for orderId after {} attempts: {}", maxRetries, orderId, e);
-                }
+
+                    @Override
+                    public void failed(Exception cause) {
+                        batch.forEach(payment -> payment.listener.failed(cause));
+                    }
+                });
+    }
+
+    private Map<String, Object> buildPaymentMessage(List<PendingPayment> batch) {
+        if (batch.size() == 1) {
+            PendingPayment payment = batch.get(0);
+            // OrderItems는 읽기 전용 트랜잭션 안에서 지연 로딩
+            Order order = orderRepository.findById(payment.orderId).orElse(null);
+            if (order == null) {
+                logger.error("Order not found for Slack payment notification: {}", payment.orderId);
+                return null;
             }
+            return buildPaymentNotificationPayload(order, payment.amount);
         }
+
+        Map<Long, Order> ordersById = orderRepository.findAllById(
+                        batch.stream().map(payment -> payment.orderId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Order::getId, order -> order));
+        return buildPaymentDigestPayload(batch, ordersById);
     }
 
     /**
@@ -206,56 +263,88 @@ public class SlackNotificationService {
     }
 
     /**
-     * Slack 웹훅으로 메시지 전송 (기본 URL)
+     * 결제 묶음 요약 메시지 구성 (Block Kit 형식)
      */
-    private void sendSlackMessage(Map<String, Object> payload) {
-        sendSlackMessageToUrl(payload, slackWebhookUrl);
-    }
+    private Map<String, Object> buildPaymentDigestPayload(List<PendingPayment> batch, Map<Long, Order> ordersById) {
+        NumberFormat currencyFormat = NumberFormat.getNumberInstance(Locale.KOREA);
+        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
-    /**
-     * Slack 웹훅으로 메시지 전송 (지정된 URL)
-     */
-    private void sendSlackMessageToUrl(Map<String, Object> payload, String webhookUrl) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        BigDecimal totalAmount = batch.stream()
+                .map(payment -> payment.amount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        String orderList = batch.stream()
+                .limit(DIGEST_MAX_LINES)
+                .map(payment -> {
+                    Order order = ordersById.get(payment.orderId);
+                    String orderNumber = order != null ? order.getOrderNumber() : String.valueOf(payment.orderId);
+                    String recipient = order != null ? order.getRecipientName() : "-";
+                    return "• " + orderNumber + " | " + recipient + " | " + currencyFormat.format(payment.amount) + "원";
+                })
+                .collect(Collectors.joining("\n"));
+        if (batch.size() > DIGEST_MAX_LINES) {
+            orderList += "\n외 " + (batch.size() - DIGEST_MAX_LINES) + "건";
+        }
 
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(payload, headers);
+        List<Map<String, Object>> blocks = new ArrayList<>();
 
-        ResponseEntity<String> response = restTemplate.postForEntity(
-                webhookUrl,
-                entity,
-                String.class
-        );
+        // 헤더
+        blocks.add(Map.of(
+                "type", "header",
+                "text", Map.of(
+                        "type", "plain_text",
+                        "text", "💰 결제 " + batch.size() + "건이 완료되었습니다!",
+                        "emoji", true
+                )
+        ));
 
-        if (response.getStatusCode() != HttpStatus.OK) {
-            throw new RuntimeException("Slack API returned status: " + response.getStatusCode());
-        }
-    }
+        blocks.add(Map.of("type", "divider"));
 
-    /**
-     * 테스트용: 간단한 메시지 전송
-     */
-    public void sendTestMessage(String message) {
-        if (slackWebhookUrl == null || slackWebhookUrl.isBlank()) {
-            logger.warn("Slack webhook URL is not configured");
-            return;
-        }
+        // 요약
+        blocks.add(Map.of(
+                "type", "section",
+                "fields", Arrays.asList(
+                        Map.of("type", "mrkdwn", "text", "*결제건수:*\n" + batch.size() + "건"),
+                        Map.of("type", "mrkdwn", "text", "*결제금액 합계:*\n" + currencyFormat.format(totalAmount) + "원"),
+                        Map.of("type", "mrkdwn", "text", "*집계시간:*\n" + LocalDateTime.now().format(dateFormatter))
+                )
+        ));
 
-        try {
-            Map<String, Object> payload = Map.of("text", message);
-            sendSlackMessage(payload);
-            logger.info("Test message sent to Slack");
-        } catch (Exception e) {
-            logger.error("Failed to send test message to Slack", e);
-        }
+        // 주문 목록
+        blocks.add(Map.of(
+                "type", "section",
+                "text", Map.of(
+                        "type", "mrkdwn",
+                        "text", "*주문 목록:*\n" + orderList
+                )
+        ));
+
+        blocks.add(Map.of("type", "divider"));
+
+        // 관리자 주문 목록 링크 버튼
+        blocks.add(Map.of(
+                "type", "actions",
+                "elements", List.of(
+                        Map.of(
+                                "type", "button",
+                                "text", Map.of(
+                                        "type", "plain_text",
+                                        "text", "📋 주문 목록 보기",
+                                        "emoji", true
+                                ),
+                                "url", "https://todaymart.co.kr/admin/orders",
+                                "action_id", "view_orders"
+                        )
+                )
+        ));
+
+        return Map.of("blocks", blocks);
     }
 
     /**
-     * 고객 문의 알림을 Slack으로 전송
+     * 고객 문의 알림 전송 예약 (문의 저장 커밋 후 호출)
      * @param inquiryId 문의 ID
      */
-    @Async
-    @Transactional(readOnly = true)
     public void sendInquiryNotification(Long inquiryId) {
         // 문의용 webhook URL이 없으면 기본 URL 사용
         String webhookUrl = (slackInquiryWebhookUrl != null && !slackInquiryWebhookUrl.isBlank())
@@ -266,40 +355,15 @@ public class SlackNotificationService {
             return;
         }
 
-        logger.info("Sending inquiry notification for inquiryId: {}", inquiryId);
-
-        // 재시도 로직 (네트워크 오류 등 대비)
-        int maxRetries = 3;
-        int baseDelayMs = 500;
-
-        for (int attempt = 1; attempt <= maxRetries; attempt++) {
-            try {
-                Inquiry inquiry = inquiryRepository.findById(inquiryId).orElse(null);
-                if (inquiry == null) {
-                    logger.error("Inquiry not found: {}", inquiryId);
-                    return;
-                }
-
-                logger.info("Found inquiry: id={}, title={}", inquiry.getId(), inquiry.getTitle());
-
-                Map<String, Object> payload = buildInquiryNotificationPayload(inquiry);
-                sendSlackMessageToUrl(payload, webhookUrl);
-                logger.info("Inquiry notification sent to Slack for inquiry: {}", inquiryId);
-                return; // 성공하면 종료
-            } catch (Exception e) {
-                logger.warn("Failed to send inquiry notification (attempt {}/{}): {}", attempt, maxRetries, e.getMessage());
-                if (attempt < maxRetries) {
-                    try {
-                        Thread.sleep(baseDelayMs * attempt);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        return;
+        slackDispatcher.submit(webhookUrl, "inquiry notification for inquiryId " + inquiryId,
+                () -> readOnlyTransaction.execute(status -> {
+                    Inquiry inquiry = inquiryRepository.findById(inquiryId).orElse(null);
+                    if (inquiry == null) {
+                        logger.error("Inquiry not found: {}", inquiryId);
+                        return null;
                     }
-                } else {
-                    logger.error("Failed to send Slack notification for inquiryId after {} attempts: {}", maxRetries, inquiryId, e);
-                }
-            }
-        }
+                    return buildInquiryNotificationPayload(inquiry);
+                }));
     }
 
     /**
@@ -381,4 +445,16 @@ public class SlackNotificationService {
 
         return Map.of("blocks", blocks);
     }
+
+    private static class PendingPayment {
+        private final Long orderId;
+        private final BigDecimal amount;
+        private final SlackDispatcher.DeliveryListener listener;
+
+        PendingPayment(Long orderId, BigDecimal amount, SlackDispatcher.DeliveryListener listener) {
+            this.orderId = orderId;
+            this.amount = amount;
+            this.listener = listener;
+        }
+    }
 }
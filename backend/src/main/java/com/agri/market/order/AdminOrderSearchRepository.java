@@ -0,0 +1,102 @@
+package com.agri.market.order;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 관리자 주문 검색 1단계 - 조건에 맞는 주문 ID 페이지 조회
+ * 실제로 넘어온 조건만 WHERE에 넣어 (:x IS NULL OR ...) 없이 인덱스를 탈 수 있는 쿼리를 만듦
+ * 컬렉션 fetch join이 없으므로 LIMIT/OFFSET이 DB에서 적용됨 (연관 그래프는 2단계에서 ID로 일괄 조회)
+ */
+@Repository
+public class AdminOrderSearchRepository {
+
+    private final EntityManager entityManager;
+
+    public AdminOrderSearchRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * 주문 ID 페이지 조회 (생성일 최신순, 같은 시각이면 ID 역순)
+     */
+    public Page<Long> findOrderIds(OrderStatus orderStatus, LocalDateTime startDate, LocalDateTime endDate,
+                                   Long sellerId, Pageable pageable) {
+        Filter filter = new Filter(orderStatus, startDate, endDate, sellerId);
+
+        TypedQuery<Long> idQuery = entityManager.createQuery(
+                "SELECT o.id FROM Order o" + filter.where + " ORDER BY o.createdAt DESC, o.id DESC", Long.class);
+        filter.params.forEach(idQuery::setParameter);
+        if (pageable.isPaged()) {
+            idQuery.setFirstResult((int) pageable.getOffset());
+            idQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<Long> ids = idQuery.getResultList();
+
+        // 마지막 페이지 등 건수를 알 수 있으면 COUNT 쿼리 생략
+        return PageableExecutionUtils.getPage(ids, pageable, () -> {
+            TypedQuery<Long> countQuery = entityManager.createQuery(
+                    "SELECT COUNT(o) FROM Order o" + filter.where, Long.class);
+            filter.params.forEach(countQuery::setParameter);
+            return countQuery.getSingleResult();
+        });
+    }
+
+    /**
+     * 조건에 맞는 모든 주문 ID 스트리밍 (ID 역순, 필터 결과 전체 선택용)
+     * MySQL 드라이버가 결과를 한 행씩 읽도록 fetch size를 Integer.MIN_VALUE로 지정 - 호출 측 트랜잭션 안에서 닫아야 함
+     */
+    public Stream<Long> streamOrderIds(OrderStatus orderStatus, LocalDateTime startDate, LocalDateTime endDate,
+                                       Long sellerId) {
+        Filter filter = new Filter(orderStatus, startDate, endDate, sellerId);
+
+        TypedQuery<Long> query = entityManager.createQuery(
+                "SELECT o.id FROM Order o" + filter.where + " ORDER BY o.id DESC", Long.class);
+        filter.params.forEach(query::setParameter);
+        query.setHint("org.hibernate.fetchSize", Integer.MIN_VALUE);
+        query.setHint("org.hibernate.readOnly", true);
+        return query.getResultStream();
+    }
+
+    /**
+     * 넘어온 조건만으로 만든 WHERE 절과 파라미터
+     */
+    private static class Filter {
+        private final StringBuilder where = new StringBuilder();
+        private final Map<String, Object> params = new HashMap<>();
+
+        Filter(OrderStatus orderStatus, LocalDateTime startDate, LocalDateTime endDate, Long sellerId) {
+            if (orderStatus != null) {
+                and("o.orderStatus = :orderStatus");
+                params.put("orderStatus", orderStatus);
+            }
+            if (startDate != null) {
+                and("o.createdAt >= :startDate");
+                params.put("startDate", startDate);
+            }
+            if (endDate != null) {
+                and("o.createdAt <= :endDate");
+                params.put("endDate", endDate);
+            }
+            if (sellerId != null) {
+                // 판매자는 주문 항목의 상품을 통해 연결 - EXISTS로 주문당 한 행 유지 (DISTINCT 불필요)
+                and("EXISTS (SELECT oi.id FROM OrderItem oi WHERE oi.order = o AND oi.product.seller.id = :sellerId)");
+                params.put("sellerId", sellerId);
+            }
+        }
+
+        private void and(String condition) {
+            where.append(where.length() == 0 ? " WHERE " : " AND ").append(condition);
+        }
+    }
+}
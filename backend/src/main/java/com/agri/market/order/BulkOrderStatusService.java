@@ -0,0 +1,292 @@
+package com.agri.market.order;
+
+import com.agri.market.dto.admin.OrderStatusTarget;
+import com.agri.market.notification.NotificationService;
+import com.agri.market.notification.NotificationType;
+import com.agri.market.settlement.SellerLedgerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 상태 일괄 변경 (관리자용)
+ * - 대상 주문을 IN 쿼리로 한 번에 조회하고 상태 전이 가능 여부를 메모리에서 검증
+ * - 변경은 CHUNK_SIZE 단위 JDBC 배치로 실행하고 청크마다 커밋 (일부 실패가 전체 트랜잭션을 오염시키지 않음)
+ * - 버전 컬럼으로 낙관적 잠금 - 조회 이후 다른 요청이 바꾼 주문은 실패로 보고
+ * - 판매량/원장/알림 같은 후속 처리는 모든 청크가 끝난 뒤 한 번에 실행
+ */
+@Service
+public class BulkOrderStatusService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkOrderStatusService.class);
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int IN_CLAUSE_SIZE = 1000;
+
+    // 더 이상 상태를 바꿀 수 없는 주문 상태
+    private static final Set<OrderStatus> TERMINAL_STATUSES = EnumSet.of(
+            OrderStatus.CANCELLED, OrderStatus.RETURN_COMPLETED, OrderStatus.PARTIALLY_RETURNED);
+
+    // 결제 흐름에서만 설정되는 상태 (결제 완료 이후 주문은 되돌릴 수 없음)
+    private static final Set<OrderStatus> PAYMENT_STATUSES = EnumSet.of(
+            OrderStatus.PENDING_PAYMENT, OrderStatus.PAYMENT_FAILED);
+
+    private static final String RESET_ITEM_TRACKING_SQL =
+            "UPDATE order_items SET tracking_number = NULL, courier_code = NULL, courier_company = NULL, " +
+            "shipped_at = NULL WHERE order_id = ?";
+
+    private static final String INCREMENT_SALES_COUNT_SQL =
+            "UPDATE products SET sales_count = sales_count + ? WHERE id = ?";
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final NotificationService notificationService;
+    private final SellerLedgerService sellerLedgerService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public BulkOrderStatusService(OrderRepository orderRepository,
+                                  OrderItemRepository orderItemRepository,
+                                  NotificationService notificationService,
+                                  SellerLedgerService sellerLedgerService,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.notificationService = notificationService;
+        this.sellerLedgerService = sellerLedgerService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 여러 주문의 상태를 일괄 변경
+     * @param orderIds 변경할 주문 ID 목록
+     * @param newStatus 새로운 주문 상태
+     * @return 성공한 주문 ID 목록과 실패한 주문 정보를 담은 Map
+     */
+    public Map<String, Object> bulkUpdateOrderStatus(List<Long> orderIds, OrderStatus newStatus) {
+        List<Long> successIds = new ArrayList<>();
+        List<Map<String, Object>> failedOrders = new ArrayList<>();
+
+        // 1. 대상 주문 일괄 조회 및 전이 검증
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(orderIds));
+        Map<Long, OrderStatusTarget> targets = loadTargets(distinctIds);
+
+        List<OrderStatusTarget> pending = new ArrayList<>();
+        for (Long orderId : distinctIds) {
+            OrderStatusTarget target = targets.get(orderId);
+            String error = target == null
+                    ? "Order not found with id: " + orderId
+                    : validateTransition(target.getOrderStatus(), newStatus);
+            if (error != null) {
+                failedOrders.add(failure(orderId, error));
+            } else {
+                pending.add(target);
+            }
+        }
+
+        // 2. 청크 단위 배치 변경 (청크마다 커밋)
+        String updateSql = updateOrderSql(newStatus);
+        List<OrderStatusTarget> changed = new ArrayList<>();
+        for (int from = 0; from < pending.size(); from += CHUNK_SIZE) {
+            List<OrderStatusTarget> chunk = pending.subList(from, Math.min(from + CHUNK_SIZE, pending.size()));
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            try {
+                List<OrderStatusTarget> applied = transactionTemplate.execute(status -> {
+                    int[][] counts = jdbcTemplate.batchUpdate(updateSql, chunk, chunk.size(), (ps, target) -> {
+                        int index = 1;
+                        ps.setString(index++, newStatus.name());
+                        ps.setTimestamp(index++, now);
+                        if (newStatus == OrderStatus.SHIPPED || newStatus == OrderStatus.DELIVERED) {
+                            ps.setTimestamp(index++, now);
+                        }
+                        ps.setLong(index++, target.getOrderId());
+                        ps.setLong(index, target.getVersion());
+                    });
+
+                    // 버전이 달라 갱신되지 않은 주문은 제외
+                    List<OrderStatusTarget> updated = new ArrayList<>();
+                    for (int i = 0; i < chunk.size(); i++) {
+                        if (counts[0][i] > 0) {
+                            updated.add(chunk.get(i));
+                        }
+                    }
+
+                    // 상품 준비중으로 되돌리면 송장 정보 초기화
+                    if (newStatus == OrderStatus.PREPARING && !updated.isEmpty()) {
+                        jdbcTemplate.batchUpdate(RESET_ITEM_TRACKING_SQL, updated, updated.size(),
+                                (ps, target) -> ps.setLong(1, target.getOrderId()));
+                    }
+                    return updated;
+                });
+
+                Set<Long> appliedIds = applied.stream().map(OrderStatusTarget::getOrderId).collect(Collectors.toSet());
+                for (OrderStatusTarget target : chunk) {
+                    if (appliedIds.contains(target.getOrderId())) {
+                        successIds.add(target.getOrderId());
+                        changed.add(target);
+                    } else {
+                        failedOrders.add(failure(target.getOrderId(), "다른 요청에서 주문이 변경되었습니다. 다시 시도해주세요."));
+                    }
+                }
+            } catch (DataAccessException e) {
+                logger.error("Bulk status chunk failed ({} orders): {}", chunk.size(), e.getMessage());
+                for (OrderStatusTarget target : chunk) {
+                    failedOrders.add(failure(target.getOrderId(), e.getMostSpecificCause().getMessage()));
+                }
+            }
+        }
+
+        // 3. 후속 처리 일괄 실행
+        if (!changed.isEmpty()) {
+            applySideEffects(changed, newStatus);
+        }
+
+        logger.info("Bulk order status -> {}: requested {}, success {}, failure {}",
+                newStatus, orderIds.size(), successIds.size(), failedOrders.size());
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("successCount", successIds.size());
+        result.put("failureCount", failedOrders.size());
+        result.put("successIds", successIds);
+        result.put("failedOrders", failedOrders);
+
+        return result;
+    }
+
+    /**
+     * 상태 전이 검증
+     * @return 오류 메시지 (허용되면 null)
+     */
+    static String validateTransition(OrderStatus current, OrderStatus next) {
+        if (current == next) {
+            return "이미 " + next + " 상태입니다";
+        }
+        if (TERMINAL_STATUSES.contains(current)) {
+            return current + " 상태의 주문은 변경할 수 없습니다";
+        }
+        if (PAYMENT_STATUSES.contains(next) && !PAYMENT_STATUSES.contains(current)) {
+            return "결제 완료된 주문을 " + next + " 상태로 변경할 수 없습니다";
+        }
+        return null;
+    }
+
+    /**
+     * 상태별 주문 UPDATE 문 (updateOrderStatus의 타임스탬프 규칙과 동일)
+     * 파라미터: 상태, updated_at, [shipped_at | delivered_at], id, version
+     */
+    private static String updateOrderSql(OrderStatus newStatus) {
+        String timestamps = switch (newStatus) {
+            case SHIPPED -> ", shipped_at = ?";
+            case DELIVERED -> ", delivered_at = ?";
+            case PREPARING -> ", shipped_at = NULL";
+            default -> "";
+        };
+        return "UPDATE orders SET order_status = ?, updated_at = ?" + timestamps + ", version = version + 1 " +
+               "WHERE id = ? AND version = ?";
+    }
+
+    private Map<Long, OrderStatusTarget> loadTargets(List<Long> orderIds) {
+        Map<Long, OrderStatusTarget> targets = new HashMap<>();
+        for (int from = 0; from < orderIds.size(); from += IN_CLAUSE_SIZE) {
+            List<Long> batch = orderIds.subList(from, Math.min(from + IN_CLAUSE_SIZE, orderIds.size()));
+            targets.putAll(orderRepository.findStatusTargets(batch).stream()
+                    .collect(Collectors.toMap(OrderStatusTarget::getOrderId, Function.identity())));
+        }
+        return targets;
+    }
+
+    /**
+     * 후속 처리 - 처음 배송 완료된 주문의 상품 판매량 반영, 취소 시 판매자 원장 적립 취소, 주문자 알림
+     * 상태 변경은 이미 커밋되었으므로 실패해도 결과에는 영향 없이 로그만 남김
+     */
+    private void applySideEffects(List<OrderStatusTarget> changed, OrderStatus newStatus) {
+        if (newStatus == OrderStatus.DELIVERED) {
+            // 이전에 배송 완료된 적이 있는 주문은 이미 판매량에 반영됨 (배송 완료 → 배송중 → 배송 완료)
+            List<Long> firstDeliveries = changed.stream()
+                    .filter(target -> target.getDeliveredAt() == null)
+                    .map(OrderStatusTarget::getOrderId)
+                    .toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> incrementSalesCounts(firstDeliveries));
+            } catch (DataAccessException e) {
+                logger.error("Failed to update sales counts after bulk status change: {}", e.getMessage());
+            }
+        }
+
+        if (newStatus == OrderStatus.CANCELLED) {
+            reverseLedger(changed);
+        }
+
+        try {
+            NotificationType type = newStatus == OrderStatus.SHIPPED
+                    ? NotificationType.DELIVERY_STARTED
+                    : NotificationType.ORDER_STATUS_CHANGED;
+            List<NotificationService.UserNotification> notifications = changed.stream()
+                    .filter(target -> target.getUserId() != null)
+                    .map(target -> new NotificationService.UserNotification(
+                            target.getUserId(),
+                            "주문 상태가 변경되었습니다",
+                            "주문번호 " + target.getOrderNumber() + " 주문이 " + newStatus + " 상태로 변경되었습니다.",
+                            type))
+                    .toList();
+            transactionTemplate.executeWithoutResult(status -> notificationService.saveNotificationsForUsers(notifications));
+        } catch (DataAccessException e) {
+            logger.error("Failed to save notifications after bulk status change: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 취소된 주문의 판매자 원장 적립 취소 (주문마다 별도 트랜잭션 - 한 주문의 실패가 다른 주문에 영향 없음)
+     */
+    private void reverseLedger(List<OrderStatusTarget> cancelled) {
+        int failures = 0;
+        for (OrderStatusTarget target : cancelled) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> orderRepository.findById(target.getOrderId())
+                        .ifPresent(order -> sellerLedgerService.recordOrderCancelled(order, "관리자 일괄 취소")));
+            } catch (RuntimeException e) {
+                failures++;
+                logger.error("Failed to reverse ledger for cancelled order {}: {}", target.getOrderId(), e.getMessage());
+            }
+        }
+        if (failures > 0) {
+            logger.warn("Ledger reversal failed for {} of {} bulk-cancelled orders", failures, cancelled.size());
+        }
+    }
+
+    private void incrementSalesCounts(List<Long> orderIds) {
+        for (int from = 0; from < orderIds.size(); from += IN_CLAUSE_SIZE) {
+            List<Long> batch = orderIds.subList(from, Math.min(from + IN_CLAUSE_SIZE, orderIds.size()));
+            List<Object[]> quantities = orderItemRepository.sumQuantityByProductForOrders(batch);
+            jdbcTemplate.batchUpdate(INCREMENT_SALES_COUNT_SQL, quantities, quantities.size(), (ps, row) -> {
+                ps.setLong(1, ((Number) row[1]).longValue());
+                ps.setLong(2, (Long) row[0]);
+            });
+        }
+    }
+
+    private static Map<String, Object> failure(Long orderId, String error) {
+        Map<String, Object> failed = new HashMap<>();
+        failed.put("orderId", orderId);
+        failed.put("error", error);
+        return failed;
+    }
+}
@@ -1,6 +1,7 @@
 package com.agri.market.order;
 
 import com.agri.market.dto.CancelOrderRequest;
+import com.agri.market.dto.OrderHistoryResponse;
 import com.agri.market.dto.OrderRequest;
 import com.agri.market.dto.OrderResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -66,6 +67,25 @@ public class OrderController {
         return ResponseEntity.ok(orderResponses);
     }
 
+    @Operation(summary = "내 주문 내역 (커서 페이지)", description = "현재 로그인한 사용자의 주문 요약을 최신순으로 조회합니다. " +
+            "응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다. 상세 정보는 주문 상세 조회를 사용합니다.",
+            security = @SecurityRequirement(name = "Bearer Authentication"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "주문 내역 조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @GetMapping("/history")
+    public ResponseEntity<OrderHistoryResponse> getOrderHistory(
+            @Parameter(description = "주문 상태 필터") @RequestParam(required = false) OrderStatus status,
+            @Parameter(description = "이전 페이지의 nextCursor") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "10") int size) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        String userEmail = userDetails.getUsername();
+
+        return ResponseEntity.ok(orderService.getOrderHistory(userEmail, status, cursor, size));
+    }
+
     @PostMapping("/{orderId}/complete")
     public ResponseEntity<String> completeOrder(@PathVariable Long orderId) {
         orderService.completePayment(orderId);
@@ -1,15 +1,23 @@
 package com.agri.market.order;
 
 import com.agri.market.dto.TopProductDTO;
+import com.agri.market.dto.admin.OrderExportRow;
+import com.agri.market.dto.admin.TrackingUploadTarget;
 import com.agri.market.product.Product;
+import com.agri.market.settlement.SellerSalesSummary;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
@@ -32,4 +40,143 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
             "GROUP BY oi.product.id, oi.product.name, oi.product.imageUrl " +
             "ORDER BY SUM(oi.quantity) DESC")
     List<TopProductDTO> findTopProducts(@Param("startDate") LocalDateTime startDate, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 기간 내 판매자별 매출 및 주문 건수 집계 (정산 일괄 생성용)
+     * 주문 그래프를 로딩하지 않고 한 번의 GROUP BY 쿼리로 모든 판매자를 집계
+     */
+    @Query("SELECT new com.agri.market.settlement.SellerSalesSummary(" +
+            "p.seller.id, " +
+            "SUM(oi.price * oi.quantity), " +
+            "COUNT(DISTINCT o.id)) " +
+            "FROM OrderItem oi " +
+            "JOIN oi.order o " +
+            "JOIN oi.product p " +
+            "WHERE o.createdAt BETWEEN :startDate AND :endDate " +
+            "AND o.orderStatus IN :statuses " +
+            "AND p.seller IS NOT NULL " +
+            "GROUP BY p.seller.id")
+    List<SellerSalesSummary> sumSalesBySellerForPeriod(@Param("startDate") LocalDateTime startDate,
+                                                       @Param("endDate") LocalDateTime endDate,
+                                                       @Param("statuses") Collection<OrderStatus> statuses);
+
+    /**
+     * 기간 내 특정 판매자의 매출 및 주문 건수 집계
+     */
+    @Query("SELECT new com.agri.market.settlement.SellerSalesSummary(" +
+            "p.seller.id, " +
+            "SUM(oi.price * oi.quantity), " +
+            "COUNT(DISTINCT o.id)) " +
+            "FROM OrderItem oi " +
+            "JOIN oi.order o " +
+            "JOIN oi.product p " +
+            "WHERE o.createdAt BETWEEN :startDate AND :endDate " +
+            "AND o.orderStatus IN :statuses " +
+            "AND p.seller.id = :sellerId " +
+            "GROUP BY p.seller.id")
+    Optional<SellerSalesSummary> sumSalesForSellerAndPeriod(@Param("sellerId") Long sellerId,
+                                                            @Param("startDate") LocalDateTime startDate,
+                                                            @Param("endDate") LocalDateTime endDate,
+                                                            @Param("statuses") Collection<OrderStatus> statuses);
+
+    /**
+     * 판매자의 주문 항목 조회 (구글 시트 전체 동기화용)
+     * products.seller_id 인덱스로 판매자 상품의 주문 항목만 조회
+     */
+    @Query("SELECT oi FROM OrderItem oi " +
+            "JOIN FETCH oi.order o " +
+            "JOIN FETCH o.user u " +
+            "JOIN FETCH oi.product p " +
+            "LEFT JOIN FETCH oi.productOption po " +
+            "WHERE p.seller.id = :sellerId " +
+            "AND o.orderStatus IN :statuses " +
+            "ORDER BY o.createdAt ASC, oi.id ASC")
+    List<OrderItem> findBySellerForSheetSync(@Param("sellerId") Long sellerId,
+                                             @Param("statuses") Collection<OrderStatus> statuses);
+
+    /**
+     * 워터마크 이후 변경된 판매자의 주문 항목 조회 (구글 시트 증분 동기화용)
+     */
+    @Query("SELECT oi FROM OrderItem oi " +
+            "JOIN FETCH oi.order o " +
+            "JOIN FETCH o.user u " +
+            "JOIN FETCH oi.product p " +
+            "LEFT JOIN FETCH oi.productOption po " +
+            "WHERE p.seller.id = :sellerId " +
+            "AND o.updatedAt > :since " +
+            "ORDER BY o.createdAt ASC, oi.id ASC")
+    List<OrderItem> findBySellerChangedSince(@Param("sellerId") Long sellerId,
+                                             @Param("since") LocalDateTime since);
+
+    /**
+     * 주문 내보내기 행 스트리밍 조회 (주문 최신순, 주문 내 항목 ID순)
+     * MySQL 드라이버가 결과를 한 행씩 읽도록 fetch size를 Integer.MIN_VALUE로 지정 (전체 결과를 메모리에 적재하지 않음)
+     * 호출 측 트랜잭션 안에서 소비하고 반드시 닫아야 함
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT new com.agri.market.dto.admin.OrderExportRow(" +
+            "o.id, o.orderNumber, o.recipientName, o.recipientPhone, " +
+            "o.shippingPostcode, o.shippingAddressLine1, o.shippingAddressLine2, o.deliveryMessage, " +
+            "oi.id, p.name, po.optionValue, oi.quantity, oi.trackingNumber) " +
+            "FROM OrderItem oi " +
+            "JOIN oi.order o " +
+            "JOIN oi.product p " +
+            "LEFT JOIN oi.productOption po " +
+            "WHERE (:startDate IS NULL OR o.createdAt >= :startDate) " +
+            "AND (:endDate IS NULL OR o.createdAt <= :endDate) " +
+            "AND (:status IS NULL OR o.orderStatus = :status) " +
+            "AND (:sellerId IS NULL OR p.seller.id = :sellerId) " +
+            "ORDER BY o.createdAt DESC, o.id DESC, oi.id ASC")
+    Stream<OrderExportRow> streamOrderExportRows(@Param("startDate") LocalDateTime startDate,
+                                                 @Param("endDate") LocalDateTime endDate,
+                                                 @Param("status") OrderStatus status,
+                                                 @Param("sellerId") Long sellerId);
+
+    /**
+     * 주문 내보내기 대상 행 수 (진행률 계산용)
+     */
+    @Query("SELECT COUNT(oi) FROM OrderItem oi " +
+            "JOIN oi.order o " +
+            "JOIN oi.product p " +
+            "WHERE (:startDate IS NULL OR o.createdAt >= :startDate) " +
+            "AND (:endDate IS NULL OR o.createdAt <= :endDate) " +
+            "AND (:status IS NULL OR o.orderStatus = :status) " +
+            "AND (:sellerId IS NULL OR p.seller.id = :sellerId)")
+    long countOrderExportRows(@Param("startDate") LocalDateTime startDate,
+                              @Param("endDate") LocalDateTime endDate,
+                              @Param("status") OrderStatus status,
+                              @Param("sellerId") Long sellerId);
+
+    /**
+     * 송장 업로드 대상 주문 항목 일괄 조회 (주문별 항목 ID 순 - 엑셀의 주문번호_순번과 같은 순서)
+     */
+    @Query("SELECT new com.agri.market.dto.admin.TrackingUploadTarget(" +
+            "o.id, o.orderNumber, oi.id, oi.trackingNumber, p.name, p.courierCode, p.courierCompany) " +
+            "FROM OrderItem oi " +
+            "JOIN oi.order o " +
+            "JOIN oi.product p " +
+            "WHERE o.orderNumber IN :orderNumbers " +
+            "ORDER BY o.id ASC, oi.id ASC")
+    List<TrackingUploadTarget> findTrackingUploadTargets(@Param("orderNumbers") Collection<String> orderNumbers);
+
+    /**
+     * 주문들의 상품별 판매 수량 합계 [productId, quantity] (판매량 일괄 반영용)
+     */
+    @Query("SELECT oi.product.id, SUM(oi.quantity) FROM OrderItem oi " +
+            "WHERE oi.order.id IN :orderIds " +
+            "GROUP BY oi.product.id")
+    List<Object[]> sumQuantityByProductForOrders(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 여러 주문의 항목을 상품/옵션과 함께 일괄 조회 (주문 내역 목록용, 주문별 항목 ID 순)
+     */
+    @Query("SELECT oi FROM OrderItem oi " +
+            "JOIN FETCH oi.product " +
+            "LEFT JOIN FETCH oi.productOption " +
+            "WHERE oi.order.id IN :orderIds " +
+            "ORDER BY oi.order.id DESC, oi.id ASC")
+    List<OrderItem> findWithProductByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+}
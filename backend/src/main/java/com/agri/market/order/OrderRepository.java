@@ -1,15 +1,21 @@
 package com.agri.market.order;
 
+import com.agri.market.dto.admin.OrderStatusTarget;
+import com.agri.market.dto.admin.UserOrderStats;
 import com.agri.market.user.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -19,8 +25,10 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     // orderNumber로 주문 조회 (토스페이먼츠 결제 승인용)
     java.util.Optional<Order> findByOrderNumber(String orderNumber);
 
-    // 관리자용: 모든 주문 조회 (페이징)
-    Page<Order> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    // 주문 행 잠금 (웹훅과 결제 승인처럼 같은 주문을 동시에 처리하는 경로 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    java.util.Optional<Order> findByIdWithLock(@Param("id") Long id);
 
     // 관리자용: 주문 상태별 조회
     Page<Order> findByOrderStatusOrderByCreatedAtDesc(OrderStatus orderStatus, Pageable pageable);
@@ -33,34 +41,16 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
         Pageable pageable
     );
 
-    // 관리자용: 복합 필터링 (상태 + 날짜 + 판매자) - count 쿼리
-    @Query(value = "SELECT DISTINCT o FROM Order o " +
+    // 관리자 주문 검색 2단계: ID 페이지의 주문을 연관 그래프와 함께 일괄 조회 (순서는 호출 측에서 맞춤)
+    @Query("SELECT DISTINCT o FROM Order o " +
+           "JOIN FETCH o.user " +
+           "LEFT JOIN FETCH o.appliedCoupon " +
            "LEFT JOIN FETCH o.orderItems oi " +
            "LEFT JOIN FETCH oi.product p " +
-           "LEFT JOIN FETCH p.seller s " +
-           "LEFT JOIN FETCH oi.productOption po " +
-           "WHERE " +
-           "(:orderStatus IS NULL OR o.orderStatus = :orderStatus) AND " +
-           "(:startDate IS NULL OR o.createdAt >= :startDate) AND " +
-           "(:endDate IS NULL OR o.createdAt <= :endDate) AND " +
-           "(:sellerId IS NULL OR s.id = :sellerId) " +
-           "ORDER BY o.createdAt DESC",
-           countQuery = "SELECT COUNT(DISTINCT o) FROM Order o " +
-           "LEFT JOIN o.orderItems oi " +
-           "LEFT JOIN oi.product p " +
-           "LEFT JOIN p.seller s " +
-           "WHERE " +
-           "(:orderStatus IS NULL OR o.orderStatus = :orderStatus) AND " +
-           "(:startDate IS NULL OR o.createdAt >= :startDate) AND " +
-           "(:endDate IS NULL OR o.createdAt <= :endDate) AND " +
-           "(:sellerId IS NULL OR s.id = :sellerId)")
-    Page<Order> findOrdersWithFilters(
-        @Param("orderStatus") OrderStatus orderStatus,
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate,
-        @Param("sellerId") Long sellerId,
-        Pageable pageable
-    );
+           "LEFT JOIN FETCH p.seller " +
+           "LEFT JOIN FETCH oi.productOption " +
+           "WHERE o.id IN :ids")
+    List<Order> findAllWithGraphByIdIn(@Param("ids") Collection<Long> ids);
 
     @Query("SELECT COALESCE(SUM(o.totalAmount), 0) FROM Order o WHERE o.orderStatus = :orderStatus")
     BigDecimal sumTotalAmountByOrderStatus(@Param("orderStatus") OrderStatus orderStatus);
@@ -76,48 +66,17 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     long countByOrderStatus(OrderStatus orderStatus);
 
-    @Query("SELECT DISTINCT o FROM Order o " +
-           "LEFT JOIN FETCH o.user u " +
-           "LEFT JOIN FETCH o.orderItems oi " +
-           "LEFT JOIN FETCH oi.product p " +
-           "LEFT JOIN FETCH oi.productOption po " +
-           "WHERE (:startDate IS NULL OR o.createdAt >= :startDate) " +
-           "AND (:endDate IS NULL OR o.createdAt <= :endDate) " +
-           "AND (:status IS NULL OR o.orderStatus = :status) " +
-           "ORDER BY o.createdAt DESC")
-    List<Order> findOrdersForExport(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate,
-        @Param("status") OrderStatus status
-    );
-
-    @Query("SELECT DISTINCT o FROM Order o " +
-           "LEFT JOIN FETCH o.user u " +
-           "LEFT JOIN FETCH o.orderItems oi " +
-           "LEFT JOIN FETCH oi.product p " +
-           "LEFT JOIN FETCH p.seller s " +
-           "LEFT JOIN FETCH oi.productOption po " +
-           "WHERE (:startDate IS NULL OR o.createdAt >= :startDate) " +
-           "AND (:endDate IS NULL OR o.createdAt <= :endDate) " +
-           "AND (:status IS NULL OR o.orderStatus = :status) " +
-           "AND (:sellerId IS NULL OR p.seller.id = :sellerId) " +
-           "ORDER BY o.createdAt DESC")
-    List<Order> findOrdersForExportBySeller(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate,
-        @Param("status") OrderStatus status,
-        @Param("sellerId") Long sellerId
-    );
-
-    // 사용자별 주문 수 조회
-    long countByUserId(Long userId);
+    // 사용자별 주문 통계 일괄 조회 (관리자 사용자 목록 - 페이지당 한 번)
+    // 총 결제 금액은 결제 완료 이후 상태만 합산, 주문 수와 마지막 주문 일시는 전체 주문 기준
+    @Query("SELECT new com.agri.market.dto.admin.UserOrderStats(o.user.id, COUNT(o), " +
+           "SUM(CASE WHEN o.orderStatus IN (com.agri.market.order.OrderStatus.PAID, com.agri.market.order.OrderStatus.PREPARING, " +
+           "com.agri.market.order.OrderStatus.SHIPPED, com.agri.market.order.OrderStatus.DELIVERED) THEN o.totalAmount END), " +
+           "MAX(o.createdAt)) " +
+           "FROM Order o WHERE o.user.id IN :userIds GROUP BY o.user.id")
+    List<UserOrderStats> findOrderStatsByUserIds(@Param("userIds") Collection<Long> userIds);
 
-    // 사용자별 총 결제 금액 조회 (결제 완료 상태만)
-    @Query("SELECT COALESCE(SUM(o.totalAmount), 0) FROM Order o WHERE o.user.id = :userId AND (o.orderStatus = 'PAID' OR o.orderStatus = 'PREPARING' OR o.orderStatus = 'SHIPPED' OR o.orderStatus = 'DELIVERED')")
-    BigDecimal sumTotalAmountByUserId(@Param("userId") Long userId);
-
-    // 사용자별 주문 내역 조회
-    List<Order> findByUserIdOrderByCreatedAtDesc(Long userId);
+    // 사용자별 최근 주문 10건 (관리자 사용자 상세)
+    List<Order> findTop10ByUserIdOrderByCreatedAtDesc(Long userId);
 
     /**
      * 사용자별 주문 내역 조회 (연관 엔티티 즉시 로딩)
@@ -145,4 +104,40 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      */
     @Query("SELECT o FROM Order o WHERE o.orderStatus = :status AND o.trackingNumber IS NOT NULL AND o.courierCode IS NOT NULL")
     List<Order> findByOrderStatusWithTracking(@Param("status") OrderStatus status);
+
+    /**
+     * 모든 주문 항목에 송장번호가 등록된 준비중 주문을 배송중으로 일괄 변경
+     * 벌크 업데이트는 @Version/@UpdateTimestamp를 거치지 않으므로 직접 증가/갱신
+     */
+    @Modifying
+    @Query("UPDATE Order o SET o.orderStatus = :shipped, o.shippedAt = :now, o.updatedAt = :now, " +
+           "o.version = o.version + 1 " +
+           "WHERE o.id IN :orderIds AND o.orderStatus = :preparing " +
+           "AND NOT EXISTS (SELECT oi.id FROM OrderItem oi WHERE oi.order = o " +
+           "AND (oi.trackingNumber IS NULL OR TRIM(oi.trackingNumber) = ''))")
+    int markShippedIfFullyTracked(@Param("orderIds") Collection<Long> orderIds,
+                                  @Param("preparing") OrderStatus preparing,
+                                  @Param("shipped") OrderStatus shipped,
+                                  @Param("now") LocalDateTime now);
+
+    /**
+     * 일괄 상태 변경 대상 주문 조회 (엔티티/연관 없이 상태 검증용 컬럼만)
+     */
+    @Query("SELECT new com.agri.market.dto.admin.OrderStatusTarget(o.id, o.orderNumber, o.orderStatus, o.version, o.user.id, o.deliveredAt) " +
+           "FROM Order o WHERE o.id IN :orderIds")
+    List<OrderStatusTarget> findStatusTargets(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 사용자 주문 내역 ID 커서 페이지 (ID 역순, cursor보다 작은 ID부터)
+     * 기존 주문 목록(findByUserWithItems)과 같이 결제 대기 주문도 포함
+     */
+    @Query("SELECT o.id FROM Order o " +
+           "WHERE o.user.id = :userId " +
+           "AND (:status IS NULL OR o.orderStatus = :status) " +
+           "AND (:cursor IS NULL OR o.id < :cursor) " +
+           "ORDER BY o.id DESC")
+    List<Long> findHistoryIdsByUserId(@Param("userId") Long userId,
+                                      @Param("status") OrderStatus status,
+                                      @Param("cursor") Long cursor,
+                                      Pageable pageable);
 }
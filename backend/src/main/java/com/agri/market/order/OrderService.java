@@ -2,16 +2,20 @@ package com.agri.market.order;
 
 import com.agri.market.cart.Cart;
 import com.agri.market.cart.CartItem;
+import com.agri.market.cart.CartPricingEngine;
+import com.agri.market.cart.CartQuote;
 import com.agri.market.cart.CartRepository;
 import com.agri.market.coupon.Coupon;
 import com.agri.market.coupon.UserCoupon;
 import com.agri.market.coupon.UserCouponService;
 import com.agri.market.dto.OrderRequest;
+import com.agri.market.dto.OrderHistoryResponse;
 import com.agri.market.dto.OrderResponse;
+import com.agri.market.dto.OrderSummaryResponse;
 import com.agri.market.exception.BusinessException;
 import com.agri.market.exception.ForbiddenException;
-import com.agri.market.notification.NotificationService;
 import com.agri.market.notification.NotificationType;
+import com.agri.market.notification.OutboxService;
 import com.agri.market.payment.Payment;
 import com.agri.market.payment.PaymentRepository;
 import com.agri.market.payment.PaymentService;
@@ -19,12 +23,15 @@ import com.agri.market.product.Product;
 import com.agri.market.product.ProductOption;
 import com.agri.market.product.ProductOptionRepository;
 import com.agri.market.product.ProductRepository;
+import com.agri.market.settlement.SellerLedgerService;
 import com.agri.market.user.User;
 import com.agri.market.user.UserRepository;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -37,13 +44,19 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class OrderService {
 
+    // 주문 내역 한 페이지 최대 크기
+    private static final int MAX_HISTORY_PAGE_SIZE = 50;
+
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final UserRepository userRepository;
@@ -52,15 +65,21 @@ public class OrderService {
     private final CartRepository cartRepository;
     private final PaymentRepository paymentRepository;
 
-    private final NotificationService notificationService;
+    private final OutboxService outboxService;
     private final UserCouponService userCouponService;
+    private final SellerLedgerService sellerLedgerService;
+    private final AdminOrderSearchRepository adminOrderSearchRepository;
+    private final CartPricingEngine cartPricingEngine;
     private PaymentService paymentService;
 
     public OrderService(OrderRepository orderRepository, OrderItemRepository orderItemRepository,
                         UserRepository userRepository, ProductRepository productRepository,
                         ProductOptionRepository productOptionRepository,
                         CartRepository cartRepository, PaymentRepository paymentRepository,
-                        NotificationService notificationService, UserCouponService userCouponService) {
+                        OutboxService outboxService, UserCouponService userCouponService,
+                        SellerLedgerService sellerLedgerService,
+                        AdminOrderSearchRepository adminOrderSearchRepository,
+                        CartPricingEngine cartPricingEngine) {
         this.orderRepository = orderRepository;
         this.orderItemRepository = orderItemRepository;
         this.userRepository = userRepository;
@@ -68,8 +87,11 @@ public class OrderService {
         this.productOptionRepository = productOptionRepository;
         this.cartRepository = cartRepository;
         this.paymentRepository = paymentRepository;
-        this.notificationService = notificationService;
+        this.outboxService = outboxService;
         this.userCouponService = userCouponService;
+        this.sellerLedgerService = sellerLedgerService;
+        this.adminOrderSearchRepository = adminOrderSearchRepository;
+        this.cartPricingEngine = cartPricingEngine;
     }
 
     /**
@@ -104,89 +126,63 @@ public class OrderService {
 
         order.setOrderStatus(OrderStatus.PENDING_PAYMENT);
 
-        BigDecimal totalAmount = BigDecimal.ZERO;
-        BigDecimal totalShippingFee = BigDecimal.ZERO;
-        Set<OrderItem> orderItems = new HashSet<>();
-
+        // 주문 상품을 ID 순서로 한 번에 잠금 조회 (요청마다 잠금 순서가 같아 교착 상태 방지), 옵션도 한 번에 조회
+        List<Long> productIds = orderRequest.getItems().stream()
+                .map(OrderRequest.OrderItemRequest::getProductId)
+                .distinct()
+                .sorted()
+                .toList();
+        Map<Long, Product> productsById = productRepository.findAllByIdInWithLock(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, product -> product));
+        List<Long> optionIds = orderRequest.getItems().stream()
+                .map(OrderRequest.OrderItemRequest::getProductOptionId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<Long, ProductOption> optionsById = optionIds.isEmpty() ? Map.of()
+                : productOptionRepository.findAllById(optionIds).stream()
+                        .collect(Collectors.toMap(ProductOption::getId, option -> option));
+
+        List<CartPricingEngine.Item> pricingItems = new ArrayList<>();
         for (OrderRequest.OrderItemRequest itemRequest : orderRequest.getItems()) {
-            // Pessimistic Lock을 사용하여 동시성 제어
-            Product product = productRepository.findByIdWithLock(itemRequest.getProductId())
-                    .orElseThrow(() -> new RuntimeException("Product not found with id: " + itemRequest.getProductId()));
-
-            // 최소 주문 수량 검증
-            if (product.getMinOrderQuantity() != null && itemRequest.getQuantity() < product.getMinOrderQuantity()) {
-                throw new RuntimeException(product.getName() + " 상품의 최소 주문 수량은 " + product.getMinOrderQuantity() + "개입니다.");
-            }
-
-            // 최대 주문 수량 검증
-            if (product.getMaxOrderQuantity() != null && itemRequest.getQuantity() > product.getMaxOrderQuantity()) {
-                throw new RuntimeException(product.getName() + " 상품의 최대 주문 수량은 " + product.getMaxOrderQuantity() + "개입니다.");
+            Product product = productsById.get(itemRequest.getProductId());
+            if (product == null) {
+                throw new RuntimeException("Product not found with id: " + itemRequest.getProductId());
             }
-
-            if (product.getStock() < itemRequest.getQuantity()) {
-                throw new RuntimeException("Not enough stock for product: " + product.getName());
-            }
-
-            // 옵션 처리
             ProductOption productOption = null;
             if (itemRequest.getProductOptionId() != null) {
-                productOption = productOptionRepository.findById(itemRequest.getProductOptionId())
-                        .orElseThrow(() -> new RuntimeException("Product option not found with id: " + itemRequest.getProductOptionId()));
-
-                // 옵션이 해당 상품에 속하는지 검증
-                if (!productOption.getProduct().getId().equals(product.getId())) {
-                    throw new RuntimeException("Product option does not belong to this product");
+                productOption = optionsById.get(itemRequest.getProductOptionId());
+                if (productOption == null) {
+                    throw new RuntimeException("Product option not found with id: " + itemRequest.getProductOptionId());
                 }
+            }
+            pricingItems.add(new CartPricingEngine.Item(null, product, productOption, itemRequest.getQuantity()));
+        }
 
-                // 옵션 재고 확인
-                if (productOption.getStock() < itemRequest.getQuantity()) {
-                    throw new RuntimeException("Not enough stock for option: " + productOption.getName());
-                }
+        // 가격/배송비 계산 - 장바구니 화면과 같은 계산기 사용
+        CartQuote quote = cartPricingEngine.price(pricingItems);
+
+        Set<OrderItem> orderItems = new HashSet<>();
+        for (CartQuote.Line line : quote.getLines()) {
+            // 수량/재고/옵션 문제가 있으면 주문 불가
+            if (line.getWarning() != null) {
+                throw new RuntimeException(line.getWarningMessage());
             }
 
             OrderItem orderItem = new OrderItem();
             orderItem.setOrder(order);
-            orderItem.setProduct(product);
-            orderItem.setProductOption(productOption);
-            orderItem.setQuantity(itemRequest.getQuantity());
-
-            // 가격 계산: 할인된 가격 + 옵션 추가 가격
-            BigDecimal itemPrice = product.getDiscountedPrice();
-            System.out.println("[OrderService] Product: " + product.getName() +
-                             ", Original Price: " + product.getPrice() +
-                             ", Discounted Price: " + product.getDiscountedPrice());
-            if (productOption != null && productOption.getAdditionalPrice() != null) {
-                System.out.println("[OrderService] Option: " + productOption.getName() +
-                                 ", Additional Price: " + productOption.getAdditionalPrice());
-                itemPrice = itemPrice.add(productOption.getAdditionalPrice());
-            }
-            System.out.println("[OrderService] Final Item Price: " + itemPrice);
-            orderItem.setPrice(itemPrice);
+            orderItem.setProduct(line.getProduct());
+            orderItem.setProductOption(line.getOption());
+            orderItem.setQuantity(line.getQuantity());
+            orderItem.setPrice(line.getUnitPrice());
             orderItems.add(orderItem);
 
-            totalAmount = totalAmount.add(itemPrice.multiply(BigDecimal.valueOf(itemRequest.getQuantity())));
-
-            // 합포장 배송비 계산
-            BigDecimal itemShippingFee = BigDecimal.ZERO;
-            if (product.getShippingFee() != null && product.getShippingFee().compareTo(BigDecimal.ZERO) > 0) {
-                // 합포장 가능 여부 확인 (null-safe)
-                Boolean canCombine = product.getCanCombineShipping();
-                Integer combineUnit = product.getCombineShippingUnit();
-
-                if (Boolean.TRUE.equals(canCombine) && combineUnit != null && combineUnit > 0) {
-                    // 합포장 가능한 경우: 박스 수 계산
-                    int boxes = (int) Math.ceil((double) itemRequest.getQuantity() / combineUnit);
-                    itemShippingFee = product.getShippingFee().multiply(BigDecimal.valueOf(boxes));
-                } else {
-                    // 합포장 불가능한 경우: 각 개별로 배송비
-                    itemShippingFee = product.getShippingFee().multiply(BigDecimal.valueOf(itemRequest.getQuantity()));
-                }
-            }
-            totalShippingFee = totalShippingFee.add(itemShippingFee);
-
             // 재고 차감은 결제 완료 후에 수행 (주문 생성 시에는 하지 않음)
         }
 
+        BigDecimal totalAmount = quote.getItemsTotal();
+        BigDecimal totalShippingFee = quote.getShippingTotal();
+
         order.setOrderItems(orderItems);
         order.setTotalAmount(totalAmount);
         order.setShippingFee(totalShippingFee);
@@ -233,8 +229,13 @@ public class OrderService {
                 );
             }
 
-            // 할인 금액 계산
-            couponDiscountAmount = coupon.calculateDiscount(totalAmount);
+            // 적용 대상 상품 금액 기준 할인 (장바구니 쿠폰 미리보기와 같은 규칙)
+            BigDecimal eligibleAmount = coupon.eligibleAmount(quote.couponLines());
+            if (eligibleAmount.signum() <= 0) {
+                throw new BusinessException("주문 상품 중 쿠폰을 적용할 수 있는 상품이 없습니다.", "COUPON_NOT_APPLICABLE");
+            }
+
+            couponDiscountAmount = coupon.calculateDiscount(eligibleAmount);
             order.setAppliedCoupon(coupon);
             order.setCouponDiscountAmount(couponDiscountAmount);
         }
@@ -253,17 +254,17 @@ public class OrderService {
 
         // 주문 생성 시에는 장바구니를 비우지 않음 (결제 완료 후에 비움)
 
-        // 알림 저장 (DB only)
+        // 알림은 아웃박스에 기록하고 커밋 후 릴레이가 저장 (주문 트랜잭션에서 알림 INSERT 제외)
         // 사용자에게 주문 완료 알림
-        notificationService.saveNotificationForUser(
-            user.getEmail(),
+        outboxService.appendUserNotification(
+            user.getId(),
             "주문이 완료되었습니다",
             "주문번호 " + savedOrder.getId() + "번 주문이 성공적으로 접수되었습니다.",
             NotificationType.ORDER_STATUS_CHANGED
         );
 
         // 관리자에게 새 주문 알림
-        notificationService.saveNotificationForAdmins(
+        outboxService.appendAdminNotification(
             "새로운 주문이 접수되었습니다",
             "주문번호 " + savedOrder.getId() + "번 (" + user.getName() + "님)",
             NotificationType.NEW_ORDER
@@ -394,6 +395,42 @@ public class OrderService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 사용자 주문 내역 커서 페이지 (요약 DTO)
+     * 1) 주문 ID만 커서로 페이징 2) 주문, 항목+상품+옵션을 각각 IN 쿼리로 일괄 조회 - 페이지당 쿼리 수 고정
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 MAX_HISTORY_PAGE_SIZE)
+     */
+    @Transactional(readOnly = true)
+    public OrderHistoryResponse getOrderHistory(String userEmail, OrderStatus status, Long cursor, int size) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new RuntimeException("User not found with email: " + userEmail));
+
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Long> ids = orderRepository.findHistoryIdsByUserId(user.getId(), status, cursor, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = ids.size() > pageSize;
+        if (hasNext) {
+            ids = ids.subList(0, pageSize);
+        }
+        if (ids.isEmpty()) {
+            return new OrderHistoryResponse(List.of(), null, false);
+        }
+
+        Map<Long, Order> ordersById = orderRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Order::getId, order -> order));
+        Map<Long, List<OrderItem>> itemsByOrderId = orderItemRepository.findWithProductByOrderIdIn(ids).stream()
+                .collect(Collectors.groupingBy(item -> item.getOrder().getId()));
+
+        List<OrderSummaryResponse> summaries = ids.stream()
+                .filter(ordersById::containsKey)
+                .map(id -> OrderSummaryResponse.from(ordersById.get(id), itemsByOrderId.getOrDefault(id, List.of())))
+                .toList();
+
+        return new OrderHistoryResponse(summaries, hasNext ? ids.get(ids.size() - 1) : null, hasNext);
+    }
+
     /**
      * 주문 취소 또는 결제 실패 시 재고 복구
      * @param orderId 주문 ID
@@ -483,6 +520,9 @@ public class OrderService {
             }
         }
 
+        // 판매자 원장 적립 취소 (결제 전 주문은 적립 내역이 없으므로 무시됨)
+        sellerLedgerService.recordOrderCancelled(order, cancellationReason);
+
         // 주문 상태 변경
         order.setOrderStatus(OrderStatus.CANCELLED);
         order.setCancellationReason(cancellationReason);
@@ -542,35 +582,33 @@ public class OrderService {
             Long sellerId,
             Pageable pageable) {
 
-        Page<Order> orders;
-
-        // 필터가 하나도 없으면 전체 조회
-        if (orderStatus == null && startDate == null && endDate == null && sellerId == null) {
-            orders = orderRepository.findAllByOrderByCreatedAtDesc(pageable);
-        } else {
-            // 필터링 조회
-            orders = orderRepository.findOrdersWithFilters(orderStatus, startDate, endDate, sellerId, pageable);
+        // 1단계: 조건에 맞는 주문 ID만 DB에서 페이징
+        Page<Long> idPage = adminOrderSearchRepository.findOrderIds(orderStatus, startDate, endDate, sellerId, pageable);
+        if (idPage.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, idPage.getTotalElements());
         }
 
-        // Manually initialize lazy-loaded collections to avoid LazyInitializationException
-        orders.forEach(order -> {
-            order.getUser().getName(); // Initialize user
-            order.getOrderItems().size(); // Initialize orderItems
-            // Initialize product for each order item
-            order.getOrderItems().forEach(item -> {
-                item.getProduct().getName(); // Initialize product
-                // Initialize seller
-                if (item.getProduct().getSeller() != null) {
-                    item.getProduct().getSeller().getName(); // Initialize seller
-                }
-            });
-            // Initialize appliedCoupon if present
-            if (order.getAppliedCoupon() != null) {
-                order.getAppliedCoupon().getName();
-            }
-        });
+        // 2단계: 해당 ID의 주문을 사용자/쿠폰/항목/상품/판매자/옵션과 함께 한 번에 조회 후 ID 페이지 순서로 정렬
+        Map<Long, Order> ordersById = orderRepository.findAllWithGraphByIdIn(idPage.getContent()).stream()
+                .collect(Collectors.toMap(Order::getId, order -> order));
+        List<Order> orders = idPage.getContent().stream()
+                .map(ordersById::get)
+                .filter(Objects::nonNull)
+                .toList();
 
-        return orders;
+        return new PageImpl<>(orders, pageable, idPage.getTotalElements());
+    }
+
+    /**
+     * 필터 조건에 맞는 모든 주문 ID를 ID 내림차순으로 전달 (필터 결과 전체 선택 기능용)
+     * getAllOrders와 같은 조건이지만 ID 컬럼만 스트리밍하므로 엔티티/연관을 만들지 않음
+     */
+    @Transactional(readOnly = true)
+    public void forEachOrderId(OrderStatus orderStatus, LocalDateTime startDate, LocalDateTime endDate,
+                               Long sellerId, LongConsumer consumer) {
+        try (Stream<Long> ids = adminOrderSearchRepository.streamOrderIds(orderStatus, startDate, endDate, sellerId)) {
+            ids.forEach(consumer::accept);
+        }
     }
 
     /**
@@ -591,7 +629,17 @@ public class OrderService {
         if (newStatus == OrderStatus.SHIPPED && oldStatus != OrderStatus.SHIPPED) {
             order.setShippedAt(LocalDateTime.now());
         } else if (newStatus == OrderStatus.DELIVERED && oldStatus != OrderStatus.DELIVERED) {
+            // 판매량 반영 (처음 배송 완료될 때만 - 배송 완료 → 배송중 → 배송 완료로 되돌려도 중복 집계하지 않음)
+            if (order.getDeliveredAt() == null) {
+                for (OrderItem item : order.getOrderItems()) {
+                    Product product = item.getProduct();
+                    product.setSalesCount(product.getSalesCount() + item.getQuantity());
+                }
+            }
             order.setDeliveredAt(LocalDateTime.now());
+        } else if (newStatus == OrderStatus.CANCELLED && oldStatus != OrderStatus.CANCELLED) {
+            // 판매자 원장 적립 취소 (일괄 취소와 동일)
+            sellerLedgerService.recordOrderCancelled(order, "관리자 주문 취소");
         }
 
         // 상품 준비중으로 변경 시 송장번호 초기화
@@ -691,38 +739,9 @@ public class OrderService {
         // 주문 상태를 PAID로 변경
         order.setOrderStatus(OrderStatus.PAID);
         orderRepository.save(order);
-    }
-
-    /**
-     * 여러 주문의 상태를 일괄 변경 (관리자용)
-     * @param orderIds 변경할 주문 ID 목록
-     * @param newStatus 새로운 주문 상태
-     * @return 성공한 주문 ID 목록과 실패한 주문 정보를 담은 Map
-     */
-    @Transactional
-    public Map<String, Object> bulkUpdateOrderStatus(List<Long> orderIds, OrderStatus newStatus) {
-        List<Long> successIds = new ArrayList<>();
-        List<Map<String, Object>> failedOrders = new ArrayList<>();
-
-        for (Long orderId : orderIds) {
-            try {
-                updateOrderStatus(orderId, newStatus);
-                successIds.add(orderId);
-            } catch (Exception e) {
-                Map<String, Object> failedOrder = new HashMap<>();
-                failedOrder.put("orderId", orderId);
-                failedOrder.put("error", e.getMessage());
-                failedOrders.add(failedOrder);
-            }
-        }
-
-        Map<String, Object> result = new HashMap<>();
-        result.put("successCount", successIds.size());
-        result.put("failureCount", failedOrders.size());
-        result.put("successIds", successIds);
-        result.put("failedOrders", failedOrders);
 
-        return result;
+        // 판매자 원장 매출 적립
+        sellerLedgerService.recordOrderPaid(order);
     }
 
     // ==================== 상품별 송장 관리 메서드 ====================
@@ -786,105 +805,4 @@ public class OrderService {
             orderRepository.save(freshOrder);
         }
     }
-
-    /**
-     * 주문번호와 순번으로 OrderItem 조회
-     * @param orderNumber 주문번호 (ORDER_xxx 또는 ORDER_xxx_n 형식)
-     * @return OrderItem (없으면 null)
-     */
-    @Transactional(readOnly = true)
-    public OrderItem findOrderItemByOrderNumberAndIndex(String orderNumber) {
-        // ORDER_xxx_1 형식인지 확인
-        String baseOrderNumber;
-        int itemIndex = 0;
-
-        if (orderNumber.matches("ORDER_\\d+_\\d+")) {
-            // ORDER_xxx_n 형식
-            int lastUnderscore = orderNumber.lastIndexOf('_');
-            baseOrderNumber = orderNumber.substring(0, lastUnderscore);
-            itemIndex = Integer.parseInt(orderNumber.substring(lastUnderscore + 1)) - 1; // 0-based index
-        } else {
-            // ORDER_xxx 형식 (첫 번째 상품)
-            baseOrderNumber = orderNumber;
-            itemIndex = 0;
-        }
-
-        Order order = orderRepository.findByOrderNumber(baseOrderNumber)
-                .orElse(null);
-
-        if (order == null) {
-            return null;
-        }
-
-        // OrderItem을 ID 순으로 정렬하여 인덱스로 접근
-        List<OrderItem> sortedItems = order.getOrderItems().stream()
-                .sorted((a, b) -> a.getId().compareTo(b.getId()))
-                .collect(Collectors.toList());
-
-        if (itemIndex >= 0 && itemIndex < sortedItems.size()) {
-            return sortedItems.get(itemIndex);
-        }
-
-        return null;
-    }
-
-    /**
-     * 엑셀 업로드로 송장번호 일괄 등록
-     * @param trackingData 주문번호 -> 송장번호 매핑
-     * @return 처리 결과 (성공/실패 카운트 및 상세 정보)
-     */
-    @Transactional
-    public Map<String, Object> bulkUploadTracking(Map<String, String> trackingData) {
-        List<Map<String, Object>> successList = new ArrayList<>();
-        List<Map<String, Object>> failedList = new ArrayList<>();
-
-        for (Map.Entry<String, String> entry : trackingData.entrySet()) {
-            String orderNumber = entry.getKey();
-            String trackingNumber = entry.getValue();
-
-            try {
-                OrderItem orderItem = findOrderItemByOrderNumberAndIndex(orderNumber);
-
-                if (orderItem == null) {
-                    Map<String, Object> failed = new HashMap<>();
-                    failed.put("orderNumber", orderNumber);
-                    failed.put("error", "주문을 찾을 수 없습니다");
-                    failedList.add(failed);
-                    continue;
-                }
-
-                // 이미 송장번호가 있으면 스킵 (덮어쓰기 방지)
-                if (orderItem.getTrackingNumber() != null && !orderItem.getTrackingNumber().trim().isEmpty()) {
-                    Map<String, Object> failed = new HashMap<>();
-                    failed.put("orderNumber", orderNumber);
-                    failed.put("error", "이미 송장번호가 등록되어 있습니다: " + orderItem.getTrackingNumber());
-                    failedList.add(failed);
-                    continue;
-                }
-
-                // 송장번호 업데이트 (택배사는 상품 기본값 사용)
-                updateOrderItemTracking(orderItem.getId(), trackingNumber, null, null);
-
-                Map<String, Object> success = new HashMap<>();
-                success.put("orderNumber", orderNumber);
-                success.put("trackingNumber", trackingNumber);
-                success.put("productName", orderItem.getProduct().getName());
-                successList.add(success);
-
-            } catch (Exception e) {
-                Map<String, Object> failed = new HashMap<>();
-                failed.put("orderNumber", orderNumber);
-                failed.put("error", e.getMessage());
-                failedList.add(failed);
-            }
-        }
-
-        Map<String, Object> result = new HashMap<>();
-        result.put("successCount", successList.size());
-        result.put("failureCount", failedList.size());
-        result.put("successList", successList);
-        result.put("failedList", failedList);
-
-        return result;
-    }
-}
\ No newline at end of file
+}
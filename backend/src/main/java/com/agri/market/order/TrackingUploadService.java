@@ -0,0 +1,219 @@
+package com.agri.market.order;
+
+import com.agri.market.dto.admin.TrackingUploadTarget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 엑셀 업로드 송장번호 일괄 등록
+ * - 파일의 모든 주문번호를 IN 쿼리로 한 번에 매칭 (행마다 주문/항목 재조회 없음)
+ * - 송장 갱신은 CHUNK_SIZE 단위 JDBC 배치로 실행하고 청크마다 커밋 (한 청크 실패가 전체를 되돌리지 않음)
+ * - 배송중 전환은 모든 청크가 끝난 뒤 영향받은 주문에 대해 한 번만 판정
+ */
+@Service
+public class TrackingUploadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrackingUploadService.class);
+
+    // ORDER_xxx_n 형식 (n: 주문 내 항목 순번, 1부터)
+    private static final Pattern INDEXED_ORDER_NUMBER = Pattern.compile("(ORDER_\\d+)_(\\d+)");
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int IN_CLAUSE_SIZE = 1000;
+
+    // 이미 송장번호가 있는 항목은 덮어쓰지 않음 (조회 이후 다른 요청이 먼저 등록한 경우 포함)
+    // 택배사는 상품 기본값이 있으면 그 값으로, 없으면 기존 값 유지
+    private static final String UPDATE_TRACKING_SQL =
+            "UPDATE order_items SET tracking_number = ?, " +
+            "courier_code = COALESCE(?, courier_code), " +
+            "courier_company = COALESCE(?, courier_company), " +
+            "shipped_at = ? " +
+            "WHERE id = ? AND (tracking_number IS NULL OR TRIM(tracking_number) = '')";
+
+    private final OrderItemRepository orderItemRepository;
+    private final OrderRepository orderRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public TrackingUploadService(OrderItemRepository orderItemRepository,
+                                 OrderRepository orderRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager) {
+        this.orderItemRepository = orderItemRepository;
+        this.orderRepository = orderRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 엑셀 업로드로 송장번호 일괄 등록
+     * @param trackingData 주문번호(ORDER_xxx 또는 ORDER_xxx_n) -> 송장번호 매핑
+     * @return 처리 결과 (성공/실패 카운트 및 상세 정보, 배송중 전환된 주문 수)
+     */
+    public Map<String, Object> bulkUploadTracking(Map<String, String> trackingData) {
+        List<Map<String, Object>> successList = new ArrayList<>();
+        List<Map<String, Object>> failedList = new ArrayList<>();
+
+        Map<String, List<TrackingUploadTarget>> itemsByOrderNumber = loadTargets(trackingData.keySet());
+
+        // 1. 주문번호 → 주문 항목 매칭
+        List<PendingUpdate> pending = new ArrayList<>();
+        Set<Long> claimedItemIds = new HashSet<>();
+        for (Map.Entry<String, String> entry : trackingData.entrySet()) {
+            String orderNumber = entry.getKey();
+            TrackingUploadTarget target = resolve(orderNumber, itemsByOrderNumber);
+
+            if (target == null) {
+                failedList.add(failure(orderNumber, "주문을 찾을 수 없습니다"));
+            } else if (target.getTrackingNumber() != null && !target.getTrackingNumber().trim().isEmpty()) {
+                failedList.add(failure(orderNumber, "이미 송장번호가 등록되어 있습니다: " + target.getTrackingNumber()));
+            } else if (!claimedItemIds.add(target.getOrderItemId())) {
+                // ORDER_xxx 와 ORDER_xxx_1 처럼 같은 항목을 가리키는 행이 여러 개인 경우
+                failedList.add(failure(orderNumber, "같은 주문 상품에 대한 중복 행입니다"));
+            } else {
+                pending.add(new PendingUpdate(orderNumber, entry.getValue(), target));
+            }
+        }
+
+        // 2. 청크 단위 배치 갱신 (청크마다 커밋)
+        Set<Long> affectedOrderIds = new LinkedHashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < pending.size(); from += CHUNK_SIZE) {
+            List<PendingUpdate> chunk = pending.subList(from, Math.min(from + CHUNK_SIZE, pending.size()));
+            try {
+                int[][] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(
+                        UPDATE_TRACKING_SQL, chunk, chunk.size(), (ps, update) -> {
+                            ps.setString(1, update.trackingNumber);
+                            ps.setString(2, update.target.getCourierCode());
+                            ps.setString(3, update.target.getCourierCompany());
+                            ps.setTimestamp(4, Timestamp.valueOf(now));
+                            ps.setLong(5, update.target.getOrderItemId());
+                        }));
+
+                for (int i = 0; i < chunk.size(); i++) {
+                    PendingUpdate update = chunk.get(i);
+                    if (counts[0][i] == 0) {
+                        failedList.add(failure(update.orderNumber, "이미 송장번호가 등록되어 있습니다"));
+                        continue;
+                    }
+                    affectedOrderIds.add(update.target.getOrderId());
+
+                    Map<String, Object> success = new HashMap<>();
+                    success.put("orderNumber", update.orderNumber);
+                    success.put("trackingNumber", update.trackingNumber);
+                    success.put("productName", update.target.getProductName());
+                    successList.add(success);
+                }
+            } catch (DataAccessException e) {
+                logger.error("Tracking upload chunk failed ({} rows): {}", chunk.size(), e.getMessage());
+                for (PendingUpdate update : chunk) {
+                    failedList.add(failure(update.orderNumber, "송장번호 저장 실패: " + e.getMostSpecificCause().getMessage()));
+                }
+            }
+        }
+
+        // 3. 모든 항목에 송장이 등록된 주문은 한 번에 배송중으로 전환
+        int shippedOrderCount = markShipped(new ArrayList<>(affectedOrderIds), now);
+
+        logger.info("Tracking upload - rows: {}, success: {}, failure: {}, shipped orders: {}",
+                trackingData.size(), successList.size(), failedList.size(), shippedOrderCount);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("successCount", successList.size());
+        result.put("failureCount", failedList.size());
+        result.put("successList", successList);
+        result.put("failedList", failedList);
+        result.put("shippedOrderCount", shippedOrderCount);
+
+        return result;
+    }
+
+    /**
+     * 파일에 나온 모든 주문의 항목을 IN 쿼리로 조회 (주문번호별, 항목 ID 순)
+     */
+    private Map<String, List<TrackingUploadTarget>> loadTargets(Set<String> orderNumbers) {
+        List<String> baseOrderNumbers = orderNumbers.stream()
+                .map(TrackingUploadService::baseOrderNumber)
+                .distinct()
+                .toList();
+
+        Map<String, List<TrackingUploadTarget>> itemsByOrderNumber = new HashMap<>();
+        for (int from = 0; from < baseOrderNumbers.size(); from += IN_CLAUSE_SIZE) {
+            List<String> batch = baseOrderNumbers.subList(from, Math.min(from + IN_CLAUSE_SIZE, baseOrderNumbers.size()));
+            for (TrackingUploadTarget target : orderItemRepository.findTrackingUploadTargets(batch)) {
+                itemsByOrderNumber.computeIfAbsent(target.getOrderNumber(), key -> new ArrayList<>()).add(target);
+            }
+        }
+        return itemsByOrderNumber;
+    }
+
+    /**
+     * 주문번호와 순번으로 주문 항목 매칭 (ORDER_xxx 는 첫 번째 항목)
+     */
+    private static TrackingUploadTarget resolve(String orderNumber,
+                                                Map<String, List<TrackingUploadTarget>> itemsByOrderNumber) {
+        int itemIndex = 0;
+        Matcher matcher = INDEXED_ORDER_NUMBER.matcher(orderNumber);
+        if (matcher.matches()) {
+            itemIndex = Integer.parseInt(matcher.group(2)) - 1; // 0-based index
+        }
+
+        List<TrackingUploadTarget> items = itemsByOrderNumber.get(baseOrderNumber(orderNumber));
+        if (items == null || itemIndex < 0 || itemIndex >= items.size()) {
+            return null;
+        }
+        return items.get(itemIndex);
+    }
+
+    private static String baseOrderNumber(String orderNumber) {
+        Matcher matcher = INDEXED_ORDER_NUMBER.matcher(orderNumber);
+        return matcher.matches() ? matcher.group(1) : orderNumber;
+    }
+
+    private int markShipped(List<Long> orderIds, LocalDateTime now) {
+        int shipped = 0;
+        for (int from = 0; from < orderIds.size(); from += IN_CLAUSE_SIZE) {
+            List<Long> batch = orderIds.subList(from, Math.min(from + IN_CLAUSE_SIZE, orderIds.size()));
+            Integer updated = transactionTemplate.execute(status -> orderRepository.markShippedIfFullyTracked(
+                    batch, OrderStatus.PREPARING, OrderStatus.SHIPPED, now));
+            shipped += updated != null ? updated : 0;
+        }
+        return shipped;
+    }
+
+    private static Map<String, Object> failure(String orderNumber, String error) {
+        Map<String, Object> failed = new HashMap<>();
+        failed.put("orderNumber", orderNumber);
+        failed.put("error", error);
+        return failed;
+    }
+
+    private static class PendingUpdate {
+        private final String orderNumber;
+        private final String trackingNumber;
+        private final TrackingUploadTarget target;
+
+        PendingUpdate(String orderNumber, String trackingNumber, TrackingUploadTarget target) {
+            this.orderNumber = orderNumber;
+            this.trackingNumber = trackingNumber;
+            this.target = target;
+        }
+    }
+}
@@ -5,12 +5,13 @@ import com.agri.market.config.TossPaymentsConfig;
 import com.agri.market.dto.WebhookRequest;
 import com.agri.market.exception.ForbiddenException;
 import com.agri.market.exception.UnauthorizedException;
-import com.agri.market.notification.SlackNotificationService;
+import com.agri.market.notification.OutboxService;
 import com.agri.market.order.Order;
 import com.agri.market.order.OrderRepository;
 import com.agri.market.order.OrderService;
 import com.agri.market.order.OrderStatus;
 import com.agri.market.order.PaymentStatus;
+import com.agri.market.settlement.SellerLedgerService;
 import com.agri.market.user.User;
 import com.agri.market.user.UserRepository;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
@@ -48,7 +49,8 @@ public class PaymentService {
     private final CartRepository cartRepository;
     private final TossPaymentsConfig tossPaymentsConfig;
     private final RestTemplate restTemplate;
-    private final SlackNotificationService slackNotificationService;
+    private final OutboxService outboxService;
+    private final SellerLedgerService sellerLedgerService;
 
     @Value("${payment.webhook.secret}")
     private String webhookSecret;
@@ -59,7 +61,8 @@ public class PaymentService {
     public PaymentService(PaymentRepository paymentRepository, OrderRepository orderRepository,
                          OrderService orderService, UserRepository userRepository,
                          CartRepository cartRepository, TossPaymentsConfig tossPaymentsConfig,
-                         RestTemplate restTemplate, SlackNotificationService slackNotificationService) {
+                         RestTemplate restTemplate, OutboxService outboxService,
+                         SellerLedgerService sellerLedgerService) {
         this.paymentRepository = paymentRepository;
         this.orderRepository = orderRepository;
         this.orderService = orderService;
@@ -67,7 +70,8 @@ public class PaymentService {
         this.cartRepository = cartRepository;
         this.tossPaymentsConfig = tossPaymentsConfig;
         this.restTemplate = restTemplate;
-        this.slackNotificationService = slackNotificationService;
+        this.outboxService = outboxService;
+        this.sellerLedgerService = sellerLedgerService;
     }
 
     /**
@@ -180,6 +184,9 @@ public class PaymentService {
             payment.setStatus(PaymentStatus.PAID);
             logger.info("Webhook: Payment PAID for order {}", webhookRequest.getOrderId());
 
+            // 판매자 원장 매출 적립
+            sellerLedgerService.recordOrderPaid(order);
+
             // 결제 완료 시 장바구니 삭제
             cartRepository.findByUser(order.getUser()).ifPresent(cart -> {
                 cartRepository.delete(cart);
@@ -206,6 +213,9 @@ public class PaymentService {
 
             // 재고 복구
             orderService.restoreStock(order.getId());
+
+            // 판매자 원장 적립 취소
+            sellerLedgerService.recordOrderCancelled(order, webhookRequest.getCancellationReason());
             logger.info("Webhook: Payment CANCELLED for order {}, restoring stock. Reason: {}",
                        webhookRequest.getOrderId(), webhookRequest.getCancellationReason());
         }
@@ -245,6 +255,21 @@ public class PaymentService {
      */
     @Transactional
     public Payment processRefund(Long orderId, BigDecimal refundAmount, String refundReason, Authentication authentication) {
+        return refund(orderId, refundAmount, refundReason, authentication, true);
+    }
+
+    /**
+     * 반품 환불 처리 (ADMIN 전용)
+     * 판매자 원장은 호출 측이 반품 항목 단위로 취소하므로 여기서는 원장을 건드리지 않음
+     * (금액 기준 비율 취소까지 하면 반품 항목이 두 번 취소됨)
+     */
+    @Transactional
+    public Payment processReturnRefund(Long orderId, BigDecimal refundAmount, String refundReason, Authentication authentication) {
+        return refund(orderId, refundAmount, refundReason, authentication, false);
+    }
+
+    private Payment refund(Long orderId, BigDecimal refundAmount, String refundReason, Authentication authentication,
+                           boolean reverseLedger) {
         // ADMIN 권한 검증
         boolean isAdmin = authentication.getAuthorities().stream()
                 .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
@@ -286,9 +311,17 @@ public class PaymentService {
             // 전액 환불
             payment.setStatus(PaymentStatus.FULLY_REFUNDED);
             order.setOrderStatus(OrderStatus.CANCELLED);
+
+            // 판매자 원장 적립 취소
+            if (reverseLedger) {
+                sellerLedgerService.recordOrderCancelled(order, refundReason);
+            }
         } else {
-            // 부분 환불
+            // 부분 환불 - 환불 금액만큼 판매자 원장 적립 취소
             payment.setStatus(PaymentStatus.PARTIALLY_REFUNDED);
+            if (reverseLedger) {
+                sellerLedgerService.recordPartialRefund(order, refundAmount, refundReason);
+            }
         }
 
         paymentRepository.save(payment);
@@ -467,14 +500,17 @@ public class PaymentService {
                 order.setOrderStatus(OrderStatus.PAID);
                 orderRepository.save(order);
 
+                // 판매자 원장 매출 적립
+                sellerLedgerService.recordOrderPaid(order);
+
                 // 결제 완료 시 장바구니 삭제
                 cartRepository.findByUser(order.getUser()).ifPresent(cart -> {
                     cartRepository.delete(cart);
                     logger.info("Cart cleared for user {} after payment confirmation", order.getUser().getEmail());
                 });
 
-                // 결제 완료 Slack 알림 전송 (비동기)
-                slackNotificationService.sendPaymentNotification(order.getId(), amount);
+                // 결제 완료 Slack 알림 예약 (커밋된 경우에만 아웃박스 릴레이가 전송)
+                outboxService.appendSlackPaymentNotification(order.getId(), amount);
 
                 return result;
             } else {
@@ -558,6 +594,9 @@ public class PaymentService {
                 // 재고 복구
                 orderService.restoreStock(orderId);
 
+                // 판매자 원장 적립 취소
+                sellerLedgerService.recordOrderCancelled(order, cancelReason);
+
                 result.put("action", "cancelled");
                 result.put("newStatus", "CANCELLED");
                 result.put("cancelReason", cancelReason);
@@ -578,6 +617,13 @@ public class PaymentService {
                     }
                 }
 
+                // 이전에 반영된 환불액을 뺀 새로 취소된 금액만 원장에서 적립 취소
+                BigDecimal previousRefundAmount = payment.getRefundAmount() != null
+                        ? payment.getRefundAmount()
+                        : BigDecimal.ZERO;
+                sellerLedgerService.recordPartialRefund(order, totalCancelAmount.subtract(previousRefundAmount),
+                        "토스에서 부분 취소됨");
+
                 payment.setStatus(PaymentStatus.PARTIALLY_REFUNDED);
                 payment.setRefundAmount(totalCancelAmount);
                 payment.setRefundedAt(LocalDateTime.now());
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -49,6 +50,11 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE p.id = :id")
     Optional<Product> findByIdWithLock(@Param("id") Long id);
 
+    // 주문 생성용 일괄 잠금 조회 - ID 순서로 잠가 동시 주문 간 교착 상태 방지
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id ASC")
+    List<Product> findAllByIdInWithLock(@Param("ids") Collection<Long> ids);
+
     // 중복 체크용
     boolean existsByName(String name);
 
@@ -89,6 +95,14 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
            "ORDER BY p.createdAt DESC")
     List<Product> findBySellerIdWithImagesAndOptions(@Param("sellerId") Long sellerId);
 
+    // 상품 ID 키셋 페이지 조회 (재고 내보내기 등 전체 순회용)
+    @Query("SELECT p.id FROM Product p WHERE p.id > :afterId ORDER BY p.id ASC")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // ID 목록의 상품을 옵션과 함께 조회
+    @Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.options WHERE p.id IN :ids ORDER BY p.id ASC")
+    List<Product> findAllWithOptionsByIdIn(@Param("ids") Collection<Long> ids);
+
     // ==================== 트렌딩 및 MD 추천 쿼리 ====================
 
     // 조회수 기준 인기 상품
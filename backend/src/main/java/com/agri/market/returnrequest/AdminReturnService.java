@@ -2,13 +2,14 @@ package com.agri.market.returnrequest;
 
 import com.agri.market.exception.BadRequestException;
 import com.agri.market.exception.NotFoundException;
-import com.agri.market.notification.NotificationService;
 import com.agri.market.notification.NotificationType;
+import com.agri.market.notification.OutboxService;
 import com.agri.market.order.Order;
 import com.agri.market.order.OrderItem;
 import com.agri.market.order.OrderStatus;
 import com.agri.market.payment.PaymentService;
 import com.agri.market.product.Product;
+import com.agri.market.settlement.SellerLedgerService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -29,7 +30,8 @@ public class AdminReturnService {
 
     private final ReturnRequestRepository returnRequestRepository;
     private final PaymentService paymentService;
-    private final NotificationService notificationService;
+    private final OutboxService outboxService;
+    private final SellerLedgerService sellerLedgerService;
 
     /**
      * 모든 반품 요청 조회 (페이징)
@@ -94,9 +96,9 @@ public class AdminReturnService {
 
         ReturnRequest saved = returnRequestRepository.save(returnRequest);
 
-        // 사용자에게 알림 저장
-        notificationService.saveNotificationForUser(
-            order.getUser().getEmail(),
+        // 사용자 알림 예약 (커밋 후 아웃박스 릴레이가 저장)
+        outboxService.appendUserNotification(
+            order.getUser().getId(),
             "반품 승인",
             "주문번호 " + order.getOrderNumber() + "의 반품이 승인되었습니다. 상품을 반송해주세요.",
             NotificationType.RETURN_APPROVED
@@ -127,9 +129,9 @@ public class AdminReturnService {
 
         ReturnRequest saved = returnRequestRepository.save(returnRequest);
 
-        // 사용자에게 알림 저장
-        notificationService.saveNotificationForUser(
-            order.getUser().getEmail(),
+        // 사용자 알림 예약 (커밋 후 아웃박스 릴레이가 저장)
+        outboxService.appendUserNotification(
+            order.getUser().getId(),
             "반품 거부",
             "주문번호 " + order.getOrderNumber() + "의 반품이 거부되었습니다. 사유: " + rejectionReason,
             NotificationType.RETURN_REJECTED
@@ -167,9 +169,9 @@ public class AdminReturnService {
             product.setStock(newStock);
         }
 
-        // 2. 실제 환불 처리 (Toss Payments API 호출)
+        // 2. 실제 환불 처리 (Toss Payments API 호출, 원장은 아래에서 반품 항목 단위로 한 번만 취소)
         String refundReason = returnRequest.getReasonCategory() + ": " + returnRequest.getDetailedReason();
-        paymentService.processRefund(
+        paymentService.processReturnRefund(
             order.getId(),
             returnRequest.getTotalRefundAmount(),
             refundReason,
@@ -180,6 +182,9 @@ public class AdminReturnService {
         returnRequest.complete();
         returnRequest.setRefundedAt(LocalDateTime.now());
 
+        // 판매자 원장 적립 취소 (반품 수량만큼)
+        sellerLedgerService.recordReturnCompleted(returnRequest);
+
         // 4. 주문 상태 업데이트
         boolean isFullReturn = returnItems.size() == order.getOrderItems().size();
         boolean isAllItemsFullyReturned = returnItems.stream()
@@ -197,9 +202,9 @@ public class AdminReturnService {
 
         ReturnRequest saved = returnRequestRepository.save(returnRequest);
 
-        // 5. 사용자에게 알림 저장
-        notificationService.saveNotificationForUser(
-            order.getUser().getEmail(),
+        // 5. 사용자 알림 예약 (커밋 후 아웃박스 릴레이가 저장)
+        outboxService.appendUserNotification(
+            order.getUser().getId(),
             "반품 완료 및 환불 처리",
             "주문번호 " + order.getOrderNumber() + "의 반품이 완료되었습니다. 환불 금액: " +
             returnRequest.getTotalRefundAmount() + "원",
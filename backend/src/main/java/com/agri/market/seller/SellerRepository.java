@@ -3,8 +3,12 @@ package com.agri.market.seller;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +27,14 @@ public interface SellerRepository extends JpaRepository<Seller, Long> {
     // 활성 상태 판매자 조회
     List<Seller> findByIsActiveTrue();
 
+    // 스프레드시트가 연동된 판매자 조회 (구글 시트 동기화 대상)
+    List<Seller> findBySpreadsheetIdIsNotNull();
+
+    // 구글 시트 동기화 시각 갱신 (동기화 중 변경된 다른 판매자 정보를 덮어쓰지 않도록 컬럼만 갱신)
+    @Modifying
+    @Query("UPDATE Seller s SET s.lastSyncedAt = :syncedAt WHERE s.id = :sellerId")
+    int updateLastSyncedAt(@Param("sellerId") Long sellerId, @Param("syncedAt") LocalDateTime syncedAt);
+
     // 활성 상태 판매자 페이지 조회 (페이지네이션)
     Page<Seller> findByIsActiveTrue(Pageable pageable);
 
@@ -11,6 +11,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
 
 import java.io.IOException;
 
@@ -42,6 +43,15 @@ public class EmailService {
         sendEmail(recipientEmail, subject, htmlBody, textBody);
     }
 
+    /**
+     * 일반 안내 이메일 전송 (아웃박스 릴레이용 - 텍스트 본문을 그대로 HTML로도 보냄)
+     * 실패 시 예외를 던져 릴레이가 재시도하도록 함
+     */
+    public void sendNotificationEmail(String recipientEmail, String subject, String textBody) {
+        String htmlBody = "<p>" + HtmlUtils.htmlEscape(textBody).replace("\n", "<br>") + "</p>";
+        sendEmail(recipientEmail, subject, htmlBody, textBody);
+    }
+
     /**
      * 이메일 전송 (HTML + Text 버전)
      */
@@ -0,0 +1,13 @@
+package com.agri.market.settlement;
+
+public enum LedgerEntryType {
+    /**
+     * 결제 완료로 인한 매출 적립
+     */
+    ACCRUAL,
+
+    /**
+     * 주문 취소/반품으로 인한 적립 취소
+     */
+    REVERSAL
+}
@@ -0,0 +1,62 @@
+package com.agri.market.settlement;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 판매자별 미정산 잔액 (원장 항목 추가 시 함께 갱신되는 누계)
+ * 현재 미정산 금액 조회를 주문 재집계 없이 단건 조회로 처리
+ */
+@Entity
+@Table(name = "seller_balances")
+@Getter
+@Setter
+public class SellerBalance {
+
+    @Id
+    @Column(name = "seller_id")
+    private Long sellerId;
+
+    /**
+     * 미정산 매출 누계
+     */
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal unsettledSales = BigDecimal.ZERO;
+
+    /**
+     * 미정산 수수료 누계
+     */
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal unsettledCommission = BigDecimal.ZERO;
+
+    /**
+     * 미정산 정산금 누계 (매출 - 수수료)
+     */
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal unsettledNet = BigDecimal.ZERO;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public SellerBalance() {
+    }
+
+    public SellerBalance(Long sellerId) {
+        this.sellerId = sellerId;
+    }
+
+    /**
+     * 원장 항목 금액을 누계에 반영
+     */
+    public void apply(BigDecimal sales, BigDecimal commission, BigDecimal net) {
+        this.unsettledSales = this.unsettledSales.add(sales);
+        this.unsettledCommission = this.unsettledCommission.add(commission);
+        this.unsettledNet = this.unsettledNet.add(net);
+    }
+}
@@ -0,0 +1,30 @@
+package com.agri.market.settlement;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SellerBalanceRepository extends JpaRepository<SellerBalance, Long> {
+
+    // 잔액 갱신을 위한 Pessimistic Lock (동시 적립 시 누계 보호)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM SellerBalance b WHERE b.sellerId = :sellerId")
+    Optional<SellerBalance> findBySellerIdWithLock(@Param("sellerId") Long sellerId);
+
+    /**
+     * 잔액 행이 없으면 0으로 생성 (이미 있으면 그대로)
+     * 첫 적립이 동시에 들어와도 PK 중복 없이 한 행만 만들어지도록 잠금 조회 전에 호출
+     */
+    @Modifying
+    @Query(value = "INSERT INTO seller_balances (seller_id, unsettled_sales, unsettled_commission, unsettled_net, updated_at) " +
+                   "VALUES (:sellerId, 0, 0, 0, CURRENT_TIMESTAMP) " +
+                   "ON DUPLICATE KEY UPDATE seller_id = seller_id", nativeQuery = true)
+    int insertIfAbsent(@Param("sellerId") Long sellerId);
+}
@@ -0,0 +1,104 @@
+package com.agri.market.settlement;
+
+import com.agri.market.seller.Seller;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 판매자 원장 항목 (append-only)
+ * 결제 완료 시 주문 항목별 적립(ACCRUAL), 취소/반품 시 음수 금액의 적립 취소(REVERSAL)가 추가됨
+ */
+@Entity
+@Table(name = "seller_ledger_entries", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_ledger_accrual_order_item", columnNames = "accrual_order_item_id")
+}, indexes = {
+        @Index(name = "idx_ledger_seller_settlement", columnList = "seller_id, settlement_id, created_at"),
+        @Index(name = "idx_ledger_order_item", columnList = "order_item_id"),
+        @Index(name = "idx_ledger_order", columnList = "order_id")
+})
+@Getter
+@Setter
+public class SellerLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "seller_id", nullable = false)
+    @JsonIgnore
+    private Seller seller;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "order_item_id", nullable = false)
+    private Long orderItemId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private LedgerEntryType entryType;
+
+    /**
+     * 적립(ACCRUAL)이면 order_item_id, 적립 취소면 null
+     * 유니크 제약으로 주문 항목당 적립은 한 번만 가능 (적립 취소는 부분 반품마다 여러 건 허용)
+     */
+    @Column(name = "accrual_order_item_id")
+    private Long accrualOrderItemId;
+
+    /**
+     * 매출 금액 (적립 취소는 음수)
+     */
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal salesAmount;
+
+    /**
+     * 적용 수수료율 (적립 당시 판매자의 수수료율, %)
+     */
+    @Column(nullable = false, precision = 5, scale = 2)
+    private BigDecimal commissionRate;
+
+    /**
+     * 수수료 금액 (적립 취소는 음수)
+     */
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal commissionAmount;
+
+    /**
+     * 정산 금액 (매출 - 수수료)
+     */
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal netAmount;
+
+    /**
+     * 항목 반영 후 판매자 미정산 잔액
+     */
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal balanceAfter;
+
+    /**
+     * 이 항목이 포함된 정산 ID (미정산이면 null)
+     */
+    @Column(name = "settlement_id")
+    private Long settlementId;
+
+    @Column(length = 200)
+    private String memo;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (entryType == LedgerEntryType.ACCRUAL) {
+            accrualOrderItemId = orderItemId;
+        }
+    }
+}
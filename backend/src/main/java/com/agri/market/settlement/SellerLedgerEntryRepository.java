@@ -0,0 +1,69 @@
+package com.agri.market.settlement;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SellerLedgerEntryRepository extends JpaRepository<SellerLedgerEntry, Long> {
+
+    // 주문의 원장 항목 조회 (적립 취소 금액 계산용)
+    List<SellerLedgerEntry> findByOrderId(Long orderId);
+
+    // 주문 적립 항목 잠금 조회 (중복 적립 방지) - 잠금 읽기는 스냅샷이 아닌 최신 커밋을 읽으므로 주문 행 잠금 뒤 중복 적립 확인에 사용
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM SellerLedgerEntry e WHERE e.orderId = :orderId AND e.entryType = :entryType")
+    List<SellerLedgerEntry> findByOrderIdAndEntryTypeWithLock(@Param("orderId") Long orderId,
+                                                              @Param("entryType") LedgerEntryType entryType);
+
+    // 판매자 원장 조회 (최신순)
+    Page<SellerLedgerEntry> findBySellerIdOrderByCreatedAtDesc(Long sellerId, Pageable pageable);
+
+    /**
+     * 기간 내 미정산 원장 항목이 있는 판매자 ID (정산 마감 대상, 잔액 잠금 순서대로)
+     */
+    @Query("SELECT DISTINCT e.seller.id FROM SellerLedgerEntry e " +
+           "WHERE e.settlementId IS NULL " +
+           "AND e.createdAt BETWEEN :startDate AND :endDate " +
+           "ORDER BY e.seller.id")
+    List<Long> findSellerIdsWithUnsettledEntries(@Param("startDate") LocalDateTime startDate,
+                                                 @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 정산에 귀속된 원장 항목 합계 (정산 금액은 실제로 귀속된 항목 기준)
+     */
+    @Query("SELECT new com.agri.market.settlement.SellerSalesSummary(" +
+           "e.seller.id, SUM(e.salesAmount), SUM(e.commissionAmount), COUNT(DISTINCT e.orderId)) " +
+           "FROM SellerLedgerEntry e " +
+           "WHERE e.settlementId = :settlementId " +
+           "GROUP BY e.seller.id")
+    List<SellerSalesSummary> sumBySettlement(@Param("settlementId") Long settlementId);
+
+    /**
+     * 정산에 귀속된 원장 항목의 수수료율 종류
+     */
+    @Query("SELECT DISTINCT e.commissionRate FROM SellerLedgerEntry e WHERE e.settlementId = :settlementId")
+    List<BigDecimal> findCommissionRatesBySettlement(@Param("settlementId") Long settlementId);
+
+    /**
+     * 기간 내 미정산 원장 항목을 정산에 귀속
+     */
+    @Modifying
+    @Query("UPDATE SellerLedgerEntry e SET e.settlementId = :settlementId " +
+           "WHERE e.seller.id = :sellerId AND e.settlementId IS NULL " +
+           "AND e.createdAt BETWEEN :startDate AND :endDate")
+    int assignSettlement(@Param("settlementId") Long settlementId,
+                         @Param("sellerId") Long sellerId,
+                         @Param("startDate") LocalDateTime startDate,
+                         @Param("endDate") LocalDateTime endDate);
+}
@@ -0,0 +1,330 @@
+package com.agri.market.settlement;
+
+import com.agri.market.order.Order;
+import com.agri.market.order.OrderItem;
+import com.agri.market.order.OrderRepository;
+import com.agri.market.returnrequest.ReturnItem;
+import com.agri.market.returnrequest.ReturnRequest;
+import com.agri.market.seller.Seller;
+import com.agri.market.seller.SellerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 판매자 원장 서비스
+ * - 결제 완료 시 주문 항목별 매출 적립, 취소/반품 시 적립 취소
+ * - 판매자별 미정산 잔액을 누계로 유지 (O(1) 조회)
+ * - 정산 마감은 주문 재조회 없이 원장 합계로 처리
+ */
+@Service
+public class SellerLedgerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SellerLedgerService.class);
+
+    private final SellerLedgerEntryRepository ledgerEntryRepository;
+    private final SellerBalanceRepository sellerBalanceRepository;
+    private final SettlementRepository settlementRepository;
+    private final SellerRepository sellerRepository;
+    private final OrderRepository orderRepository;
+
+    public SellerLedgerService(SellerLedgerEntryRepository ledgerEntryRepository,
+                               SellerBalanceRepository sellerBalanceRepository,
+                               SettlementRepository settlementRepository,
+                               SellerRepository sellerRepository,
+                               OrderRepository orderRepository) {
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.sellerBalanceRepository = sellerBalanceRepository;
+        this.settlementRepository = settlementRepository;
+        this.sellerRepository = sellerRepository;
+        this.orderRepository = orderRepository;
+    }
+
+    /**
+     * 결제 완료된 주문의 매출 적립 (주문 항목별 ACCRUAL)
+     * 같은 주문에 대해 여러 번 호출되어도 한 번만 적립됨
+     * (웹훅과 결제 승인이 동시에 들어오면 주문 행 잠금으로 직렬화, 최종 보장은 주문 항목별 적립 유니크 키)
+     */
+    @Transactional
+    public void recordOrderPaid(Order order) {
+        orderRepository.findByIdWithLock(order.getId());
+        if (!ledgerEntryRepository.findByOrderIdAndEntryTypeWithLock(order.getId(), LedgerEntryType.ACCRUAL).isEmpty()) {
+            return;
+        }
+
+        // 판매자 ID 순으로 잔액 락을 획득하여 교착 상태 방지
+        Map<Long, List<OrderItem>> itemsBySeller = new TreeMap<>();
+        Map<Long, Seller> sellers = new HashMap<>();
+        for (OrderItem item : order.getOrderItems()) {
+            Seller seller = item.getProduct().getSeller();
+            if (seller == null) {
+                continue;
+            }
+            itemsBySeller.computeIfAbsent(seller.getId(), id -> new ArrayList<>()).add(item);
+            sellers.put(seller.getId(), seller);
+        }
+
+        for (Map.Entry<Long, List<OrderItem>> entry : itemsBySeller.entrySet()) {
+            Seller seller = sellers.get(entry.getKey());
+            SellerBalance balance = lockBalance(seller.getId());
+            for (OrderItem item : entry.getValue()) {
+                BigDecimal sales = itemSales(item, item.getQuantity());
+                append(balance, seller, order.getId(), item.getId(), LedgerEntryType.ACCRUAL,
+                        sales, seller.getCommissionRate(), null);
+            }
+            sellerBalanceRepository.save(balance);
+        }
+    }
+
+    /**
+     * 주문 취소 시 남은 적립 전액 취소
+     */
+    @Transactional
+    public void recordOrderCancelled(Order order, String reason) {
+        Map<Long, BigDecimal> amounts = new HashMap<>();
+        for (OrderItem item : order.getOrderItems()) {
+            amounts.put(item.getId(), itemSales(item, item.getQuantity()));
+        }
+        reverse(order, ledgerEntryRepository.findByOrderId(order.getId()), amounts, reason);
+    }
+
+    /**
+     * 반품 완료 시 반품 수량만큼 적립 취소
+     */
+    @Transactional
+    public void recordReturnCompleted(ReturnRequest returnRequest) {
+        Map<Long, BigDecimal> amounts = new HashMap<>();
+        for (ReturnItem returnItem : returnRequest.getReturnItems()) {
+            OrderItem orderItem = returnItem.getOrderItem();
+            amounts.merge(orderItem.getId(), itemSales(orderItem, returnItem.getQuantity()), BigDecimal::add);
+        }
+        Order order = returnRequest.getOrder();
+        reverse(order, ledgerEntryRepository.findByOrderId(order.getId()), amounts,
+                "반품 완료: 반품 요청 " + returnRequest.getId());
+    }
+
+    /**
+     * 부분 환불 시 환불 금액만큼 적립 취소
+     * 환불은 주문 항목이 아닌 금액 단위이므로 항목별 남은 적립 매출 비율로 나누어 취소하며,
+     * 배송비처럼 원장에 적립되지 않은 금액까지 환불된 경우 남은 적립 매출을 넘는 부분은 취소하지 않음
+     */
+    @Transactional
+    public void recordPartialRefund(Order order, BigDecimal refundAmount, String reason) {
+        if (refundAmount == null || refundAmount.signum() <= 0) {
+            return;
+        }
+        List<SellerLedgerEntry> entries = ledgerEntryRepository.findByOrderId(order.getId());
+        Map<Long, BigDecimal> outstandingSales = new TreeMap<>();
+        for (SellerLedgerEntry entry : entries) {
+            outstandingSales.merge(entry.getOrderItemId(), entry.getSalesAmount(), BigDecimal::add);
+        }
+        outstandingSales.values().removeIf(amount -> amount.signum() <= 0);
+        BigDecimal totalOutstanding = outstandingSales.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (totalOutstanding.signum() <= 0) {
+            return;
+        }
+
+        // 항목별 비율 배분 (반올림 오차는 마지막 항목에 반영)
+        BigDecimal toReverse = refundAmount.min(totalOutstanding);
+        BigDecimal remaining = toReverse;
+        Map<Long, BigDecimal> amounts = new HashMap<>();
+        int index = 0;
+        for (Map.Entry<Long, BigDecimal> entry : outstandingSales.entrySet()) {
+            BigDecimal share = ++index == outstandingSales.size()
+                    ? remaining
+                    : toReverse.multiply(entry.getValue()).divide(totalOutstanding, 2, RoundingMode.DOWN);
+            amounts.put(entry.getKey(), share);
+            remaining = remaining.subtract(share);
+        }
+        reverse(order, entries, amounts, reason);
+    }
+
+    /**
+     * 주문 항목별 적립 취소 (이미 취소된 금액은 제외하여 중복 취소 방지)
+     * @param amounts 주문 항목 ID별 취소 요청 매출 금액
+     */
+    private void reverse(Order order, List<SellerLedgerEntry> entries, Map<Long, BigDecimal> amounts, String reason) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        // 주문 항목별 남은 적립 매출 및 적립 당시 수수료율
+        Map<Long, BigDecimal> outstandingSales = new HashMap<>();
+        Map<Long, SellerLedgerEntry> accruals = new HashMap<>();
+        for (SellerLedgerEntry entry : entries) {
+            outstandingSales.merge(entry.getOrderItemId(), entry.getSalesAmount(), BigDecimal::add);
+            if (entry.getEntryType() == LedgerEntryType.ACCRUAL) {
+                accruals.put(entry.getOrderItemId(), entry);
+            }
+        }
+
+        Map<Long, List<OrderItem>> itemsBySeller = new TreeMap<>();
+        for (OrderItem item : order.getOrderItems()) {
+            SellerLedgerEntry accrual = accruals.get(item.getId());
+            if (accrual != null && amounts.containsKey(item.getId())) {
+                itemsBySeller.computeIfAbsent(accrual.getSeller().getId(), id -> new ArrayList<>()).add(item);
+            }
+        }
+
+        for (Map.Entry<Long, List<OrderItem>> entry : itemsBySeller.entrySet()) {
+            SellerBalance balance = null;
+            for (OrderItem item : entry.getValue()) {
+                BigDecimal reversible = amounts.get(item.getId()).min(outstandingSales.getOrDefault(item.getId(), BigDecimal.ZERO));
+                if (reversible.signum() <= 0) {
+                    continue;
+                }
+                if (balance == null) {
+                    balance = lockBalance(entry.getKey());
+                }
+                SellerLedgerEntry accrual = accruals.get(item.getId());
+                append(balance, accrual.getSeller(), order.getId(), item.getId(), LedgerEntryType.REVERSAL,
+                        reversible.negate(), accrual.getCommissionRate(), reason);
+            }
+            if (balance != null) {
+                sellerBalanceRepository.save(balance);
+            }
+        }
+    }
+
+    private static BigDecimal itemSales(OrderItem item, int quantity) {
+        return item.getPrice().multiply(BigDecimal.valueOf(quantity));
+    }
+
+    /**
+     * 판매자 잔액 행 잠금 (없으면 먼저 생성 - 조회 후 생성하면 동시 첫 적립이 같은 PK로 INSERT 충돌)
+     */
+    private SellerBalance lockBalance(Long sellerId) {
+        sellerBalanceRepository.insertIfAbsent(sellerId);
+        return sellerBalanceRepository.findBySellerIdWithLock(sellerId)
+                .orElseThrow(() -> new RuntimeException("판매자 잔액을 찾을 수 없습니다: " + sellerId));
+    }
+
+    private void append(SellerBalance balance, Seller seller, Long orderId, Long orderItemId,
+                        LedgerEntryType type, BigDecimal sales, BigDecimal commissionRate, String memo) {
+        // 수수료 계산 (매출 * 수수료율 / 100)
+        BigDecimal commission = sales
+                .multiply(commissionRate)
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        BigDecimal net = sales.subtract(commission);
+
+        balance.apply(sales, commission, net);
+
+        SellerLedgerEntry entry = new SellerLedgerEntry();
+        entry.setSeller(seller);
+        entry.setOrderId(orderId);
+        entry.setOrderItemId(orderItemId);
+        entry.setEntryType(type);
+        entry.setSalesAmount(sales);
+        entry.setCommissionRate(commissionRate);
+        entry.setCommissionAmount(commission);
+        entry.setNetAmount(net);
+        entry.setBalanceAfter(balance.getUnsettledNet());
+        entry.setMemo(memo);
+        ledgerEntryRepository.save(entry);
+    }
+
+    /**
+     * 판매자 현재 미정산 잔액 조회
+     */
+    @Transactional(readOnly = true)
+    public SellerBalance getBalance(Long sellerId) {
+        return sellerBalanceRepository.findById(sellerId)
+                .orElseGet(() -> new SellerBalance(sellerId));
+    }
+
+    /**
+     * 판매자 원장 조회
+     */
+    @Transactional(readOnly = true)
+    public Page<SellerLedgerEntry> getEntries(Long sellerId, Pageable pageable) {
+        return ledgerEntryRepository.findBySellerIdOrderByCreatedAtDesc(sellerId, pageable);
+    }
+
+    /**
+     * 원장 기반 정산 마감 (기간 내 미정산 원장 항목을 판매자별 정산으로 확정)
+     * 판매자 잔액을 먼저 잠가 마감 중 새 원장 항목이 끼어들지 못하게 하고,
+     * 정산 금액은 실제로 귀속된 항목을 다시 합산해 잔액 차감과 어긋나지 않게 함
+     */
+    @Transactional
+    public List<Settlement> closeSettlementPeriod(LocalDate startDate, LocalDate endDate) {
+        LocalDateTime startDateTime = startDate.atStartOfDay();
+        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
+
+        List<Long> sellerIds = ledgerEntryRepository.findSellerIdsWithUnsettledEntries(startDateTime, endDateTime);
+        List<Settlement> settlements = new ArrayList<>(sellerIds.size());
+
+        for (Long sellerId : sellerIds) {
+            Seller seller = sellerRepository.findById(sellerId)
+                    .orElseThrow(() -> new RuntimeException("판매자를 찾을 수 없습니다: " + sellerId));
+
+            // 이미 존재하는 정산인지 확인
+            settlementRepository.findBySellerIdAndPeriod(seller.getId(), startDate, endDate)
+                    .ifPresent(existing -> {
+                        throw new RuntimeException("이미 해당 기간의 정산이 존재합니다: " + existing.getId());
+                    });
+
+            // 원장 항목 추가(append)도 같은 잔액 행을 잠그므로, 잠금 이후 귀속 대상이 바뀌지 않음
+            SellerBalance balance = lockBalance(seller.getId());
+
+            Settlement settlement = new Settlement();
+            settlement.setSeller(seller);
+            settlement.setStartDate(startDate);
+            settlement.setEndDate(endDate);
+            settlement.setStatus(SettlementStatus.PENDING);
+            Settlement saved = settlementRepository.saveAndFlush(settlement);
+
+            int assigned = ledgerEntryRepository.assignSettlement(saved.getId(), seller.getId(), startDateTime, endDateTime);
+            SellerSalesSummary summary = ledgerEntryRepository.sumBySettlement(saved.getId()).stream()
+                    .findFirst()
+                    .orElseGet(() -> new SellerSalesSummary(seller.getId(), BigDecimal.ZERO, BigDecimal.ZERO, 0L));
+
+            BigDecimal totalSales = summary.getTotalSales();
+            BigDecimal commissionAmount = summary.getCommissionAmount();
+            saved.setOrderCount(summary.getOrderCount().intValue());
+            saved.setTotalSales(totalSales);
+            saved.setCommissionRate(settledCommissionRate(saved.getId(), totalSales, commissionAmount));
+            saved.setCommissionAmount(commissionAmount);
+            saved.setNetAmount(totalSales.subtract(commissionAmount));
+            saved = settlementRepository.save(saved);
+
+            // 정산된 금액만큼 미정산 잔액 차감
+            balance.apply(totalSales.negate(), commissionAmount.negate(), saved.getNetAmount().negate());
+            sellerBalanceRepository.save(balance);
+
+            logger.info("Ledger settlement closed - sellerId: {}, entries: {}, net: {}",
+                    seller.getId(), assigned, saved.getNetAmount());
+            settlements.add(saved);
+        }
+
+        return settlements;
+    }
+
+    /**
+     * 정산 수수료율 - 귀속된 항목의 적립 당시 수수료율
+     * 기간 중 수수료율이 바뀌어 여러 개면 수수료 합계 / 매출 합계로 구한 실효 수수료율
+     */
+    private BigDecimal settledCommissionRate(Long settlementId, BigDecimal totalSales, BigDecimal commissionAmount) {
+        List<BigDecimal> rates = ledgerEntryRepository.findCommissionRatesBySettlement(settlementId);
+        if (rates.size() == 1) {
+            return rates.get(0);
+        }
+        if (totalSales.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return commissionAmount.multiply(BigDecimal.valueOf(100)).divide(totalSales, 2, RoundingMode.HALF_UP);
+    }
+}
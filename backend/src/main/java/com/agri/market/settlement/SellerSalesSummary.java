@@ -0,0 +1,30 @@
+package com.agri.market.settlement;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * 판매자별 기간 매출 집계 결과 (정산 생성용)
+ * 주문 항목 또는 판매자 원장의 GROUP BY 집계 쿼리에서 생성자 표현식으로 채워짐
+ * (수수료 금액은 원장 집계에서만 채워짐)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SellerSalesSummary {
+    private Long sellerId;
+    private BigDecimal totalSales;
+    private BigDecimal commissionAmount;
+    private Long orderCount;
+
+    public SellerSalesSummary(Long sellerId, BigDecimal totalSales, Long orderCount) {
+        this.sellerId = sellerId;
+        this.totalSales = totalSales;
+        this.orderCount = orderCount;
+    }
+}
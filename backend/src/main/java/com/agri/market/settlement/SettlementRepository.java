@@ -1,16 +1,20 @@
 package com.agri.market.settlement;
 
+import com.agri.market.dto.admin.SettlementExportRow;
 import com.agri.market.seller.Seller;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SettlementRepository extends JpaRepository<Settlement, Long> {
@@ -52,6 +56,14 @@ public interface SettlementRepository extends JpaRepository<Settlement, Long> {
                                                    @Param("startDate") LocalDate startDate,
                                                    @Param("endDate") LocalDate endDate);
 
+    /**
+     * 특정 기간의 정산이 이미 존재하는 판매자 ID 목록 (일괄 생성 시 중복 체크용)
+     */
+    @Query("SELECT s.seller.id FROM Settlement s " +
+           "WHERE s.startDate = :startDate AND s.endDate = :endDate")
+    List<Long> findSellerIdsByPeriod(@Param("startDate") LocalDate startDate,
+                                     @Param("endDate") LocalDate endDate);
+
     /**
      * 판매자의 정산 대기 건수
      */
@@ -62,4 +74,40 @@ public interface SettlementRepository extends JpaRepository<Settlement, Long> {
      */
     @Query("SELECT s FROM Settlement s LEFT JOIN FETCH s.seller ORDER BY s.createdAt DESC")
     Page<Settlement> findAllWithSeller(Pageable pageable);
+
+    /**
+     * 정산 내보내기 행 스트리밍 조회 (기간이 겹치는 정산, 시작일 최신순)
+     * MySQL 드라이버가 결과를 한 행씩 읽도록 fetch size를 Integer.MIN_VALUE로 지정
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT new com.agri.market.dto.admin.SettlementExportRow(" +
+           "s.id, sel.id, sel.name, sel.businessNumber, s.startDate, s.endDate, s.orderCount, " +
+           "s.totalSales, s.commissionRate, s.commissionAmount, s.netAmount, s.status, s.paymentDate, " +
+           "sel.bankName, sel.accountNumber, sel.accountHolder) " +
+           "FROM Settlement s JOIN s.seller sel " +
+           "WHERE (:startDate IS NULL OR s.endDate >= :startDate) " +
+           "AND (:endDate IS NULL OR s.startDate <= :endDate) " +
+           "AND (:status IS NULL OR s.status = :status) " +
+           "AND (:sellerId IS NULL OR sel.id = :sellerId) " +
+           "ORDER BY s.startDate DESC, s.id DESC")
+    Stream<SettlementExportRow> streamSettlementExportRows(@Param("startDate") LocalDate startDate,
+                                                          @Param("endDate") LocalDate endDate,
+                                                          @Param("status") SettlementStatus status,
+                                                          @Param("sellerId") Long sellerId);
+
+    /**
+     * 정산 내보내기 대상 건수 (진행률 계산용)
+     */
+    @Query("SELECT COUNT(s) FROM Settlement s " +
+           "WHERE (:startDate IS NULL OR s.endDate >= :startDate) " +
+           "AND (:endDate IS NULL OR s.startDate <= :endDate) " +
+           "AND (:status IS NULL OR s.status = :status) " +
+           "AND (:sellerId IS NULL OR s.seller.id = :sellerId)")
+    long countSettlementExportRows(@Param("startDate") LocalDate startDate,
+                                   @Param("endDate") LocalDate endDate,
+                                   @Param("status") SettlementStatus status,
+                                   @Param("sellerId") Long sellerId);
 }
@@ -1,8 +1,6 @@
 package com.agri.market.settlement;
 
-import com.agri.market.order.Order;
-import com.agri.market.order.OrderItem;
-import com.agri.market.order.OrderRepository;
+import com.agri.market.order.OrderItemRepository;
 import com.agri.market.order.OrderStatus;
 import com.agri.market.seller.Seller;
 import com.agri.market.seller.SellerRepository;
@@ -14,38 +12,75 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 public class SettlementService {
 
+    /**
+     * 정산 대상 주문 상태 (결제 완료 이후 취소/반품되지 않은 주문)
+     */
+    static final List<OrderStatus> SETTLEMENT_ORDER_STATUSES = List.of(
+            OrderStatus.PAID, OrderStatus.PREPARING, OrderStatus.SHIPPED, OrderStatus.DELIVERED);
+
+    private static final int SETTLEMENT_BATCH_SIZE = 50;
+
     private final SettlementRepository settlementRepository;
     private final SellerRepository sellerRepository;
-    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
 
     public SettlementService(SettlementRepository settlementRepository,
                              SellerRepository sellerRepository,
-                             OrderRepository orderRepository) {
+                             OrderItemRepository orderItemRepository) {
         this.settlementRepository = settlementRepository;
         this.sellerRepository = sellerRepository;
-        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
     }
 
     /**
      * 특정 기간의 정산 생성 (모든 활성 판매자 대상)
+     * 판매자별 매출은 한 번의 집계 쿼리로 계산하고, 정산은 청크 단위로 저장
      */
     @Transactional
     public List<Settlement> generateSettlementsForPeriod(LocalDate startDate, LocalDate endDate) {
         // 활성 판매자 목록 조회
         List<Seller> activeSellers = sellerRepository.findByIsActiveTrue();
 
-        return activeSellers.stream()
-                .map(seller -> generateSettlementForSeller(seller, startDate, endDate))
-                .toList();
+        // 이미 존재하는 정산인지 확인 (기간 단위 한 번의 조회)
+        Set<Long> settledSellerIds = new HashSet<>(settlementRepository.findSellerIdsByPeriod(startDate, endDate));
+        for (Seller seller : activeSellers) {
+            if (settledSellerIds.contains(seller.getId())) {
+                throw new RuntimeException("이미 해당 기간의 정산이 존재합니다. 판매자: " + seller.getName());
+            }
+        }
+
+        // 기간 내 판매자별 매출 및 주문 건수 집계 (단일 GROUP BY 쿼리)
+        Map<Long, SellerSalesSummary> salesBySeller = new HashMap<>();
+        for (SellerSalesSummary summary : orderItemRepository.sumSalesBySellerForPeriod(
+                startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX), SETTLEMENT_ORDER_STATUSES)) {
+            salesBySeller.put(summary.getSellerId(), summary);
+        }
+
+        List<Settlement> settlements = new ArrayList<>(activeSellers.size());
+        for (Seller seller : activeSellers) {
+            settlements.add(buildSettlement(seller, startDate, endDate, salesBySeller.get(seller.getId())));
+        }
+
+        // 청크 단위 저장 (영속성 컨텍스트의 flush 비용을 일정하게 유지)
+        List<Settlement> saved = new ArrayList<>(settlements.size());
+        for (int i = 0; i < settlements.size(); i += SETTLEMENT_BATCH_SIZE) {
+            List<Settlement> chunk = settlements.subList(i, Math.min(i + SETTLEMENT_BATCH_SIZE, settlements.size()));
+            saved.addAll(settlementRepository.saveAll(chunk));
+            settlementRepository.flush();
+        }
+
+        return saved;
     }
 
     /**
@@ -59,15 +94,23 @@ public class SettlementService {
                     throw new RuntimeException("이미 해당 기간의 정산이 존재합니다: " + existing.getId());
                 });
 
-        // 기간 내 결제 완료된 주문 조회
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
+        // 기간 내 해당 판매자의 매출 및 주문 건수 집계
+        SellerSalesSummary summary = orderItemRepository.sumSalesForSellerAndPeriod(
+                seller.getId(), startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX), SETTLEMENT_ORDER_STATUSES)
+                .orElse(null);
 
-        List<Order> paidOrders = orderRepository.findOrdersForExport(startDateTime, endDateTime, OrderStatus.PAID);
+        return settlementRepository.save(buildSettlement(seller, startDate, endDate, summary));
+    }
 
-        // 해당 판매자의 상품 매출 및 주문 건수 계산
-        BigDecimal totalSales = calculateSalesForSeller(paidOrders, seller);
-        int orderCount = countOrdersForSeller(paidOrders, seller);
+    /**
+     * 집계 결과로 정산 엔티티 생성 (매출이 없는 판매자는 0원 정산)
+     */
+    private Settlement buildSettlement(Seller seller, LocalDate startDate, LocalDate endDate,
+                                       SellerSalesSummary summary) {
+        BigDecimal totalSales = summary != null && summary.getTotalSales() != null
+                ? summary.getTotalSales() : BigDecimal.ZERO;
+        int orderCount = summary != null && summary.getOrderCount() != null
+                ? summary.getOrderCount().intValue() : 0;
 
         // 수수료 계산 (매출 * 수수료율 / 100)
         BigDecimal commissionRate = seller.getCommissionRate();
@@ -89,52 +132,7 @@ public class SettlementService {
         settlement.setCommissionAmount(commissionAmount);
         settlement.setNetAmount(netAmount);
         settlement.setStatus(SettlementStatus.PENDING);
-
-        return settlementRepository.save(settlement);
-    }
-
-    /**
-     * 특정 판매자의 매출 계산 (주문 목록에서)
-     */
-    private BigDecimal calculateSalesForSeller(List<Order> orders, Seller seller) {
-        BigDecimal totalSales = BigDecimal.ZERO;
-
-        for (Order order : orders) {
-            for (OrderItem item : order.getOrderItems()) {
-                // 상품의 판매자가 대상 판매자인 경우만 집계
-                if (item.getProduct().getSeller() != null &&
-                    item.getProduct().getSeller().getId().equals(seller.getId())) {
-                    BigDecimal itemTotal = item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
-                    totalSales = totalSales.add(itemTotal);
-                }
-            }
-        }
-
-        return totalSales;
-    }
-
-    /**
-     * 특정 판매자의 주문 건수 계산 (주문 목록에서)
-     */
-    private int countOrdersForSeller(List<Order> orders, Seller seller) {
-        int count = 0;
-
-        for (Order order : orders) {
-            boolean hasSellerProduct = false;
-            for (OrderItem item : order.getOrderItems()) {
-                // 상품의 판매자가 대상 판매자인 경우
-                if (item.getProduct().getSeller() != null &&
-                    item.getProduct().getSeller().getId().equals(seller.getId())) {
-                    hasSellerProduct = true;
-                    break;
-                }
-            }
-            if (hasSellerProduct) {
-                count++;
-            }
-        }
-
-        return count;
+        return settlement;
     }
 
     /**
@@ -0,0 +1,30 @@
+-- Seller ledger: append-only accrual/reversal entries per order item
+CREATE TABLE IF NOT EXISTS seller_ledger_entries (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    seller_id BIGINT NOT NULL,
+    order_id BIGINT NOT NULL,
+    order_item_id BIGINT NOT NULL,
+    entry_type VARCHAR(20) NOT NULL COMMENT 'ACCRUAL, REVERSAL',
+    sales_amount DECIMAL(12, 2) NOT NULL COMMENT '매출 금액 (적립 취소는 음수)',
+    commission_rate DECIMAL(5, 2) NOT NULL COMMENT '적립 당시 수수료율 (%)',
+    commission_amount DECIMAL(12, 2) NOT NULL,
+    net_amount DECIMAL(12, 2) NOT NULL,
+    balance_after DECIMAL(14, 2) NOT NULL COMMENT '반영 후 미정산 잔액',
+    settlement_id BIGINT NULL COMMENT '귀속된 정산 ID (미정산이면 NULL)',
+    memo VARCHAR(200),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (seller_id) REFERENCES sellers(id),
+    INDEX idx_ledger_seller_settlement (seller_id, settlement_id, created_at),
+    INDEX idx_ledger_order_item (order_item_id),
+    INDEX idx_ledger_order (order_id)
+) COMMENT='판매자 원장';
+
+-- Seller running balance (unsettled totals)
+CREATE TABLE IF NOT EXISTS seller_balances (
+    seller_id BIGINT PRIMARY KEY,
+    unsettled_sales DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    unsettled_commission DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    unsettled_net DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (seller_id) REFERENCES sellers(id)
+) COMMENT='판매자 미정산 잔액';
@@ -0,0 +1,6 @@
+-- Incremental Google Sheets order sync: per-seller watermark in sync log
+ALTER TABLE google_sheets_sync_log ADD COLUMN sync_mode VARCHAR(20) COMMENT 'FULL, DELTA';
+ALTER TABLE google_sheets_sync_log ADD COLUMN watermark TIMESTAMP NULL COMMENT '반영한 주문 변경 시각 상한 (증분 동기화 기준)';
+
+-- updated_at is used to find orders changed since the last sync
+CREATE INDEX IF NOT EXISTS idx_orders_updated_at ON orders(updated_at);
@@ -0,0 +1,2 @@
+-- Parallel Google Sheets sync: per-seller timing in sync log
+ALTER TABLE google_sheets_sync_log ADD COLUMN duration_ms BIGINT COMMENT '판매자별 동기화 소요 시간 (ms)';
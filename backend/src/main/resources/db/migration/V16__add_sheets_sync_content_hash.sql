@@ -0,0 +1,2 @@
+-- Product sheet export: catalog hash per sync to skip unchanged sellers
+ALTER TABLE google_sheets_sync_log ADD COLUMN content_hash VARCHAR(64) COMMENT '상품 카탈로그 전체 해시';
@@ -0,0 +1,22 @@
+-- Asynchronous export jobs: files are generated in the background and stored, clients poll for status
+CREATE TABLE export_jobs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    export_type VARCHAR(30) NOT NULL COMMENT '내보내기 유형',
+    params TEXT COMMENT '요청 파라미터 (JSON)',
+    dedup_key VARCHAR(100) COMMENT '진행 중 작업 중복 방지 키 (종료 시 NULL)',
+    status VARCHAR(20) NOT NULL COMMENT 'QUEUED, RUNNING, COMPLETED, FAILED, EXPIRED',
+    requested_by VARCHAR(255) COMMENT '요청 관리자',
+    total_rows BIGINT COMMENT '예상 전체 행 수',
+    row_count BIGINT NOT NULL DEFAULT 0 COMMENT '기록한 행 수',
+    storage_key VARCHAR(500) COMMENT '저장소 키',
+    file_name VARCHAR(255),
+    file_size BIGINT,
+    error_message VARCHAR(1000),
+    created_at DATETIME(6) NOT NULL,
+    started_at DATETIME(6),
+    completed_at DATETIME(6),
+    expires_at DATETIME(6) COMMENT '파일 보관 만료 시각',
+    CONSTRAINT uk_export_jobs_dedup_key UNIQUE (dedup_key),
+    INDEX idx_export_jobs_status_expires (status, expires_at),
+    INDEX idx_export_jobs_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
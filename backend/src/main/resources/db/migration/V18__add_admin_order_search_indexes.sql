@@ -0,0 +1,12 @@
+-- Admin order search: page order ids straight off an index for the common filter combinations
+-- InnoDB secondary indexes carry the primary key, so (x, created_at) also covers the id lookup
+
+-- Status filter + newest first (e.g. "PAID this month")
+CREATE INDEX IF NOT EXISTS idx_orders_status_created_at ON orders(order_status, created_at);
+
+-- Date range only / no filter, newest first
+CREATE INDEX IF NOT EXISTS idx_orders_created_at ON orders(created_at);
+
+-- Seller filter: orders has no seller column, the seller is reached through products -> order_items.
+-- (product_id, order_id) lets the EXISTS probe resolve from the index without touching order_items rows
+CREATE INDEX IF NOT EXISTS idx_order_items_product_order ON order_items(product_id, order_id);
@@ -0,0 +1,3 @@
+-- Admin user list/detail: per-user order stats (MAX(created_at)) and the latest 10 orders per user
+-- Replaces the lookups that previously scanned every order row of the user
+CREATE INDEX IF NOT EXISTS idx_orders_user_created_at ON orders(user_id, created_at);
@@ -0,0 +1,25 @@
+-- Background coupon issuance: user_coupons are inserted per user-id range with INSERT ... SELECT,
+-- each chunk committing together with the job's last_user_id watermark
+CREATE TABLE coupon_issue_jobs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    coupon_id BIGINT NOT NULL COMMENT '발급 쿠폰',
+    segment VARCHAR(30) NOT NULL COMMENT 'ALL_USERS, RECENT_BUYERS, NEW_MEMBERS, MARKETING_CONSENT',
+    segment_days INT COMMENT '대상 기간(일)',
+    dedup_key VARCHAR(100) COMMENT '진행 중 작업 중복 방지 키 (종료 시 NULL)',
+    status VARCHAR(20) NOT NULL COMMENT 'QUEUED, RUNNING, COMPLETED, FAILED',
+    requested_by VARCHAR(255) COMMENT '요청 관리자',
+    total_users BIGINT COMMENT '전체 회원 수',
+    processed_users BIGINT NOT NULL DEFAULT 0 COMMENT '확인한 회원 수',
+    issued_count BIGINT NOT NULL DEFAULT 0 COMMENT '발급한 쿠폰 수',
+    last_user_id BIGINT NOT NULL DEFAULT 0 COMMENT '마지막으로 처리한 사용자 ID',
+    error_message VARCHAR(1000),
+    created_at DATETIME(6) NOT NULL,
+    started_at DATETIME(6),
+    completed_at DATETIME(6),
+    CONSTRAINT uk_coupon_issue_jobs_dedup_key UNIQUE (dedup_key),
+    INDEX idx_coupon_issue_jobs_coupon (coupon_id),
+    INDEX idx_coupon_issue_jobs_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- NOT EXISTS probe (user_id, coupon_id) per candidate user resolves from the index
+CREATE INDEX IF NOT EXISTS idx_user_coupons_coupon_user ON user_coupons(coupon_id, user_id);
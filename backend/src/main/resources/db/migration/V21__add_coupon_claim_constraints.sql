@@ -0,0 +1,28 @@
+-- First-come-first-served coupon claiming
+-- coupons.issued_quantity: downloads of limited coupons, only ever raised by a conditional
+-- UPDATE ... WHERE issued_quantity < total_quantity, so it can never exceed the cap
+ALTER TABLE coupons ADD COLUMN issued_quantity INT NOT NULL DEFAULT 0 COMMENT '선착순 다운로드 발급 수량' AFTER total_quantity;
+
+UPDATE coupons c
+SET c.issued_quantity = LEAST(
+        COALESCE(c.total_quantity, 0),
+        (SELECT COUNT(*) FROM user_coupons uc WHERE uc.coupon_id = c.id))
+WHERE c.total_quantity IS NOT NULL;
+
+-- user_coupons.single_use_coupon_id: coupon_id for SINGLE_USE coupons, NULL otherwise.
+-- The unique key (user_id, single_use_coupon_id) allows one copy per user for single-use coupons
+-- while NULLs keep multi-use coupons unrestricted
+ALTER TABLE user_coupons ADD COLUMN single_use_coupon_id BIGINT NULL COMMENT '1회용 쿠폰 ID (재사용 쿠폰은 NULL)' AFTER coupon_id;
+
+-- Backfill only the earliest copy so existing duplicates do not break the unique key
+UPDATE user_coupons uc
+JOIN (
+    SELECT MIN(uc2.id) AS id
+    FROM user_coupons uc2
+    JOIN coupons c ON c.id = uc2.coupon_id
+    WHERE c.usage_type = 'SINGLE_USE'
+    GROUP BY uc2.user_id, uc2.coupon_id
+) first_copy ON first_copy.id = uc.id
+SET uc.single_use_coupon_id = uc.coupon_id;
+
+ALTER TABLE user_coupons ADD CONSTRAINT uk_user_coupons_single_use UNIQUE (user_id, single_use_coupon_id);
@@ -0,0 +1,15 @@
+-- Transactional outbox: order/payment/return flows append side effects (notifications, Slack, email)
+-- in their own transaction; OutboxRelay claims committed rows with FOR UPDATE SKIP LOCKED and delivers them
+CREATE TABLE outbox_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(30) NOT NULL COMMENT 'USER_NOTIFICATION, ADMIN_NOTIFICATION, SLACK_PAYMENT, EMAIL',
+    payload TEXT NOT NULL COMMENT '전달 내용 (JSON)',
+    status VARCHAR(20) NOT NULL COMMENT 'PENDING, DONE, FAILED',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '시도 횟수',
+    available_at DATETIME(6) NOT NULL COMMENT '다음 전달 가능 시각 (선점 임대/재시도 백오프)',
+    last_error VARCHAR(1000),
+    created_at DATETIME(6) NOT NULL,
+    processed_at DATETIME(6),
+    -- claim scan: status = 'PENDING' AND available_at <= now ORDER BY id
+    INDEX idx_outbox_events_status_available (status, available_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,16 @@
+-- Unread notification badges read a per-owner counter instead of COUNT(*) over notifications.
+-- owner_id is the user id, or 0 for admin notifications (user_id IS NULL)
+CREATE TABLE notification_unread_counts (
+    owner_id BIGINT PRIMARY KEY COMMENT '사용자 ID (0 = 관리자 알림)',
+    unread_count INT NOT NULL DEFAULT 0 COMMENT '안 읽은 알림 수'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO notification_unread_counts (owner_id, unread_count)
+SELECT COALESCE(user_id, 0), COUNT(*)
+FROM notifications
+WHERE is_read = false
+GROUP BY COALESCE(user_id, 0);
+
+-- Unread dropdown (user_id = ? AND is_read = false ORDER BY created_at DESC), set-based mark-read,
+-- and the per-user list all resolve from this index
+CREATE INDEX IF NOT EXISTS idx_notifications_user_read_created ON notifications(user_id, is_read, created_at);
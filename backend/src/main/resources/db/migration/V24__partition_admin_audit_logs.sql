@@ -0,0 +1,37 @@
+-- admin_audit_logs is range-partitioned by month on created_at.
+-- Partition pYYYYMM holds rows created before the first day of the following month
+-- (p202509 also holds all earlier history). AuditLogPartitionManager splits new months
+-- out of pmax ahead of time, and archives/drops partitions older than the retention window.
+
+-- MySQL requires the partitioning column in every unique key, including the primary key
+ALTER TABLE admin_audit_logs
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, created_at);
+
+-- Per-admin and per-action history are read newest first within a date range
+ALTER TABLE admin_audit_logs
+    DROP INDEX idx_admin_user_id,
+    DROP INDEX idx_action_type,
+    ADD INDEX idx_admin_user_created (admin_user_id, created_at),
+    ADD INDEX idx_action_type_created (action_type, created_at);
+
+ALTER TABLE admin_audit_logs
+PARTITION BY RANGE COLUMNS(created_at) (
+    PARTITION p202509 VALUES LESS THAN ('2025-10-01'),
+    PARTITION p202510 VALUES LESS THAN ('2025-11-01'),
+    PARTITION p202511 VALUES LESS THAN ('2025-12-01'),
+    PARTITION p202512 VALUES LESS THAN ('2026-01-01'),
+    PARTITION p202601 VALUES LESS THAN ('2026-02-01'),
+    PARTITION p202602 VALUES LESS THAN ('2026-03-01'),
+    PARTITION p202603 VALUES LESS THAN ('2026-04-01'),
+    PARTITION p202604 VALUES LESS THAN ('2026-05-01'),
+    PARTITION p202605 VALUES LESS THAN ('2026-06-01'),
+    PARTITION p202606 VALUES LESS THAN ('2026-07-01'),
+    PARTITION p202607 VALUES LESS THAN ('2026-08-01'),
+    PARTITION p202608 VALUES LESS THAN ('2026-09-01'),
+    PARTITION p202609 VALUES LESS THAN ('2026-10-01'),
+    PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+    PARTITION p202611 VALUES LESS THAN ('2026-12-01'),
+    PARTITION p202612 VALUES LESS THAN ('2027-01-01'),
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
@@ -0,0 +1,16 @@
+-- Seller ledger: at most one ACCRUAL per order item
+-- accrual_order_item_id mirrors order_item_id for ACCRUAL rows and stays NULL for REVERSAL rows,
+-- so the unique key rejects a second accrual while still allowing several partial reversals
+ALTER TABLE seller_ledger_entries ADD COLUMN accrual_order_item_id BIGINT NULL COMMENT '적립 항목이면 order_item_id (적립 취소는 NULL)' AFTER entry_type;
+
+-- Backfill only the earliest accrual so existing duplicates do not break the unique key
+UPDATE seller_ledger_entries e
+JOIN (
+    SELECT MIN(e2.id) AS id
+    FROM seller_ledger_entries e2
+    WHERE e2.entry_type = 'ACCRUAL'
+    GROUP BY e2.order_item_id
+) first_accrual ON first_accrual.id = e.id
+SET e.accrual_order_item_id = e.order_item_id;
+
+ALTER TABLE seller_ledger_entries ADD CONSTRAINT uk_ledger_accrual_order_item UNIQUE (accrual_order_item_id);
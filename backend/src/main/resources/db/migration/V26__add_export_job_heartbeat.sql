@@ -0,0 +1,3 @@
+-- Export jobs: heartbeat written by the owning instance while a job is queued or running.
+-- Stale cleanup fails a job only when its heartbeat stops, not when it is merely old
+ALTER TABLE export_jobs ADD COLUMN heartbeat_at DATETIME(6) NULL COMMENT '작업을 가진 서버의 마지막 heartbeat' AFTER started_at;
@@ -0,0 +1,13 @@
+-- Single-use tickets for the notification SSE stream.
+-- EventSource cannot send an Authorization header, so the client first exchanges its access token
+-- (header auth) for a short-lived ticket and opens the stream with ?ticket= instead of ?token=
+CREATE TABLE notification_stream_tickets (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    ticket VARCHAR(64) NOT NULL COMMENT '임의 생성 티켓 (1회용)',
+    user_email VARCHAR(255) NOT NULL COMMENT '티켓을 발급받은 사용자',
+    expires_at DATETIME(6) NOT NULL COMMENT '만료 시각',
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_notification_stream_tickets_ticket UNIQUE (ticket)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX IF NOT EXISTS idx_notification_stream_tickets_expires_at ON notification_stream_tickets(expires_at);
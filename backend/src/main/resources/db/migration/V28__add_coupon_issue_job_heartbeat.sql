@@ -0,0 +1,3 @@
+-- Coupon issue jobs: heartbeat written by the owning instance with each chunk and while queued.
+-- Stale cleanup fails a job only when its heartbeat stops, not when it is merely old
+ALTER TABLE coupon_issue_jobs ADD COLUMN heartbeat_at DATETIME(6) NULL COMMENT '작업을 가진 서버의 마지막 heartbeat' AFTER started_at;
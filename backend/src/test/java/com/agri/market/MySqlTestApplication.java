@@ -0,0 +1,15 @@
+package com.agri.market;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * 슬라이스 테스트(@DataJpaTest)용 설정
+ * 애플리케이션 클래스(com.example.demo.DemoApplication)가 com.agri.market 밖에 있어 테스트가 찾지 못하므로 대신 제공
+ */
+@SpringBootConfiguration
+@EntityScan(basePackages = "com.agri.market")
+@EnableJpaRepositories(basePackages = "com.agri.market")
+public class MySqlTestApplication {
+}
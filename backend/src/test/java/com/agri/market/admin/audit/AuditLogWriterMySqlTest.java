@@ -0,0 +1,64 @@
+package com.agri.market.admin.audit;
+
+import com.agri.market.support.MySqlIntegrationTest;
+import com.agri.market.support.TestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 감사 로그 일괄 기록기 통합 테스트
+ * 운영과 같이 auto-commit이 꺼진 풀에서 기록 스레드의 INSERT가 실제로 커밋되는지 확인
+ */
+@DisplayName("AuditLogWriter 일괄 기록 통합 테스트 (MySQL)")
+class AuditLogWriterMySqlTest extends MySqlIntegrationTest {
+
+    private static final int LOGS = 450;
+
+    @Test
+    @DisplayName("버퍼에 넣은 로그가 배치로 커밋되고, 저장 수는 커밋된 행 수와 같음")
+    void writesCommittedBatches() throws Exception {
+        AuditLogWriter writer = new AuditLogWriter(jdbcTemplate, transactionManager, 10_000, 200, 50);
+        writer.start();
+        String adminEmail = "admin" + TestFixtures.nextId() + "@test.com";
+
+        for (int i = 0; i < LOGS; i++) {
+            assertThat(writer.enqueue(log(adminEmail, i))).isTrue();
+        }
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (writer.getWrittenCount() < LOGS && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(writer.getWrittenCount()).isEqualTo(LOGS);
+        assertThat(countLogs(adminEmail)).isEqualTo(LOGS);
+        assertThat(writer.getFailedCount()).isZero();
+
+        // 종료 직전에 넣은 로그도 남은 항목 저장으로 커밋됨
+        writer.enqueue(log(adminEmail, LOGS));
+        writer.shutdown();
+        assertThat(countLogs(adminEmail)).isEqualTo(LOGS + 1);
+        assertThat(writer.getWrittenCount()).isEqualTo(LOGS + 1);
+    }
+
+    private static AdminAuditLog log(String adminEmail, int index) {
+        AdminAuditLog log = new AdminAuditLog();
+        log.setAdminUserId(1L);
+        log.setAdminEmail(adminEmail);
+        log.setActionType(ActionType.ORDER_STATUS_CHANGE);
+        log.setTargetEntityType("Order");
+        log.setTargetEntityId((long) index);
+        log.setOldValue("PAID");
+        log.setNewValue("PREPARING");
+        log.setCreatedAt(LocalDateTime.now());
+        return log;
+    }
+
+    private int countLogs(String adminEmail) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM admin_audit_logs WHERE admin_email = ?", Integer.class, adminEmail);
+    }
+}
@@ -0,0 +1,227 @@
+package com.agri.market.cart;
+
+import com.agri.market.coupon.Coupon;
+import com.agri.market.coupon.CouponProduct;
+import com.agri.market.coupon.CouponRepository;
+import com.agri.market.coupon.CouponRuleIndex;
+import com.agri.market.coupon.DiscountType;
+import com.agri.market.product.Product;
+import com.agri.market.product.ProductOption;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CartPricingEngine 가격 계산 테스트")
+class CartPricingEngineTest {
+
+    private final CartPricingEngine engine = new CartPricingEngine();
+
+    @Test
+    @DisplayName("합포장 상품은 박스 수, 일반 상품은 수량만큼 배송비가 붙고 무료배송은 0")
+    void shippingCombination() {
+        Product combined = product(1L, "10000", "10", "3000", 100);
+        combined.setCanCombineShipping(true);
+        combined.setCombineShippingUnit(3);
+        ProductOption option = option(combined, "500", 100);
+        Product single = product(2L, "7000", null, "2500", 100);
+        Product free = product(3L, "4000", null, "0", 100);
+
+        CartQuote quote = engine.price(List.of(
+                new CartPricingEngine.Item(11L, combined, option, 5),
+                new CartPricingEngine.Item(12L, single, null, 2),
+                new CartPricingEngine.Item(13L, free, null, 4)));
+
+        CartQuote.Line combinedLine = quote.getLines().get(0);
+        assertThat(combinedLine.getRefId()).isEqualTo(11L);
+        assertThat(combinedLine.getUnitPrice()).isEqualByComparingTo("9500"); // 할인가 9,000 + 옵션 500
+        assertThat(combinedLine.getLineAmount()).isEqualByComparingTo("47500");
+        assertThat(combinedLine.getShippingBoxes()).isEqualTo(2); // 5개 / 3개 단위 → 2박스
+        assertThat(combinedLine.getShippingFee()).isEqualByComparingTo("6000");
+
+        CartQuote.Line singleLine = quote.getLines().get(1);
+        assertThat(singleLine.getShippingBoxes()).isEqualTo(2);
+        assertThat(singleLine.getShippingFee()).isEqualByComparingTo("5000");
+
+        CartQuote.Line freeLine = quote.getLines().get(2);
+        assertThat(freeLine.getShippingBoxes()).isZero();
+        assertThat(freeLine.getShippingFee()).isEqualByComparingTo("0");
+
+        assertThat(quote.getItemsTotal()).isEqualByComparingTo("77500"); // 47,500 + 14,000 + 16,000
+        assertThat(quote.getShippingTotal()).isEqualByComparingTo("11000");
+        assertThat(quote.hasWarnings()).isFalse();
+    }
+
+    @Test
+    @DisplayName("합포장 단위가 없으면 합포장 가능 상품도 수량만큼 배송비 부과, 수량이 단위의 배수면 딱 맞는 박스 수")
+    void shippingCombinationEdges() {
+        Product noUnit = product(1L, "5000", null, "3000", 100);
+        noUnit.setCanCombineShipping(true);
+        Product exact = product(2L, "5000", null, "3000", 100);
+        exact.setCanCombineShipping(true);
+        exact.setCombineShippingUnit(4);
+
+        assertThat(CartPricingEngine.shippingBoxes(noUnit, 3)).isEqualTo(3);
+        assertThat(CartPricingEngine.shippingBoxes(exact, 8)).isEqualTo(2);
+        assertThat(CartPricingEngine.shippingBoxes(exact, 9)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("할인가는 원 단위로 반올림된 값을 단가로 사용")
+    void unitPriceRoundsDiscountToWon() {
+        Product product = product(1L, "9990", "15", "3000", 100);
+
+        // 9,990 x 85% = 8,491.5 → 8,492
+        assertThat(CartPricingEngine.unitPrice(product, null)).isEqualByComparingTo("8492");
+    }
+
+    @Test
+    @DisplayName("소수 단위 옵션 추가금은 반올림하지 않고 라인 금액과 합계까지 그대로 유지")
+    void fractionalOptionPriceIsNotRounded() {
+        Product product = product(1L, "10000", null, "2500.50", 100);
+        ProductOption option = option(product, "1500.50", 100);
+
+        CartQuote quote = engine.price(List.of(new CartPricingEngine.Item(null, product, option, 3)));
+
+        CartQuote.Line line = quote.getLines().get(0);
+        assertThat(line.getUnitPrice()).isEqualByComparingTo("11500.50");
+        assertThat(line.getLineAmount()).isEqualByComparingTo("34501.50"); // 단가를 원 단위로 반올림하면 34,503
+        assertThat(line.getShippingFee()).isEqualByComparingTo("7501.50");
+        assertThat(quote.getItemsTotal()).isEqualByComparingTo("34501.50");
+        assertThat(quote.couponLines().get(0).getAmount()).isEqualByComparingTo("34501.50");
+    }
+
+    @Test
+    @DisplayName("수량/재고/옵션 문제는 예외 없이 라인 경고로 반환되고 금액 계산은 계속됨")
+    void warningsDoNotStopPricing() {
+        Product limited = product(1L, "1000", null, "0", 100);
+        limited.setMinOrderQuantity(2);
+        Product lowStock = product(2L, "1000", null, "0", 1);
+        Product other = product(3L, "1000", null, "0", 100);
+        ProductOption foreignOption = option(other, "0", 100);
+        Product withOption = product(4L, "1000", null, "0", 100);
+
+        CartQuote quote = engine.price(List.of(
+                new CartPricingEngine.Item(null, limited, null, 1),
+                new CartPricingEngine.Item(null, lowStock, null, 2),
+                new CartPricingEngine.Item(null, withOption, foreignOption, 1)));
+
+        assertThat(quote.getLines()).extracting(CartQuote.Line::getWarning).containsExactly(
+                CartPricingEngine.Warning.BELOW_MIN_QUANTITY,
+                CartPricingEngine.Warning.OUT_OF_STOCK,
+                CartPricingEngine.Warning.OPTION_MISMATCH);
+        assertThat(quote.getLines().get(1).getWarningMessage()).isEqualTo("Not enough stock for product: 상품2");
+        assertThat(quote.getItemsTotal()).isEqualByComparingTo("4000");
+        assertThat(quote.hasWarnings()).isTrue();
+    }
+
+    @Test
+    @DisplayName("쿠폰 미리보기는 배송비를 제외한 현재 라인 금액(할인가 + 옵션)으로 평가되고 할인 금액이 큰 순서")
+    void couponPreviewUsesLivePrices() {
+        Product apple = product(1L, "20000", "10", "3000", 100);
+        apple.setCategory("과일");
+        ProductOption bigBox = option(apple, "2000", 100);
+        Product rice = product(2L, "30000", null, "3000", 100);
+        rice.setCategory("곡물");
+
+        CartQuote quote = engine.price(List.of(
+                new CartPricingEngine.Item(null, apple, bigBox, 2),
+                new CartPricingEngine.Item(null, rice, null, 1)));
+        // 사과 (18,000 + 2,000) x 2 = 40,000, 쌀 30,000, 합계 70,000
+
+        Coupon fruitPercent = coupon(101L, DiscountType.PERCENTAGE, "20", null);
+        fruitPercent.setApplicableCategory("과일");
+        Coupon fixed = coupon(102L, DiscountType.FIXED_AMOUNT, "5000", null);
+        Coupon riceOnly = coupon(103L, DiscountType.PERCENTAGE, "50", "10000");
+        CouponProduct riceProduct = new CouponProduct();
+        riceProduct.setCoupon(riceOnly);
+        riceProduct.setProduct(rice);
+        riceOnly.getCouponProducts().add(riceProduct);
+        Coupon tooExpensive = coupon(104L, DiscountType.FIXED_AMOUNT, "20000", null);
+        tooExpensive.setMinOrderAmount(new BigDecimal("100000"));
+
+        CouponRepository couponRepository = mock(CouponRepository.class);
+        when(couponRepository.findAllForRuleIndex(any()))
+                .thenReturn(List.of(fruitPercent, fixed, riceOnly, tooExpensive));
+        CouponRuleIndex ruleIndex = new CouponRuleIndex(couponRepository);
+
+        List<CouponRuleIndex.Evaluation> evaluations =
+                ruleIndex.evaluate(List.of(101L, 102L, 103L, 104L), quote.couponLines());
+
+        assertThat(evaluations).extracting(CouponRuleIndex.Evaluation::getCouponId).containsExactly(103L, 101L, 102L);
+        assertThat(evaluations.get(0).getEligibleAmount()).isEqualByComparingTo("30000");
+        assertThat(evaluations.get(0).getDiscountAmount()).isEqualByComparingTo("10000"); // 50% 상한 적용
+        assertThat(evaluations.get(1).getEligibleAmount()).isEqualByComparingTo("40000");
+        assertThat(evaluations.get(1).getDiscountAmount()).isEqualByComparingTo("8000");
+        assertThat(evaluations.get(2).getEligibleAmount()).isEqualByComparingTo("70000");
+        assertThat(evaluations.get(2).getDiscountAmount()).isEqualByComparingTo("5000");
+    }
+
+    @Test
+    @DisplayName("주문 생성/쿠폰 검증이 쓰는 쿠폰 적용 대상 금액이 미리보기 평가와 같고, 대상 상품이 없으면 0")
+    void couponEligibleAmountMatchesPreview() {
+        Product apple = product(1L, "20000", null, "3000", 100);
+        apple.setCategory("과일");
+        Product rice = product(2L, "30000", null, "3000", 100);
+        rice.setCategory("곡물");
+        CartQuote quote = engine.price(List.of(
+                new CartPricingEngine.Item(null, apple, null, 1),
+                new CartPricingEngine.Item(null, rice, null, 1)));
+
+        Coupon fruitPercent = coupon(201L, DiscountType.PERCENTAGE, "10", null);
+        fruitPercent.setApplicableCategory("과일");
+        Coupon vegetableOnly = coupon(202L, DiscountType.FIXED_AMOUNT, "3000", null);
+        vegetableOnly.setApplicableCategory("채소");
+
+        CouponRepository couponRepository = mock(CouponRepository.class);
+        when(couponRepository.findAllForRuleIndex(any())).thenReturn(List.of(fruitPercent, vegetableOnly));
+        List<CouponRuleIndex.Evaluation> evaluations =
+                new CouponRuleIndex(couponRepository).evaluate(List.of(201L, 202L), quote.couponLines());
+
+        assertThat(evaluations).extracting(CouponRuleIndex.Evaluation::getCouponId).containsExactly(201L);
+        assertThat(fruitPercent.eligibleAmount(quote.couponLines()))
+                .isEqualByComparingTo(evaluations.get(0).getEligibleAmount())
+                .isEqualByComparingTo("20000");
+        // 주문 전체(50,000)가 아닌 과일 금액(20,000)의 10%
+        assertThat(fruitPercent.calculateDiscount(fruitPercent.eligibleAmount(quote.couponLines())))
+                .isEqualByComparingTo(evaluations.get(0).getDiscountAmount())
+                .isEqualByComparingTo("2000");
+        assertThat(vegetableOnly.eligibleAmount(quote.couponLines())).isZero();
+    }
+
+    private static Product product(Long id, String price, String discountRate, String shippingFee, int stock) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("상품" + id);
+        product.setPrice(new BigDecimal(price));
+        product.setDiscountRate(discountRate != null ? new BigDecimal(discountRate) : null);
+        product.setShippingFee(new BigDecimal(shippingFee));
+        product.setStock(stock);
+        return product;
+    }
+
+    private static ProductOption option(Product product, String additionalPrice, int stock) {
+        ProductOption option = new ProductOption(product, "옵션", new BigDecimal(additionalPrice), stock, false);
+        option.setId(product.getId() * 100);
+        return option;
+    }
+
+    private static Coupon coupon(Long id, DiscountType type, String value, String maxDiscount) {
+        Coupon coupon = new Coupon();
+        coupon.setId(id);
+        coupon.setCode("C" + id);
+        coupon.setDiscountType(type);
+        coupon.setDiscountValue(new BigDecimal(value));
+        coupon.setMaxDiscountAmount(maxDiscount != null ? new BigDecimal(maxDiscount) : null);
+        coupon.setStartDate(LocalDateTime.now().minusDays(1));
+        coupon.setEndDate(LocalDateTime.now().plusDays(1));
+        return coupon;
+    }
+}
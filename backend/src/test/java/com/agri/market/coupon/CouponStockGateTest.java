@@ -0,0 +1,158 @@
+package com.agri.market.coupon;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CouponStockGate 동시성 테스트")
+class CouponStockGateTest {
+
+    private static final Long COUPON_ID = 1L;
+    private static final int TOTAL_QUANTITY = 1000;
+    private static final int CLAIMERS = 5000;
+
+    /**
+     * DB의 조건부 UPDATE (issued_quantity < total_quantity) 대역
+     */
+    private static class FakeCouponRow {
+        private final AtomicInteger issued = new AtomicInteger();
+        private final AtomicInteger updateCalls = new AtomicInteger();
+
+        boolean incrementIssued() {
+            updateCalls.incrementAndGet();
+            int current;
+            do {
+                current = issued.get();
+                if (current >= TOTAL_QUANTITY) {
+                    return false;
+                }
+            } while (!issued.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        Integer remaining() {
+            return TOTAL_QUANTITY - issued.get();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 요청이 총 수량보다 많아도 정확히 총 수량만 발급되고, 소진 후 요청은 DB에 닿지 않음")
+    void exactCapUnderContention() throws Exception {
+        CouponStockGate gate = new CouponStockGate();
+        FakeCouponRow row = new FakeCouponRow();
+        AtomicInteger claimed = new AtomicInteger();
+
+        runConcurrently(CLAIMERS, () -> {
+            CouponStockGate.Permit permit = gate.tryAcquire(COUPON_ID, id -> row.remaining());
+            if (permit == null) {
+                return;
+            }
+            if (row.incrementIssued()) {
+                claimed.incrementAndGet();
+            } else {
+                gate.markSoldOut(permit);
+            }
+        });
+
+        assertThat(claimed.get()).isEqualTo(TOTAL_QUANTITY);
+        assertThat(row.issued.get()).isEqualTo(TOTAL_QUANTITY);
+        assertThat(row.updateCalls.get()).isEqualTo(TOTAL_QUANTITY);
+    }
+
+    @Test
+    @DisplayName("롤백된 발급의 수량은 반환되어 다른 사용자가 가져감")
+    void releasedPermitsAreReclaimed() throws Exception {
+        CouponStockGate gate = new CouponStockGate();
+        FakeCouponRow row = new FakeCouponRow();
+        AtomicInteger claimed = new AtomicInteger();
+        AtomicInteger attempts = new AtomicInteger();
+
+        runConcurrently(CLAIMERS, () -> {
+            CouponStockGate.Permit permit = gate.tryAcquire(COUPON_ID, id -> row.remaining());
+            if (permit == null) {
+                return;
+            }
+            // 10건 중 1건은 INSERT 실패(중복 다운로드 등)로 롤백 - DB 갱신 전에 수량 반환
+            if (attempts.incrementAndGet() % 10 == 0) {
+                permit.release();
+                return;
+            }
+            if (row.incrementIssued()) {
+                claimed.incrementAndGet();
+            } else {
+                gate.markSoldOut(permit);
+            }
+        });
+
+        assertThat(claimed.get()).isEqualTo(TOTAL_QUANTITY);
+        assertThat(row.issued.get()).isEqualTo(TOTAL_QUANTITY);
+    }
+
+    @Test
+    @DisplayName("DB가 소진을 확인하면 재확인 간격 전까지는 DB 조회 없이 거절")
+    void soldOutSkipsLoader() {
+        CouponStockGate gate = new CouponStockGate();
+        AtomicInteger loads = new AtomicInteger();
+
+        CouponStockGate.Permit permit = gate.tryAcquire(COUPON_ID, id -> {
+            loads.incrementAndGet();
+            return 5;
+        });
+        assertThat(permit).isNotNull();
+
+        gate.markSoldOut(permit);
+
+        assertThat(gate.tryAcquire(COUPON_ID, id -> {
+            loads.incrementAndGet();
+            return 5;
+        })).isNull();
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("소진 처리 후 롤백된 선점을 반환해도 새 게이트는 0을 유지")
+    void releaseAfterSoldOutDoesNotReopenGate() {
+        CouponStockGate gate = new CouponStockGate();
+
+        CouponStockGate.Permit first = gate.tryAcquire(COUPON_ID, id -> 2);
+        CouponStockGate.Permit second = gate.tryAcquire(COUPON_ID, id -> 2);
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+
+        // 다른 인스턴스가 먼저 소진시켜 두 번째 요청의 DB 갱신이 거절되고, 첫 번째 요청은 롤백됨
+        gate.markSoldOut(second);
+        first.release();
+        first.release();
+        second.release();
+
+        assertThat(gate.tryAcquire(COUPON_ID, id -> 2)).isNull();
+    }
+
+    private static void runConcurrently(int tasks, Runnable task) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(tasks);
+        for (int i = 0; i < tasks; i++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,172 @@
+package com.agri.market.coupon;
+
+import com.agri.market.cart.CartRepository;
+import com.agri.market.exception.BusinessException;
+import com.agri.market.support.MySqlIntegrationTest;
+import com.agri.market.support.TestFixtures;
+import com.agri.market.user.User;
+import com.agri.market.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 선착순 쿠폰 다운로드 부하 테스트
+ * 인스턴스 두 대(게이트 두 개)가 같은 DB로 동시에 발급하는 상황에서 조건부 발급 수량 갱신과
+ * uk_user_coupons_single_use 유니크 제약이 총 수량과 사용자당 1장을 지키는지 확인
+ * 기본 동시 요청 2,000건, -Dloadtest.coupon.claimers=10000 으로 늘릴 수 있음
+ */
+@DisplayName("UserCouponService 선착순 다운로드 부하 테스트 (MySQL)")
+class UserCouponServiceMySqlTest extends MySqlIntegrationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserCouponServiceMySqlTest.class);
+
+    private static final int CLAIMERS = Integer.getInteger("loadtest.coupon.claimers", 2000);
+    private static final int TOTAL_QUANTITY = 300;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("동시 요청이 총 수량보다 많아도 정확히 총 수량만 발급되고 발급 수량과 보유 쿠폰 수가 일치")
+    void exactCapWithConcurrentClaimers() throws Exception {
+        Coupon coupon = couponRepository.save(coupon(TOTAL_QUANTITY));
+        List<User> users = userRepository.saveAll(users(CLAIMERS));
+
+        // 인스턴스마다 게이트가 따로 있어, 한쪽 게이트가 남아 있어도 DB 조건부 갱신에서 거절되는 경로를 거침
+        List<UserCouponService> instances = List.of(service(), service());
+        Map<String, AtomicInteger> outcomes = new ConcurrentHashMap<>();
+
+        long startedAt = System.nanoTime();
+        runConcurrently(CLAIMERS, i -> outcomes
+                .computeIfAbsent(download(instances.get(i % 2), users.get(i), coupon), key -> new AtomicInteger())
+                .incrementAndGet());
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        logger.info("Coupon claim load test - {} claimers for {} coupons: {}ms, outcomes {}",
+                CLAIMERS, TOTAL_QUANTITY, elapsedMs, outcomes);
+
+        assertThat(outcomes.get("OK").get()).isEqualTo(TOTAL_QUANTITY);
+        assertThat(outcomes.get("COUPON_OUT_OF_STOCK").get()).isEqualTo(CLAIMERS - TOTAL_QUANTITY);
+        assertThat(outcomes).containsOnlyKeys("OK", "COUPON_OUT_OF_STOCK");
+        assertThat(couponRepository.findRemainingIssueQuantity(coupon.getId())).isZero();
+        assertThat(countUserCoupons(coupon)).isEqualTo(TOTAL_QUANTITY);
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 1회용 쿠폰을 동시에 여러 번 요청해도 유니크 제약으로 한 장만 발급")
+    void singleUsePerUserUnderConcurrentDuplicates() throws Exception {
+        Coupon coupon = couponRepository.save(coupon(null));
+        List<User> users = userRepository.saveAll(users(100));
+        int attemptsPerUser = 5;
+
+        List<UserCouponService> instances = List.of(service(), service());
+        Map<String, AtomicInteger> outcomes = new ConcurrentHashMap<>();
+
+        runConcurrently(users.size() * attemptsPerUser, i -> outcomes
+                .computeIfAbsent(download(instances.get(i % 2), users.get(i % users.size()), coupon),
+                        key -> new AtomicInteger())
+                .incrementAndGet());
+
+        assertThat(outcomes.get("OK").get()).isEqualTo(users.size());
+        assertThat(outcomes.get("COUPON_ALREADY_DOWNLOADED").get()).isEqualTo(users.size() * (attemptsPerUser - 1));
+        assertThat(countUserCoupons(coupon)).isEqualTo(users.size());
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT user_id) FROM user_coupons WHERE coupon_id = ?", Integer.class, coupon.getId()))
+                .isEqualTo(users.size());
+    }
+
+    /**
+     * 프록시 없이 만든 서비스이므로 @Transactional 대신 TransactionTemplate으로 감쌈
+     * @return "OK" 또는 BusinessException 오류 코드
+     */
+    private String download(UserCouponService service, User user, Coupon coupon) {
+        try {
+            new TransactionTemplate(transactionManager)
+                    .execute(status -> service.downloadCoupon(user.getEmail(), coupon.getCode()));
+            return "OK";
+        } catch (BusinessException e) {
+            return e.getErrorCode();
+        }
+    }
+
+    private UserCouponService service() {
+        return new UserCouponService(userCouponRepository, couponRepository, userRepository, new CouponStockGate(),
+                mock(CouponRuleIndex.class), mock(CartRepository.class), mock(CartPricingEngine.class));
+    }
+
+    private int countUserCoupons(Coupon coupon) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_coupons WHERE coupon_id = ?",
+                Integer.class, coupon.getId());
+    }
+
+    private static Coupon coupon(Integer totalQuantity) {
+        Coupon coupon = new Coupon();
+        coupon.setCode("LOAD" + TestFixtures.nextId());
+        coupon.setName("선착순 쿠폰");
+        coupon.setDiscountType(DiscountType.FIXED_AMOUNT);
+        coupon.setDiscountValue(BigDecimal.valueOf(1000));
+        coupon.setStartDate(LocalDateTime.now().minusDays(1));
+        coupon.setEndDate(LocalDateTime.now().plusDays(30));
+        coupon.setTotalQuantity(totalQuantity);
+        coupon.setUsageType(CouponUsageType.SINGLE_USE);
+        return coupon;
+    }
+
+    private static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(TestFixtures.user());
+        }
+        return users;
+    }
+
+    private interface IndexedTask {
+        void run(int index);
+    }
+
+    private static void runConcurrently(int tasks, IndexedTask task) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(tasks);
+        for (int i = 0; i < tasks; i++) {
+            int index = i;
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    task.run(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(120, TimeUnit.SECONDS)).isTrue();
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,119 @@
+package com.agri.market.googlesheets;
+
+import com.google.api.services.sheets.v4.model.CellData;
+import com.google.api.services.sheets.v4.model.DimensionRange;
+import com.google.api.services.sheets.v4.model.Request;
+import com.google.api.services.sheets.v4.model.RowData;
+import com.google.api.services.sheets.v4.model.ValueRange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 단일 시트를 메모리 상의 행 목록으로 흉내내는 SheetsGateway (시트 ID 0)
+ */
+class FakeSheetsGateway implements SheetsGateway {
+
+    private static final Pattern CELL = Pattern.compile("([A-Z]+)(\\d*)");
+
+    final List<List<Object>> rows = new ArrayList<>();
+    int batchUpdateCalls;
+
+    private final String sheetName;
+
+    FakeSheetsGateway(String sheetName) {
+        this.sheetName = sheetName;
+    }
+
+    @Override
+    public List<List<Object>> readValues(String spreadsheetId, String range) {
+        String[] cells = range.substring(range.indexOf('!') + 1).split(":");
+        int from = columnIndex(cells[0]);
+        int to = cells.length > 1 ? columnIndex(cells[1]) : from;
+        List<List<Object>> result = new ArrayList<>();
+        for (List<Object> row : rows) {
+            result.add(new ArrayList<>(row.subList(Math.min(from, row.size()), Math.min(to + 1, row.size()))));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Integer> getSheetIds(String spreadsheetId) {
+        return Map.of(sheetName, 0);
+    }
+
+    @Override
+    public void clearValues(String spreadsheetId, String range) {
+        rows.clear();
+    }
+
+    @Override
+    public void updateValues(String spreadsheetId, String range, List<List<Object>> values) {
+        int start = rowIndex(range);
+        for (int i = 0; i < values.size(); i++) {
+            setRow(start + i, values.get(i));
+        }
+    }
+
+    @Override
+    public void batchUpdateValues(String spreadsheetId, List<ValueRange> data) {
+        batchUpdateCalls++;
+        for (ValueRange valueRange : data) {
+            updateValues(spreadsheetId, valueRange.getRange(), valueRange.getValues());
+        }
+    }
+
+    @Override
+    public void batchUpdateSpreadsheet(String spreadsheetId, List<Request> requests) {
+        batchUpdateCalls++;
+        for (Request request : requests) {
+            if (request.getDeleteDimension() != null) {
+                DimensionRange range = request.getDeleteDimension().getRange();
+                rows.subList(range.getStartIndex(), range.getEndIndex()).clear();
+            } else if (request.getUpdateCells() != null) {
+                int index = request.getUpdateCells().getStart().getRowIndex();
+                for (RowData rowData : request.getUpdateCells().getRows()) {
+                    setRow(index++, toValues(rowData));
+                }
+            } else if (request.getAppendCells() != null) {
+                for (RowData rowData : request.getAppendCells().getRows()) {
+                    rows.add(toValues(rowData));
+                }
+            }
+        }
+    }
+
+    private static List<Object> toValues(RowData rowData) {
+        List<Object> values = new ArrayList<>();
+        for (CellData cell : rowData.getValues()) {
+            values.add(cell.getUserEnteredValue().getStringValue());
+        }
+        return values;
+    }
+
+    private void setRow(int index, List<Object> values) {
+        while (rows.size() <= index) {
+            rows.add(new ArrayList<>());
+        }
+        rows.set(index, new ArrayList<>(values));
+    }
+
+    private static int rowIndex(String range) {
+        Matcher matcher = CELL.matcher(range.substring(range.indexOf('!') + 1));
+        matcher.find();
+        return Integer.parseInt(matcher.group(2)) - 1;
+    }
+
+    private static int columnIndex(String cell) {
+        Matcher matcher = CELL.matcher(cell);
+        matcher.find();
+        int index = 0;
+        for (char c : matcher.group(1).toCharArray()) {
+            index = index * 26 + (c - 'A' + 1);
+        }
+        return index - 1;
+    }
+}
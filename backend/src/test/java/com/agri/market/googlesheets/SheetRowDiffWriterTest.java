@@ -0,0 +1,87 @@
+package com.agri.market.googlesheets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SheetRowDiffWriter 단위 테스트")
+class SheetRowDiffWriterTest {
+
+    private static final String SHEET = "ProductList";
+    private static final String SPREADSHEET_ID = "test-sheet";
+
+    private FakeSheetsGateway gateway;
+    private SheetRowDiffWriter writer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        gateway = new FakeSheetsGateway(SHEET);
+        writer = new SheetRowDiffWriter(SHEET, Arrays.asList("상품ID", "상품명"));
+        writer.writeAll(gateway, SPREADSHEET_ID, List.of(
+                row("1", "사과"),
+                row("2", "배"),
+                row("3", "감"),
+                row("4", "귤")));
+    }
+
+    @Test
+    @DisplayName("변경 없으면 요청 없음")
+    void unchanged() throws Exception {
+        SheetRowDiffWriter.Diff diff = writer.diff(gateway, SPREADSHEET_ID, 0, List.of(
+                row("1", "사과"),
+                row("2", "배"),
+                row("3", "감"),
+                row("4", "귤")));
+
+        assertThat(diff.isRequiresFullWrite()).isFalse();
+        assertThat(diff.getRequests()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경/추가/삭제된 행만 반영")
+    void updatesInsertsAndDeletes() throws Exception {
+        SheetRowDiffWriter.Diff diff = writer.diff(gateway, SPREADSHEET_ID, 0, List.of(
+                row("1", "사과"),
+                row("3", "단감"),
+                row("5", "포도")));
+        gateway.batchUpdateSpreadsheet(SPREADSHEET_ID, diff.getRequests());
+
+        assertThat(diff.getChangedRows()).isEqualTo(4);
+        assertThat(gateway.rows).extracting(r -> r.subList(0, 2)).containsExactly(
+                Arrays.asList("상품ID", "상품명"),
+                Arrays.asList("1", "사과"),
+                Arrays.asList("3", "단감"),
+                Arrays.asList("5", "포도"));
+    }
+
+    @Test
+    @DisplayName("행키/행해시 컬럼이 없는 시트는 전체 다시 쓰기 필요")
+    void legacyLayout() throws Exception {
+        gateway.rows.clear();
+        gateway.rows.add(Arrays.asList("상품ID", "상품명"));
+
+        SheetRowDiffWriter.Diff diff = writer.diff(gateway, SPREADSHEET_ID, 0, List.of(row("1", "사과")));
+
+        assertThat(diff.isRequiresFullWrite()).isTrue();
+    }
+
+    @Test
+    @DisplayName("카탈로그 해시는 행 내용이 바뀌면 달라짐")
+    void combinedHash() {
+        String before = SheetRowDiffWriter.combinedHash(List.of(row("1", "사과"), row("2", "배")));
+        String same = SheetRowDiffWriter.combinedHash(List.of(row("1", "사과"), row("2", "배")));
+        String after = SheetRowDiffWriter.combinedHash(List.of(row("1", "사과"), row("2", "신고배")));
+
+        assertThat(same).isEqualTo(before);
+        assertThat(after).isNotEqualTo(before);
+    }
+
+    private static SheetRowDiffWriter.Row row(String id, String name) {
+        return new SheetRowDiffWriter.Row(id, Arrays.asList(id, name));
+    }
+}
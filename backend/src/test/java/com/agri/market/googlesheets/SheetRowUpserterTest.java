@@ -0,0 +1,84 @@
+package com.agri.market.googlesheets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SheetRowUpserter 단위 테스트")
+class SheetRowUpserterTest {
+
+    private static final String SHEET = "주문내역";
+    private static final String SPREADSHEET_ID = "test-sheet";
+
+    private FakeSheetsGateway gateway;
+    private SheetRowUpserter upserter;
+
+    @BeforeEach
+    void setUp() {
+        gateway = new FakeSheetsGateway(SHEET);
+        upserter = new SheetRowUpserter(SHEET, Arrays.asList("주문번호", "상태", "주문상품ID"));
+    }
+
+    @Test
+    @DisplayName("전체 쓰기 시 헤더와 insertable 행만 기록")
+    void writeAll() throws Exception {
+        int written = upserter.writeAll(gateway, SPREADSHEET_ID, List.of(
+                row("1", "결제완료", "10", true),
+                row("2", "취소", "11", false)));
+
+        assertThat(written).isEqualTo(1);
+        assertThat(gateway.rows).containsExactly(
+                Arrays.asList("주문번호", "상태", "주문상품ID"),
+                Arrays.asList("1", "결제완료", "10"));
+    }
+
+    @Test
+    @DisplayName("upsert 시 기존 행은 제자리 갱신, 새 행은 마지막에 추가")
+    void upsertUpdatesAndAppends() throws Exception {
+        upserter.writeAll(gateway, SPREADSHEET_ID, List.of(
+                row("1", "결제완료", "10", true),
+                row("2", "결제완료", "11", true)));
+
+        int written = upserter.upsert(gateway, SPREADSHEET_ID, List.of(
+                row("1", "취소", "10", false),
+                row("3", "결제완료", "12", true),
+                row("4", "취소", "13", false)));
+
+        assertThat(written).isEqualTo(2);
+        assertThat(gateway.batchUpdateCalls).isEqualTo(1);
+        assertThat(gateway.rows).containsExactly(
+                Arrays.asList("주문번호", "상태", "주문상품ID"),
+                Arrays.asList("1", "취소", "10"),
+                Arrays.asList("2", "결제완료", "11"),
+                Arrays.asList("3", "결제완료", "12"));
+    }
+
+    @Test
+    @DisplayName("키 컬럼 헤더가 없는 이전 형식 시트는 LAYOUT_MISMATCH")
+    void upsertLayoutMismatch() throws Exception {
+        gateway.rows.add(new ArrayList<>(Arrays.asList("주문번호", "상태")));
+
+        int written = upserter.upsert(gateway, SPREADSHEET_ID, List.of(row("1", "결제완료", "10", true)));
+
+        assertThat(written).isEqualTo(SheetRowUpserter.LAYOUT_MISMATCH);
+        assertThat(gateway.batchUpdateCalls).isZero();
+    }
+
+    @Test
+    @DisplayName("컬럼 번호를 A1 컬럼 문자로 변환")
+    void columnLetter() {
+        assertThat(SheetRowUpserter.columnLetter(1)).isEqualTo("A");
+        assertThat(SheetRowUpserter.columnLetter(17)).isEqualTo("Q");
+        assertThat(SheetRowUpserter.columnLetter(27)).isEqualTo("AA");
+    }
+
+    private static SheetRowUpserter.Row row(String orderId, String status, String key, boolean insertable) {
+        return new SheetRowUpserter.Row(key, Arrays.asList(orderId, status, key), insertable);
+    }
+}
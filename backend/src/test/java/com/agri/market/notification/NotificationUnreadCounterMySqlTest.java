@@ -0,0 +1,83 @@
+package com.agri.market.notification;
+
+import com.agri.market.support.MySqlIntegrationTest;
+import com.agri.market.support.TestFixtures;
+import com.agri.market.user.User;
+import com.agri.market.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 안 읽은 알림 카운터 통합 테스트
+ * 카운터 행이 없는 사용자(백필 전 데이터)의 개수가 조회/증가 시 notifications 기준으로 채워지고 커밋되는지 확인
+ */
+@Import({NotificationService.class, NotificationStreamRegistry.class, NotificationUnreadCounter.class})
+@DisplayName("NotificationUnreadCounter 카운터 통합 테스트 (MySQL)")
+class NotificationUnreadCounterMySqlTest extends MySqlIntegrationTest {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationUnreadCounter unreadCounter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("카운터 행 없이 첫 알림이 저장되면 기존 안 읽은 알림까지 세어 채움")
+    void incrementSeedsMissingRowFromExistingNotifications() {
+        User user = userRepository.save(TestFixtures.user());
+        insertUnreadNotifications(user, 3);
+
+        notificationService.saveNotificationsForUsers(List.of(new NotificationService.UserNotification(
+                user.getId(), "새 알림", "본문", NotificationType.DELIVERY_STARTED)));
+
+        assertThat(storedCount(user.getId())).isEqualTo(4);
+        assertThat(notificationService.getUnreadCount(user.getEmail())).isEqualTo(4);
+
+        notificationService.saveNotificationForUser(user.getEmail(), "두 번째", "본문", NotificationType.DELIVERY_STARTED);
+        assertThat(storedCount(user.getId())).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("조회 시 채운 카운터 행과 재계산 결과가 커밋됨")
+    void getAndReconcileAreCommitted() {
+        User user = userRepository.save(TestFixtures.user());
+        insertUnreadNotifications(user, 2);
+
+        assertThat(notificationService.getUnreadCount(user.getEmail())).isEqualTo(2);
+        assertThat(storedCount(user.getId())).isEqualTo(2);
+
+        // 카운터가 어긋난 상태를 만든 뒤 재계산
+        inTransaction(() -> jdbcTemplate.update(
+                "UPDATE notification_unread_counts SET unread_count = 99 WHERE owner_id = ?", user.getId()));
+        unreadCounter.reconcile();
+
+        assertThat(storedCount(user.getId())).isEqualTo(2);
+    }
+
+    private void insertUnreadNotifications(User user, int count) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        inTransaction(() -> {
+            for (int i = 0; i < count; i++) {
+                jdbcTemplate.update("INSERT INTO notifications (user_id, title, message, type, is_read, created_at) " +
+                        "VALUES (?, '기존 알림', '본문', 'DELIVERY_STARTED', false, ?)", user.getId(), createdAt);
+            }
+        });
+    }
+
+    private Integer storedCount(long ownerId) {
+        List<Integer> counts = jdbcTemplate.queryForList(
+                "SELECT unread_count FROM notification_unread_counts WHERE owner_id = ?", Integer.class, ownerId);
+        return counts.isEmpty() ? null : counts.get(0);
+    }
+}
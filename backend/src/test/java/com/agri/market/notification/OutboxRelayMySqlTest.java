@@ -0,0 +1,202 @@
+package com.agri.market.notification;
+
+import com.agri.market.service.EmailService;
+import com.agri.market.support.MySqlIntegrationTest;
+import com.agri.market.support.TestFixtures;
+import com.agri.market.user.User;
+import com.agri.market.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 아웃박스 릴레이 통합 테스트
+ * 운영과 같이 auto-commit이 꺼진 풀에서 선점 → 전달 → 완료/재시도/실패 상태가 실제로 커밋되는지 확인
+ */
+@Import({NotificationService.class, NotificationStreamRegistry.class, NotificationUnreadCounter.class})
+@DisplayName("OutboxRelay 전달 통합 테스트 (MySQL)")
+class OutboxRelayMySqlTest extends MySqlIntegrationTest {
+
+    private static final long AWAIT_MS = 10_000;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EmailService emailService = mock(EmailService.class);
+    private final SlackNotificationService slackNotificationService = mock(SlackNotificationService.class);
+    private OutboxRelay relay;
+
+    @AfterEach
+    void tearDown() {
+        if (relay != null) {
+            relay.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("전달된 알림/이메일 이벤트는 DONE으로 커밋되고 알림 행이 저장됨")
+    void deliversAndMarksDone() throws Exception {
+        relay = relay(8);
+        User user = userRepository.save(TestFixtures.user());
+        String title = "주문 알림 " + TestFixtures.nextId();
+
+        long notificationEventId = insertEvent(OutboxEventType.USER_NOTIFICATION, Map.of(
+                "userId", user.getId(), "title", title, "message", "배송이 시작되었습니다.",
+                "type", NotificationType.DELIVERY_STARTED.name()));
+        long emailEventId = insertEvent(OutboxEventType.EMAIL, Map.of(
+                "recipient", user.getEmail(), "subject", title, "body", "본문"));
+
+        relay.wakeUp();
+
+        awaitStatus(notificationEventId, "DONE");
+        awaitStatus(emailEventId, "DONE");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT processed_at FROM outbox_events WHERE id = ?", Timestamp.class, emailEventId)).isNotNull();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notifications WHERE user_id = ? AND title = ?", Integer.class, user.getId(), title))
+                .isEqualTo(1);
+        verify(emailService, times(1)).sendNotificationEmail(user.getEmail(), title, "본문");
+
+        // 완료된 이벤트는 다시 전달되지 않음
+        relay.wakeUp();
+        Thread.sleep(500);
+        verify(emailService, times(1)).sendNotificationEmail(user.getEmail(), title, "본문");
+    }
+
+    @Test
+    @DisplayName("전달 실패는 재시도 대기로 커밋되고, 최대 시도 횟수를 넘으면 FAILED로 남음")
+    void retriesThenFails() throws Exception {
+        relay = relay(2);
+        String recipient = "fail" + TestFixtures.nextId() + "@test.com";
+        doThrow(new IllegalStateException("SMTP unavailable"))
+                .when(emailService).sendNotificationEmail(eq(recipient), any(), any());
+
+        long eventId = insertEvent(OutboxEventType.EMAIL, Map.of("recipient", recipient, "subject", "제목", "body", "본문"));
+
+        relay.wakeUp();
+        awaitCondition(() -> "SMTP unavailable".equals(jdbcTemplate.queryForObject(
+                "SELECT last_error FROM outbox_events WHERE id = ?", String.class, eventId)));
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM outbox_events WHERE id = ?", String.class, eventId))
+                .isEqualTo("PENDING");
+        assertThat(jdbcTemplate.queryForObject("SELECT attempts FROM outbox_events WHERE id = ?", Integer.class, eventId))
+                .isEqualTo(1);
+
+        // 백오프 대기를 건너뛰고 두 번째(마지막) 시도
+        inTransaction(() -> jdbcTemplate.update(
+                "UPDATE outbox_events SET available_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)), eventId));
+
+        awaitStatus(eventId, "FAILED");
+        assertThat(jdbcTemplate.queryForObject("SELECT attempts FROM outbox_events WHERE id = ?", Integer.class, eventId))
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Slack 결제 알림은 묶음에 받아들여진 것만으로 완료되지 않고, 전송 결과를 받은 뒤 완료/재시도로 커밋됨")
+    void slackPaymentIsDoneOnlyAfterDelivery() throws Exception {
+        relay = relay(8);
+        long deliveredOrderId = TestFixtures.nextId();
+        long failedOrderId = TestFixtures.nextId();
+        Map<Long, SlackDispatcher.DeliveryListener> listeners = new ConcurrentHashMap<>();
+        when(slackNotificationService.sendPaymentNotification(any(), any(), any())).thenAnswer(invocation -> {
+            listeners.put(invocation.getArgument(0), invocation.getArgument(2));
+            return true;
+        });
+
+        long deliveredEventId = insertEvent(OutboxEventType.SLACK_PAYMENT, Map.of("orderId", deliveredOrderId, "amount", "10000"));
+        long failedEventId = insertEvent(OutboxEventType.SLACK_PAYMENT, Map.of("orderId", failedOrderId, "amount", "20000"));
+
+        relay.wakeUp();
+        awaitCondition(() -> listeners.containsKey(deliveredOrderId) && listeners.containsKey(failedOrderId));
+
+        // 전송 전에는 임대 중인 대기 상태로 남아 재시작 시 다시 전달됨
+        Thread.sleep(300);
+        assertThat(status(deliveredEventId)).isEqualTo("PENDING");
+        assertThat(jdbcTemplate.queryForObject("SELECT available_at FROM outbox_events WHERE id = ?",
+                Timestamp.class, deliveredEventId).toLocalDateTime()).isAfter(LocalDateTime.now().plusMinutes(5));
+
+        listeners.get(deliveredOrderId).delivered();
+        listeners.get(failedOrderId).failed(new IllegalStateException("Slack unavailable"));
+
+        awaitStatus(deliveredEventId, "DONE");
+        awaitCondition(() -> "Slack unavailable".equals(jdbcTemplate.queryForObject(
+                "SELECT last_error FROM outbox_events WHERE id = ?", String.class, failedEventId)));
+        assertThat(status(failedEventId)).isEqualTo("PENDING");
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 완료 이벤트는 정리 작업으로 삭제됨")
+    void cleanupDeletesOldDoneEvents() throws Exception {
+        relay = relay(8);
+        long oldEventId = insertEvent(OutboxEventType.EMAIL, Map.of("recipient", "old@test.com", "subject", "s", "body", "b"));
+        inTransaction(() -> jdbcTemplate.update(
+                "UPDATE outbox_events SET status = 'DONE', processed_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(30)), oldEventId));
+
+        relay.cleanupDoneEvents();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE id = ?", Integer.class, oldEventId)).isZero();
+    }
+
+    private OutboxRelay relay(int maxAttempts) {
+        return new OutboxRelay(jdbcTemplate, transactionManager, objectMapper, notificationService,
+                slackNotificationService, emailService, 100, maxAttempts, 60_000, 600_000, 2_000, 600_000, 7);
+    }
+
+    private long insertEvent(OutboxEventType eventType, Map<String, Object> payload) throws Exception {
+        String json = objectMapper.writeValueAsString(payload);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now().minusSeconds(1));
+        inTransaction(() -> new NamedParameterJdbcTemplate(jdbcTemplate).update(
+                "INSERT INTO outbox_events (event_type, payload, status, attempts, available_at, created_at) " +
+                        "VALUES (:eventType, :payload, 'PENDING', 0, :now, :now)",
+                new MapSqlParameterSource()
+                        .addValue("eventType", eventType.name())
+                        .addValue("payload", json)
+                        .addValue("now", now),
+                keyHolder, new String[]{"id"}));
+        return keyHolder.getKey().longValue();
+    }
+
+    private void awaitStatus(long eventId, String status) throws InterruptedException {
+        awaitCondition(() -> status.equals(status(eventId)));
+    }
+
+    private String status(long eventId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM outbox_events WHERE id = ?", String.class, eventId);
+    }
+
+    private void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + AWAIT_MS;
+        while (!condition.getAsBoolean()) {
+            // 직전 전달이 막 끝나 draining 플래그가 남아 있으면 깨우기가 무시되므로 매번 다시 깨움
+            relay.wakeUp();
+            if (System.currentTimeMillis() > deadline) {
+                fail("Outbox relay did not reach the expected state within %dms", AWAIT_MS);
+            }
+            Thread.sleep(50);
+        }
+    }
+}
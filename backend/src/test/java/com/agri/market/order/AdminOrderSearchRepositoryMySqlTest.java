@@ -0,0 +1,188 @@
+package com.agri.market.order;
+
+import com.agri.market.product.Product;
+import com.agri.market.product.ProductRepository;
+import com.agri.market.seller.Seller;
+import com.agri.market.seller.SellerRepository;
+import com.agri.market.support.MySqlIntegrationTest;
+import com.agri.market.support.OrderSeeder;
+import com.agri.market.support.TestFixtures;
+import com.agri.market.user.User;
+import com.agri.market.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 관리자 주문 검색(ID 페이지 조회) 통합 테스트
+ * 기본은 축소 규모(주문 20,000), 요청 규모는 -Dbenchmark.ordersearch.orders=1000000
+ */
+@Import(AdminOrderSearchRepository.class)
+@DisplayName("AdminOrderSearchRepository 주문 검색 통합 테스트 (MySQL)")
+class AdminOrderSearchRepositoryMySqlTest extends MySqlIntegrationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminOrderSearchRepositoryMySqlTest.class);
+
+    private static final int ORDERS = Integer.getInteger("benchmark.ordersearch.orders", 20000);
+    private static final int PAGE_SIZE = 50;
+
+    private static final List<OrderStatus> STATUSES = List.of(
+            OrderStatus.PENDING_PAYMENT, OrderStatus.PAID, OrderStatus.PREPARING,
+            OrderStatus.SHIPPED, OrderStatus.DELIVERED, OrderStatus.CANCELLED);
+
+    @Autowired
+    private AdminOrderSearchRepository adminOrderSearchRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private SellerRepository sellerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private List<SearchRow> rows;
+    private LocalDateTime periodStart;
+    private LocalDateTime periodEnd;
+    private List<Seller> sellers;
+
+    /**
+     * 주문 ID와 검색 조건 비교용 값
+     */
+    private record SearchRow(long id, OrderStatus status, LocalDateTime createdAt, long sellerId) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        createMigrationIndexes();
+
+        sellers = sellerRepository.saveAll(List.of(
+                TestFixtures.seller(BigDecimal.TEN), TestFixtures.seller(BigDecimal.TEN)));
+        List<Product> products = productRepository.saveAll(List.of(
+                TestFixtures.product(sellers.get(0), BigDecimal.valueOf(10_000), 1000),
+                TestFixtures.product(sellers.get(1), BigDecimal.valueOf(20_000), 1000)));
+        User user = userRepository.save(TestFixtures.user());
+
+        // 공유 DB에서 다른 실행과 겹치지 않는 1년 구간 (기간 조건으로 이 실행의 주문만 조회)
+        periodStart = LocalDateTime.of(2200, 1, 1, 0, 0).plusYears(TestFixtures.nextId() % 5000);
+        periodEnd = periodStart.plusYears(1);
+
+        Random random = new Random(11);
+        List<OrderSeeder.SeedOrder> orders = new ArrayList<>(ORDERS);
+        List<Product> orderProducts = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            Product product = products.get(random.nextInt(products.size()));
+            // 분 단위로 생성 시각이 겹치게 하여 ID 역순 보조 정렬까지 확인
+            LocalDateTime createdAt = periodStart.plusMinutes(random.nextInt(365 * 24 * 6) * 10L);
+            orders.add(new OrderSeeder.SeedOrder(user.getId(), STATUSES.get(random.nextInt(STATUSES.size())),
+                    createdAt, List.of(new OrderSeeder.SeedItem(product.getId(), 1, product.getPrice()))));
+            orderProducts.add(product);
+        }
+        new OrderSeeder(jdbcTemplate, transactionManager).insert(orders);
+
+        rows = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            OrderSeeder.SeedOrder order = orders.get(i);
+            rows.add(new SearchRow(order.id, order.status, order.createdAt, orderProducts.get(i).getSeller().getId()));
+        }
+    }
+
+    @Test
+    @DisplayName("상태 + 기간 조건의 첫/중간/마지막 페이지가 최신순(같으면 ID 역순) 직접 계산 결과와 같음")
+    void pagesByStatusAndPeriod() {
+        List<Long> expected = expectedIds(row -> row.status() == OrderStatus.PAID);
+        int lastPage = (expected.size() - 1) / PAGE_SIZE;
+
+        for (int page : List.of(0, lastPage / 2, lastPage)) {
+            long startedAt = System.nanoTime();
+            Page<Long> result = adminOrderSearchRepository.findOrderIds(OrderStatus.PAID, periodStart, periodEnd,
+                    null, PageRequest.of(page, PAGE_SIZE));
+            long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+            logger.info("Order search benchmark - {} orders, status+period page {}: {}ms", ORDERS, page, elapsedMs);
+
+            assertThat(result.getContent()).isEqualTo(page(expected, page));
+            assertThat(result.getTotalElements()).isEqualTo(expected.size());
+            assertThat(elapsedMs).isLessThan(2_000);
+        }
+    }
+
+    @Test
+    @DisplayName("판매자 + 기간 조건은 주문당 한 번만 조회되고 건수가 직접 계산과 같음")
+    void pagesBySellerAndPeriod() {
+        long sellerId = sellers.get(1).getId();
+        List<Long> expected = expectedIds(row -> row.sellerId() == sellerId);
+
+        long startedAt = System.nanoTime();
+        Page<Long> result = adminOrderSearchRepository.findOrderIds(null, periodStart, periodEnd,
+                sellerId, PageRequest.of(1, PAGE_SIZE));
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        logger.info("Order search benchmark - {} orders, seller+period page 1: {}ms", ORDERS, elapsedMs);
+
+        assertThat(result.getContent()).isEqualTo(page(expected, 1));
+        assertThat(result.getTotalElements()).isEqualTo(expected.size());
+        assertThat(elapsedMs).isLessThan(2_000);
+    }
+
+    @Test
+    @DisplayName("기간 조건만 있으면 기간 안의 모든 상태 주문을 조회")
+    void pagesByPeriodOnly() {
+        LocalDateTime from = periodStart.plusMonths(3);
+        LocalDateTime to = periodStart.plusMonths(4);
+        List<Long> expected = rows.stream()
+                .filter(row -> !row.createdAt().isBefore(from) && !row.createdAt().isAfter(to))
+                .sorted(Comparator.comparing(SearchRow::createdAt).thenComparing(SearchRow::id).reversed())
+                .map(SearchRow::id)
+                .toList();
+
+        Page<Long> result = adminOrderSearchRepository.findOrderIds(null, from, to, null, PageRequest.of(0, PAGE_SIZE));
+
+        assertThat(result.getContent()).isEqualTo(page(expected, 0));
+        assertThat(result.getTotalElements()).isEqualTo(expected.size());
+    }
+
+    private List<Long> expectedIds(Predicate<SearchRow> filter) {
+        return rows.stream()
+                .filter(filter)
+                .sorted(Comparator.comparing(SearchRow::createdAt).thenComparing(SearchRow::id).reversed())
+                .map(SearchRow::id)
+                .toList();
+    }
+
+    private static List<Long> page(List<Long> ids, int page) {
+        return ids.subList(Math.min(page * PAGE_SIZE, ids.size()), Math.min((page + 1) * PAGE_SIZE, ids.size()));
+    }
+
+    /**
+     * 테스트 스키마는 엔티티로 만들어지므로 V18 마이그레이션의 검색 인덱스를 직접 추가
+     */
+    private void createMigrationIndexes() {
+        createIndexIfAbsent("orders", "idx_orders_status_created_at", "order_status, created_at");
+        createIndexIfAbsent("orders", "idx_orders_created_at", "created_at");
+        createIndexIfAbsent("order_items", "idx_order_items_product_order", "product_id, order_id");
+    }
+
+    private void createIndexIfAbsent(String table, String index, String columns) {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?", Integer.class, table, index);
+        if (existing == 0) {
+            jdbcTemplate.execute("CREATE INDEX " + index + " ON " + table + "(" + columns + ")");
+        }
+    }
+}
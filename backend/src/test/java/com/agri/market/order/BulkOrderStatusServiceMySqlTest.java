@@ -0,0 +1,170 @@
+package com.agri.market.order;
+
+import com.agri.market.notification.NotificationService;
+import com.agri.market.product.Product;
+import com.agri.market.product.ProductRepository;
+import com.agri.market.seller.Seller;
+import com.agri.market.seller.SellerRepository;
+import com.agri.market.settlement.SellerLedgerService;
+import com.agri.market.support.MySqlIntegrationTest;
+import com.agri.market.support.OrderSeeder;
+import com.agri.market.support.TestFixtures;
+import com.agri.market.user.User;
+import com.agri.market.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 주문 상태 일괄 변경 통합 테스트
+ * 기본은 축소 규모(주문 2,000), 요청 규모는 -Dbenchmark.bulkstatus.orders=10000
+ */
+@Import(SellerLedgerService.class)
+@DisplayName("BulkOrderStatusService 일괄 상태 변경 통합 테스트 (MySQL)")
+class BulkOrderStatusServiceMySqlTest extends MySqlIntegrationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkOrderStatusServiceMySqlTest.class);
+
+    private static final int ORDERS = Integer.getInteger("benchmark.bulkstatus.orders", 2000);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private SellerRepository sellerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SellerLedgerService sellerLedgerService;
+
+    private BulkOrderStatusService bulkOrderStatusService;
+    private Seller seller;
+    private List<Product> products;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        bulkOrderStatusService = new BulkOrderStatusService(orderRepository, orderItemRepository,
+                mock(NotificationService.class), sellerLedgerService, jdbcTemplate, transactionManager);
+
+        seller = sellerRepository.save(TestFixtures.seller(BigDecimal.valueOf(10)));
+        products = productRepository.saveAll(List.of(
+                TestFixtures.product(seller, BigDecimal.valueOf(10_000), 1000),
+                TestFixtures.product(seller, BigDecimal.valueOf(20_000), 1000),
+                TestFixtures.product(seller, BigDecimal.valueOf(30_000), 1000)));
+        user = userRepository.save(TestFixtures.user());
+    }
+
+    @Test
+    @DisplayName("전체 주문을 청크 단위로 변경하고, 판매량은 처음 배송 완료될 때만 반영")
+    @SuppressWarnings("unchecked")
+    void appliesTransitionsAndCountsSalesOnFirstDeliveryOnly() {
+        Random random = new Random(7);
+        Map<Long, Long> expectedSales = new HashMap<>();
+        List<OrderSeeder.SeedOrder> orders = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            Product product = products.get(random.nextInt(products.size()));
+            int quantity = 1 + random.nextInt(3);
+            expectedSales.merge(product.getId(), (long) quantity, Long::sum);
+            orders.add(new OrderSeeder.SeedOrder(user.getId(), OrderStatus.PREPARING, LocalDateTime.now(),
+                    List.of(new OrderSeeder.SeedItem(product.getId(), quantity, product.getPrice()))));
+        }
+        new OrderSeeder(jdbcTemplate, transactionManager).insert(orders);
+        List<Long> orderIds = orders.stream().map(order -> order.id).toList();
+
+        Map<String, Object> shipped = bulkOrderStatusService.bulkUpdateOrderStatus(orderIds, OrderStatus.SHIPPED);
+        assertThat(shipped.get("successCount")).isEqualTo(ORDERS);
+
+        long startedAt = System.nanoTime();
+        Map<String, Object> delivered = bulkOrderStatusService.bulkUpdateOrderStatus(orderIds, OrderStatus.DELIVERED);
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        logger.info("Bulk status benchmark - {} orders -> DELIVERED: {}ms", ORDERS, elapsedMs);
+
+        assertThat(delivered.get("successCount")).isEqualTo(ORDERS);
+        assertThat((List<Object>) delivered.get("failedOrders")).isEmpty();
+        assertThat(countDelivered(orderIds)).isEqualTo(ORDERS);
+        assertSalesCounts(expectedSales);
+        assertThat(elapsedMs).isLessThan(10_000);
+
+        // 배송 완료 → 배송중 → 배송 완료로 되돌려도 판매량은 그대로
+        bulkOrderStatusService.bulkUpdateOrderStatus(orderIds, OrderStatus.SHIPPED);
+        Map<String, Object> redelivered = bulkOrderStatusService.bulkUpdateOrderStatus(orderIds, OrderStatus.DELIVERED);
+        assertThat(redelivered.get("successCount")).isEqualTo(ORDERS);
+        assertSalesCounts(expectedSales);
+
+        // 같은 상태로의 변경과 존재하지 않는 주문은 실패로 보고
+        Map<String, Object> noop = bulkOrderStatusService.bulkUpdateOrderStatus(
+                List.of(orderIds.get(0), -1L), OrderStatus.DELIVERED);
+        assertThat(noop.get("successCount")).isEqualTo(0);
+        assertThat(noop.get("failureCount")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("일괄 취소하면 판매자 원장 적립이 취소되어 미정산 잔액이 0으로 돌아옴")
+    void bulkCancelReversesLedger() {
+        List<OrderSeeder.SeedOrder> orders = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Product product = products.get(i % products.size());
+            orders.add(new OrderSeeder.SeedOrder(user.getId(), OrderStatus.PAID, LocalDateTime.now(),
+                    List.of(new OrderSeeder.SeedItem(product.getId(), 2, product.getPrice()))));
+        }
+        new OrderSeeder(jdbcTemplate, transactionManager).insert(orders);
+        List<Long> orderIds = orders.stream().map(order -> order.id).toList();
+
+        for (Long orderId : orderIds) {
+            inTransaction(() -> sellerLedgerService.recordOrderPaid(orderRepository.findById(orderId).orElseThrow()));
+        }
+        assertThat(unsettledSales()).isPositive();
+
+        Map<String, Object> result = bulkOrderStatusService.bulkUpdateOrderStatus(orderIds, OrderStatus.CANCELLED);
+
+        assertThat(result.get("successCount")).isEqualTo(orderIds.size());
+        assertThat(unsettledSales()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM seller_ledger_entries WHERE seller_id = ? AND entry_type = 'REVERSAL'",
+                Integer.class, seller.getId())).isEqualTo(orderIds.size());
+    }
+
+    private int countDelivered(List<Long> orderIds) {
+        String placeholders = String.join(",", orderIds.stream().map(id -> "?").toList());
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE id IN (" + placeholders + ") " +
+                "AND order_status = 'DELIVERED' AND delivered_at IS NOT NULL", Integer.class, orderIds.toArray());
+    }
+
+    private void assertSalesCounts(Map<Long, Long> expectedSales) {
+        for (Product product : products) {
+            Long salesCount = jdbcTemplate.queryForObject("SELECT sales_count FROM products WHERE id = ?",
+                    Long.class, product.getId());
+            assertThat(salesCount).as("sales count of product %d", product.getId())
+                    .isEqualTo(expectedSales.getOrDefault(product.getId(), 0L));
+        }
+    }
+
+    private BigDecimal unsettledSales() {
+        return jdbcTemplate.queryForObject("SELECT unsettled_sales FROM seller_balances WHERE seller_id = ?",
+                BigDecimal.class, seller.getId());
+    }
+}
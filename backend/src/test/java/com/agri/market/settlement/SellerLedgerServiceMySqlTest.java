@@ -0,0 +1,219 @@
+package com.agri.market.settlement;
+
+import com.agri.market.cart.CartRepository;
+import com.agri.market.config.TossPaymentsConfig;
+import com.agri.market.notification.OutboxService;
+import com.agri.market.order.Order;
+import com.agri.market.order.OrderItem;
+import com.agri.market.order.OrderRepository;
+import com.agri.market.order.OrderService;
+import com.agri.market.order.OrderStatus;
+import com.agri.market.order.PaymentStatus;
+import com.agri.market.payment.Payment;
+import com.agri.market.payment.PaymentRepository;
+import com.agri.market.payment.PaymentService;
+import com.agri.market.product.Product;
+import com.agri.market.product.ProductRepository;
+import com.agri.market.returnrequest.AdminReturnService;
+import com.agri.market.returnrequest.ReturnItem;
+import com.agri.market.returnrequest.ReturnReasonCategory;
+import com.agri.market.returnrequest.ReturnRequest;
+import com.agri.market.returnrequest.ReturnRequestRepository;
+import com.agri.market.seller.Seller;
+import com.agri.market.seller.SellerRepository;
+import com.agri.market.support.MySqlIntegrationTest;
+import com.agri.market.support.OrderSeeder;
+import com.agri.market.support.TestFixtures;
+import com.agri.market.user.User;
+import com.agri.market.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 판매자 원장 통합 테스트
+ * 반품/환불 경로에서 적립 취소가 반품 항목 단위로 한 번만 기록되는지,
+ * 정산 마감이 실제로 귀속된 원장 항목 기준으로 금액을 확정하는지 확인
+ */
+@Import(SellerLedgerService.class)
+@DisplayName("SellerLedgerService 원장 통합 테스트 (MySQL)")
+class SellerLedgerServiceMySqlTest extends MySqlIntegrationTest {
+
+    @Autowired
+    private SellerLedgerService sellerLedgerService;
+
+    @Autowired
+    private SellerLedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private SellerRepository sellerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private ReturnRequestRepository returnRequestRepository;
+
+    @Test
+    @DisplayName("부분 반품 완료 시 반품한 항목만 한 번 적립 취소되고 나머지 항목은 그대로 남음")
+    void partialReturnReversesReturnedItemOnce() {
+        Seller seller = sellerRepository.save(TestFixtures.seller(BigDecimal.valueOf(10)));
+        Product kept = productRepository.save(TestFixtures.product(seller, BigDecimal.valueOf(10_000), 100));
+        Product returned = productRepository.save(TestFixtures.product(seller, BigDecimal.valueOf(10_000), 100));
+        User user = userRepository.save(TestFixtures.user());
+        long orderId = paidOrder(user, List.of(
+                new Line(kept, 1), new Line(returned, 1)));
+
+        Long returnRequestId = new TransactionTemplate(transactionManager).execute(status -> {
+            Order order = orderRepository.findById(orderId).orElseThrow();
+            OrderItem returnedItem = order.getOrderItems().stream()
+                    .filter(item -> item.getProduct().getId().equals(returned.getId()))
+                    .findFirst().orElseThrow();
+
+            ReturnRequest returnRequest = new ReturnRequest();
+            returnRequest.setOrder(order);
+            returnRequest.setReasonCategory(ReturnReasonCategory.CHANGE_OF_MIND);
+            returnRequest.setDetailedReason("단순 변심");
+            returnRequest.setTotalRefundAmount(BigDecimal.valueOf(10_000));
+            ReturnItem returnItem = new ReturnItem();
+            returnItem.setOrderItem(returnedItem);
+            returnItem.setQuantity(1);
+            returnItem.calculateRefundAmount();
+            returnRequest.addReturnItem(returnItem);
+            returnRequest.approve(null);
+            return returnRequestRepository.save(returnRequest).getId();
+        });
+
+        AdminReturnService adminReturnService = new AdminReturnService(
+                returnRequestRepository, paymentService(), mock(OutboxService.class), sellerLedgerService);
+        inTransaction(() -> adminReturnService.completeReturn(returnRequestId, admin()));
+
+        List<SellerLedgerEntry> reversals = ledgerEntryRepository.findByOrderId(orderId).stream()
+                .filter(entry -> entry.getEntryType() == LedgerEntryType.REVERSAL)
+                .toList();
+        assertThat(reversals).hasSize(1);
+        assertThat(reversals.get(0).getSalesAmount()).isEqualByComparingTo("-10000");
+        assertThat(reversals.get(0).getOrderItemId()).isEqualTo(orderItemId(orderId, returned));
+
+        SellerBalance balance = sellerLedgerService.getBalance(seller.getId());
+        assertThat(balance.getUnsettledSales()).isEqualByComparingTo("10000");
+        assertThat(balance.getUnsettledCommission()).isEqualByComparingTo("1000");
+        assertThat(balance.getUnsettledNet()).isEqualByComparingTo("9000");
+        assertThat(paymentRepository.findByOrder(orderRepository.findById(orderId).orElseThrow()).orElseThrow()
+                .getStatus()).isEqualTo(PaymentStatus.PARTIALLY_REFUNDED);
+    }
+
+    @Test
+    @DisplayName("정산 마감 금액은 귀속된 원장 항목 합계이고, 기간 중 수수료율이 바뀌면 실효 수수료율로 기록")
+    void closeSettlementPeriodUsesAssignedEntries() {
+        Seller seller = sellerRepository.save(TestFixtures.seller(BigDecimal.valueOf(10)));
+        Product product = productRepository.save(TestFixtures.product(seller, BigDecimal.valueOf(10_000), 100));
+        User user = userRepository.save(TestFixtures.user());
+        paidOrder(user, List.of(new Line(product, 1)));
+        seller.setCommissionRate(BigDecimal.valueOf(20));
+        sellerRepository.save(seller);
+        paidOrder(user, List.of(new Line(product, 3)));
+
+        // 공유 DB에서 다른 실행과 겹치지 않는 하루로 원장 항목 이동
+        LocalDate day = LocalDate.of(2200, 1, 1).plusDays(TestFixtures.nextId() % 30_000);
+        inTransaction(() -> jdbcTemplate.update("UPDATE seller_ledger_entries SET created_at = ? WHERE seller_id = ?",
+                Timestamp.valueOf(day.atTime(12, 0)), seller.getId()));
+
+        List<Settlement> settlements = sellerLedgerService.closeSettlementPeriod(day, day);
+
+        assertThat(settlements).hasSize(1);
+        Settlement settlement = settlements.get(0);
+        assertThat(settlement.getOrderCount()).isEqualTo(2);
+        assertThat(settlement.getTotalSales()).isEqualByComparingTo("40000");
+        assertThat(settlement.getCommissionAmount()).isEqualByComparingTo("7000"); // 1,000 + 6,000
+        assertThat(settlement.getNetAmount()).isEqualByComparingTo("33000");
+        assertThat(settlement.getCommissionRate()).isEqualByComparingTo("17.50");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM seller_ledger_entries WHERE seller_id = ? AND settlement_id = ?",
+                Integer.class, seller.getId(), settlement.getId())).isEqualTo(2);
+
+        SellerBalance balance = sellerLedgerService.getBalance(seller.getId());
+        assertThat(balance.getUnsettledSales()).isEqualByComparingTo("0");
+        assertThat(balance.getUnsettledNet()).isEqualByComparingTo("0");
+    }
+
+    private record Line(Product product, int quantity) {
+    }
+
+    /**
+     * 결제 완료 주문 입력 + 결제 행 + 매출 적립
+     */
+    private long paidOrder(User user, List<Line> items) {
+        OrderSeeder.SeedOrder seed = new OrderSeeder.SeedOrder(user.getId(), OrderStatus.DELIVERED, LocalDateTime.now(),
+                items.stream()
+                        .map(item -> new OrderSeeder.SeedItem(item.product().getId(), item.quantity(), item.product().getPrice()))
+                        .toList());
+        new OrderSeeder(jdbcTemplate, transactionManager).insert(List.of(seed));
+
+        inTransaction(() -> {
+            Order order = orderRepository.findById(seed.id).orElseThrow();
+            Payment payment = new Payment();
+            payment.setOrder(order);
+            payment.setUser(order.getUser());
+            payment.setAmount(seed.totalAmount());
+            payment.setStatus(PaymentStatus.PAID);
+            payment.setTransactionId("pay_" + seed.id);
+            paymentRepository.save(payment);
+            sellerLedgerService.recordOrderPaid(order);
+        });
+        return seed.id;
+    }
+
+    private Long orderItemId(long orderId, Product product) {
+        return jdbcTemplate.queryForObject("SELECT id FROM order_items WHERE order_id = ? AND product_id = ?",
+                Long.class, orderId, product.getId());
+    }
+
+    /**
+     * 토스 취소 API만 대역으로 바꾼 결제 서비스
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private PaymentService paymentService() {
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        when(restTemplate.postForEntity(anyString(), any(), eq(Map.class)))
+                .thenReturn((ResponseEntity) ResponseEntity.ok(Map.of("transactionKey", "cancel_" + TestFixtures.nextId())));
+        return new PaymentService(paymentRepository, orderRepository, mock(OrderService.class), userRepository,
+                mock(CartRepository.class), mock(TossPaymentsConfig.class), restTemplate, mock(OutboxService.class),
+                sellerLedgerService);
+    }
+
+    private static Authentication admin() {
+        return new UsernamePasswordAuthenticationToken("admin@test.com", null,
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+    }
+}
@@ -0,0 +1,146 @@
+package com.agri.market.settlement;
+
+import com.agri.market.order.OrderStatus;
+import com.agri.market.product.Product;
+import com.agri.market.product.ProductRepository;
+import com.agri.market.seller.Seller;
+import com.agri.market.seller.SellerRepository;
+import com.agri.market.support.MySqlIntegrationTest;
+import com.agri.market.support.OrderSeeder;
+import com.agri.market.support.TestFixtures;
+import com.agri.market.user.User;
+import com.agri.market.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 기간 정산 일괄 생성 벤치마크
+ * 기본은 축소 규모(판매자 20, 주문 5,000), 요청 규모는 -Dbenchmark.settlement.sellers=200 -Dbenchmark.settlement.orders=100000
+ */
+@Import(SettlementService.class)
+@DisplayName("SettlementService 기간 정산 통합 테스트 (MySQL)")
+class SettlementServiceMySqlTest extends MySqlIntegrationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SettlementServiceMySqlTest.class);
+
+    private static final int SELLERS = Integer.getInteger("benchmark.settlement.sellers", 20);
+    private static final int ORDERS = Integer.getInteger("benchmark.settlement.orders", 5000);
+    private static final int PRODUCTS_PER_SELLER = 2;
+
+    private static final List<OrderStatus> STATUSES = List.of(
+            OrderStatus.PAID, OrderStatus.PREPARING, OrderStatus.SHIPPED, OrderStatus.DELIVERED,
+            OrderStatus.CANCELLED, OrderStatus.PENDING_PAYMENT);
+
+    @Autowired
+    private SettlementService settlementService;
+
+    @Autowired
+    private SellerRepository sellerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("모든 판매자의 매출과 주문 건수를 한 번에 집계하며, 결과가 판매자별 직접 계산과 같음")
+    void generatesSettlementsMatchingPerSellerSums() {
+        // 공유 DB에서 다른 실행과 겹치지 않는 30일 기간
+        LocalDate start = LocalDate.of(2001, 1, 1).plusDays((TestFixtures.nextId() % 3000) * 40);
+        LocalDate end = start.plusDays(29);
+
+        List<Seller> sellers = new ArrayList<>();
+        for (int i = 0; i < SELLERS; i++) {
+            sellers.add(TestFixtures.seller(BigDecimal.valueOf(10)));
+        }
+        sellers = sellerRepository.saveAll(sellers);
+
+        List<Product> products = new ArrayList<>();
+        for (Seller seller : sellers) {
+            for (int i = 0; i < PRODUCTS_PER_SELLER; i++) {
+                products.add(TestFixtures.product(seller, BigDecimal.valueOf(10_000 + products.size() * 100L), 1000));
+            }
+        }
+        products = productRepository.saveAll(products);
+        User user = userRepository.save(TestFixtures.user());
+
+        // 정산 대상(기간 내 결제 이후 상태)만 판매자별로 직접 합산
+        Random random = new Random(42);
+        Map<Long, BigDecimal> expectedSales = new HashMap<>();
+        Map<Long, Set<Integer>> expectedOrders = new HashMap<>();
+        List<OrderSeeder.SeedOrder> orders = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            OrderStatus status = STATUSES.get(random.nextInt(STATUSES.size()));
+            boolean inPeriod = random.nextInt(10) != 0;
+            LocalDate day = inPeriod ? start.plusDays(random.nextInt(30)) : end.plusDays(1 + random.nextInt(5));
+
+            List<OrderSeeder.SeedItem> items = new ArrayList<>();
+            int itemCount = 1 + random.nextInt(3);
+            for (int j = 0; j < itemCount; j++) {
+                Product product = products.get(random.nextInt(products.size()));
+                int quantity = 1 + random.nextInt(3);
+                items.add(new OrderSeeder.SeedItem(product.getId(), quantity, product.getPrice()));
+
+                if (inPeriod && SettlementService.SETTLEMENT_ORDER_STATUSES.contains(status)) {
+                    Long sellerId = product.getSeller().getId();
+                    expectedSales.merge(sellerId, product.getPrice().multiply(BigDecimal.valueOf(quantity)), BigDecimal::add);
+                    expectedOrders.computeIfAbsent(sellerId, id -> new HashSet<>()).add(i);
+                }
+            }
+            orders.add(new OrderSeeder.SeedOrder(user.getId(), status, day.atTime(12, 0), items));
+        }
+        new OrderSeeder(jdbcTemplate, transactionManager).insert(orders);
+
+        long startedAt = System.nanoTime();
+        List<Settlement> settlements = settlementService.generateSettlementsForPeriod(start, end);
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        logger.info("Settlement benchmark - {} sellers, {} orders: {}ms", SELLERS, ORDERS, elapsedMs);
+
+        Map<Long, Settlement> bySeller = new HashMap<>();
+        for (Settlement settlement : settlements) {
+            bySeller.put(settlement.getSeller().getId(), settlement);
+        }
+        for (Seller seller : sellers) {
+            Settlement settlement = bySeller.get(seller.getId());
+            assertThat(settlement).as("settlement of seller %d", seller.getId()).isNotNull();
+            assertThat(settlement.getTotalSales())
+                    .isEqualByComparingTo(expectedSales.getOrDefault(seller.getId(), BigDecimal.ZERO));
+            assertThat(settlement.getOrderCount())
+                    .isEqualTo(expectedOrders.getOrDefault(seller.getId(), Set.of()).size());
+            assertThat(settlement.getCommissionAmount().add(settlement.getNetAmount()))
+                    .isEqualByComparingTo(settlement.getTotalSales());
+        }
+        assertThat(elapsedMs).isLessThan(10_000);
+    }
+
+    @Test
+    @DisplayName("같은 기간을 다시 생성하면 거절")
+    void rejectsDuplicatePeriod() {
+        LocalDate start = LocalDate.of(2001, 1, 1).plusDays((TestFixtures.nextId() % 3000) * 40);
+        LocalDate end = start.plusDays(29);
+        sellerRepository.save(TestFixtures.seller(BigDecimal.valueOf(10)));
+
+        settlementService.generateSettlementsForPeriod(start, end);
+
+        assertThatThrownBy(() -> settlementService.generateSettlementsForPeriod(start, end))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("이미 해당 기간의 정산이 존재합니다");
+    }
+}
@@ -0,0 +1,58 @@
+package com.agri.market.support;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * MySQL 컨테이너 기반 통합 테스트 공통 설정
+ * - 컨테이너는 테스트 JVM에서 한 번만 띄워 모든 테스트 클래스가 공유 (Docker가 없으면 테스트 건너뜀)
+ * - 운영과 같이 Hikari auto-commit을 끔 - 트랜잭션 밖에서 한 쓰기는 반영되지 않으므로 그런 버그를 테스트가 잡아냄
+ * - 테스트 메서드를 트랜잭션으로 감싸지 않음 (동시성/커밋 동작을 그대로 확인)
+ */
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public abstract class MySqlIntegrationTest {
+
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36")
+            .withDatabaseName("agrimarket_test")
+            .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_unicode_ci");
+
+    static {
+        MYSQL.start();
+    }
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.hikari.auto-commit", () -> "false");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> "20");
+        registry.add("logging.level.org.hibernate.SQL", () -> "INFO");
+        registry.add("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", () -> "INFO");
+    }
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    protected PlatformTransactionManager transactionManager;
+
+    protected void inTransaction(Runnable work) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> work.run());
+    }
+}
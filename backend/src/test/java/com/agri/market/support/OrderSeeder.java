@@ -0,0 +1,125 @@
+package com.agri.market.support;
+
+import com.agri.market.order.OrderStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대량 주문 데이터 입력 (벤치마크용 - JPA 대신 여러 행 INSERT로 빠르게)
+ * 주문번호에 실행마다 다른 접두사를 붙여, 입력한 주문만 다시 찾을 수 있음
+ */
+public class OrderSeeder {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String prefix = "SEED" + TestFixtures.nextId() + "_";
+
+    public OrderSeeder(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public static class SeedItem {
+        public final long productId;
+        public final int quantity;
+        public final BigDecimal price;
+
+        public SeedItem(long productId, int quantity, BigDecimal price) {
+            this.productId = productId;
+            this.quantity = quantity;
+            this.price = price;
+        }
+    }
+
+    public static class SeedOrder {
+        public final long userId;
+        public final OrderStatus status;
+        public final LocalDateTime createdAt;
+        public final List<SeedItem> items;
+        public long id; // 입력 후 채워짐
+
+        public SeedOrder(long userId, OrderStatus status, LocalDateTime createdAt, List<SeedItem> items) {
+            this.userId = userId;
+            this.status = status;
+            this.createdAt = createdAt;
+            this.items = items;
+        }
+
+        public BigDecimal totalAmount() {
+            return items.stream()
+                    .map(item -> item.price.multiply(BigDecimal.valueOf(item.quantity)))
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+        }
+    }
+
+    /**
+     * 주문과 주문 항목 입력 (청크마다 커밋) - 입력 후 각 SeedOrder의 id가 채워짐
+     */
+    public void insert(List<SeedOrder> orders) {
+        for (int from = 0; from < orders.size(); from += CHUNK_SIZE) {
+            List<SeedOrder> chunk = orders.subList(from, Math.min(from + CHUNK_SIZE, orders.size()));
+            int offset = from;
+            transactionTemplate.executeWithoutResult(status -> insertChunk(chunk, offset));
+        }
+    }
+
+    private String orderNumber(int index) {
+        return prefix + String.format("%08d", index);
+    }
+
+    private void insertChunk(List<SeedOrder> chunk, int offset) {
+        StringBuilder sql = new StringBuilder("INSERT INTO orders (version, order_number, user_id, total_amount, " +
+                "final_amount, order_status, created_at, updated_at, recipient_name, recipient_phone, " +
+                "shipping_address_line1, shipping_postcode) VALUES ");
+        List<Object> params = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            SeedOrder order = chunk.get(i);
+            sql.append(i > 0 ? ", " : "").append("(0, ?, ?, ?, ?, ?, ?, ?, '수령인', '010-0000-0000', '서울시', '00000')");
+            BigDecimal total = order.totalAmount();
+            Timestamp createdAt = Timestamp.valueOf(order.createdAt);
+            params.add(orderNumber(offset + i));
+            params.add(order.userId);
+            params.add(total);
+            params.add(total);
+            params.add(order.status.name());
+            params.add(createdAt);
+            params.add(createdAt);
+        }
+        jdbcTemplate.update(sql.toString(), params.toArray());
+
+        Map<String, Long> idsByNumber = new HashMap<>();
+        jdbcTemplate.query("SELECT id, order_number FROM orders WHERE order_number BETWEEN ? AND ?",
+                rs -> {
+                    idsByNumber.put(rs.getString("order_number"), rs.getLong("id"));
+                },
+                orderNumber(offset), orderNumber(offset + chunk.size() - 1));
+
+        StringBuilder itemSql = new StringBuilder("INSERT INTO order_items (order_id, product_id, quantity, price) VALUES ");
+        List<Object> itemParams = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            SeedOrder order = chunk.get(i);
+            order.id = idsByNumber.get(orderNumber(offset + i));
+            for (SeedItem item : order.items) {
+                itemSql.append(itemParams.isEmpty() ? "" : ", ").append("(?, ?, ?, ?)");
+                itemParams.add(order.id);
+                itemParams.add(item.productId);
+                itemParams.add(item.quantity);
+                itemParams.add(item.price);
+            }
+        }
+        if (!itemParams.isEmpty()) {
+            jdbcTemplate.update(itemSql.toString(), itemParams.toArray());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.agri.market.support;
+
+import com.agri.market.product.Product;
+import com.agri.market.seller.Seller;
+import com.agri.market.user.User;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 통합 테스트용 엔티티 생성 (필수 컬럼만 채움, 저장은 호출 측 Repository로)
+ * 컨테이너 DB를 여러 테스트 클래스가 공유하므로 유니크 컬럼에는 매번 다른 값을 사용
+ */
+public final class TestFixtures {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong(System.nanoTime() % 1_000_000_000L);
+
+    private TestFixtures() {
+    }
+
+    public static long nextId() {
+        return SEQUENCE.incrementAndGet();
+    }
+
+    public static User user() {
+        long id = nextId();
+        User user = new User();
+        user.setEmail("user" + id + "@test.com");
+        user.setName("사용자" + id);
+        user.setPhone("010-0000-0000");
+        user.setAddressLine1("서울시 테스트구");
+        return user;
+    }
+
+    public static Seller seller(BigDecimal commissionRate) {
+        long id = nextId();
+        Seller seller = new Seller();
+        seller.setName("판매자" + id);
+        seller.setBusinessNumber("B" + id);
+        seller.setRepresentative("대표" + id);
+        seller.setPhone("010-0000-0000");
+        seller.setEmail("seller" + id + "@test.com");
+        seller.setAddress("경기도 테스트시");
+        seller.setCommissionRate(commissionRate);
+        seller.setIsActive(true);
+        return seller;
+    }
+
+    public static Product product(Seller seller, BigDecimal price, int stock) {
+        Product product = new Product();
+        product.setName("상품" + nextId());
+        product.setOrigin("국내산");
+        product.setPrice(price);
+        product.setStock(stock);
+        product.setSeller(seller);
+        return product;
+    }
+}